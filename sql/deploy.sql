@@ -9,6 +9,10 @@ DROP TABLE IF EXISTS plot;
 DROP TABLE IF EXISTS user_crop; 
 DROP TABLE IF EXISTS gift; 
 DROP TABLE IF EXISTS crop; 
+DROP TABLE IF EXISTS timeline_pull; 
+DROP TABLE IF EXISTS timeline_head; 
+DROP TABLE IF EXISTS timeline; 
+DROP TABLE IF EXISTS thread_reaction_count; 
 DROP TABLE IF EXISTS reaction; 
 DROP TABLE IF EXISTS comment; 
 DROP TABLE IF EXISTS thread_tagged; 
@@ -55,6 +59,7 @@ CREATE TABLE thread
      time_stamp        TIMESTAMP(6) NOT NULL, 
      text              VARCHAR(63000), 
      CONSTRAINT thread_pk PRIMARY KEY(sender_username, time_stamp), 
+     INDEX thread_receiver_time_idx (receiver_username, time_stamp), 
      CONSTRAINT thread_fk1 FOREIGN KEY(sender_username) REFERENCES user(username 
      )  ON DELETE CASCADE, 
      CONSTRAINT thread_fk2 FOREIGN KEY(receiver_username) REFERENCES user( 
@@ -68,6 +73,7 @@ CREATE TABLE thread_tagged
      time_stamp      TIMESTAMP(6) NOT NULL, 
      CONSTRAINT thread_tagged_pk PRIMARY KEY(sender_username, tagged_username, 
      time_stamp), 
+     INDEX thread_tagged_tagged_time_idx (tagged_username, time_stamp), 
      CONSTRAINT thread_tagged_fk1 FOREIGN KEY(sender_username, time_stamp) 
      REFERENCES thread(sender_username, time_stamp) ON DELETE CASCADE, 
      CONSTRAINT thread_tagged_fk2 FOREIGN KEY(tagged_username) REFERENCES user( 
@@ -104,6 +110,45 @@ CREATE TABLE reaction
      username) ON DELETE CASCADE
   ); 
 
+CREATE TABLE thread_reaction_count 
+  ( 
+     threader_username VARCHAR(255) NOT NULL, 
+     thread_time_stamp TIMESTAMP(6) NOT NULL, 
+     like_count        INT DEFAULT 0 NOT NULL, 
+     dislike_count     INT DEFAULT 0 NOT NULL, 
+     CONSTRAINT thread_reaction_count_pk PRIMARY KEY(threader_username, thread_time_stamp), 
+     CONSTRAINT thread_reaction_count_fk1 FOREIGN KEY(threader_username, thread_time_stamp) 
+     REFERENCES thread(sender_username, time_stamp) ON DELETE CASCADE 
+  ); 
+
+CREATE TABLE timeline 
+  ( 
+     owner_username  VARCHAR(255) NOT NULL, 
+     slot            INT NOT NULL, 
+     sender_username VARCHAR(255) NOT NULL, 
+     time_stamp      TIMESTAMP(6) NOT NULL, 
+     CONSTRAINT timeline_pk PRIMARY KEY(owner_username, slot), 
+     INDEX timeline_owner_time_idx (owner_username, time_stamp, sender_username), 
+     CONSTRAINT timeline_fk1 FOREIGN KEY(owner_username) REFERENCES user(username) ON DELETE CASCADE, 
+     CONSTRAINT timeline_fk2 FOREIGN KEY(sender_username, time_stamp) 
+     REFERENCES thread(sender_username, time_stamp) ON DELETE CASCADE 
+  ); 
+
+CREATE TABLE timeline_head 
+  ( 
+     owner_username VARCHAR(255) NOT NULL, 
+     next_slot      INT NOT NULL, 
+     CONSTRAINT timeline_head_pk PRIMARY KEY(owner_username), 
+     CONSTRAINT timeline_head_fk1 FOREIGN KEY(owner_username) REFERENCES user(username) ON DELETE CASCADE 
+  ); 
+
+CREATE TABLE timeline_pull 
+  ( 
+     username VARCHAR(255) NOT NULL, 
+     CONSTRAINT timeline_pull_pk PRIMARY KEY(username), 
+     CONSTRAINT timeline_pull_fk1 FOREIGN KEY(username) REFERENCES user(username) ON DELETE CASCADE 
+  ); 
+
 CREATE TABLE crop 
   ( 
      crop_name     VARCHAR(25) NOT NULL, 
@@ -124,6 +169,7 @@ CREATE TABLE gift
      crop_name       VARCHAR(25) NOT NULL, 
      accepted        INT DEFAULT 0 NOT NULL,
      CONSTRAINT gift_pk PRIMARY KEY(sender_username, time_stamp), 
+     INDEX gift_receiver_accepted_idx (receiver_username, accepted), 
      CONSTRAINT gift_fk1 FOREIGN KEY(sender_username, time_stamp) REFERENCES 
      thread(sender_username, time_stamp), 
      CONSTRAINT gift_fk2 FOREIGN KEY(crop_name) REFERENCES crop(crop_name),
@@ -148,6 +194,7 @@ CREATE TABLE plot
      remaining_percentage INT DEFAULT -1, 
      crop_name            VARCHAR(25) DEFAULT NULL, 	
      original_yield INT DEFAULT -1,
+     version        INT DEFAULT 0 NOT NULL,
      CONSTRAINT plot_pk PRIMARY KEY(plot_id), 
      CONSTRAINT plot_fk1 FOREIGN KEY(username) REFERENCES user(username) ON DELETE CASCADE, 
      CONSTRAINT plot_fk2 FOREIGN KEY(crop_name) REFERENCES crop(crop_name) 
@@ -0,0 +1,21 @@
+-- Materialised like and dislike counts per thread, maintained by ReactionDAO
+-- in the same transaction as every reaction change.
+
+USE oop;
+
+CREATE TABLE thread_reaction_count 
+  ( 
+     threader_username VARCHAR(255) NOT NULL, 
+     thread_time_stamp TIMESTAMP(6) NOT NULL, 
+     like_count        INT DEFAULT 0 NOT NULL, 
+     dislike_count     INT DEFAULT 0 NOT NULL, 
+     CONSTRAINT thread_reaction_count_pk PRIMARY KEY(threader_username, thread_time_stamp), 
+     CONSTRAINT thread_reaction_count_fk1 FOREIGN KEY(threader_username, thread_time_stamp) 
+     REFERENCES thread(sender_username, time_stamp) ON DELETE CASCADE 
+  ); 
+
+-- Backfill the counts of existing reactions
+INSERT INTO thread_reaction_count (threader_username, thread_time_stamp, like_count, dislike_count)
+SELECT threader_username, thread_time_stamp, SUM(reaction_type = 1), SUM(reaction_type = -1)
+FROM reaction
+GROUP BY threader_username, thread_time_stamp;
@@ -0,0 +1,33 @@
+-- News feed timelines precomputed on write by TimelineDAO. After running
+-- this script, fill the timelines from existing threads with:
+--   java -cp target/classes:lib/mysql-connector-java-5.1.45-bin.jar daos.TimelineBackfill
+
+USE oop;
+
+CREATE TABLE timeline 
+  ( 
+     owner_username  VARCHAR(255) NOT NULL, 
+     slot            INT NOT NULL, 
+     sender_username VARCHAR(255) NOT NULL, 
+     time_stamp      TIMESTAMP(6) NOT NULL, 
+     CONSTRAINT timeline_pk PRIMARY KEY(owner_username, slot), 
+     INDEX timeline_owner_time_idx (owner_username, time_stamp, sender_username), 
+     CONSTRAINT timeline_fk1 FOREIGN KEY(owner_username) REFERENCES user(username) ON DELETE CASCADE, 
+     CONSTRAINT timeline_fk2 FOREIGN KEY(sender_username, time_stamp) 
+     REFERENCES thread(sender_username, time_stamp) ON DELETE CASCADE 
+  ); 
+
+CREATE TABLE timeline_head 
+  ( 
+     owner_username VARCHAR(255) NOT NULL, 
+     next_slot      INT NOT NULL, 
+     CONSTRAINT timeline_head_pk PRIMARY KEY(owner_username), 
+     CONSTRAINT timeline_head_fk1 FOREIGN KEY(owner_username) REFERENCES user(username) ON DELETE CASCADE 
+  ); 
+
+CREATE TABLE timeline_pull 
+  ( 
+     username VARCHAR(255) NOT NULL, 
+     CONSTRAINT timeline_pull_pk PRIMARY KEY(username), 
+     CONSTRAINT timeline_pull_fk1 FOREIGN KEY(username) REFERENCES user(username) ON DELETE CASCADE 
+  ); 
@@ -0,0 +1,11 @@
+-- Indexes for the gift quota, gift acceptance, wall and tag lookups.
+-- gift(sender_username, time_stamp) is already the primary key of gift, which
+-- the daily quota queries range-scan, so it is not indexed again.
+
+USE oop;
+
+CREATE INDEX gift_receiver_accepted_idx ON gift (receiver_username, accepted);
+
+CREATE INDEX thread_receiver_time_idx ON thread (receiver_username, time_stamp);
+
+CREATE INDEX thread_tagged_tagged_time_idx ON thread_tagged (tagged_username, time_stamp);
@@ -0,0 +1,7 @@
+-- Version of each plot, incremented by every update so that PlotDAO can
+-- update a plot only if it has not changed since it was read. Thieves are
+-- already unique per plot through the steal_plot primary key.
+
+USE oop;
+
+ALTER TABLE plot ADD COLUMN version INT DEFAULT 0 NOT NULL AFTER original_yield;
@@ -1,15 +1,59 @@
+import java.io.File;
+import java.io.IOException;
 
+import api.ApiServer;
+import daos.CropCatalog;
+import daos.FriendGraph;
+import daos.GoldLeaderboard;
+import daos.RankLadder;
 import navigation.WelcomeMenu;
+import replay.ReplayDriver;
+import replay.SessionRecorder;
+import server.SessionServer;
 
 /**
- * The App class launches the Social Magnet app and starts Welcome Page
+ * The App class launches the Social Magnet app and starts Welcome Page.
+ * Run with --server to host the app for many players over TCP instead,
+ * as configured by the system properties of SessionServer, or with --api
+ * to serve it as an HTTP JSON API configured by those of ApiServer.
+ * Run with --record <dir> to record the session's input into a directory,
+ * and with --replay <dir> to replay the recordings in a directory at once.
  *
  * @version 1.0 04 Apr 2020
  * @author Wa Thone
  */
 public class App {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        // Load reference data and the friend and gold indexes once before the first screen
+        CropCatalog.getInstance();
+        RankLadder.getInstance();
+        FriendGraph.getInstance();
+        GoldLeaderboard.getInstance();
+
+        if (args.length > 0 && args[0].equals("--server")) {
+            SessionServer sessionServer = new SessionServer();
+            sessionServer.start();
+            System.out.println("Social Magnet is listening on " + sessionServer.getAddress());
+            sessionServer.run();
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--api")) {
+            ApiServer apiServer = new ApiServer();
+            apiServer.start();
+            System.out.println("Social Magnet API is listening on " + apiServer.getAddress()
+                    + " with " + apiServer.getExecutorDescription());
+            return;
+        }
+
+        if (args.length > 1 && args[0].equals("--replay")) {
+            ReplayDriver.replay(new File(args[1]));
+            return;
+        }
+        if (args.length > 1 && args[0].equals("--record")) {
+            System.setIn(new SessionRecorder(new File(args[1])).record(System.in));
+        }
+
         WelcomeMenu welcomeMenu = new WelcomeMenu();
         welcomeMenu.readOption();
     }
@@ -0,0 +1,32 @@
+package api;
+
+/**
+ * The ApiException class is an exception for API requests that cannot be
+ * served, carrying the HTTP status to respond with
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class ApiException extends Exception {
+
+    /** HTTP status to respond with */
+    private final int status;
+
+    /**
+     * Creates ApiException object with the specified status and error message
+     * @param status    the HTTP status
+     * @param message   the exception message
+     */
+    public ApiException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    /**
+     * Returns the HTTP status to respond with
+     * @return  the HTTP status
+     */
+    public int getStatus() {
+        return status;
+    }
+}
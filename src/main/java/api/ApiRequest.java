@@ -0,0 +1,157 @@
+package api;
+
+import java.util.List;
+import java.util.Map;
+
+import entities.User;
+
+/**
+ * The ApiRequest class is one parsed API request: its query parameters,
+ * its JSON body and the logged in user making it
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class ApiRequest {
+
+    private final Map<String, String> query;
+    private final Map<String, Object> body;
+    private final User user;
+    private final String token;
+
+    /**
+     * Creates an ApiRequest
+     *
+     * @param query the query parameters
+     * @param body  the JSON body, empty if there is none
+     * @param user  the logged in user, null if the request needs no login
+     * @param token the token the request was made with, null if there is none
+     */
+    ApiRequest(Map<String, String> query, Map<String, Object> body, User user, String token) {
+        this.query = query;
+        this.body = body;
+        this.user = user;
+        this.token = token;
+    }
+
+    /**
+     * Returns the logged in user making the request
+     *
+     * @return  the logged in user
+     */
+    public User getUser() {
+        return user;
+    }
+
+    /**
+     * Returns the token the request was made with
+     *
+     * @return  the token, null if there is none
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Returns a query parameter
+     *
+     * @param name  name of the parameter
+     * @return      value of the parameter, null if it was not given
+     */
+    public String getQuery(String name) {
+        return query.get(name);
+    }
+
+    /**
+     * Returns a string field of the body
+     *
+     * @param name          name of the field
+     * @return              value of the field
+     * @throws ApiException if the field is missing or empty
+     */
+    public String getString(String name) throws ApiException {
+        Object value = body.get(name);
+        if (!(value instanceof String) || ((String) value).trim().isEmpty()) {
+            throw new ApiException(400, "Field '" + name + "' must be a non-empty string");
+        }
+        return (String) value;
+    }
+
+    /**
+     * Returns an optional string field of the body
+     *
+     * @param name  name of the field
+     * @return      value of the field, null if it was not given
+     */
+    public String getOptionalString(String name) {
+        Object value = body.get(name);
+        return (value instanceof String) ? (String) value : null;
+    }
+
+    /**
+     * Returns an integer field of the body
+     *
+     * @param name          name of the field
+     * @return              value of the field
+     * @throws ApiException if the field is missing or not an integer
+     */
+    public int getInt(String name) throws ApiException {
+        Object value = body.get(name);
+        if (!(value instanceof Long) || (Long) value > Integer.MAX_VALUE || (Long) value < Integer.MIN_VALUE) {
+            throw new ApiException(400, "Field '" + name + "' must be an integer");
+        }
+        return ((Long) value).intValue();
+    }
+
+    /**
+     * Returns a long field of the body
+     *
+     * @param name          name of the field
+     * @return              value of the field
+     * @throws ApiException if the field is missing or not an integer
+     */
+    public long getLong(String name) throws ApiException {
+        Object value = body.get(name);
+        if (!(value instanceof Long)) {
+            throw new ApiException(400, "Field '" + name + "' must be an integer");
+        }
+        return (Long) value;
+    }
+
+    /**
+     * Returns a boolean field of the body
+     *
+     * @param name          name of the field
+     * @return              value of the field
+     * @throws ApiException if the field is missing or not a boolean
+     */
+    public boolean getBoolean(String name) throws ApiException {
+        Object value = body.get(name);
+        if (!(value instanceof Boolean)) {
+            throw new ApiException(400, "Field '" + name + "' must be true or false");
+        }
+        return (Boolean) value;
+    }
+
+    /**
+     * Returns a field of the body that is a list of strings
+     *
+     * @param name          name of the field
+     * @return              value of the field
+     * @throws ApiException if the field is missing, empty or not a list of strings
+     */
+    public List<String> getStrings(String name) throws ApiException {
+        Object value = body.get(name);
+        if (!(value instanceof List) || ((List<?>) value).isEmpty()) {
+            throw new ApiException(400, "Field '" + name + "' must be a non-empty list of strings");
+        }
+        for (Object element : (List<?>) value) {
+            if (!(element instanceof String)) {
+                throw new ApiException(400, "Field '" + name + "' must be a non-empty list of strings");
+            }
+        }
+        @SuppressWarnings("unchecked")
+        List<String> strings = (List<String>) value;
+        return strings;
+    }
+}
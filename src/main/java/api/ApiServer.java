@@ -0,0 +1,444 @@
+package api;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import daos.UserDAO;
+import entities.User;
+import navigation.WelcomeCtrl;
+import server.SessionConsole;
+
+/**
+ * The ApiServer class serves the game as an HTTP API with JSON requests and
+ * responses, on the JDK's built-in HTTP server. A user logs in with
+ * POST /api/login and sends the token it returns in an
+ * "Authorization: Bearer" header with every other request. A token expires
+ * socialmagnet.api.tokenMinutes minutes after log in (a day by default).
+ *
+ * Requests are served by the same Ctrl and Manager classes as the menus. As
+ * they print their outcome instead of returning it, whatever a request
+ * prints is captured through the SessionConsole and returned as the
+ * "messages" of its response.
+ *
+ * Each request runs on its own virtual thread on Java 21 or later, and on a
+ * bounded pool of socialmagnet.api.threads threads (64 by default) before
+ * that, or if socialmagnet.api.virtualThreads is false. The server listens
+ * on socialmagnet.api.host and socialmagnet.api.port (localhost:8080).
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class ApiServer {
+
+    /** Largest request body accepted */
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+
+    /** Longest time between removals of expired tokens */
+    private static final long MAX_PRUNE_INTERVAL_MILLIS = 60 * 1000;
+
+    /** Input of a request's menus, which must not prompt */
+    private static final InputStream NO_INPUT = new ByteArrayInputStream(new byte[0]);
+
+    /**
+     * The Handler interface serves one kind of API request
+     */
+    interface Handler {
+
+        /**
+         * Serves a request
+         *
+         * @param request       the request
+         * @return              the response, to be written as JSON
+         * @throws ApiException if the request could not be served
+         */
+        Map<String, Object> handle(ApiRequest request) throws ApiException;
+    }
+
+    private static final class Route {
+        final Handler handler;
+        final boolean loginRequired;
+
+        Route(Handler handler, boolean loginRequired) {
+            this.handler = handler;
+            this.loginRequired = loginRequired;
+        }
+    }
+
+    private final InetSocketAddress address;
+    private final ExecutorService executor;
+    private final Map<String, Map<String, Route>> routesByPath = new HashMap<>();
+    /**
+     * A user's log in, which the token it was issued under expires with
+     */
+    private static final class Login {
+        final String username;
+        final long expiresAt;
+
+        Login(String username, long expiresAt) {
+            this.username = username;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final Map<String, Login> loginsByToken = new ConcurrentHashMap<>();
+    private final long tokenTtlMillis;
+    private final AtomicLong nextPruneAt = new AtomicLong();
+    private final SecureRandom random = new SecureRandom();
+    private HttpServer httpServer;
+
+    /** welcomeCtrl logs users in */
+    private WelcomeCtrl welcomeCtrl;
+
+    /** UDM provides access to the User table in the database */
+    private UserDAO UDM;
+
+    /**
+     * Creates an ApiServer configured from system properties
+     */
+    public ApiServer() {
+        this(new InetSocketAddress(System.getProperty("socialmagnet.api.host", "localhost"),
+                Integer.getInteger("socialmagnet.api.port", 8080)), newRequestExecutor());
+    }
+
+    /**
+     * Creates an ApiServer
+     *
+     * @param address   address to listen on
+     * @param executor  executor to serve requests on
+     */
+    ApiServer(InetSocketAddress address, ExecutorService executor) {
+        this(address, executor, TimeUnit.MINUTES.toMillis(Long.getLong("socialmagnet.api.tokenMinutes", 24 * 60)));
+    }
+
+    /**
+     * Creates an ApiServer
+     *
+     * @param address           address to listen on
+     * @param executor          executor to serve requests on
+     * @param tokenTtlMillis    time after log in that a token expires
+     */
+    ApiServer(InetSocketAddress address, ExecutorService executor, long tokenTtlMillis) {
+        this.address = address;
+        this.executor = executor;
+        this.tokenTtlMillis = tokenTtlMillis;
+        welcomeCtrl = new WelcomeCtrl();
+        UDM = new UserDAO();
+
+        route("POST", "/api/login", this::logIn, false);
+        route("POST", "/api/logout", this::logOut, true);
+        new FarmApi().register(this);
+        new SocialApi().register(this);
+    }
+
+    /**
+     * Returns an executor that runs each request on a new virtual thread, if
+     * the JVM has them, or else on a bounded pool of threads
+     *
+     * @return  executor to serve requests on
+     */
+    static ExecutorService newRequestExecutor() {
+        if (Boolean.parseBoolean(System.getProperty("socialmagnet.api.virtualThreads", "true"))) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                // Virtual threads need Java 21
+            }
+        }
+        int threads = Integer.getInteger("socialmagnet.api.threads", 64);
+        AtomicInteger threadCount = new AtomicInteger();
+        // Once the queue is full, the server's dispatcher serves requests itself and stops accepting more
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Integer.getInteger("socialmagnet.api.queueSize", 1024)),
+                r -> {
+                    Thread thread = new Thread(r, "api-request-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Registers a request that needs a logged in user
+     *
+     * @param method    HTTP method of the request
+     * @param path      path of the request
+     * @param handler   handler that serves the request
+     */
+    void route(String method, String path, Handler handler) {
+        route(method, path, handler, true);
+    }
+
+    private void route(String method, String path, Handler handler, boolean loginRequired) {
+        routesByPath.computeIfAbsent(path, p -> new HashMap<>()).put(method, new Route(handler, loginRequired));
+    }
+
+    /**
+     * Routes System.out by request and starts serving requests
+     *
+     * @throws IOException  if the server could not listen on its address
+     */
+    public void start() throws IOException {
+        SessionConsole.install();
+        httpServer = HttpServer.create(address, Integer.getInteger("socialmagnet.api.backlog", 1024));
+        httpServer.createContext("/api/", this::handle);
+        httpServer.setExecutor(executor);
+        httpServer.start();
+    }
+
+    /**
+     * Stops serving requests
+     */
+    public void stop() {
+        httpServer.stop(0);
+        executor.shutdown();
+    }
+
+    /**
+     * Returns the address the server is listening on
+     *
+     * @return  the local address of the server
+     */
+    public InetSocketAddress getAddress() {
+        return httpServer.getAddress();
+    }
+
+    /**
+     * Returns a description of the executor requests are served on
+     *
+     * @return  "virtual threads" or the number of pooled threads
+     */
+    public String getExecutorDescription() {
+        return (executor instanceof ThreadPoolExecutor)
+                ? ((ThreadPoolExecutor) executor).getMaximumPoolSize() + " pooled threads"
+                : "virtual threads";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int status = 200;
+        Map<String, Object> response;
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        SessionConsole.bind(NO_INPUT, printed);
+        try {
+            response = dispatch(exchange);
+        } catch (ApiException e) {
+            status = e.getStatus();
+            response = error(e.getMessage());
+        } catch (RuntimeException e) {
+            System.err.println("Error when serving " + exchange.getRequestURI().getPath() + ":");
+            System.err.println(e.getMessage());
+            status = 500;
+            response = error("The request could not be served. Please try again.");
+        } finally {
+            SessionConsole.unbind();
+        }
+
+        List<String> messages = new ArrayList<>();
+        for (String line : new String(printed.toByteArray(), StandardCharsets.UTF_8).split("\n")) {
+            if (!line.trim().isEmpty()) {
+                messages.add(line.trim());
+            }
+        }
+        if (!messages.isEmpty()) {
+            response.put("messages", messages);
+        }
+
+        byte[] body = Json.write(response).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private Map<String, Object> dispatch(HttpExchange exchange) throws ApiException, IOException {
+        String path = exchange.getRequestURI().getPath();
+        Map<String, Route> routesByMethod = routesByPath.get(path);
+        if (routesByMethod == null) {
+            throw new ApiException(404, "There is no request " + path);
+        }
+        Route route = routesByMethod.get(exchange.getRequestMethod());
+        if (route == null) {
+            throw new ApiException(405, path + " does not accept " + exchange.getRequestMethod());
+        }
+
+        User user = route.loginRequired ? authenticate(exchange) : null;
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        Map<String, Object> body = readBody(exchange);
+        return route.handler.handle(new ApiRequest(query, body, user, getToken(exchange)));
+    }
+
+    /**
+     * Logs in with "username" and "password", and returns a token for the
+     * user's later requests
+     */
+    private Map<String, Object> logIn(ApiRequest request) throws ApiException {
+        User user = welcomeCtrl.logIn(request.getString("username"), request.getString("password"));
+        if (user == null) {
+            throw new ApiException(401, "Log in failed.");
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("token", issueToken(user.getUsername()));
+        result.put("user", ApiViews.user(user));
+        return result;
+    }
+
+    /**
+     * Ends the session of the token the request was made with
+     */
+    private Map<String, Object> logOut(ApiRequest request) {
+        loginsByToken.remove(request.getToken());
+        return new LinkedHashMap<>();
+    }
+
+    /**
+     * Issues a new token for a user, and removes the tokens that have expired
+     *
+     * @param username  username of the user
+     * @return          the token
+     */
+    String issueToken(String username) {
+        long now = System.currentTimeMillis();
+        pruneExpiredTokens(now);
+
+        byte[] tokenBytes = new byte[16];
+        random.nextBytes(tokenBytes);
+        StringBuilder token = new StringBuilder();
+        for (byte b : tokenBytes) {
+            token.append(String.format("%02x", b));
+        }
+        loginsByToken.put(token.toString(), new Login(username, now + tokenTtlMillis));
+        return token.toString();
+    }
+
+    /**
+     * Returns the username of the user a token was issued to, removing the
+     * token if it has expired
+     *
+     * @param token the token, null if the request carries none
+     * @return      username of the user, null if the token is not known or has expired
+     */
+    String getUsername(String token) {
+        Login login = (token == null) ? null : loginsByToken.get(token);
+        if (login == null) {
+            return null;
+        }
+        if (login.expiresAt <= System.currentTimeMillis()) {
+            loginsByToken.remove(token, login);
+            return null;
+        }
+        return login.username;
+    }
+
+    /**
+     * Returns the number of tokens held, including expired tokens not yet removed
+     */
+    int getTokenCount() {
+        return loginsByToken.size();
+    }
+
+    /**
+     * Removes expired tokens, which are never looked up again if their users
+     * do not come back, at most once per interval
+     */
+    private void pruneExpiredTokens(long now) {
+        long pruneAt = nextPruneAt.get();
+        long interval = Math.min(tokenTtlMillis, MAX_PRUNE_INTERVAL_MILLIS);
+        if (now < pruneAt || !nextPruneAt.compareAndSet(pruneAt, now + interval)) {
+            return;
+        }
+        loginsByToken.values().removeIf(login -> login.expiresAt <= now);
+    }
+
+    /**
+     * Returns the user whose token the request carries, retrieved again so
+     * that their gold and xp are current
+     */
+    private User authenticate(HttpExchange exchange) throws ApiException {
+        String username = getUsername(getToken(exchange));
+        if (username == null) {
+            throw new ApiException(401, "Please log in first.");
+        }
+        User user = UDM.getUser(username);
+        if (user == null) {
+            throw new ApiException(401, "Please log in first.");
+        }
+        return user;
+    }
+
+    private static String getToken(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return null;
+        }
+        return authorization.substring("Bearer ".length()).trim();
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) throws UnsupportedEncodingException {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int equals = parameter.indexOf('=');
+            if (equals > 0) {
+                query.put(URLDecoder.decode(parameter.substring(0, equals), "UTF-8"),
+                        URLDecoder.decode(parameter.substring(equals + 1), "UTF-8"));
+            }
+        }
+        return query;
+    }
+
+    private static Map<String, Object> readBody(HttpExchange exchange) throws ApiException, IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                bytes.write(buffer, 0, read);
+                if (bytes.size() > MAX_BODY_BYTES) {
+                    throw new ApiException(413, "The request body is larger than " + MAX_BODY_BYTES + " bytes");
+                }
+            }
+        }
+        String text = new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        if (text.trim().isEmpty()) {
+            return new HashMap<>();
+        }
+        try {
+            return Json.parseObject(text);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(400, "The request body is not a JSON object: " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> error(String message) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("error", message);
+        return response;
+    }
+}
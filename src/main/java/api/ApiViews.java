@@ -0,0 +1,111 @@
+package api;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import daos.CropCatalog;
+import entities.Comment;
+import entities.Crop;
+import entities.GiftThread;
+import entities.Plot;
+import entities.PostThread;
+import entities.Thread;
+import entities.ThreadView;
+import entities.User;
+
+/**
+ * The ApiViews class converts entities into the maps the API returns as JSON
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+final class ApiViews {
+
+    private ApiViews() {
+    }
+
+    static Map<String, Object> user(User user) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("username", user.getUsername());
+        view.put("fullName", user.getFullName());
+        view.put("rank", user.getRank());
+        view.put("xp", user.getXp());
+        view.put("gold", user.getGold());
+        return view;
+    }
+
+    static Map<String, Object> crop(Crop crop) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("name", crop.getCropName());
+        view.put("cost", crop.getCost());
+        view.put("timeToHarvest", crop.getTimeToHarvest());
+        view.put("xp", crop.getXp());
+        view.put("minYield", crop.getMinYield());
+        view.put("maxYield", crop.getMaxYield());
+        view.put("salePrice", crop.getSalePrice());
+        return view;
+    }
+
+    /**
+     * Returns a plot with its growth, as the Farmland Page shows it
+     *
+     * @param plot      the plot
+     * @param number    number of the plot, starting from 1
+     */
+    static Map<String, Object> plot(Plot plot, int number) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("number", number);
+        view.put("crop", plot.getCropName());
+        if (plot.getCropName() == null) {
+            view.put("status", "empty");
+            return view;
+        }
+
+        Crop crop = CropCatalog.getInstance().getCrop(plot.getCropName());
+        long minutesGrown = System.currentTimeMillis() / 60000 - plot.getTimeCropPlanted().getTime() / 60000;
+        double progressRatio = (crop == null) ? 0 : minutesGrown / (double) crop.getTimeToHarvest();
+        view.put("planted", plot.getTimeCropPlanted().getTime());
+        view.put("progress", (int) (Math.min(progressRatio, 1.0) * 100));
+        view.put("status", progressRatio > 2.0 ? "wilted" : progressRatio >= 1.0 ? "ripe" : "growing");
+        view.put("remainingPercentage", plot.getRemainingPercentage());
+        return view;
+    }
+
+    static List<Map<String, Object>> threads(List<ThreadView> threadViews) {
+        List<Map<String, Object>> views = new ArrayList<>();
+        for (ThreadView threadView : threadViews) {
+            views.add(thread(threadView));
+        }
+        return views;
+    }
+
+    static Map<String, Object> thread(ThreadView threadView) {
+        Thread thread = threadView.getThread();
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("sender", thread.getSenderUsername());
+        view.put("receiver", thread.getReceiverUsername());
+        view.put("timePosted", thread.getTimePosted().getTime());
+        if (thread instanceof GiftThread) {
+            view.put("type", "gift");
+            view.put("crop", ((GiftThread) thread).getCropName());
+        } else if (thread instanceof PostThread) {
+            view.put("type", "post");
+            view.put("text", ((PostThread) thread).getText());
+        }
+        view.put("likes", threadView.getLikeCount());
+        view.put("dislikes", threadView.getDislikeCount());
+
+        List<Map<String, Object>> comments = new ArrayList<>();
+        for (Comment comment : threadView.getComments()) {
+            Map<String, Object> commentView = new LinkedHashMap<>();
+            commentView.put("commenter", comment.getCommenterUsername());
+            commentView.put("timeCommented", comment.getTimeCommented().getTime());
+            commentView.put("text", comment.getText());
+            comments.add(commentView);
+        }
+        view.put("comments", comments);
+        return view;
+    }
+}
@@ -0,0 +1,267 @@
+package api;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import cityfarmers.farmland.FarmlandCtrl;
+import cityfarmers.inventory.InventoryCtrl;
+import cityfarmers.sendgift.SendGiftCtrl;
+import cityfarmers.store.StoreCtrl;
+import cityfarmers.visit.VisitCtrl;
+import daos.GiftQuotaTracker;
+import entities.Crop;
+import entities.Plot;
+import entities.User;
+import social.wall.WallCtrl;
+
+/**
+ * The FarmApi class serves the City Farmers requests of the API: the farm,
+ * the store, stealing and gifts. Each request is served by the same Ctrl
+ * classes as the City Farmers menus.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+class FarmApi {
+
+    /** farmlandCtrl plants, harvests and clears plots */
+    private FarmlandCtrl farmlandCtrl;
+
+    /** inventoryCtrl retrieves a user's crops */
+    private InventoryCtrl inventoryCtrl;
+
+    /** storeCtrl sells seeds */
+    private StoreCtrl storeCtrl;
+
+    /** visitCtrl steals from friends' farms */
+    private VisitCtrl visitCtrl;
+
+    /** sendGiftCtrl sends gifts */
+    private SendGiftCtrl sendGiftCtrl;
+
+    /** wallCtrl accepts gifts */
+    private WallCtrl wallCtrl;
+
+    /** Creates a FarmApi with a default Farmland, Inventory, Store, Visit, SendGift and Wall Ctrl */
+    FarmApi() {
+        farmlandCtrl = new FarmlandCtrl();
+        inventoryCtrl = new InventoryCtrl();
+        storeCtrl = new StoreCtrl();
+        visitCtrl = new VisitCtrl();
+        sendGiftCtrl = new SendGiftCtrl();
+        wallCtrl = new WallCtrl();
+    }
+
+    /**
+     * Registers the requests served by the FarmApi
+     *
+     * @param server    the API server
+     */
+    void register(ApiServer server) {
+        server.route("GET", "/api/plots", this::getPlots);
+        server.route("POST", "/api/plots/plant", this::plant);
+        server.route("POST", "/api/plots/harvest", this::harvest);
+        server.route("POST", "/api/plots/clear", this::clear);
+        server.route("GET", "/api/store", this::getStore);
+        server.route("POST", "/api/store/purchase", this::purchase);
+        server.route("POST", "/api/steal", this::steal);
+        server.route("POST", "/api/gifts/send", this::sendGifts);
+        server.route("POST", "/api/gifts/accept", this::acceptGifts);
+    }
+
+    /**
+     * Returns the user's plots and crops
+     */
+    Map<String, Object> getPlots(ApiRequest request) {
+        User user = request.getUser();
+        List<Plot> plots = farmlandCtrl.getPlotsOwnedByUser(user.getUsername());
+        List<Map<String, Object>> plotViews = new ArrayList<>();
+        for (int i = 0; i < plots.size(); i++) {
+            plotViews.add(ApiViews.plot(plots.get(i), i + 1));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("user", ApiViews.user(user));
+        result.put("plots", plotViews);
+        result.put("crops", cropCounts(inventoryCtrl.getUserCrops(user)));
+        return result;
+    }
+
+    /**
+     * Plants a crop, given as "crop", on the plot numbered "plot"
+     */
+    Map<String, Object> plant(ApiRequest request) throws ApiException {
+        int plotNumber = request.getInt("plot");
+        String cropName = request.getString("crop");
+        if (!farmlandCtrl.plant(request.getUser(), plotNumber, cropName)) {
+            throw new ApiException(409, "Could not plant " + cropName + " on plot " + plotNumber);
+        }
+        return getPlots(request);
+    }
+
+    /**
+     * Harvests every ripe plot
+     */
+    Map<String, Object> harvest(ApiRequest request) throws ApiException {
+        if (!farmlandCtrl.harvest(request.getUser())) {
+            throw new ApiException(409, "Could not harvest your plots");
+        }
+        return getPlots(request);
+    }
+
+    /**
+     * Clears every wilted plot
+     */
+    Map<String, Object> clear(ApiRequest request) throws ApiException {
+        if (!farmlandCtrl.clear(request.getUser())) {
+            throw new ApiException(409, "Could not clear your plots");
+        }
+        return getPlots(request);
+    }
+
+    /**
+     * Returns the seeds on sale
+     */
+    Map<String, Object> getStore(ApiRequest request) {
+        List<Map<String, Object>> crops = new ArrayList<>();
+        for (Crop crop : storeCtrl.getAllCrops()) {
+            crops.add(ApiViews.crop(crop));
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("crops", crops);
+        return result;
+    }
+
+    /**
+     * Buys "amount" bags of the seeds of "crop"
+     */
+    Map<String, Object> purchase(ApiRequest request) throws ApiException {
+        Crop crop = findCrop(storeCtrl.getAllCrops(), request.getString("crop"));
+        int amount = request.getInt("amount");
+        if (amount < 1) {
+            throw new ApiException(400, "Field 'amount' must be at least 1");
+        }
+        if (!storeCtrl.purchase(crop, amount, request.getUser())) {
+            throw new ApiException(409, "Could not buy " + crop.getCropName() + " seeds");
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("user", ApiViews.user(request.getUser()));
+        result.put("crops", cropCounts(inventoryCtrl.getUserCrops(request.getUser())));
+        return result;
+    }
+
+    /**
+     * Steals from every ripe plot of the friend named "friend"
+     */
+    Map<String, Object> steal(ApiRequest request) throws ApiException {
+        String friendUsername = request.getString("friend");
+        User friend = null;
+        for (User candidate : visitCtrl.getFriends(request.getUser())) {
+            if (candidate.getUsername().equals(friendUsername)) {
+                friend = candidate;
+            }
+        }
+        if (friend == null) {
+            throw new ApiException(404, friendUsername + " is not your friend.");
+        }
+
+        List<Plot> plotsToBeStolen = visitCtrl.checkAnySteal(request.getUser(), friend);
+        if (plotsToBeStolen.isEmpty()) {
+            throw new ApiException(409, "There are no plots available for stealing.");
+        }
+        if (!visitCtrl.steal(request.getUser(), plotsToBeStolen)) {
+            throw new ApiException(409, "Could not steal from " + friendUsername);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("user", ApiViews.user(request.getUser()));
+        return result;
+    }
+
+    /**
+     * Sends a bag of the seeds of "crop" to each user in "receivers", if
+     * every one of them can be sent a gift
+     */
+    Map<String, Object> sendGifts(ApiRequest request) throws ApiException {
+        User sender = request.getUser();
+        Crop crop = findCrop(sendGiftCtrl.getAllCrops(), request.getString("crop"));
+        List<String> receivers = request.getStrings("receivers");
+
+        int giftsLeft = sendGiftCtrl.getGiftsLeftToday(sender);
+        if (giftsLeft < 0) {
+            throw new ApiException(500, "Could not count your gifts today. Please try again.");
+        }
+        if (giftsLeft == 0) {
+            throw new ApiException(409, "You have already sent " + GiftQuotaTracker.DAILY_LIMIT + " gifts today.");
+        }
+        List<String> problems = new ArrayList<>();
+        List<String> validReceivers = new ArrayList<>();
+        for (String receiver : receivers) {
+            if (receiver.equals(sender.getUsername())) {
+                problems.add("You cannot send a gift to yourself.");
+            } else if (!sendGiftCtrl.isValidUser(receiver)) {
+                problems.add(receiver + " does not exist.");
+            } else if (!sendGiftCtrl.isFriend(receiver, sender)) {
+                problems.add(receiver + " is not your friend.");
+            } else if (sendGiftCtrl.haveSentGiftToThisUserToday(sender, receiver)) {
+                problems.add("You have already sent " + receiver + " a gift today.");
+            } else if (validReceivers.contains(receiver)) {
+                problems.add("Duplicate " + receiver + " entered.");
+            } else {
+                validReceivers.add(receiver);
+            }
+        }
+        if (!problems.isEmpty()) {
+            throw new ApiException(409, String.join(" ", problems));
+        }
+        if (validReceivers.size() > giftsLeft) {
+            throw new ApiException(409, "You can only send " + giftsLeft + " more gifts today.");
+        }
+
+        // Hold the gifts against today's limits, which other requests of the user may be sending gifts within
+        if (!sendGiftCtrl.reserveGifts(sender, validReceivers)) {
+            throw new ApiException(409, "Your gifts would go over today's limits. Please try again.");
+        }
+        List<String> sentTo = new ArrayList<>();
+        try {
+            for (String receiver : validReceivers) {
+                if (sendGiftCtrl.sendGift(sender, receiver, crop)) {
+                    sentTo.add(receiver);
+                }
+            }
+        } finally {
+            sendGiftCtrl.releaseGifts(sender, validReceivers);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sentTo", sentTo);
+        return result;
+    }
+
+    /**
+     * Accepts every gift the user has not accepted yet
+     */
+    Map<String, Object> acceptGifts(ApiRequest request) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("accepted", cropCounts(wallCtrl.acceptGifts(request.getUser())));
+        return result;
+    }
+
+    private static Crop findCrop(List<Crop> crops, String cropName) throws ApiException {
+        for (Crop crop : crops) {
+            if (crop.getCropName().equalsIgnoreCase(cropName)) {
+                return crop;
+            }
+        }
+        throw new ApiException(404, "There is no crop named " + cropName);
+    }
+
+    private static Map<String, Object> cropCounts(Map<Crop, Integer> crops) {
+        Map<String, Object> counts = new LinkedHashMap<>();
+        for (Map.Entry<Crop, Integer> crop : crops.entrySet()) {
+            counts.put(crop.getKey().getCropName(), crop.getValue());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,171 @@
+package api;
+
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import daos.UserDAO;
+import entities.Reaction;
+import entities.Thread;
+import entities.ThreadView;
+import entities.User;
+import social.feed.NewsFeedCtrl;
+import social.thread.ThreadCtrl;
+import social.wall.WallCtrl;
+
+/**
+ * The SocialApi class serves the Social Magnet requests of the API: walls,
+ * the news feed, posts, comments and reactions. Each request is served by
+ * the same Ctrl classes as the Social Magnet menus.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+class SocialApi {
+
+    /** wallCtrl retrieves walls and posts to them */
+    private WallCtrl wallCtrl;
+
+    /** newsFeedCtrl retrieves news feeds */
+    private NewsFeedCtrl newsFeedCtrl;
+
+    /** threadCtrl comments and reacts on threads */
+    private ThreadCtrl threadCtrl;
+
+    /** UDM provides access to the User table in the database */
+    private UserDAO UDM;
+
+    /** Creates a SocialApi with a default Wall, NewsFeed and Thread Ctrl, and User DM */
+    SocialApi() {
+        wallCtrl = new WallCtrl();
+        newsFeedCtrl = new NewsFeedCtrl();
+        threadCtrl = new ThreadCtrl();
+        UDM = new UserDAO();
+    }
+
+    /**
+     * Registers the requests served by the SocialApi
+     *
+     * @param server    the API server
+     */
+    void register(ApiServer server) {
+        server.route("GET", "/api/wall", this::getWall);
+        server.route("GET", "/api/feed", this::getFeed);
+        server.route("POST", "/api/posts", this::post);
+        server.route("POST", "/api/threads/comment", this::comment);
+        server.route("POST", "/api/threads/react", this::react);
+    }
+
+    /**
+     * Returns the wall of the user named by the "user" query parameter, or
+     * the user's own wall
+     */
+    Map<String, Object> getWall(ApiRequest request) throws ApiException {
+        User owner = getSelfOrFriend(request, request.getQuery("user"));
+        CompletableFuture<Integer> richRank = wallCtrl.getRichRankAsync(owner);
+        CompletableFuture<List<ThreadView>> threads = wallCtrl.getWallThreadsAsync(owner);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("user", ApiViews.user(owner));
+        result.put("richRank", richRank.join());
+        result.put("threads", ApiViews.threads(threads.join()));
+        return result;
+    }
+
+    /**
+     * Returns the user's news feed
+     */
+    Map<String, Object> getFeed(ApiRequest request) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("threads", ApiViews.threads(newsFeedCtrl.getFeedThreads(request.getUser())));
+        return result;
+    }
+
+    /**
+     * Posts "message" on the wall of the user named "to", or on the user's own wall
+     */
+    Map<String, Object> post(ApiRequest request) throws ApiException {
+        String message = request.getString("message");
+        User receiver = getSelfOrFriend(request, request.getOptionalString("to"));
+        if (!wallCtrl.postOnWall(message, request.getUser(), receiver)) {
+            throw new ApiException(500, "Message unsuccessfully posted. Please try again.");
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("threads", ApiViews.threads(wallCtrl.getWallThreads(receiver)));
+        return result;
+    }
+
+    /**
+     * Replies "text" to the thread given by "sender", "receiver" and "timePosted"
+     */
+    Map<String, Object> comment(ApiRequest request) throws ApiException {
+        Thread thread = getVisibleThread(request);
+        String text = request.getString("text");
+        if (!threadCtrl.replyThread(thread, request.getUser(), text)) {
+            throw new ApiException(409, "Could not reply to the thread");
+        }
+        return new LinkedHashMap<>();
+    }
+
+    /**
+     * Likes the thread given by "sender", "receiver" and "timePosted" if
+     * "like" is true, or dislikes it otherwise. Reacting the same way twice
+     * takes the reaction back, as on the View a Thread Page.
+     */
+    Map<String, Object> react(ApiRequest request) throws ApiException {
+        Thread thread = getVisibleThread(request);
+        boolean isLike = request.getBoolean("like");
+        User user = request.getUser();
+
+        Reaction previousReaction = threadCtrl.getPreviousReaction(threadCtrl.getReactionByType(thread, isLike), user);
+        boolean result;
+        if (previousReaction != null) {
+            result = threadCtrl.deleteReaction(thread, previousReaction);
+        } else {
+            List<Reaction> oppositeReactions = threadCtrl.getReactionByType(thread, !isLike);
+            result = threadCtrl.reactToThread(thread, oppositeReactions, user, isLike);
+        }
+        if (!result) {
+            throw new ApiException(409, "Could not react to the thread");
+        }
+
+        Map<String, Object> counts = new LinkedHashMap<>();
+        counts.put("likes", threadCtrl.getReactionByType(thread, true).size());
+        counts.put("dislikes", threadCtrl.getReactionByType(thread, false).size());
+        return counts;
+    }
+
+    /**
+     * Returns the user making the request if no username is given, or else
+     * the user's friend with the given username
+     */
+    private User getSelfOrFriend(ApiRequest request, String username) throws ApiException {
+        User user = request.getUser();
+        if (username == null || username.equals(user.getUsername())) {
+            return user;
+        }
+        User friend = UDM.getUser(username);
+        if (friend == null || !wallCtrl.isFriend(user, friend)) {
+            throw new ApiException(404, username + " is not your friend.");
+        }
+        return friend;
+    }
+
+    /**
+     * Returns the thread given by "sender", "receiver" and "timePosted" if
+     * the user could open it from the menus, that is if it is on the user's
+     * wall, the user is tagged in it, or it is on a friend's wall
+     */
+    private Thread getVisibleThread(ApiRequest request) throws ApiException {
+        Thread thread = new Thread(request.getString("sender"), request.getString("receiver"),
+                new Timestamp(request.getLong("timePosted")));
+        User user = request.getUser();
+        if (!thread.getReceiverUsername().equals(user.getUsername()) && !threadCtrl.isTagged(thread, user)) {
+            getSelfOrFriend(request, thread.getReceiverUsername());
+        }
+        return thread;
+    }
+}
@@ -8,6 +8,7 @@ import cityfarmers.sendgift.SendGiftMenu;
 import cityfarmers.store.StoreMenu;
 import cityfarmers.visit.VisitMenu;
 import entities.User;
+import util.Screen;
 import util.Utility;
 
 /**
@@ -85,17 +86,19 @@ public class CityFarmersMenu {
      * Displays the CityFarmer Page, input choices, and prompt
      */
     public void display() {
-        System.out.println();
-        System.out.println("== Social Magnet :: City Farmers ==");
-        System.out.println("Welcome, " + loggedInUser.getFullName());
-        System.out.println("Title: " + loggedInUser.getRank() + "\t" + "Gold: " + loggedInUser.getGold());
-        System.out.println();
-        System.out.println("1. My Farmland");
-        System.out.println("2. My Store"); 
-        System.out.println("3. My Inventory");
-        System.out.println("4. Visit Friend");
-        System.out.println("5. Send Gift");
-        System.out.print("[M]ain | Enter your choice > ");
+        try (Screen screen = Screen.begin()) {
+            screen.println();
+            screen.println("== Social Magnet :: City Farmers ==");
+            screen.println("Welcome, " + loggedInUser.getFullName());
+            screen.println("Title: " + loggedInUser.getRank() + "\t" + "Gold: " + loggedInUser.getGold());
+            screen.println();
+            screen.println("1. My Farmland");
+            screen.println("2. My Store"); 
+            screen.println("3. My Inventory");
+            screen.println("4. Visit Friend");
+            screen.println("5. Send Gift");
+            screen.print("[M]ain | Enter your choice > ");
+        }
     }
 
     /**
@@ -6,6 +6,7 @@ import java.util.List;
 
 import daos.CropDAO;
 import daos.PlotDAO;
+import daos.UnitOfWork;
 import daos.UserDAO;
 import entities.Crop;
 import entities.Plot;
@@ -89,31 +90,50 @@ public class FarmlandClearer {
      * 
      * @param plotsToClear  plots to clear
      * @param loggedInUser  the user
+     * @return              false if the clearing failed and was rolled back, true otherwise
      */
-    public void clearPlots(User loggedInUser, List<Plot> plotsToClear) {
-        // use PlotDAO to get all Plots and check if plots can clear
-        for (Plot plot : plotsToClear) {
-            if (checkClear(plot)) {
-            PDM.clearPlot(plot); // use UserDAO to -50 Gold to clear
-            int currentGold = loggedInUser.getGold();
-            loggedInUser.setGold(currentGold-clearingCost);
+    public boolean clearPlots(User loggedInUser, List<Plot> plotsToClear) {
+        int totalCost = 0;
+
+        // Clear the plots and charge the user in a single transaction
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            // use PlotDAO to get all Plots and check if plots can clear
+            for (Plot plot : plotsToClear) {
+                // Only charge for plots not cleared in another session since they were read
+                if (checkClear(plot) && PDM.clearPlot(plot)) {
+                    totalCost += clearingCost;
+                }
+            }
+
+            // use UserDAO to take 50 Gold per cleared plot, only if the user has enough
+            User updatedUser = UDM.addGoldAndXp(loggedInUser.getUsername(), -totalCost, 0);
+            if (updatedUser == null) {
+                System.out.println("Insufficient gold. You need " + totalCost + " gold to clear your plots.");
+                return false;
+            }
+
+            if (!unitOfWork.commit()) {
+                System.out.println("Clearing failed. Please try again.");
+                return false;
             }
+            loggedInUser.setGold(updatedUser.getGold());
         }
-        UDM.update(loggedInUser);
         System.out.println("You have cleared your plots.");
+        return true;
     }
 
     /**
      * Clears the user's plots if valid. 
      * 
      * @param loggedInUser  the user
+     * @return              false if the clearing failed and was rolled back, true otherwise
      */
-    public void clear(User loggedInUser) {
+    public boolean clear(User loggedInUser) {
         List<Plot> plotsToClear = checkAnyClear(loggedInUser.getUsername());
         if (!plotsToClear.isEmpty()) {
-            clearPlots(loggedInUser, plotsToClear);
-        } else {
-            System.out.println("You do not have any plots to clear.");
+            return clearPlots(loggedInUser, plotsToClear);
         }
+        System.out.println("You do not have any plots to clear.");
+        return true;
     }
 }
\ No newline at end of file
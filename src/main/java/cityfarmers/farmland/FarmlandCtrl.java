@@ -64,19 +64,53 @@ public class FarmlandCtrl {
         return farmlandPlanter.plant(input, loggedInUser);
     }
 
+    /**
+     * Plants the specified crop on the user's plot of the specified number, if valid.
+     * 
+     * @param   loggedInUser    the user
+     * @param   plotNumber      number of the plot, starting from 1
+     * @param   cropName        name of the crop to plant
+     * @return  true if the crop was planted, false otherwise
+     */
+    public boolean plant(User loggedInUser, int plotNumber, String cropName) {
+        return farmlandPlanter.plant(loggedInUser, plotNumber, cropName);
+    }
+
+    /**
+     * Returns the plots that are ready to harvest.
+     * 
+     * @param   plots           a list of the user's plots
+     * @return  list of plots ready to harvest
+     */
+    public List<Plot> checkAnyHarvest(List<Plot> plots) {
+        return farmlandHarvester.checkAnyHarvest(plots);
+    }
+
+    /**
+     * Returns the user's wilted plots.
+     * 
+     * @param   username        the username
+     * @return  list of plots that can be cleared
+     */
+    public List<Plot> checkAnyClear(String username) {
+        return farmlandClearer.checkAnyClear(username);
+    }
+
     /**
      * Harvests the user's plots if valid. 
      * @param   loggedInUser    the user
+     * @return  false if the harvest failed and was rolled back, true otherwise
      */
-    public void harvest(User loggedInUser) {
-        farmlandHarvester.harvest(loggedInUser);
+    public boolean harvest(User loggedInUser) {
+        return farmlandHarvester.harvest(loggedInUser);
     }
 
     /**
      * Clears the user's plots if valid.
      * @param   loggedInUser    the user 
+     * @return  false if the clearing failed and was rolled back, true otherwise
      */
-    public void clear(User loggedInUser) {
-        farmlandClearer.clear(loggedInUser);
+    public boolean clear(User loggedInUser) {
+        return farmlandClearer.clear(loggedInUser);
     }
 }
\ No newline at end of file
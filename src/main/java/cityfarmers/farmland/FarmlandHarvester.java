@@ -9,6 +9,7 @@ import java.util.Map;
 import daos.CropDAO;
 import daos.PlotDAO;
 import daos.RankDAO;
+import daos.UnitOfWork;
 import daos.UserDAO;
 import entities.Crop;
 import entities.Plot;
@@ -97,8 +98,9 @@ public class FarmlandHarvester {
      * 
      * @param plots         a list of the user's plots
      * @param loggedInUser  the user
+     * @return              false if the harvest failed and was rolled back, true otherwise
      */
-    public void harvestPlots(List<Plot> plots, User loggedInUser) {
+    public boolean harvestPlots(List<Plot> plots, User loggedInUser) {
         Crop crop;
         String cropName;
         int totalYield = 0;
@@ -107,24 +109,70 @@ public class FarmlandHarvester {
         boolean harvested = false;
         Map<String, Integer> harvestedCrops = new HashMap<>();
 
-        for (Plot plot : plots) {
-            cropName = plot.getCropName();
-            crop = CDM.getCrop(cropName);
-            // Harvest by grabbing Remaining Percentage & Original Yield
-            totalYield = (int) (plot.getRemainingPercentage()/100) * plot.getOriginalYield();
+        // Clear the plots and pay the user in a single transaction
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            for (Plot plot : plots) {
+                // Clear the plot only if no thief changed it since it was read, retrying with the latest plot
+                long timePlanted = plot.getTimeCropPlanted().getTime();
+                boolean cleared = PDM.clearPlot(plot);
+                boolean harvestedElsewhere = false;
+                for (int attempt = 2; attempt <= PlotDAO.MAX_UPDATE_ATTEMPTS && !cleared && !harvestedElsewhere; attempt++) {
+                    plot = PDM.getPlotForUpdate(plot.getPlotId());
+                    harvestedElsewhere = (plot == null || plot.getCropName() == null
+                            || plot.getTimeCropPlanted().getTime() != timePlanted);
+                    if (!harvestedElsewhere) {
+                        cleared = PDM.clearPlot(plot);
+                    }
+                }
+
+                // Skip the plot if it was harvested in another session
+                if (harvestedElsewhere) {
+                    continue;
+                }
+                if (!cleared) {
+                    System.out.println("Harvest failed. Please try again.");
+                    return false;
+                }
+
+                cropName = plot.getCropName();
+                crop = CDM.getCrop(cropName);
+                // Harvest by grabbing Remaining Percentage & Original Yield
+                totalYield = (int) (plot.getRemainingPercentage()/100) * plot.getOriginalYield();
             
-            if (harvestedCrops.containsKey(cropName)) {
-                harvestedCrops.put(cropName, harvestedCrops.get(cropName) + totalYield);
-            } else {
-            harvestedCrops.put(cropName, totalYield);
+                if (harvestedCrops.containsKey(cropName)) {
+                    harvestedCrops.put(cropName, harvestedCrops.get(cropName) + totalYield);
+                } else {
+                    harvestedCrops.put(cropName, totalYield);
+                }
+
+                // To get EXP To Add
+                totalXpEarned += totalYield * crop.getXp();
+                // To get Gold to Add
+                totalGoldEarned += totalYield * crop.getSalePrice();
+                harvested = true;
             }
 
-            // To get EXP To Add
-            totalXpEarned += totalYield * crop.getXp();
-            // To get Gold to Add
-            totalGoldEarned += totalYield * crop.getSalePrice();
-            PDM.clearPlot(plot);
-            harvested = true;
+            // Stop if every plot was harvested in another session
+            if (!harvested) {
+                System.out.println("You do not have any plots to harvest.");
+                return true;
+            }
+
+            // use UserDAO to add the earned EXP and Gold in a single atomic update
+            User updatedUser = UDM.addGoldAndXp(loggedInUser.getUsername(), totalGoldEarned, totalXpEarned);
+
+            // use the updated EXP to check in RankDAO if there is an upgrade in Rank
+            if (updatedUser != null) {
+                updatedUser.setRank(RDM.updateRankAndPlots(updatedUser, updatedUser.getXp()));
+            }
+
+            if (updatedUser == null || !unitOfWork.commit()) {
+                System.out.println("Harvest failed. Please try again.");
+                return false;
+            }
+            loggedInUser.setGold(updatedUser.getGold());
+            loggedInUser.setXp(updatedUser.getXp());
+            loggedInUser.setRank(updatedUser.getRank());
         }
 
         // Output statement
@@ -135,37 +183,21 @@ public class FarmlandHarvester {
         }
         harvestedCropsQuantity = harvestedCropsQuantity.substring(0, harvestedCropsQuantity.length() - 2);
         System.out.println(" " + harvestedCropsQuantity + " for " + totalXpEarned + " XP, and " + totalGoldEarned + " gold.");
-        
-        // Update user if harvested 
-        if (harvested){
-            // use UserDAO to update User Object with added EXP and Gold
-            int currentGold = loggedInUser.getGold();
-            int currentXp = loggedInUser.getXp();
-            int updatedXp = currentXp + totalXpEarned;
-
-            // Update Gold and XP
-            loggedInUser.setGold(currentGold + totalGoldEarned);
-            loggedInUser.setXp(updatedXp);
-
-            // use Updated EXP to check in RankDAO if there is an upgrade in Rank
-            String updatedRank = RDM.updateRankAndPlots(loggedInUser, updatedXp);
-            loggedInUser.setRank(updatedRank);
-            
-            UDM.update(loggedInUser);
-            }
+        return true;
     }
 
     /**
      * Harvests the user's plots if valid. 
      * @param loggedInUser  the user
+     * @return              false if the harvest failed and was rolled back, true otherwise
      */
-    public void harvest(User loggedInUser) {
+    public boolean harvest(User loggedInUser) {
         List<Plot> plots = farmlandViewer.getPlotsOwnedByUser(loggedInUser.getUsername());
         List<Plot> plotsToHarvest = checkAnyHarvest(plots);
         if (!plotsToHarvest.isEmpty()) {
-            harvestPlots(plotsToHarvest, loggedInUser);
-        } else {
-            System.out.println("You do not have any plots to harvest.");
+            return harvestPlots(plotsToHarvest, loggedInUser);
         }
+        System.out.println("You do not have any plots to harvest.");
+        return true;
     }
 }
\ No newline at end of file
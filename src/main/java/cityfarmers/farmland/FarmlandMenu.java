@@ -7,6 +7,7 @@ import java.util.Scanner;
 
 import entities.Plot;
 import entities.User;
+import util.Screen;
 import util.Utility;
 
 /**
@@ -78,18 +79,20 @@ public class FarmlandMenu {
      * Displays the Farmland Page, input choices, and prompt
      */
     public void display() {
-        List<Plot> plots = farmlandCtrl.getPlotsOwnedByUser(loggedInUser.getUsername());
-        // City Farmer header information 
-        System.out.println();
-        System.out.println("== Social Magnet :: City Farmers :: My Farmland ==");
-        System.out.println("Welcome, " + loggedInUser.getFullName() + "!");
-        System.out.println("Title: " + loggedInUser.getRank() + "\t" + "Gold: " + loggedInUser.getGold());
-        System.out.println();
-
-        // List number of plots 
-        System.out.println("You have " + plots.size() + " plots of land.");
-        farmlandCtrl.displayPlots(plots);
-        System.out.print("[M]ain | City [F]armers | [P]lant | [C]lear | [H]arvest > ");
+        try (Screen screen = Screen.begin()) {
+            List<Plot> plots = farmlandCtrl.getPlotsOwnedByUser(loggedInUser.getUsername());
+            // City Farmer header information 
+            screen.println();
+            screen.println("== Social Magnet :: City Farmers :: My Farmland ==");
+            screen.println("Welcome, " + loggedInUser.getFullName() + "!");
+            screen.println("Title: " + loggedInUser.getRank() + "\t" + "Gold: " + loggedInUser.getGold());
+            screen.println();
+
+            // List number of plots 
+            screen.println("You have " + plots.size() + " plots of land.");
+            farmlandCtrl.displayPlots(plots);
+            screen.print("[M]ain | City [F]armers | [P]lant | [C]lear | [H]arvest > ");
+        }
     }
 
     /**
@@ -8,6 +8,7 @@ import java.util.Scanner;
 import cityfarmers.inventory.InventoryManager;
 import daos.CropDAO;
 import daos.PlotDAO;
+import daos.UnitOfWork;
 import entities.Crop;
 import entities.Plot;
 import entities.User;
@@ -135,6 +136,41 @@ public class FarmlandPlanter {
         return '-';
     }
 
+    /**
+     * Plants the specified crop on the user's plot of the specified number
+     * without prompting, if the plot is empty and the user has the crop.
+     * 
+     * @param   loggedInUser    the user
+     * @param   plotNumber      number of the plot, starting from 1
+     * @param   cropName        name of the crop to plant
+     * @return                  true if the crop was planted, false otherwise
+     */
+    public boolean plant(User loggedInUser, int plotNumber, String cropName) {
+        List<Plot> plots = PDM.getPlotsOwnedByUser(loggedInUser.getUsername());
+        Plot plot;
+
+        try {
+            plot = getPlotByInput(plots, "P" + plotNumber);
+        } catch (InvalidPlotException e) {
+            System.out.println(e.getMessage());
+            return false;
+        }
+
+        if (!checkPlant(plot)) {
+            System.out.println("Plot " + plotNumber + " is not empty.");
+            return false;
+        }
+
+        Map<Crop, Integer> userCrops = farmlandViewer.getCropsOwnedByUser(loggedInUser);
+        for (Map.Entry<Crop, Integer> userCrop : userCrops.entrySet()) {
+            if (userCrop.getKey().getCropName().equalsIgnoreCase(cropName) && userCrop.getValue() > 0) {
+                return plantPlot(loggedInUser, plot, userCrop.getKey());
+            }
+        }
+        System.out.println("You do not have any " + cropName + " seeds.");
+        return false;
+    }
+
     /**
      * The checkPlant method checks if the selected plot is empty, 
      * and returns the plot.
@@ -188,16 +224,25 @@ public class FarmlandPlanter {
      * @param loggedinUser  the user
      * @param plot          chosen plot
      * @param crop          chosen crop 
+     * @return              true if the crop was planted, false if the plot changed since it was read or planting failed
      */
-    public void plantPlot(User loggedinUser, Plot plot, Crop crop) {
-        // Use UserCropDAO to update Crop and Integer -1 via cropName
-        inventoryManager.updateUserCrops(loggedinUser, crop, -1);
-
-        // update Plot to have TimeCropPlanted and CropName
-        plot.plantCrop(crop);
-        // Use PlotDAO to update plot in DB
-        PDM.updatePlot(plot);
-
+    public boolean plantPlot(User loggedinUser, Plot plot, Crop crop) {
+        // Take the seed and plant it in a single transaction
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            // Use UserCropDAO to update Crop and Integer -1 via cropName, only if the user still has a seed
+            boolean planted = inventoryManager.updateUserCrops(loggedinUser, crop, -1);
+
+            // update Plot to have TimeCropPlanted and CropName
+            plot.plantCrop(crop);
+            // Use PlotDAO to update plot in DB only if no one planted it since it was read
+            planted = planted && PDM.updatePlotIfUnchanged(plot);
+
+            if (!planted || !unitOfWork.commit()) {
+                System.out.println("Planting failed. Please try again.");
+                return false;
+            }
+        }
+        return true;
     }
 
 }
\ No newline at end of file
@@ -11,6 +11,7 @@ import daos.UserCropDAO;
 import entities.Crop;
 import entities.Plot;
 import entities.User;
+import util.Screen;
 
 /**
  * The FarmlandDisplay class facilitates the interaction between the database and
@@ -64,42 +65,37 @@ public class FarmlandViewer {
      * @param plots a list of the user's plots
      */
     public void displayPlots(List<Plot> plots) {
-        for (int i = 0; i < plots.size(); i++) {
-
-            if (plots.get(i).getCropName() == null) {
-                System.out.println(i + 1 + ". " + "<empty>");
-            } else {
-                System.out.print(i + 1 + ". " + plots.get(i).getCropName() + "\t");
-            
-                // Time Planted from Plot
-                Date timePlanted = plots.get(i).getTimeCropPlanted();
-                String cropName = plots.get(i).getCropName();
-                long timePlantedMinutes = timePlanted.getTime() / 60000;
-                
-                // Time to Complete from Crop
-                int timeToComplete = CDM.getCrop(cropName).getTimeToHarvest();
-                Date currentDate = new Date();
-                long currentDateMinutes = currentDate.getTime() / 60000;
-                double progressRatio = (currentDateMinutes - timePlantedMinutes) / (double)timeToComplete;
-                int progressCount = (int)(progressRatio * 10);
-    
-                // Able to Harvest
-                if (progressRatio > 2.0) {
-                    System.out.println("[  wilted  ]");
+        try (Screen screen = Screen.begin()) {
+            for (int i = 0; i < plots.size(); i++) {
+
+                if (plots.get(i).getCropName() == null) {
+                    screen.print(i + 1 + ". ").println("<empty>");
                 } else {
-                    if (progressRatio > 1.0) {
-                        progressCount = 10;
-                        progressRatio = 1;
-                    }
-                    // Display status bar and percentage
-                    System.out.print("[");
-                    for (int x = 0; x < progressCount; x++) {
-                        System.out.print("#");
-                    }
-                    for (int x = 0; x < 10 - progressCount; x++) {
-                        System.out.print("-");
+                    screen.print(i + 1 + ". ").print(plots.get(i).getCropName()).print("\t");
+
+                    // Time Planted from Plot
+                    Date timePlanted = plots.get(i).getTimeCropPlanted();
+                    String cropName = plots.get(i).getCropName();
+                    long timePlantedMinutes = timePlanted.getTime() / 60000;
+
+                    // Time to Complete from Crop
+                    int timeToComplete = CDM.getCrop(cropName).getTimeToHarvest();
+                    Date currentDate = new Date();
+                    long currentDateMinutes = currentDate.getTime() / 60000;
+                    double progressRatio = (currentDateMinutes - timePlantedMinutes) / (double)timeToComplete;
+                    int progressCount = (int)(progressRatio * 10);
+
+                    // Able to Harvest
+                    if (progressRatio > 2.0) {
+                        screen.println("[  wilted  ]");
+                    } else {
+                        if (progressRatio > 1.0) {
+                            progressCount = 10;
+                            progressRatio = 1;
+                        }
+                        // Display status bar and percentage
+                        screen.progressBar(progressCount).print(" ").println((int)(progressRatio * 100) + "%");
                     }
-                    System.out.println("] " + (int)(progressRatio * 100) + "%");
                 }
             }
         }
@@ -112,24 +108,26 @@ public class FarmlandViewer {
      */
     public void displayCrops(Map<Crop, Integer> userCrops) {
 
-        // No crops to display
-        if (userCrops == null || userCrops.size() == 0) {
-            System.out.println("You do not have any crops.");
-            System.out.print("[M]ain | City [F]armers | Select Choice > ");
-            return;
-        }
+        try (Screen screen = Screen.begin()) {
+            // No crops to display
+            if (userCrops == null || userCrops.size() == 0) {
+                screen.println("You do not have any crops.");
+                screen.print("[M]ain | City [F]armers | Select Choice > ");
+                return;
+            }
 
-        ArrayList<Crop> cropsList = new ArrayList<Crop>();
-        String cropName;
-        int count = 0;
+            ArrayList<Crop> cropsList = new ArrayList<Crop>();
+            String cropName;
+            int count = 0;
 
-        for (Crop croptype : userCrops.keySet()) {
-            cropsList.add(croptype);
-            count += 1;
-            cropName = croptype.getCropName();
-            System.out.println(count + ": " + cropName);
+            for (Crop croptype : userCrops.keySet()) {
+                cropsList.add(croptype);
+                count += 1;
+                cropName = croptype.getCropName();
+                screen.print(count + ": ").println(cropName);
+            }
+            screen.print("[M]ain | City [F]armers | Select Choice > ");
         }
-        System.out.print("[M]ain | City [F]armers | Select Choice > ");
     }
 
     /**
@@ -138,13 +136,15 @@ public class FarmlandViewer {
      * @param chosenFriend the chosen friend
      */
     public void displayFriend(User chosenFriend) {
-        System.out.println();
-        System.out.println("Name: " + chosenFriend.getFullName());
-        System.out.println("Title: " + chosenFriend.getRank());
-        System.out.println("Gold: " + chosenFriend.getGold());
-        // List number of plots
-        List<Plot> plots = PDM.getPlotsOwnedByUser(chosenFriend.getUsername());
-        displayPlots(plots);
-        System.out.print("[M]ain | City [F]armers | [S]teal > ");
+        try (Screen screen = Screen.begin()) {
+            screen.println();
+            screen.print("Name: ").println(chosenFriend.getFullName());
+            screen.print("Title: ").println(chosenFriend.getRank());
+            screen.print("Gold: ").println(String.valueOf(chosenFriend.getGold()));
+            // List number of plots
+            List<Plot> plots = PDM.getPlotsOwnedByUser(chosenFriend.getUsername());
+            displayPlots(plots);
+            screen.print("[M]ain | City [F]armers | [S]teal > ");
+        }
     }
 }
\ No newline at end of file
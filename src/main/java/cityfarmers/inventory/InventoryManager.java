@@ -39,9 +39,10 @@ public class InventoryManager {
      * @param loggedInUser  the user
      * @param cropChoice    choice of crop
      * @param amount        amount to reduce by
+     * @return              true upon successful update, false otherwise
      */
-    public void updateUserCrops(User loggedInUser, Crop cropChoice, int amount) {
-        UCDM.updateUserCrops(loggedInUser, cropChoice, amount);
+    public boolean updateUserCrops(User loggedInUser, Crop cropChoice, int amount) {
+        return UCDM.updateUserCrops(loggedInUser, cropChoice, amount);
     }
 
 
@@ -5,6 +5,7 @@ import java.util.Scanner;
 
 import entities.Crop;
 import entities.User;
+import util.Screen;
 import util.Utility;
 
 /**
@@ -65,26 +66,28 @@ public class InventoryMenu {
      * @param loggedInUser  the user
      */
     public void display(User loggedInUser) {
-        Map<Crop, Integer> crops = inventoryCtrl.getUserCrops(loggedInUser);
-        System.out.println();
-        System.out.println("== Social Magnet :: City Farmers :: My Inventory ==");
-        System.out.println("Welcome, " + loggedInUser.getFullName() + "!");
-        System.out.println("Title: " + loggedInUser.getRank() + "\t" + "Gold: " + loggedInUser.getGold());
-        System.out.println(); 
-        System.out.println("My Seeds:");
-        int count = 0;
+        try (Screen screen = Screen.begin()) {
+            Map<Crop, Integer> crops = inventoryCtrl.getUserCrops(loggedInUser);
+            screen.println();
+            screen.println("== Social Magnet :: City Farmers :: My Inventory ==");
+            screen.println("Welcome, " + loggedInUser.getFullName() + "!");
+            screen.println("Title: " + loggedInUser.getRank() + "\t" + "Gold: " + loggedInUser.getGold());
+            screen.println(); 
+            screen.println("My Seeds:");
+            int count = 0;
 
-        if (crops.size() < 1){
-            System.out.println();
-            System.out.println("You have no seeds.");
-            System.out.println();
-        } else {
-            for (Map.Entry<Crop, Integer> entry : crops.entrySet()) {
-                count += 1;
-                System.out.println(count + ". " + entry.getValue() + " Bags of " + entry.getKey().getCropName());
+            if (crops.size() < 1){
+                screen.println();
+                screen.println("You have no seeds.");
+                screen.println();
+            } else {
+                for (Map.Entry<Crop, Integer> entry : crops.entrySet()) {
+                    count += 1;
+                    screen.println(count + ". " + entry.getValue() + " Bags of " + entry.getKey().getCropName());
+                }
             }
+            screen.print("[M]ain | City [F]armers | Select Choice > ");
         }
-        System.out.print("[M]ain | City [F]armers | Select Choice > ");
-        }
+    }
 
 }
\ No newline at end of file
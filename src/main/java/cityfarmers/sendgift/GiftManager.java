@@ -44,8 +44,7 @@ public class GiftManager {
      * @return              list of user's friends
      */
     public boolean isFriend(String username, User loggedInUser) {
-        User friend = UDM.getUser(username);
-        return FDM.isFriend(friend, loggedInUser);
+        return FDM.isFriend(username, loggedInUser.getUsername());
     }
 
     /**
@@ -80,9 +79,38 @@ public class GiftManager {
      * @return          true if user has sent to the friend today, false otherwise
      */
     public boolean haveSentGiftToThisUserToday(User sender, String receiver) {
-        User friendObject = UDM.getUser(receiver);
+        return GDM.haveSentGiftToThisUserToday(sender, receiver);
+    }
+
+    /**
+     * Returns the number of gifts the user may still send today.
+     * 
+     * @param sender  the user
+     * @return        number of gifts left today, -1 if they could not be counted
+     */
+    public int getGiftsLeftToday(User sender) {
+        return GDM.getGiftsLeftToday(sender);
+    }
+
+    /**
+     * Reserves a gift from the user to each of the receivers, if within today's limits.
+     * 
+     * @param sender    the user
+     * @param receivers distinct usernames of the friends
+     * @return          true if every gift was reserved, false if none were
+     */
+    public boolean reserveGifts(User sender, List<String> receivers) {
+        return GDM.reserveGifts(sender, receivers);
+    }
 
-        return GDM.haveSentGiftToThisUserToday(sender,friendObject);
+    /**
+     * Releases the gifts reserved by the user once they have been sent.
+     * 
+     * @param sender    the user
+     * @param receivers usernames of the friends
+     */
+    public void releaseGifts(User sender, List<String> receivers) {
+        GDM.releaseGifts(sender, receivers);
     }
 
     /**
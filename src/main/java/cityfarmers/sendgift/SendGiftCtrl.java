@@ -65,6 +65,37 @@ public class SendGiftCtrl {
         return giftManager.haveSentFiveGiftsToday(sender);
     }
 
+    /**
+     * Returns the number of gifts the user may still send today.
+     * 
+     * @param sender  the user
+     * @return        number of gifts left today, -1 if they could not be counted
+     */
+    public int getGiftsLeftToday(User sender) {
+        return giftManager.getGiftsLeftToday(sender);
+    }
+
+    /**
+     * Reserves a gift from the user to each of the receivers, if within today's limits.
+     * 
+     * @param sender    the user
+     * @param receivers distinct usernames of the friends
+     * @return          true if every gift was reserved, false if none were
+     */
+    public boolean reserveGifts(User sender, List<String> receivers) {
+        return giftManager.reserveGifts(sender, receivers);
+    }
+
+    /**
+     * Releases the gifts reserved by the user once they have been sent.
+     * 
+     * @param sender    the user
+     * @param receivers usernames of the friends
+     */
+    public void releaseGifts(User sender, List<String> receivers) {
+        giftManager.releaseGifts(sender, receivers);
+    }
+
     /**
      * Returns all of user's crops
      * @return list of all crops
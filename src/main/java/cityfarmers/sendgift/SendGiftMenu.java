@@ -7,6 +7,7 @@ import java.util.Scanner;
 
 import entities.Crop;
 import entities.User;
+import util.Screen;
 import util.Utility;
 
 /**
@@ -77,18 +78,20 @@ public class SendGiftMenu {
      * Displays the SendGift Page, input choices, and prompt
      */
     public void display(){
-        List<Crop> crops = sendGiftCtrl.getAllCrops();
-        // City Farmer header information 
-        System.out.println();
-        System.out.println("== Social Magnet :: City Farmers :: Send a Gift ==");
-        System.out.println("Welcome, " + loggedInUser.getFullName() + "!");
-        System.out.println("Title: " + loggedInUser.getRank() + "\t" + "Gold: " + loggedInUser.getGold());
-        System.out.println();
-        System.out.println("Gifts Available:");
-        for (int i = 0; i < crops.size(); i++){
-            System.out.println(i+1 + ". 1 Bag of " + crops.get(i).getCropName() + " Seeds");
+        try (Screen screen = Screen.begin()) {
+            List<Crop> crops = sendGiftCtrl.getAllCrops();
+            // City Farmer header information 
+            screen.println();
+            screen.println("== Social Magnet :: City Farmers :: Send a Gift ==");
+            screen.println("Welcome, " + loggedInUser.getFullName() + "!");
+            screen.println("Title: " + loggedInUser.getRank() + "\t" + "Gold: " + loggedInUser.getGold());
+            screen.println();
+            screen.println("Gifts Available:");
+            for (int i = 0; i < crops.size(); i++){
+                screen.println(i+1 + ". 1 Bag of " + crops.get(i).getCropName() + " Seeds");
+            }
+            screen.print("[R]eturn to main | Select choice > ");
         }
-        System.out.print("[R]eturn to main | Select choice > ");
     }
 
     /**
@@ -4,6 +4,7 @@ import java.util.List;
 
 import cityfarmers.inventory.InventoryManager;
 import daos.CropDAO;
+import daos.UnitOfWork;
 import daos.UserDAO;
 import entities.Crop;
 import entities.User;
@@ -50,9 +51,22 @@ public class StoreManager {
         } else {
             // UserCropDAO to add number of Crops user has
             // If successful, print success message, else, throw error.
-            inventoryManager.updateUserCrops(loggedInUser, cropChoice, amount);
-            loggedInUser.setGold(loggedInUser.getGold() - totalCost);
-            UDM.update(loggedInUser);
+            try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+                // Take the gold only if the user still has enough of it
+                User updatedUser = UDM.addGoldAndXp(loggedInUser.getUsername(), -totalCost, 0);
+                if (updatedUser == null) {
+                    System.out.println("Insufficient gold. Please try again.");
+                    return false;
+                }
+                inventoryManager.updateUserCrops(loggedInUser, cropChoice, amount);
+
+                if (!unitOfWork.commit()) {
+                    System.out.println("Purchase failed. Please try again.");
+                    return false;
+                }
+                loggedInUser.setGold(updatedUser.getGold());
+                loggedInUser.setXp(updatedUser.getXp());
+            }
             
             System.out.println( amount + " bags of seeds purchased for " + totalCost + " gold.");
             return true;
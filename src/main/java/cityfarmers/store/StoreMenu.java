@@ -5,6 +5,7 @@ import java.util.Scanner;
 
 import entities.Crop;
 import entities.User;
+import util.Screen;
 import util.Utility;
 
 /**
@@ -63,28 +64,30 @@ public class StoreMenu {
      * Displays the Farmland Page, input choices, and prompt
      */
     public void display() {
-        System.out.println();
-        System.out.println("== Social Magnet :: City Farmers :: My Store ==");
-        System.out.println("Welcome, " + loggedInUser.getFullName() + "!");
-        System.out.println("Title: " + loggedInUser.getRank() + "\t" + "Gold: " + loggedInUser.getGold());
-        System.out.println();
-        System.out.println("Seeds Available:");
-        // readCrops and display the Crops 
-        int count = 0;
-        List<Crop> crops = storeCtrl.getAllCrops();
-        for (Crop crop: crops){
-            count += 1;
-            System.out.printf("%d. %-11s- %d gold\n",count, crop.getCropName(), crop.getCost());
-            int harvestTime = crop.getTimeToHarvest();
-            if (harvestTime%60 == 0){
-                System.out.println("   Harvest in: " + harvestTime/60 + " hours");
-            } else {
-                System.out.println("   Harvest in: " + harvestTime + " minutes");  
+        try (Screen screen = Screen.begin()) {
+            screen.println();
+            screen.println("== Social Magnet :: City Farmers :: My Store ==");
+            screen.println("Welcome, " + loggedInUser.getFullName() + "!");
+            screen.println("Title: " + loggedInUser.getRank() + "\t" + "Gold: " + loggedInUser.getGold());
+            screen.println();
+            screen.println("Seeds Available:");
+            // readCrops and display the Crops 
+            int count = 0;
+            List<Crop> crops = storeCtrl.getAllCrops();
+            for (Crop crop: crops){
+                count += 1;
+                screen.printf("%d. %-11s- %d gold\n",count, crop.getCropName(), crop.getCost());
+                int harvestTime = crop.getTimeToHarvest();
+                if (harvestTime%60 == 0){
+                    screen.println("   Harvest in: " + harvestTime/60 + " hours");
+                } else {
+                    screen.println("   Harvest in: " + harvestTime + " minutes");  
+                }
+                screen.println("   XP Gained: " + crop.getXp());
             }
-            System.out.println("   XP Gained: " + crop.getXp());
-        }
-        System.out.print("[M]ain | City [F]armers | Select Choice > ");
+            screen.print("[M]ain | City [F]armers | Select Choice > ");
 
+        }
     }
 
     /**
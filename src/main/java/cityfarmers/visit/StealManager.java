@@ -12,6 +12,7 @@ import daos.FriendsDAO;
 import daos.PlotDAO;
 import daos.RankDAO;
 import daos.StealDAO;
+import daos.UnitOfWork;
 import daos.UserDAO;
 import entities.Crop;
 import entities.Plot;
@@ -125,8 +126,9 @@ public class StealManager {
      * 
      * @param loggedInUser      the user
      * @param plotsToBeStolen   plots to be stolen
+     * @return                  false if the steal failed and was rolled back, true otherwise
      */
-    public void steal(User loggedInUser, List<Plot> plotsToBeStolen) {
+    public boolean steal(User loggedInUser, List<Plot> plotsToBeStolen) {
         int totalGoldStolen = 0;
         int totalXpStolen = 0;
         int stolenYield = 0;
@@ -134,48 +136,79 @@ public class StealManager {
         String cropName;
         Map<String, Integer> stolenCrops = new HashMap<>();
 
-        for (Plot plot : plotsToBeStolen) {
-
-            int amountLeftToSteal = plot.getRemainingPercentage() - 80;
-            // generate random number (1-5%)
+        // Take from the plots and pay the user in a single transaction
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
             Random rand = new Random();
-            int amountToSteal = 1;
-            amountToSteal += rand.nextInt(5);
-            amountToSteal = Math.min(amountLeftToSteal, amountToSteal);
+            for (Plot plot : plotsToBeStolen) {
+                long timePlanted = plot.getTimeCropPlanted().getTime();
+                int amountToSteal = 0;
+                boolean updated = false;
+                boolean nothingLeft = false;
+
+                // PlotDAO to minus away stolen crops only if no one changed the plot since it was read,
+                // retrying with the latest plot if someone did
+                for (int attempt = 1; attempt <= PlotDAO.MAX_UPDATE_ATTEMPTS && !updated && !nothingLeft; attempt++) {
+                    if (attempt > 1) {
+                        plot = PDM.getPlotForUpdate(plot.getPlotId());
+                    }
+
+                    // Stop if the crop was harvested, or others stole all that can be stolen
+                    if (plot == null || plot.getCropName() == null || plot.getTimeCropPlanted().getTime() != timePlanted
+                            || plot.getRemainingPercentage() <= 80) {
+                        nothingLeft = true;
+                    } else {
+                        int amountLeftToSteal = plot.getRemainingPercentage() - 80;
+                        // generate random number (1-5%)
+                        amountToSteal = Math.min(amountLeftToSteal, 1 + rand.nextInt(5));
+                        plot.setRemainingPercentage(amountLeftToSteal - amountToSteal + 80);
+                        updated = PDM.updatePlotIfUnchanged(plot);
+                    }
+                }
+                if (nothingLeft) {
+                    continue;
+                }
+
+                // Add thief to thief list, which fails if he already stole from this plot in another session
+                if (!updated || !SDM.addThief(plot, loggedInUser)) {
+                    System.out.println("Steal failed. Please try again.");
+                    return false;
+                }
 
-            cropName = plot.getCropName();
-            crop = CDM.getCrop(cropName);
+                cropName = plot.getCropName();
+                crop = CDM.getCrop(cropName);
             
-            // Steal by grabbing Remaining Percentage & Original Yield
-            stolenYield = (int) (amountToSteal/100) * plot.getOriginalYield();
-            stolenCrops.put(cropName, stolenYield);
-            // To get EXP To Add
-            totalXpStolen += stolenYield * crop.getXp();
-            // To get Gold to Add
-            totalGoldStolen += stolenYield * crop.getSalePrice();
-            // PlotDAO to minus away stolen crops and update (reduce percentage left)
-            plot.setRemainingPercentage(amountLeftToSteal - amountToSteal + 80);
-            // to generate gold and EXP gained using CropDAO
-            PDM.updatePlot(plot);
-            // Add thief to thief list
-            SDM.addThief(plot,loggedInUser);
+                // Steal by grabbing Remaining Percentage & Original Yield
+                stolenYield = (int) (amountToSteal/100) * plot.getOriginalYield();
+                stolenCrops.put(cropName, stolenYield);
+                // To get EXP To Add
+                totalXpStolen += stolenYield * crop.getXp();
+                // To get Gold to Add
+                totalGoldStolen += stolenYield * crop.getSalePrice();
+            }
 
-        }
+            // Stop if every plot was taken by others first
+            if (stolenCrops.isEmpty()) {
+                System.out.println("There is nothing left to steal.");
+                return true;
+            }
+
+            // use UserDAO to add the stolen EXP and Gold in a single atomic update
+            User updatedUser = UDM.addGoldAndXp(loggedInUser.getUsername(), totalGoldStolen, totalXpStolen);
 
-        // use UserDAO to update User Object with added EXP and Gold
-        int currentGold = loggedInUser.getGold();
-        int currentXp = loggedInUser.getXp();
-        int updatedXp = currentXp + totalXpStolen;
+            // use the updated EXP to check in RankDAO if there is an upgrade in Rank
+            if (updatedUser != null) {
+                updatedUser.setRank(RDM.updateRankAndPlots(updatedUser, updatedUser.getXp()));
+            }
 
-        // Update Gold and XP
-        loggedInUser.setGold(currentGold + totalGoldStolen);
-        loggedInUser.setXp(updatedXp);
+            if (updatedUser == null || !unitOfWork.commit()) {
+                System.out.println("Steal failed. Please try again.");
+                return false;
+            }
+            loggedInUser.setGold(updatedUser.getGold());
+            loggedInUser.setXp(updatedUser.getXp());
+            loggedInUser.setRank(updatedUser.getRank());
+        }
 
-        // use Updated EXP to check in RankDAO if there is an upgrade in Rank
-        String updatedRank = RDM.updateRankAndPlots(loggedInUser, updatedXp);
-        loggedInUser.setRank(updatedRank);
-        UDM.update(loggedInUser);
-        
         String stolenCropsQuantity = "";
         System.out.print("You have successfully stolen");
         for (Map.Entry<String,Integer> entry : stolenCrops.entrySet()) {
@@ -183,6 +216,7 @@ public class StealManager {
         }
         stolenCropsQuantity = stolenCropsQuantity.substring(0, stolenCropsQuantity.length() - 2);
         System.out.println(" " + stolenCropsQuantity + " for " + totalXpStolen + " XP, and " + totalGoldStolen + " gold.");
+        return true;
     }
     
 }
@@ -50,9 +50,10 @@ public class VisitCtrl {
      * 
      * @param loggedInUser      the user
      * @param plotsToBeStolen   plots to be stolen
+     * @return                  false if the steal failed and was rolled back, true otherwise
      */
-    public void steal(User loggedInUser, List<Plot> plotsToBeStolen) {
-        stealManager.steal(loggedInUser, plotsToBeStolen);
+    public boolean steal(User loggedInUser, List<Plot> plotsToBeStolen) {
+        return stealManager.steal(loggedInUser, plotsToBeStolen);
     }
 
     /**
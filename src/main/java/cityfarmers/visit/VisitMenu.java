@@ -5,6 +5,7 @@ import java.util.Scanner;
 
 import entities.Plot;
 import entities.User;
+import util.Screen;
 import util.Utility;
 
 /**
@@ -111,22 +112,24 @@ public class VisitMenu {
      * Displays the Visit Page, input choices, and prompt
      */
     public void display() {
-        System.out.println();
-        System.out.println("== Social Magnet :: City Farmers :: Visit Friend ==");
-        System.out.println("Welcome, " + loggedInUser.getFullName() + "!");
-        System.out.println("Title: " + loggedInUser.getRank() + "\t" + "Gold: " + loggedInUser.getGold());
-        System.out.println();
-        System.out.println("My Friends:");
-        if (friends.size() < 1){
-            System.out.println();
-            System.out.println("You have no friends.");
-        }
-        for (int i=0; i < friends.size(); i++){
-            User friend = friends.get(i);
-            System.out.println((i + 1) +". " + friend.getFullName() + " (" + friend.getUsername() +")");
+        try (Screen screen = Screen.begin()) {
+            screen.println();
+            screen.println("== Social Magnet :: City Farmers :: Visit Friend ==");
+            screen.println("Welcome, " + loggedInUser.getFullName() + "!");
+            screen.println("Title: " + loggedInUser.getRank() + "\t" + "Gold: " + loggedInUser.getGold());
+            screen.println();
+            screen.println("My Friends:");
+            if (friends.size() < 1){
+                screen.println();
+                screen.println("You have no friends.");
+            }
+            for (int i=0; i < friends.size(); i++){
+                User friend = friends.get(i);
+                screen.println((i + 1) +". " + friend.getFullName() + " (" + friend.getUsername() +")");
+            }
+            screen.println();
+            screen.print("[M]ain | City [F]armers | Select Choice > ");
         }
-        System.out.println();
-        System.out.print("[M]ain | City [F]armers | Select Choice > ");
     }
 
 }
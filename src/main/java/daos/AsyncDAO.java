@@ -0,0 +1,204 @@
+package daos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import entities.Comment;
+import entities.Thread;
+import entities.User;
+
+/**
+ * The AsyncDAO class runs DAO reads on a shared bounded executor and returns
+ * their results as CompletableFutures, so that the independent reads of one
+ * screen run at the same time and the screen waits only for the slowest.
+ *
+ * The executor has as many threads as the ConnectionPool has connections,
+ * so reads never queue for a connection behind each other. Reads waiting
+ * for a thread are held in a queue of socialmagnet.async.queueSize entries
+ * (256 by default), and once it is full the caller runs the read itself.
+ *
+ * A read started while a unit of work is open on the calling thread runs on
+ * the calling thread instead, so that it sees the unit of work's changes.
+ * As the DAOs print their errors, a failed read completes normally with the
+ * value the DAO returns on error.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class AsyncDAO {
+
+    private static volatile Executor sharedExecutor;
+
+    private final Executor executor;
+
+    /** UDM provides access to the User table in the database */
+    private UserDAO UDM;
+
+    /** FDM provides access to the Friends table in the database */
+    private FriendsDAO FDM;
+
+    /** TDM provides access to the Thread table in the database */
+    private ThreadDAO TDM;
+
+    /** RDM provides access to the Reaction table in the database */
+    private ReactionDAO RDM;
+
+    /** CDM provides access to the Comment table in the database */
+    private CommentDAO CDM;
+
+    /** Creates an AsyncDAO that runs reads on the shared executor */
+    public AsyncDAO() {
+        this(getSharedExecutor());
+    }
+
+    /**
+     * Creates an AsyncDAO that runs reads on the specified executor
+     *
+     * @param executor  executor to run reads on
+     */
+    AsyncDAO(Executor executor) {
+        this.executor = executor;
+        UDM = new UserDAO();
+        FDM = new FriendsDAO();
+        TDM = new ThreadDAO();
+        RDM = new ReactionDAO();
+        CDM = new CommentDAO();
+    }
+
+    private static Executor getSharedExecutor() {
+        Executor executor = sharedExecutor;
+        if (executor == null) {
+            synchronized (AsyncDAO.class) {
+                executor = sharedExecutor;
+                if (executor == null) {
+                    int threads = ConnectionPool.getInstance().getMaxSize();
+                    AtomicInteger threadCount = new AtomicInteger();
+                    ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                            new ArrayBlockingQueue<>(Integer.getInteger("socialmagnet.async.queueSize", 256)),
+                            r -> {
+                                java.lang.Thread thread = new java.lang.Thread(r, "async-dao-" + threadCount.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            },
+                            new ThreadPoolExecutor.CallerRunsPolicy());
+                    pool.allowCoreThreadTimeOut(true);
+                    executor = pool;
+                    sharedExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Runs a read on the executor
+     *
+     * @param read  read to run
+     * @return      future result of the read
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> read) {
+        if (UnitOfWork.current() != null) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            try {
+                result.complete(read.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+            return result;
+        }
+        return CompletableFuture.supplyAsync(DAOCallCounter.counted(read), executor);
+    }
+
+    /**
+     * Retrieves a user
+     *
+     * @param username  username of user to retrieve
+     * @return          future user, null if there is no such user
+     */
+    public CompletableFuture<User> getUser(String username) {
+        return supply(() -> UDM.getUser(username));
+    }
+
+    /**
+     * Retrieves a user's wealth ranking among their friends
+     *
+     * @param user  user to rank
+     * @return      future wealth ranking of the user
+     */
+    public CompletableFuture<Integer> getRichRank(User user) {
+        return supply(() -> UDM.getRichRank(user));
+    }
+
+    /**
+     * Retrieves a user's friends, retrieving each friend at the same time
+     *
+     * @param user  user to retrieve friends of
+     * @return      future list of the user's friends
+     */
+    public CompletableFuture<List<User>> getFriends(User user) {
+        List<CompletableFuture<User>> futureFriends = new ArrayList<>();
+        for (String friendUsername : FDM.getFriendUsernames(user)) {
+            futureFriends.add(getUser(friendUsername));
+        }
+        return CompletableFuture.allOf(futureFriends.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+            List<User> friends = new ArrayList<>();
+            for (CompletableFuture<User> futureFriend : futureFriends) {
+                User friend = futureFriend.join();
+                if (friend != null) {
+                    friends.add(friend);
+                }
+            }
+            return friends;
+        });
+    }
+
+    /**
+     * Retrieves the top threads on a user's wall
+     *
+     * @param user  user whose wall to retrieve
+     * @return      future list of the threads
+     */
+    public CompletableFuture<List<Thread>> getWallThreads(User user) {
+        return supply(() -> TDM.getWallThreads(user));
+    }
+
+    /**
+     * Retrieves the page of threads on a user's wall after or before the anchor
+     *
+     * @param user      user whose wall to retrieve
+     * @param anchor    thread at the edge of the current page
+     * @param older     true for the next (older) page, false for the previous (newer) page
+     * @return          future list of the threads
+     */
+    public CompletableFuture<List<Thread>> getWallThreads(User user, Thread anchor, boolean older) {
+        return supply(() -> TDM.getWallThreads(user, anchor, older));
+    }
+
+    /**
+     * Retrieves the number of likes and dislikes of several threads
+     *
+     * @param threads   threads to count reactions of
+     * @return          future map of each thread to its likes and dislikes
+     */
+    public CompletableFuture<Map<Thread, int[]>> getReactionCounts(List<Thread> threads) {
+        return supply(() -> RDM.getReactionCounts(threads));
+    }
+
+    /**
+     * Retrieves the comments of several threads
+     *
+     * @param threads   threads to retrieve comments of
+     * @return          future map of each thread to its comments
+     */
+    public CompletableFuture<Map<Thread, List<Comment>>> getComments(List<Thread> threads) {
+        return supply(() -> CDM.getComments(threads));
+    }
+}
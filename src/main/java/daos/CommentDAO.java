@@ -5,7 +5,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import entities.Comment;
 import entities.Thread;
@@ -140,4 +142,81 @@ public class CommentDAO extends DAO {
 		}
 		return comments;
 	}
+
+	/**
+	 * Returns comments of each of the specified threads, in a single query
+	 * 
+	 * @param threads	threads to retrieve comments from
+	 * @return			map from each thread to its list of comments
+	 */
+    public Map<Thread, List<Comment>> getComments(List<Thread> threads) {
+        Connection conn = null;
+		PreparedStatement preparedStmt = null;
+		ResultSet rs = null;
+		Map<Thread, List<Comment>> comments = new HashMap<>();
+		Map<String, Thread> threadsByKey = new HashMap<>();
+
+		for (Thread thread : threads) {
+			comments.put(thread, new ArrayList<>());
+			threadsByKey.put(threadKey(thread.getSenderUsername(), (Timestamp)thread.getTimePosted()), thread);
+		}
+		if (threads.isEmpty()) {
+			return comments;
+		}
+
+		try {
+			// Create the SQL database connection
+			conn = getConnection();
+			
+			// Create the SQL select statement 
+			String query = "SELECT * FROM COMMENT WHERE (threader_username, thread_time_stamp) IN (" 
+					+ threadKeyPlaceholders(threads.size()) + ")";
+
+			// Create the prepared statement from query
+			preparedStmt = conn.prepareStatement(query);
+
+			// Set prepared statement placeholder values
+			int index = 1;
+			for (Thread thread : threads) {
+				preparedStmt.setString(index++, thread.getSenderUsername());
+				preparedStmt.setTimestamp(index++, (Timestamp)thread.getTimePosted());
+			}
+
+			// Execute the prepared statement
+			rs = preparedStmt.executeQuery();
+
+			// Get results from result set
+			while(rs.next()) {
+				Thread thread = threadsByKey.get(threadKey(rs.getString("threader_username"), 
+						rs.getTimestamp("thread_time_stamp")));
+                String commenterUsername = rs.getString("commenter_username");
+                Timestamp commentTimeStamp = rs.getTimestamp("comment_time_stamp");
+				String text = rs.getString("text");
+				
+				if (thread != null) {
+					comments.get(thread).add(new Comment(commenterUsername, commentTimeStamp, text));
+				}
+			}
+		} catch (Exception e) {
+			System.err.println("Error when getting comments from threads:");
+			System.err.println(e.getMessage());
+		} finally {
+			// Close connection, prepared statement and/or result set
+			try {
+				if(conn != null) {
+					conn.close();
+				}
+				if(preparedStmt != null) {
+					preparedStmt.close();
+				}
+				if(rs != null) {
+					rs.close();
+				}
+			} catch(Exception e) {
+				System.err.println("Error when closing:");
+				System.err.println(e.getMessage());
+			}
+		}
+		return comments;
+	}
 }
\ No newline at end of file
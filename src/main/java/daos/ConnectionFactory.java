@@ -2,15 +2,25 @@ package daos;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.SQLException;
 
 /**
  * The ConnectionFactory connects to the MySQL database.
+ * The URL can be overridden with the socialmagnet.db.url system property.
  *
  * @version 1.1 05 Apr 2020
  * @author Brian Goh
  */   
 public class ConnectionFactory {
 
+    /**
+     * URL of the MySQL database used when no override is given. Server side
+     * prepared statements let the pooled StatementCache skip parsing on reuse,
+     * and batched inserts are rewritten into multi-row inserts.
+     */
+    public static final String DEFAULT_URL = "jdbc:mysql://localhost:3306/oop?useSSL=false&user=root&serverTimezone=UTC"
+            + "&useServerPrepStmts=true&rewriteBatchedStatements=true";
+
     /**
      * Gets connection from the MySQL database
      * 
@@ -18,10 +28,20 @@ public class ConnectionFactory {
      */
     public static Connection getConnection() {
         try {
-            return DriverManager.getConnection("jdbc:mysql://localhost:3306/oop?useSSL=false&user=root&serverTimezone=UTC");  
+            return createConnection();
         } catch (Exception ex) {
             System.out.println(ex.getLocalizedMessage());
         }
         return null;
     }
+
+    /**
+     * Opens a new physical connection to the MySQL database
+     * 
+     * @return  a new connection to the MySQL database
+     * @throws  SQLException if the connection could not be opened
+     */
+    public static Connection createConnection() throws SQLException {
+        return DriverManager.getConnection(System.getProperty("socialmagnet.db.url", DEFAULT_URL));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,445 @@
+package daos;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The ConnectionPool class keeps a bounded set of open connections to the
+ * MySQL database so that DAOs do not pay for a new connection on every call.
+ * Connections are validated before reuse, evicted when idle for too long,
+ * and reported when a borrower holds one for longer than the leak threshold.
+ *
+ * The shared pool is configured with the following system properties:
+ * socialmagnet.pool.minSize, socialmagnet.pool.maxSize,
+ * socialmagnet.pool.acquireTimeoutMs, socialmagnet.pool.idleTimeoutMs
+ * socialmagnet.pool.leakThresholdMs (0 disables leak detection) and
+ * socialmagnet.pool.statementCacheSize (0 disables statement caching).
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class ConnectionPool {
+
+    /** Seconds to wait for a connection to answer a validation ping */
+    static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    /** Idle connections older than this are pinged before they are handed out */
+    private static final long VALIDATION_INTERVAL_MILLIS = 5000;
+
+    /** Interval between runs of idle eviction, refilling and leak detection */
+    private static final long HOUSEKEEPING_INTERVAL_MILLIS = 5000;
+
+    private static ConnectionPool instance;
+
+    private final ConnectionSource source;
+    private final int minSize;
+    private final int maxSize;
+    private final long acquireTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final long leakThresholdMillis;
+    private final int statementCacheSize;
+
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Set<PooledConnection> borrowed = ConcurrentHashMap.newKeySet();
+    private final Semaphore permits;
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final ScheduledExecutorService housekeeper;
+    private final long createdAt = System.nanoTime();
+    private volatile boolean shutdown;
+    private volatile boolean fillFailing;
+
+    private final AtomicLong acquireCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong destroyedCount = new AtomicLong();
+    private final AtomicLong leakCount = new AtomicLong();
+    private final AtomicLong busyNanos = new AtomicLong();
+    private final AtomicInteger peakActive = new AtomicInteger();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+
+    /**
+     * The ConnectionSource opens new physical connections for the pool
+     */
+    public interface ConnectionSource {
+
+        /**
+         * Opens a new physical connection
+         *
+         * @return  a new connection
+         * @throws  SQLException if the connection could not be opened
+         */
+        Connection create() throws SQLException;
+    }
+
+    /**
+     * Creates a ConnectionPool
+     *
+     * @param source                source of new physical connections
+     * @param minSize               number of connections kept open when idle
+     * @param maxSize               maximum number of connections open at once
+     * @param acquireTimeoutMillis  time a borrower waits for a free connection
+     * @param idleTimeoutMillis     time after which an idle connection above minSize is closed
+     * @param leakThresholdMillis   time a connection may be held before it is reported, 0 to disable
+     * @param statementCacheSize    prepared statements cached per connection, 0 to disable
+     */
+    public ConnectionPool(ConnectionSource source, int minSize, int maxSize, long acquireTimeoutMillis,
+            long idleTimeoutMillis, long leakThresholdMillis, int statementCacheSize) {
+        if (maxSize < 1 || minSize < 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Invalid pool size: min " + minSize + ", max " + maxSize);
+        }
+        this.source = source;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.leakThresholdMillis = leakThresholdMillis;
+        this.statementCacheSize = statementCacheSize;
+        this.permits = new Semaphore(maxSize, true);
+
+        housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "connection-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep, 0, HOUSEKEEPING_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the pool shared by all DAOs, creating it on first use
+     *
+     * @return  the shared connection pool
+     */
+    public static synchronized ConnectionPool getInstance() {
+        if (instance == null) {
+            instance = new ConnectionPool(ConnectionFactory::createConnection,
+                    Integer.getInteger("socialmagnet.pool.minSize", 2),
+                    Integer.getInteger("socialmagnet.pool.maxSize", 10),
+                    Long.getLong("socialmagnet.pool.acquireTimeoutMs", 5000),
+                    Long.getLong("socialmagnet.pool.idleTimeoutMs", 600000),
+                    Long.getLong("socialmagnet.pool.leakThresholdMs", 30000),
+                    Integer.getInteger("socialmagnet.pool.statementCacheSize", 64));
+        }
+        return instance;
+    }
+
+    /**
+     * Borrows a connection from the pool, waiting up to the acquire timeout
+     * for one to be returned if all are in use. Closing the returned
+     * connection gives it back to the pool.
+     *
+     * @return  a pooled connection to the database
+     * @throws  SQLException if no connection became free in time or a new one could not be opened
+     */
+    public Connection getConnection() throws SQLException {
+        if (shutdown) {
+            throw new SQLException("Connection pool has been shut down");
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeoutCount.incrementAndGet();
+                throw new SQLException("Timed out after " + acquireTimeoutMillis
+                        + "ms waiting for a database connection (" + borrowed.size() + " in use)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            PooledConnection pooled;
+            while ((pooled = idle.pollFirst()) != null && !pooled.isUsable(VALIDATION_INTERVAL_MILLIS)) {
+                destroy(pooled);
+            }
+            if (pooled == null) {
+                pooled = create();
+            }
+
+            long waited = System.nanoTime() - start;
+            acquireCount.incrementAndGet();
+            totalWaitNanos.addAndGet(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+
+            Connection conn = pooled.lease(leakThresholdMillis > 0);
+            borrowed.add(pooled);
+            peakActive.accumulateAndGet(borrowed.size(), Math::max);
+            return conn;
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Takes back a connection whose borrower has closed it
+     *
+     * @param pooled    connection being returned
+     */
+    void release(PooledConnection pooled) {
+        borrowed.remove(pooled);
+        busyNanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - pooled.getLeasedAt()));
+        if (pooled.reset() && !shutdown) {
+            // Most recently used first, so that surplus connections go idle and get evicted
+            idle.offerFirst(pooled);
+        } else {
+            destroy(pooled);
+        }
+        permits.release();
+    }
+
+    /**
+     * Closes idle connections above the minimum size that have not been used
+     * within the idle timeout, tops the pool back up to its minimum size and
+     * reports connections held for longer than the leak threshold
+     */
+    void housekeep() {
+        long now = System.currentTimeMillis();
+        for (PooledConnection pooled : idle) {
+            if (totalConnections.get() > minSize && now - pooled.getLastReturnedAt() > idleTimeoutMillis
+                    && idle.remove(pooled)) {
+                destroy(pooled);
+            }
+        }
+
+        fill();
+
+        if (leakThresholdMillis > 0) {
+            for (PooledConnection pooled : borrowed) {
+                if (pooled.checkLeak(now, leakThresholdMillis)) {
+                    leakCount.incrementAndGet();
+                    System.err.println("Possible connection leak: connection held for "
+                            + (now - pooled.getLeasedAt()) + "ms");
+                    if (pooled.getLeaseTrace() != null) {
+                        pooled.getLeaseTrace().printStackTrace();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes all idle connections and stops handing out new ones.
+     * Borrowed connections are closed when they are returned.
+     */
+    public void shutdown() {
+        shutdown = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            destroy(pooled);
+        }
+    }
+
+    private void fill() {
+        while (!shutdown && totalConnections.get() < minSize && permits.tryAcquire()) {
+            try {
+                idle.offerLast(create());
+                fillFailing = false;
+            } catch (SQLException e) {
+                if (!fillFailing) {
+                    System.err.println("Error when filling connection pool:");
+                    System.err.println(e.getMessage());
+                }
+                fillFailing = true;
+                return;
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    private PooledConnection create() throws SQLException {
+        Connection physical = source.create();
+        if (physical == null) {
+            throw new SQLException("Connection source returned no connection");
+        }
+        totalConnections.incrementAndGet();
+        createdCount.incrementAndGet();
+        return new PooledConnection(this, physical, statementCacheSize);
+    }
+
+    private void destroy(PooledConnection pooled) {
+        totalConnections.decrementAndGet();
+        destroyedCount.incrementAndGet();
+        pooled.closePhysical();
+    }
+
+    /**
+     * Returns the number of connections currently borrowed
+     *
+     * @return  number of connections in use
+     */
+    public int getActiveCount() {
+        return borrowed.size();
+    }
+
+    /**
+     * Returns the number of open connections waiting to be borrowed
+     *
+     * @return  number of idle connections
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Returns the number of open connections, borrowed or idle
+     *
+     * @return  number of open connections
+     */
+    public int getTotalCount() {
+        return totalConnections.get();
+    }
+
+    /**
+     * Returns the number of threads waiting for a connection
+     *
+     * @return  number of waiting threads
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Returns the maximum number of connections the pool will open
+     *
+     * @return  maximum pool size
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the highest number of connections borrowed at once
+     *
+     * @return  peak number of connections in use
+     */
+    public int getPeakActiveCount() {
+        return peakActive.get();
+    }
+
+    /**
+     * Returns the number of connections handed out so far
+     *
+     * @return  number of successful acquisitions
+     */
+    public long getAcquireCount() {
+        return acquireCount.get();
+    }
+
+    /**
+     * Returns the average time borrowers waited for a connection
+     *
+     * @return  average wait in milliseconds
+     */
+    public double getAverageWaitMillis() {
+        long count = acquireCount.get();
+        return count == 0 ? 0 : totalWaitNanos.get() / 1e6 / count;
+    }
+
+    /**
+     * Returns the longest time a borrower waited for a connection
+     *
+     * @return  maximum wait in milliseconds
+     */
+    public double getMaxWaitMillis() {
+        return maxWaitNanos.get() / 1e6;
+    }
+
+    /**
+     * Returns the number of borrowers who gave up waiting for a connection
+     *
+     * @return  number of acquire timeouts
+     */
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    /**
+     * Returns the number of physical connections opened so far
+     *
+     * @return  number of connections created
+     */
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    /**
+     * Returns the number of physical connections closed so far
+     *
+     * @return  number of connections destroyed
+     */
+    public long getDestroyedCount() {
+        return destroyedCount.get();
+    }
+
+    /**
+     * Returns the number of connections reported as possibly leaked
+     *
+     * @return  number of suspected leaks
+     */
+    public long getLeakCount() {
+        return leakCount.get();
+    }
+
+    /**
+     * Returns the share of the pool's capacity that has been in use since
+     * it was created, counting returned connections only
+     *
+     * @return  utilisation between 0 and 1
+     */
+    public double getUtilisation() {
+        long elapsed = System.nanoTime() - createdAt;
+        return elapsed <= 0 ? 0 : Math.min(1.0, (double) busyNanos.get() / elapsed / maxSize);
+    }
+
+    /**
+     * Returns the number of prepared statements reused from a connection's cache
+     *
+     * @return  number of statement cache hits
+     */
+    public long getStatementCacheHits() {
+        return statementCacheHits.get();
+    }
+
+    /**
+     * Returns the number of prepared statements that had to be prepared anew
+     *
+     * @return  number of statement cache misses
+     */
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.get();
+    }
+
+    void recordStatementCacheHit() {
+        statementCacheHits.incrementAndGet();
+    }
+
+    void recordStatementCacheMiss() {
+        statementCacheMisses.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ConnectionPool[active=%d, idle=%d, waiting=%d, max=%d, peak=%d, "
+                + "acquired=%d, avgWait=%.2fms, maxWait=%.2fms, timeouts=%d, created=%d, "
+                + "destroyed=%d, leaks=%d, utilisation=%.1f%%, statementHits=%d, statementMisses=%d]",
+                getActiveCount(), getIdleCount(), getWaitingCount(), maxSize, getPeakActiveCount(),
+                getAcquireCount(), getAverageWaitMillis(), getMaxWaitMillis(), getTimeoutCount(),
+                getCreatedCount(), getDestroyedCount(), getLeakCount(), getUtilisation() * 100,
+                getStatementCacheHits(), getStatementCacheMisses());
+    }
+}
@@ -0,0 +1,181 @@
+package daos;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import entities.Crop;
+
+/**
+ * The CropCatalog class is an immutable snapshot of the crop table held in
+ * memory, so that looking up a crop does not query the database. Crops are
+ * looked up by name or by a dense id from 0 to size() - 1, assigned in
+ * order of crop name.
+ *
+ * The catalog is loaded from the crop table on first use, falling back to
+ * data/crop.csv if the table cannot be read. reload() swaps in a new
+ * snapshot with a higher version; readers holding the old one are unaffected.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public final class CropCatalog {
+
+    /** Crop file read when the crop table cannot be */
+    private static final Path CROP_CSV = Paths.get("data", "crop.csv");
+
+    private static volatile CropCatalog instance;
+    private static long lastVersion;
+
+    private final long version;
+    private final List<Crop> crops;
+    private final Map<String, Integer> idsByName;
+
+    private CropCatalog(long version, List<Crop> crops) {
+        List<Crop> sorted = new ArrayList<>(crops);
+        sorted.sort(Comparator.comparing(Crop::getCropName));
+        Map<String, Integer> ids = new HashMap<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            ids.put(sorted.get(i).getCropName(), i);
+        }
+        this.version = version;
+        this.crops = Collections.unmodifiableList(sorted);
+        this.idsByName = ids;
+    }
+
+    /**
+     * Returns the current catalog, loading it on first use
+     *
+     * @return  the current crop catalog
+     */
+    public static CropCatalog getInstance() {
+        CropCatalog catalog = instance;
+        if (catalog == null) {
+            synchronized (CropCatalog.class) {
+                catalog = instance;
+                if (catalog == null) {
+                    catalog = load();
+                }
+            }
+        }
+        return catalog;
+    }
+
+    /**
+     * Loads the crops again and replaces the current catalog
+     *
+     * @return  the new crop catalog
+     */
+    public static synchronized CropCatalog reload() {
+        return load();
+    }
+
+    private static CropCatalog load() {
+        List<Crop> crops = new CropDAO().loadCrops();
+        if (crops.isEmpty()) {
+            crops = readCsv(CROP_CSV);
+        }
+        CropCatalog catalog = new CropCatalog(++lastVersion, crops);
+        // An empty catalog is not kept, so the next lookup tries loading again
+        if (!crops.isEmpty()) {
+            instance = catalog;
+        }
+        return catalog;
+    }
+
+    /**
+     * Reads crops from a CSV file with the header
+     * Name,Cost,Time,XP,MinYield,MaxYield,SalePrice
+     *
+     * @param file  CSV file to read
+     * @return      crops in the file, empty if it could not be read
+     */
+    static List<Crop> readCsv(Path file) {
+        List<Crop> crops = new ArrayList<>();
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            for (String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                crops.add(new Crop(fields[0].trim(), Integer.parseInt(fields[4].trim()),
+                        Integer.parseInt(fields[5].trim()), Integer.parseInt(fields[6].trim()),
+                        Integer.parseInt(fields[1].trim()), Integer.parseInt(fields[2].trim()),
+                        Integer.parseInt(fields[3].trim())));
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error when reading crops from " + file + ":");
+            System.err.println(e.getMessage());
+            return new ArrayList<>();
+        }
+        return crops;
+    }
+
+    /**
+     * Returns the crop with the specified name
+     *
+     * @param cropName  name of the crop
+     * @return          the crop, null if there is no such crop
+     */
+    public Crop getCrop(String cropName) {
+        Integer id = (cropName == null) ? null : idsByName.get(cropName);
+        return (id == null) ? null : crops.get(id);
+    }
+
+    /**
+     * Returns the crop with the specified id
+     *
+     * @param cropId    id of the crop
+     * @return          the crop, null if there is no such crop
+     */
+    public Crop getCrop(int cropId) {
+        return (cropId < 0 || cropId >= crops.size()) ? null : crops.get(cropId);
+    }
+
+    /**
+     * Returns the id of the crop with the specified name
+     *
+     * @param cropName  name of the crop
+     * @return          id of the crop, -1 if there is no such crop
+     */
+    public int getCropId(String cropName) {
+        Integer id = (cropName == null) ? null : idsByName.get(cropName);
+        return (id == null) ? -1 : id;
+    }
+
+    /**
+     * Returns all crops in order of their ids
+     *
+     * @return  unmodifiable list of all crops
+     */
+    public List<Crop> getAllCrops() {
+        return crops;
+    }
+
+    /**
+     * Returns the number of crops, which is one more than the largest id
+     *
+     * @return  number of crops
+     */
+    public int size() {
+        return crops.size();
+    }
+
+    /**
+     * Returns the version of the catalog, which increases on every reload
+     *
+     * @return  version of the catalog
+     */
+    public long getVersion() {
+        return version;
+    }
+}
@@ -10,6 +10,7 @@ import entities.Crop;
 
 /**
  * The CropDAO class provides access to the crop table in the database.
+ * Crops are served from the CropCatalog, which is loaded from the table once.
  *
  * @version 1.0 04 Apr 2020
  * @author Brian Goh
@@ -17,72 +18,30 @@ import entities.Crop;
 public class CropDAO extends DAO {  
 
 	/**
-	 * Returns a specified crop from the crop table
+	 * Returns a specified crop from the in-memory CropCatalog
 	 * 
 	 * @param cropName	name of crop to retrieve
-	 * @return			the retrieved crop
+	 * @return			the retrieved crop, null if there is no such crop
 	 */
 	public Crop getCrop(String cropName) {
-		Connection conn = null;
-		PreparedStatement preparedStmt = null;
-		ResultSet rs = null;
-		Crop crop = null;
-
-		try {
-			// Create the SQL database connection
-			conn = getConnection();
-			
-			// Create the SQL select statement 
-			String query = "SELECT * FROM CROP WHERE crop_name=?";
-
-			// Create the prepared statement from query
-			preparedStmt = conn.prepareStatement(query);
-
-			// Set prepared statement placeholder values
-			preparedStmt.setString(1, cropName);
-
-			// Execute the prepared statement
-			rs = preparedStmt.executeQuery();
-
-			// Get results from result set
-			if(rs.next()) {
-				int cost = rs.getInt("cost");
-				int matureTime = rs.getInt("mature_time");
-				int xp = rs.getInt("xp");
-				int minYield = rs.getInt("min_yield");
-				int maxYield = rs.getInt("max_yield");
-				int sellingPrice = rs.getInt("selling_price");
-				crop = new Crop(cropName, minYield, maxYield, sellingPrice, cost, matureTime, xp);
-			}
-		} catch (Exception e) {
-			System.err.println("Error when getting crop:");
-			System.err.println(e.getMessage());
-		} finally {
-			// Close connection, prepared statement and/or result set
-			try {
-				if(conn != null) {
-					conn.close();
-				}
-				if(preparedStmt != null) {
-					preparedStmt.close();
-				}
-				if(rs != null) {
-					rs.close();
-				}
-			} catch(Exception e) {
-				System.err.println("Error when closing:");
-				System.err.println(e.getMessage());
-			}
-		}
-		return crop;
+		return CropCatalog.getInstance().getCrop(cropName);
 	}
 
 	/**
-	 * Returns all crops in the crop table
+	 * Returns all crops from the in-memory CropCatalog
 	 * 
 	 * @return	list of retrieved crops
 	 */
 	public List<Crop> getAllCrops() {
+		return new ArrayList<>(CropCatalog.getInstance().getAllCrops());
+	}
+
+	/**
+	 * Returns all crops in the crop table. Used to load the CropCatalog
+	 * 
+	 * @return	list of retrieved crops, empty if the table could not be read
+	 */
+	List<Crop> loadCrops() {
 		Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		ResultSet rs = null;
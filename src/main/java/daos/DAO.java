@@ -2,9 +2,11 @@ package daos;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
 
 /**
- * The DAO class contains the getConnection method from ConnectionFactory 
+ * The DAO class contains the getConnection method from the ConnectionPool 
  * for other DAOs to inherit.
  *
  * @version 1.0 04 Apr 2020
@@ -13,14 +15,46 @@ import java.sql.SQLException;
 public abstract class DAO {
 
     /**
-     * Gets connection to MySQL database
+     * Gets connection to MySQL database from the shared ConnectionPool.
+     * Closing the connection returns it to the pool. If a UnitOfWork is 
+     * open on the current thread, its connection is returned instead.
+     * The call is counted by the DAOCallCounter of the thread, if any.
      * 
      * @return  connection to MySQL database
      * @throws  SQLException
      */
     public Connection getConnection() throws SQLException {
         Connection conn;
-		conn = ConnectionFactory.getConnection();
+		DAOCallCounter.called(this);
+		UnitOfWork unitOfWork = UnitOfWork.current();
+		if(unitOfWork != null) {
+			conn = unitOfWork.getConnection();
+		} else {
+			conn = ConnectionPool.getInstance().getConnection();
+		}
 		return conn;
     }
+
+    /**
+     * Returns a key identifying a thread by its sender and time stamp,
+     * used to match rows of a batched query back to their threads
+     * 
+     * @param threaderUsername  username of the thread's sender
+     * @param threadTimeStamp   time stamp of the thread
+     * @return                  key of the thread
+     */
+    static String threadKey(String threaderUsername, Timestamp threadTimeStamp) {
+        return threaderUsername + "@" + threadTimeStamp;
+    }
+
+    /**
+     * Returns the placeholders of a row constructor IN list over 
+     * (threader_username, thread_time_stamp), e.g. "(?, ?), (?, ?)" for 2 threads
+     * 
+     * @param numThreads    number of threads in the list
+     * @return              placeholders for the IN list
+     */
+    static String threadKeyPlaceholders(int numThreads) {
+        return String.join(", ", Collections.nCopies(numThreads, "(?, ?)"));
+    }
 }
\ No newline at end of file
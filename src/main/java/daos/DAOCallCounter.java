@@ -0,0 +1,105 @@
+package daos;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * The DAOCallCounter class counts the DAO calls made on behalf of one
+ * session, by DAO class. Each DAO method gets its connection once, so a
+ * call is counted each time a DAO gets a connection on a thread the counter
+ * is attached to. Reads that AsyncDAO runs on its own threads are counted
+ * against the counter of the thread that started them.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public final class DAOCallCounter {
+
+    private static final ThreadLocal<DAOCallCounter> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> callsByDAO = new TreeMap<>();
+
+    /**
+     * Attaches a counter to the current thread, replacing any attached before
+     *
+     * @param counter   the counter, null to stop counting on the thread
+     */
+    public static void attach(DAOCallCounter counter) {
+        if (counter == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(counter);
+        }
+    }
+
+    /**
+     * Returns the counter attached to the current thread
+     *
+     * @return  the attached counter, null if there is none
+     */
+    public static DAOCallCounter current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Counts a call of a DAO against the counter of the current thread, if it has one
+     *
+     * @param dao   the DAO called
+     */
+    static void called(DAO dao) {
+        DAOCallCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.add(dao.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Wraps a read so that it counts against the counter of the current
+     * thread on whichever thread it runs
+     *
+     * @param read  the read
+     * @return      the read counted against the current counter
+     */
+    static <T> Supplier<T> counted(Supplier<T> read) {
+        DAOCallCounter counter = CURRENT.get();
+        if (counter == null) {
+            return read;
+        }
+        return () -> {
+            DAOCallCounter previous = CURRENT.get();
+            CURRENT.set(counter);
+            try {
+                return read.get();
+            } finally {
+                attach(previous);
+            }
+        };
+    }
+
+    synchronized void add(String daoName) {
+        callsByDAO.merge(daoName, 1, Integer::sum);
+    }
+
+    /**
+     * Returns the number of calls of each DAO
+     *
+     * @return  calls by DAO class name, in name order
+     */
+    public synchronized Map<String, Integer> getCallsByDAO() {
+        return new TreeMap<>(callsByDAO);
+    }
+
+    /**
+     * Returns the number of calls of all DAOs
+     *
+     * @return  total number of DAO calls
+     */
+    public synchronized int getTotalCalls() {
+        int total = 0;
+        for (int calls : callsByDAO.values()) {
+            total += calls;
+        }
+        return total;
+    }
+}
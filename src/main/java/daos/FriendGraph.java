@@ -0,0 +1,285 @@
+package daos;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * The FriendGraph class holds the friends table in memory as an adjacency
+ * index, so that listing a user's friends or checking a friendship does not
+ * query the database. Every username is given a dense id, each user's
+ * friends are kept as a sorted array of ids, and every friendship is kept
+ * in a set of id pairs for constant time friendship checks.
+ *
+ * The graph is loaded from the friends table on first use, and is kept up to
+ * date by FriendRequestDAO, FriendsDAO and UserDAO once their changes commit.
+ * Changes that commit while the graph is being loaded are replayed on the
+ * new graph before it replaces the current one, as the load's query may
+ * have run before they committed.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public final class FriendGraph {
+
+    private static final int[] NO_FRIENDS = new int[0];
+
+    private static volatile FriendGraph instance;
+
+    /** Guards changesDuringLoad, and the publishing of a loaded graph */
+    private static final Object LOAD_LOCK = new Object();
+
+    /** Changes committed while a graph is being loaded, null when none is */
+    private static List<Consumer<FriendGraph>> changesDuringLoad;
+
+    private final Map<String, Integer> idsByName = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final Set<Long> friendships = new HashSet<>();
+    private int[][] friendIds = new int[16][];
+
+    /**
+     * Creates a FriendGraph from a list of friendships
+     *
+     * @param friendships   pairs of usernames of friends, in either order
+     */
+    FriendGraph(List<String[]> friendships) {
+        for (String[] friendship : friendships) {
+            addFriendship(friendship[0], friendship[1]);
+        }
+    }
+
+    /**
+     * Returns the current graph, loading it on first use
+     *
+     * @return  the current friend graph
+     */
+    public static FriendGraph getInstance() {
+        FriendGraph graph = instance;
+        if (graph == null) {
+            synchronized (FriendGraph.class) {
+                graph = instance;
+                if (graph == null) {
+                    graph = load();
+                }
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Loads the friendships again and replaces the current graph
+     *
+     * @return  the new friend graph
+     */
+    public static synchronized FriendGraph reload() {
+        return load();
+    }
+
+    private static FriendGraph load() {
+        // Loads are run one at a time, under the class lock
+        synchronized (LOAD_LOCK) {
+            changesDuringLoad = new ArrayList<>();
+        }
+        List<String[]> friendships = new FriendsDAO().getAllFriendships();
+        FriendGraph graph = new FriendGraph((friendships == null) ? new ArrayList<>() : friendships);
+
+        synchronized (LOAD_LOCK) {
+            List<Consumer<FriendGraph>> changes = changesDuringLoad;
+            changesDuringLoad = null;
+            // A graph that could not be loaded is not kept, so the next lookup tries loading again
+            if (friendships == null) {
+                return graph;
+            }
+            for (Consumer<FriendGraph> change : changes) {
+                change.accept(graph);
+            }
+            instance = graph;
+        }
+        return graph;
+    }
+
+    /**
+     * Applies a committed change to the current graph, if it has been
+     * loaded, and to the graph being loaded, if there is one
+     *
+     * @param change    the change to apply
+     */
+    private static void changed(Consumer<FriendGraph> change) {
+        FriendGraph graph;
+        synchronized (LOAD_LOCK) {
+            if (changesDuringLoad != null) {
+                changesDuringLoad.add(change);
+            }
+            graph = instance;
+        }
+        if (graph != null) {
+            change.accept(graph);
+        }
+    }
+
+    /**
+     * Records a committed friendship in the current graph, if it has been loaded
+     *
+     * @param username1 username of the first friend
+     * @param username2 username of the second friend
+     */
+    static void friendshipAdded(String username1, String username2) {
+        changed(graph -> graph.addFriendship(username1, username2));
+    }
+
+    /**
+     * Removes a committed unfriending from the current graph, if it has been loaded
+     *
+     * @param username1 username of the first friend
+     * @param username2 username of the second friend
+     */
+    static void friendshipDeleted(String username1, String username2) {
+        changed(graph -> graph.removeFriendship(username1, username2));
+    }
+
+    /**
+     * Removes a committed user deletion, and with it all of the user's
+     * friendships, from the current graph, if it has been loaded
+     *
+     * @param username  username of the deleted user
+     */
+    static void userDeleted(String username) {
+        changed(graph -> graph.removeUser(username));
+    }
+
+    /**
+     * Checks if two users are friends
+     *
+     * @param username1 username of the first user
+     * @param username2 username of the second user
+     * @return          true if the users are friends, false otherwise
+     */
+    public synchronized boolean isFriend(String username1, String username2) {
+        Integer id1 = idsByName.get(username1);
+        Integer id2 = idsByName.get(username2);
+        return id1 != null && id2 != null && friendships.contains(key(id1, id2));
+    }
+
+    /**
+     * Returns the usernames of a user's friends, in the order the friends
+     * table lists them
+     *
+     * @param username  username of the user
+     * @return          usernames of the user's friends
+     */
+    public synchronized List<String> getFriendUsernames(String username) {
+        Integer id = idsByName.get(username);
+        if (id == null) {
+            return new ArrayList<>();
+        }
+        List<String> friendUsernames = new ArrayList<>();
+        for (int friendId : friendIds[id]) {
+            friendUsernames.add(names.get(friendId));
+        }
+        // Ids are given in load order, so sort the names as the friends table's collation does
+        Collections.sort(friendUsernames, String.CASE_INSENSITIVE_ORDER);
+        return friendUsernames;
+    }
+
+    /**
+     * Returns the number of friends a user has
+     *
+     * @param username  username of the user
+     * @return          number of the user's friends
+     */
+    public synchronized int getFriendCount(String username) {
+        Integer id = idsByName.get(username);
+        return (id == null) ? 0 : friendIds[id].length;
+    }
+
+    synchronized void addFriendship(String username1, String username2) {
+        int id1 = getOrAddId(username1);
+        int id2 = getOrAddId(username2);
+        if (id1 == id2 || !friendships.add(key(id1, id2))) {
+            return;
+        }
+        friendIds[id1] = insert(friendIds[id1], id2);
+        friendIds[id2] = insert(friendIds[id2], id1);
+    }
+
+    synchronized void removeFriendship(String username1, String username2) {
+        Integer id1 = idsByName.get(username1);
+        Integer id2 = idsByName.get(username2);
+        if (id1 == null || id2 == null || !friendships.remove(key(id1, id2))) {
+            return;
+        }
+        friendIds[id1] = remove(friendIds[id1], id2);
+        friendIds[id2] = remove(friendIds[id2], id1);
+    }
+
+    synchronized void removeUser(String username) {
+        Integer id = idsByName.get(username);
+        if (id == null) {
+            return;
+        }
+        // The id is kept for the username, so a user registered again under it reuses the id
+        for (int friendId : friendIds[id]) {
+            friendships.remove(key(id, friendId));
+            friendIds[friendId] = remove(friendIds[friendId], id);
+        }
+        friendIds[id] = NO_FRIENDS;
+    }
+
+    private int getOrAddId(String username) {
+        Integer id = idsByName.get(username);
+        if (id != null) {
+            return id;
+        }
+        int newId = names.size();
+        names.add(username);
+        idsByName.put(username, newId);
+        if (newId == friendIds.length) {
+            friendIds = Arrays.copyOf(friendIds, newId * 2);
+        }
+        friendIds[newId] = NO_FRIENDS;
+        return newId;
+    }
+
+    /**
+     * Returns a copy of a sorted array of ids with an id inserted in order
+     */
+    private static int[] insert(int[] ids, int id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return ids;
+        }
+        index = -index - 1;
+        int[] result = new int[ids.length + 1];
+        System.arraycopy(ids, 0, result, 0, index);
+        result[index] = id;
+        System.arraycopy(ids, index, result, index + 1, ids.length - index);
+        return result;
+    }
+
+    /**
+     * Returns a copy of a sorted array of ids without an id
+     */
+    private static int[] remove(int[] ids, int id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return NO_FRIENDS;
+        }
+        int[] result = new int[ids.length - 1];
+        System.arraycopy(ids, 0, result, 0, index);
+        System.arraycopy(ids, index + 1, result, index, ids.length - index - 1);
+        return result;
+    }
+
+    private static long key(int id1, int id2) {
+        return ((long) Math.min(id1, id2) << 32) | Math.max(id1, id2);
+    }
+}
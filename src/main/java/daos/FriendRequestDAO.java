@@ -138,6 +138,7 @@ public class FriendRequestDAO extends DAO {
 		PreparedStatement preparedStmt = null;
 		int insertSuccess = 0;
 		int deleteSuccess = 0;
+		UnitOfWork unitOfWork = UnitOfWork.begin();
 
 		try {
 			// Create the SQL database connection
@@ -179,12 +180,29 @@ public class FriendRequestDAO extends DAO {
 
 			// Execute the prepared statement
 			deleteSuccess = preparedStmt.executeUpdate();
+
+			// Add the friendship to the friend graph and leaderboard once the transaction commits
+			if(insertSuccess != 0) {
+				UnitOfWork.afterCommit(() -> {
+					FriendGraph.friendshipAdded(requestorUsername, receiverUsername);
+					GoldLeaderboard.friendsChanged(requestorUsername, receiverUsername);
+				});
+			}
+
+			// Rebuild both news feed timelines with each other's threads in the same transaction
+			TimelineDAO timelineDAO = new TimelineDAO();
+			if(insertSuccess != 0 && !(timelineDAO.rebuildTimeline(requestorUsername)
+					&& timelineDAO.rebuildTimeline(receiverUsername) && unitOfWork.commit())) {
+				insertSuccess = 0;
+				deleteSuccess = 0;
+			}
 		} catch (Exception e) {
 			System.err.println("Error when accepting friend request:");
 			System.err.println(e.getMessage());
 		} finally {
 			// Close connection, prepared statement and/or result set
 			try {
+				unitOfWork.close();
 				if(conn != null) {
 					conn.close();
 				}
@@ -23,42 +23,83 @@ public class FriendsDAO extends DAO {
 	 * @return		list of specified user's friends
 	 */
     public List<User> getFriends(User user) {
-        Connection conn = null;
+		List<User> friends = new ArrayList<>();
+		UserDAO userDAO = new UserDAO();
+
+		// Friendships are looked up in the friend graph instead of the friends table
+		for (String friendUsername : getFriendUsernames(user)) {
+			User friend = userDAO.getUser(friendUsername);
+			if (friend != null) {
+				friends.add(friend);
+			}
+		}
+        return friends;
+	}
+
+	/**
+	 * Retrieves the usernames of a specified user's friends
+	 * 
+	 * @param user	user to retrieve friends of
+	 * @return		list of usernames of specified user's friends
+	 */
+	public List<String> getFriendUsernames(User user) {
+		return FriendGraph.getInstance().getFriendUsernames(user.getUsername());
+	}
+	
+	/**
+	 * Checks if two users are friends
+	 * 
+	 * @param user1	first specified user
+	 * @param user2	second specified user
+	 * @return		true if specified users are friends, false otherwise
+	 */
+	public boolean isFriend(User user1, User user2) {
+		return isFriend(user1.getUsername(), user2.getUsername());
+	}
+
+	/**
+	 * Checks if the users with two specified usernames are friends
+	 * 
+	 * @param username1	username of first specified user
+	 * @param username2	username of second specified user
+	 * @return			true if specified users are friends, false otherwise
+	 */
+	public boolean isFriend(String username1, String username2) {
+		return FriendGraph.getInstance().isFriend(username1, username2);
+	}
+
+	/**
+	 * Retrieves every friendship, to load the friend graph from
+	 * 
+	 * @return	list of pairs of usernames of friends, null if they could not be retrieved
+	 */
+	List<String[]> getAllFriendships() {
+		Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		ResultSet rs = null;
-		List<User> friends = new ArrayList<>();
+		List<String[]> friendships = new ArrayList<>();
 
 		try {
 			// Create the SQL database connection
 			conn = getConnection();
-			
-			// Create the SQL select statement 
-			String query = "SELECT f.username1 friend_users FROM FRIENDS f WHERE f.username2=? UNION SELECT t.username2 FROM FRIENDS t WHERE t.username1=? ORDER BY friend_users";
+
+			// Create the SQL select statement
+			String query = "SELECT username1, username2 FROM FRIENDS";
 
 			// Create the prepared statement from query
 			preparedStmt = conn.prepareStatement(query);
 
-			// Get required fields for query
-			String username = user.getUsername();
-
-			// Set prepared statement placeholder values
-            preparedStmt.setString(1, username);
-            preparedStmt.setString(2, username);
-
 			// Execute the prepared statement
-            rs = preparedStmt.executeQuery();
+			rs = preparedStmt.executeQuery();
 
 			// Get results from result set
-            while(rs.next()) {
-				String friendUsername = rs.getString("friend_users");
-				UserDAO userDAO = new UserDAO();
-				
-				User friend = userDAO.getUser(friendUsername);
-                friends.add(friend);
-            }
+			while(rs.next()) {
+				friendships.add(new String[] { rs.getString("username1"), rs.getString("username2") });
+			}
 		} catch (Exception e) {
-			System.err.println("Error when getting friends:");
+			System.err.println("Error when getting all friendships:");
 			System.err.println(e.getMessage());
+			friendships = null;
 		} finally {
 			// Close connection, prepared statement and/or result set
 			try {
@@ -76,26 +117,7 @@ public class FriendsDAO extends DAO {
 				System.err.println(e.getMessage());
 			}
 		}
-        return friends;
-	}
-	
-	/**
-	 * Checks if two users are friends
-	 * 
-	 * @param user1	first specified user
-	 * @param user2	second specified user
-	 * @return		true if specified users are friends, false otherwise
-	 */
-	public boolean isFriend(User user1, User user2) {
-		// Get list of friends of user1
-		List<User> user1Friends = getFriends(user1);
-		for (User user: user1Friends){
-			if (user.getUsername().equals(user2.getUsername())){
-				return true;
-			}
-		}
-
-		return false;
+		return friendships;
 	}
 
 	/**
@@ -109,6 +131,7 @@ public class FriendsDAO extends DAO {
 		Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		int deleteSuccess = 0;
+		UnitOfWork unitOfWork = UnitOfWork.begin();
 
 		try {
 			// Create the SQL database connection
@@ -132,12 +155,28 @@ public class FriendsDAO extends DAO {
 
 			// Execute the prepared statement
 			deleteSuccess = preparedStmt.executeUpdate();
+
+			// Remove the friendship from the friend graph and leaderboard once the transaction commits
+			if(deleteSuccess != 0) {
+				UnitOfWork.afterCommit(() -> {
+					FriendGraph.friendshipDeleted(username1, username2);
+					GoldLeaderboard.friendsChanged(username1, username2);
+				});
+			}
+
+			// Rebuild both news feed timelines without each other's threads in the same transaction
+			TimelineDAO timelineDAO = new TimelineDAO();
+			if(deleteSuccess != 0 && !(timelineDAO.rebuildTimeline(username1)
+					&& timelineDAO.rebuildTimeline(username2) && unitOfWork.commit())) {
+				deleteSuccess = 0;
+			}
 		} catch (Exception e) {
 			System.err.println("Error when deleting friends:");
 			System.err.println(e.getMessage());
 		} finally {
 			// Close connection, prepared statement and/or result set
 			try {
+				unitOfWork.close();
 				if(conn != null) {
 					conn.close();
 				}
@@ -4,7 +4,10 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import entities.Crop;
@@ -31,6 +34,7 @@ public class GiftDAO extends DAO {
 		PreparedStatement preparedStmt = null;
 		int threadSuccess = 0;
 		int giftSuccess = 0;
+		UnitOfWork unitOfWork = UnitOfWork.begin();
 		
 		// Get current timestamp
         java.util.Date date= new java.util.Date();
@@ -78,12 +82,22 @@ public class GiftDAO extends DAO {
 
 			// Execute the prepared statement
 			giftSuccess = preparedStmt.executeUpdate();
+
+			// Count the gift towards the sender's daily limits once the thread and gift commit together
+			if(threadSuccess != 0 && giftSuccess != 0) {
+				UnitOfWork.afterCommit(() -> GiftQuotaTracker.giftSent(senderUsername, receiverUsername, timeSent));
+			}
+			if(threadSuccess == 0 || giftSuccess == 0 || !unitOfWork.commit()) {
+				threadSuccess = 0;
+				giftSuccess = 0;
+			}
 		} catch (Exception e) {
 			System.err.println("Error when sending gift:");
 			System.err.println(e.getMessage());
 		} finally {
 			// Close connection, prepared statement and/or result set
 			try {
+				unitOfWork.close();
 				if(conn != null) {
 					conn.close();
 				}
@@ -156,7 +170,10 @@ public class GiftDAO extends DAO {
 	}
 
 	/**
-	 * Accepts all gifts received by a user
+	 * Accepts all gifts received by a user in a single transaction. The
+	 * pending gifts are locked, counted per crop, added to the user's
+	 * inventory with one insert and marked accepted, so a gift that arrives
+	 * meanwhile stays pending instead of being accepted without its crop.
 	 * 
 	 * @param user	user that is accepting gifts
 	 * @return		map storing types and number of crops received
@@ -166,13 +183,14 @@ public class GiftDAO extends DAO {
 		PreparedStatement preparedStmt = null;
 		ResultSet giftRs = null;
         Map<Crop, Integer> acceptedGifts = new HashMap<>();
+		UnitOfWork unitOfWork = UnitOfWork.begin();
 
 		try {
 			// Create the SQL database connection
 			conn = getConnection();
 			
-			// Create the SQL select statement
-			String giftQuery = "SELECT * FROM GIFT WHERE receiver_username=? AND accepted = 0";
+			// Create the SQL select statement, locking the pending gifts so none can be added until the transaction ends
+			String giftQuery = "SELECT crop_name, COUNT(*) num_gifts FROM GIFT WHERE receiver_username=? AND accepted = 0 GROUP BY crop_name FOR UPDATE";
 
 			// Create the prepared statement from query
 			preparedStmt = conn.prepareStatement(giftQuery);
@@ -183,22 +201,13 @@ public class GiftDAO extends DAO {
 			// Execute the prepared statement
 			giftRs = preparedStmt.executeQuery();
 
-			// Get results from result set
+			// Get number of gifts of each crop from result set
+			CropDAO cropDAO = new CropDAO();
+			int numGifts = 0;
 			while(giftRs.next()) {
-                String cropName = giftRs.getString("crop_name");
-                CropDAO cropDAO = new CropDAO();
-				Crop crop = cropDAO.getCrop(cropName);
-
-				// Add crop to hashmap of accepted gifts
-                if(acceptedGifts.containsKey(crop)) {
-                    acceptedGifts.put(crop, acceptedGifts.get(crop) + 1);
-                } else {
-                    acceptedGifts.put(crop, 1);
-                }
-
-                // Update user's inventory with this received crop
-                UserCropDAO userCropDAO = new UserCropDAO();
-				userCropDAO.updateUserCrops(user, crop, 1);
+				Crop crop = cropDAO.getCrop(giftRs.getString("crop_name"));
+				acceptedGifts.put(crop, giftRs.getInt("num_gifts"));
+				numGifts += giftRs.getInt("num_gifts");
 			}
 			
 			// Close prepared statement before running next query
@@ -206,23 +215,37 @@ public class GiftDAO extends DAO {
 				preparedStmt.close();
 			}
 
-			// Create the SQL update statement
-            String updateAcceptedQuery = "UPDATE GIFT SET accepted=1 WHERE receiver_username=?";
-			
-			// Create the prepared statement from query
-			preparedStmt = conn.prepareStatement(updateAcceptedQuery);
+			boolean acceptSuccess = true;
+			if(numGifts > 0) {
+				// Update user's inventory with all received crops at once
+				UserCropDAO userCropDAO = new UserCropDAO();
+				boolean addSuccess = userCropDAO.addUserCrops(user, acceptedGifts);
 
-			// Set prepared statement placeholder values
-			preparedStmt.setString(1, user.getUsername());
+				// Create the SQL update statement, which matches exactly the locked gifts
+				String updateAcceptedQuery = "UPDATE GIFT SET accepted=1 WHERE receiver_username=? AND accepted = 0";
+				
+				// Create the prepared statement from query
+				preparedStmt = conn.prepareStatement(updateAcceptedQuery);
 
-			// Execute the prepared statement
-			preparedStmt.executeUpdate();
+				// Set prepared statement placeholder values
+				preparedStmt.setString(1, user.getUsername());
+
+				// Execute the prepared statement
+				int numAccepted = preparedStmt.executeUpdate();
+				acceptSuccess = addSuccess && numAccepted == numGifts;
+			}
+
+			if(!acceptSuccess || !unitOfWork.commit()) {
+				acceptedGifts = new HashMap<>();
+			}
 		} catch (Exception e) {
 			System.err.println("Error when accepting gifts:");
 			System.err.println(e.getMessage());
+			acceptedGifts = new HashMap<>();
 		} finally {
 			// Close connection, prepared statement and/or result set
 			try {
+				unitOfWork.close();
 				if(conn != null) {
 					conn.close();
 				}
@@ -241,116 +264,113 @@ public class GiftDAO extends DAO {
 	}
 
 	/**
-	 * Checks if user has already sent five gifts today
+	 * Checks if user has already sent five gifts today, from the gifts
+	 * counted by the GiftQuotaTracker
 	 * 
 	 * @param sender	user to check
 	 * @return			true if user has sent five gifts today, false otherwise
 	 */
 	public boolean haveSentFiveGiftsToday(User sender) {
-		Connection conn = null;
-		PreparedStatement preparedStmt = null;
-		ResultSet rs = null;
-		boolean haveSentFiveGiftsToday = false;
-
-		try {
-			// Create the SQL database connection
-			conn = getConnection();
-			
-			// Create the SQL select statement 
-			String query = "SELECT COUNT(*) num_gifts FROM GIFT WHERE sender_username=? AND DATE(time_stamp)=DATE(?)";
-
-			// Create the prepared statement from query
-			preparedStmt = conn.prepareStatement(query);
-
-			// Get required fields for query
-			String senderUsername = sender.getUsername();
-			java.util.Date date= new java.util.Date();
-			long time = date.getTime();
-			Timestamp currentTime = new Timestamp(time);
+		return GiftQuotaTracker.getInstance().getGiftsSentToday(sender.getUsername()) >= GiftQuotaTracker.DAILY_LIMIT;
+	}
 
-			// Set prepared statement placeholder values
-			preparedStmt.setString(1, senderUsername);
-			preparedStmt.setTimestamp(2, currentTime);
+	/**
+	 * Returns the number of gifts user may still send today, from the gifts
+	 * counted and reserved by the GiftQuotaTracker
+	 * 
+	 * @param sender	user to check
+	 * @return			number of gifts left today, -1 if they could not be counted
+	 */
+	public int getGiftsLeftToday(User sender) {
+		return GiftQuotaTracker.getInstance().getGiftsLeftToday(sender.getUsername());
+	}
 
-			// Execute the prepared statement
-			rs = preparedStmt.executeQuery();
+	/**
+	 * Reserves a gift from sender user to each of the receivers within
+	 * today's limits, so that gifts sent concurrently cannot exceed them
+	 * 
+	 * @param sender			gift sender user
+	 * @param receiverUsernames	distinct usernames of gift receiver users
+	 * @return					true if every gift was reserved, false if none were
+	 */
+	public boolean reserveGifts(User sender, List<String> receiverUsernames) {
+		return GiftQuotaTracker.getInstance().reserve(sender.getUsername(), receiverUsernames);
+	}
 
-			// Get results from result set
-			if(rs.next()) {
-				int countGiftsToday = rs.getInt("num_gifts");
-				if(countGiftsToday >= 5) {
-					haveSentFiveGiftsToday = true;
-				}
-			}
-		} catch (Exception e) {
-			System.err.println("Error when checking if user has sent 5 gifts today:");
-			System.err.println(e.getMessage());
-		} finally {
-			// Close connection, prepared statement and/or result set
-			try {
-				if(conn != null) {
-					conn.close();
-				}
-				if(preparedStmt != null) {
-					preparedStmt.close();
-				}
-				if(rs != null) {
-					rs.close();
-				}
-			} catch(Exception e) {
-				System.err.println("Error when closing:");
-				System.err.println(e.getMessage());
-			}
-		}
-		return haveSentFiveGiftsToday;
+	/**
+	 * Releases gifts reserved by sender user, once they have been sent or have failed
+	 * 
+	 * @param sender			gift sender user
+	 * @param receiverUsernames	usernames of gift receiver users
+	 */
+	public void releaseGifts(User sender, List<String> receiverUsernames) {
+		GiftQuotaTracker.getInstance().release(sender.getUsername(), receiverUsernames);
 	}
 
 	/**
-	 * Check if sender user has already sent a gift to receiver user today
+	 * Check if sender user has already sent a gift to receiver user today,
+	 * from the gifts counted by the GiftQuotaTracker
 	 * 
 	 * @param sender	gift sender user
 	 * @param receiver	gift receiver user
 	 * @return			true if sender already sent gift to receiver today, false otherwise
 	 */
 	public boolean haveSentGiftToThisUserToday(User sender, User receiver) {
+		return haveSentGiftToThisUserToday(sender, receiver.getUsername());
+	}
+
+	/**
+	 * Check if sender user has already sent a gift to the user with the
+	 * specified username today, from the gifts counted by the GiftQuotaTracker
+	 * 
+	 * @param sender			gift sender user
+	 * @param receiverUsername	username of gift receiver user
+	 * @return					true if sender already sent gift to receiver today, false otherwise
+	 */
+	public boolean haveSentGiftToThisUserToday(User sender, String receiverUsername) {
+		return GiftQuotaTracker.getInstance().hasSentGiftToday(sender.getUsername(), receiverUsername);
+	}
+
+	/**
+	 * Returns the receivers of the gifts a user sent on a day, to load the
+	 * GiftQuotaTracker from
+	 * 
+	 * @param senderUsername	username of user who sent the gifts
+	 * @param day				day the gifts were sent
+	 * @return					usernames of the receivers, once per gift, null if they could not be retrieved
+	 */
+	List<String> getReceiversOfGiftsSent(String senderUsername, LocalDate day) {
 		Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		ResultSet rs = null;
-		boolean haveSentGiftToThisUserToday = false;
+		List<String> receiverUsernames = new ArrayList<>();
 
 		try {
 			// Create the SQL database connection
 			conn = getConnection();
 			
 			// Create the SQL select statement 
-			String query = "SELECT * FROM GIFT WHERE sender_username=? AND receiver_username=? AND DATE(time_stamp)=DATE(?)";
+			String query = "SELECT receiver_username FROM GIFT WHERE sender_username=? AND time_stamp >= ? AND time_stamp < ?";
 
 			// Create the prepared statement from query
 			preparedStmt = conn.prepareStatement(query);
 
-			// Get required fields for query
-			String senderUsername = sender.getUsername();
-			String receiverUsername = receiver.getUsername();
-			java.util.Date date= new java.util.Date();
-			long time = date.getTime();
-			Timestamp currentTime = new Timestamp(time);
-
-			// Set prepared statement placeholder values
+			// Set prepared statement placeholder values (the day as a range, so the primary key is used)
 			preparedStmt.setString(1, senderUsername);
-			preparedStmt.setString(2, receiverUsername);
-			preparedStmt.setTimestamp(3, currentTime);
+			preparedStmt.setTimestamp(2, startOfDay(day));
+			preparedStmt.setTimestamp(3, startOfDay(day.plusDays(1)));
 
 			// Execute the prepared statement
 			rs = preparedStmt.executeQuery();
- 
-			// If there are row(s) returned
-			if (rs.isBeforeFirst()) {     
-				rs.next();
-				haveSentGiftToThisUserToday = true;
+
+			// Get results from result set
+			while(rs.next()) {
+				receiverUsernames.add(rs.getString("receiver_username"));
 			}
 		} catch (Exception e) {
-			System.err.println("Error when checking if User has sent gift to receiver today:");
+			System.err.println("Error when getting receivers of gifts sent:");
 			System.err.println(e.getMessage());
+			receiverUsernames = null;
 		} finally {
 			// Close connection, prepared statement and/or result set
 			try {
@@ -368,6 +388,17 @@ public class GiftDAO extends DAO {
 				System.err.println(e.getMessage());
 			}
 		}
-		return haveSentGiftToThisUserToday;
+		return receiverUsernames;
+	}
+
+	/**
+	 * Returns the start of a day in the local time zone, for comparing time
+	 * stamps against a day as a half-open range instead of with DATE()
+	 * 
+	 * @param day	day to get the start of
+	 * @return		time stamp of midnight at the start of the day
+	 */
+	static Timestamp startOfDay(LocalDate day) {
+		return Timestamp.valueOf(day.atStartOfDay());
 	}
 }
\ No newline at end of file
@@ -0,0 +1,316 @@
+package daos;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * The GiftQuotaTracker class counts in memory the gifts each user has sent
+ * today, and to whom, so that checking the daily gift limits does not query
+ * the gift table.
+ *
+ * A sender's count is loaded from the gift table the first time the sender
+ * is checked, and is kept up to date by GiftDAO once each gift commits. A
+ * day is a calendar day in the local time zone, the same day GiftDAO
+ * queries by. Counts from an earlier day are dropped the next time the
+ * sender is checked or sends a gift, so the count starts again from zero
+ * without a query. Loading runs outside the tracker's lock, and gifts that
+ * commit while a sender loads are counted once whether or not the load's
+ * query saw them. Gifts sent by another process after a sender's count was
+ * loaded are not counted.
+ *
+ * Gifts can be reserved before they are sent, so that concurrent requests
+ * of one sender cannot together go over the daily limits. Reserved gifts
+ * count against the limits until they are released.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public final class GiftQuotaTracker {
+
+    /** Number of gifts a user may send each day */
+    public static final int DAILY_LIMIT = 5;
+
+    private static final GiftQuotaTracker INSTANCE = new GiftQuotaTracker();
+
+    private final Map<String, DailyGifts> giftsBySender = new HashMap<>();
+    private final Map<String, Loading> loadingBySender = new HashMap<>();
+    private final Map<String, Set<String>> reservedBySender = new HashMap<>();
+    private final BiFunction<String, LocalDate, List<String>> loader;
+
+    /**
+     * Gifts sent by one sender on one day
+     */
+    private static final class DailyGifts {
+        final LocalDate day;
+        final Set<String> receivers = new HashSet<>();
+        int count;
+
+        DailyGifts(LocalDate day) {
+            this.day = day;
+        }
+    }
+
+    /**
+     * Gifts committed by a sender while the sender's count is being loaded
+     */
+    private static final class Loading {
+        final LocalDate day;
+        final List<String> receivers = new ArrayList<>();
+        int loaders;
+
+        Loading(LocalDate day) {
+            this.day = day;
+        }
+    }
+
+    GiftQuotaTracker() {
+        this((senderUsername, day) -> new GiftDAO().getReceiversOfGiftsSent(senderUsername, day));
+    }
+
+    /**
+     * Creates a GiftQuotaTracker that loads senders' counts with the specified loader
+     *
+     * @param loader    returns the receivers of the gifts a sender sent on a day, null if they could not be loaded
+     */
+    GiftQuotaTracker(BiFunction<String, LocalDate, List<String>> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Returns the tracker shared by all DAOs
+     *
+     * @return  the gift quota tracker
+     */
+    public static GiftQuotaTracker getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records a committed gift in the tracker
+     *
+     * @param senderUsername    username of the sender
+     * @param receiverUsername  username of the receiver
+     * @param timeSent          time the gift was sent
+     */
+    static void giftSent(String senderUsername, String receiverUsername, Timestamp timeSent) {
+        INSTANCE.addGift(senderUsername, receiverUsername, timeSent.toLocalDateTime().toLocalDate());
+    }
+
+    /**
+     * Returns the number of gifts a user has sent today
+     *
+     * @param senderUsername    username of the sender
+     * @return                  number of gifts sent today, -1 if they could not be counted
+     */
+    public int getGiftsSentToday(String senderUsername) {
+        LocalDate today = LocalDate.now();
+        if (!load(senderUsername, today)) {
+            return -1;
+        }
+        synchronized (this) {
+            DailyGifts gifts = getToday(senderUsername, today);
+            return (gifts == null) ? -1 : gifts.count;
+        }
+    }
+
+    /**
+     * Checks if a user has sent a gift to another user today
+     *
+     * @param senderUsername    username of the sender
+     * @param receiverUsername  username of the receiver
+     * @return                  true if a gift was sent to the receiver today, false otherwise
+     */
+    public boolean hasSentGiftToday(String senderUsername, String receiverUsername) {
+        LocalDate today = LocalDate.now();
+        if (!load(senderUsername, today)) {
+            return false;
+        }
+        synchronized (this) {
+            DailyGifts gifts = getToday(senderUsername, today);
+            return gifts != null && gifts.receivers.contains(receiverUsername);
+        }
+    }
+
+    /**
+     * Returns the number of gifts a user may still send today, less the
+     * gifts the user has reserved
+     *
+     * @param senderUsername    username of the sender
+     * @return                  number of gifts left today, -1 if they could not be counted
+     */
+    public int getGiftsLeftToday(String senderUsername) {
+        LocalDate today = LocalDate.now();
+        if (!load(senderUsername, today)) {
+            return -1;
+        }
+        synchronized (this) {
+            DailyGifts gifts = getToday(senderUsername, today);
+            if (gifts == null) {
+                return -1;
+            }
+            Set<String> reserved = reservedBySender.get(senderUsername);
+            int reservedCount = (reserved == null) ? 0 : reserved.size();
+            return Math.max(0, DAILY_LIMIT - gifts.count - reservedCount);
+        }
+    }
+
+    /**
+     * Reserves a gift from a user to each of the specified receivers, if
+     * they are within today's limits counting the gifts already reserved
+     *
+     * @param senderUsername    username of the sender
+     * @param receiverUsernames distinct usernames of the receivers
+     * @return                  true if every gift was reserved, false if none were
+     */
+    public boolean reserve(String senderUsername, List<String> receiverUsernames) {
+        LocalDate today = LocalDate.now();
+        if (!load(senderUsername, today)) {
+            return false;
+        }
+        synchronized (this) {
+            DailyGifts gifts = getToday(senderUsername, today);
+            if (gifts == null) {
+                return false;
+            }
+            Set<String> reserved = reservedBySender.get(senderUsername);
+            int reservedCount = (reserved == null) ? 0 : reserved.size();
+            if (gifts.count + reservedCount + receiverUsernames.size() > DAILY_LIMIT) {
+                return false;
+            }
+            for (String receiverUsername : receiverUsernames) {
+                if (gifts.receivers.contains(receiverUsername)
+                        || (reserved != null && reserved.contains(receiverUsername))) {
+                    return false;
+                }
+            }
+            if (reserved == null) {
+                reserved = new HashSet<>();
+                reservedBySender.put(senderUsername, reserved);
+            }
+            reserved.addAll(receiverUsernames);
+            return true;
+        }
+    }
+
+    /**
+     * Releases gifts reserved by a user, once they have been sent or have failed
+     *
+     * @param senderUsername    username of the sender
+     * @param receiverUsernames usernames of the receivers
+     */
+    public synchronized void release(String senderUsername, List<String> receiverUsernames) {
+        Set<String> reserved = reservedBySender.get(senderUsername);
+        if (reserved == null) {
+            return;
+        }
+        reserved.removeAll(receiverUsernames);
+        if (reserved.isEmpty()) {
+            reservedBySender.remove(senderUsername);
+        }
+    }
+
+    synchronized void addGift(String senderUsername, String receiverUsername, LocalDate day) {
+        DailyGifts gifts = giftsBySender.get(senderUsername);
+        if (gifts == null) {
+            // Kept for the load in progress, if any, as its query may have run before the gift committed
+            Loading loading = loadingBySender.get(senderUsername);
+            if (loading != null && loading.day.equals(day)) {
+                loading.receivers.add(receiverUsername);
+            }
+            // Without a load in progress, the gift is counted when the sender is first loaded
+            return;
+        }
+        if (gifts.day.isAfter(day)) {
+            return;
+        }
+        if (gifts.day.isBefore(day)) {
+            gifts = new DailyGifts(day);
+            giftsBySender.put(senderUsername, gifts);
+        }
+        gifts.receivers.add(receiverUsername);
+        gifts.count++;
+    }
+
+    synchronized void addSender(String senderUsername, LocalDate day, List<String> receiverUsernames) {
+        DailyGifts gifts = new DailyGifts(day);
+        gifts.receivers.addAll(receiverUsernames);
+        gifts.count = receiverUsernames.size();
+        giftsBySender.put(senderUsername, gifts);
+    }
+
+    /**
+     * Loads a sender's count for the day if the sender has not been checked
+     * that day. The query runs without holding the tracker's lock, so other
+     * senders are not held up by it.
+     *
+     * @return  true if the sender's count for the day is held, false if it could not be loaded
+     */
+    private boolean load(String senderUsername, LocalDate today) {
+        synchronized (this) {
+            if (getToday(senderUsername, today) != null) {
+                return true;
+            }
+            Loading loading = loadingBySender.get(senderUsername);
+            if (loading == null || !loading.day.equals(today)) {
+                loading = new Loading(today);
+                loadingBySender.put(senderUsername, loading);
+            }
+            loading.loaders++;
+        }
+
+        List<String> receiverUsernames = loader.apply(senderUsername, today);
+
+        synchronized (this) {
+            Loading loading = loadingBySender.get(senderUsername);
+            if (loading != null && --loading.loaders <= 0) {
+                loadingBySender.remove(senderUsername);
+            }
+            if (getToday(senderUsername, today) != null) {
+                // Another check loaded the sender first
+                return true;
+            }
+            // Counts that could not be loaded are not kept, so the next check tries loading again
+            if (receiverUsernames == null) {
+                return false;
+            }
+            // Gifts committed during the query are counted once, whether or not the query saw them
+            List<String> allReceivers = new ArrayList<>(receiverUsernames);
+            if (loading != null && loading.day.equals(today)) {
+                for (String receiverUsername : loading.receivers) {
+                    if (!allReceivers.contains(receiverUsername)) {
+                        allReceivers.add(receiverUsername);
+                    }
+                }
+            }
+            addSender(senderUsername, today, allReceivers);
+            return true;
+        }
+    }
+
+    /**
+     * Returns the gifts a sender has sent today, starting today from zero if
+     * the sender was last checked on an earlier day
+     *
+     * @return  today's gifts, null if the sender has not been loaded
+     */
+    private DailyGifts getToday(String senderUsername, LocalDate today) {
+        DailyGifts gifts = giftsBySender.get(senderUsername);
+        if (gifts != null && gifts.day.equals(today)) {
+            return gifts;
+        }
+        if (gifts != null && gifts.day.isBefore(today)) {
+            // The sender's count was kept up to date, so today starts from zero
+            gifts = new DailyGifts(today);
+            giftsBySender.put(senderUsername, gifts);
+            return gifts;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,371 @@
+package daos;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * The GoldLeaderboard class holds every user's gold in memory in an order
+ * statistics tree, so that a user's wealth ranking among all users or among
+ * their friends is found in logarithmic time instead of by counting richer
+ * friends in SQL.
+ *
+ * The global tree holds the gold of every user. A tree of the gold of a
+ * user's friends is built from the FriendGraph the first time the user's
+ * friend ranking is asked for, and is then kept up to date as their friends'
+ * gold changes. The leaderboard is loaded from the user table on first use,
+ * and is kept up to date by UserDAO, FriendRequestDAO and FriendsDAO once
+ * their changes commit. Changes that commit while the leaderboard is being
+ * loaded are replayed on the new leaderboard before it replaces the current
+ * one, as the load's query may have run before they committed.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public final class GoldLeaderboard {
+
+    private static volatile GoldLeaderboard instance;
+
+    /** Guards changesDuringLoad, and the publishing of a loaded leaderboard */
+    private static final Object LOAD_LOCK = new Object();
+
+    /** Changes committed while a leaderboard is being loaded, null when none is */
+    private static List<Consumer<GoldLeaderboard>> changesDuringLoad;
+
+    private final Map<String, Integer> goldByName = new HashMap<>();
+    private final GoldTree allGold = new GoldTree();
+    private final Map<String, GoldTree> friendGoldByName = new HashMap<>();
+
+    /**
+     * Creates a GoldLeaderboard from the gold of every user
+     *
+     * @param goldByName    gold of every user by username
+     */
+    GoldLeaderboard(Map<String, Integer> goldByName) {
+        for (Map.Entry<String, Integer> entry : goldByName.entrySet()) {
+            setGold(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Returns the current leaderboard, loading it on first use
+     *
+     * @return  the current gold leaderboard
+     */
+    public static GoldLeaderboard getInstance() {
+        GoldLeaderboard leaderboard = instance;
+        if (leaderboard == null) {
+            synchronized (GoldLeaderboard.class) {
+                leaderboard = instance;
+                if (leaderboard == null) {
+                    leaderboard = load();
+                }
+            }
+        }
+        return leaderboard;
+    }
+
+    /**
+     * Loads every user's gold again and replaces the current leaderboard
+     *
+     * @return  the new gold leaderboard
+     */
+    public static synchronized GoldLeaderboard reload() {
+        return load();
+    }
+
+    private static GoldLeaderboard load() {
+        // Loads are run one at a time, under the class lock
+        synchronized (LOAD_LOCK) {
+            changesDuringLoad = new ArrayList<>();
+        }
+        Map<String, Integer> goldByName = new UserDAO().getAllGold();
+        GoldLeaderboard leaderboard = new GoldLeaderboard((goldByName == null) ? new HashMap<>() : goldByName);
+
+        synchronized (LOAD_LOCK) {
+            List<Consumer<GoldLeaderboard>> changes = changesDuringLoad;
+            changesDuringLoad = null;
+            // A leaderboard that could not be loaded is not kept, so the next lookup tries loading again
+            if (goldByName == null) {
+                return leaderboard;
+            }
+            for (Consumer<GoldLeaderboard> change : changes) {
+                change.accept(leaderboard);
+            }
+            instance = leaderboard;
+        }
+        return leaderboard;
+    }
+
+    /**
+     * Applies a committed change to the current leaderboard, if it has been
+     * loaded, and to the leaderboard being loaded, if there is one
+     *
+     * @param change    the change to apply
+     */
+    private static void changed(Consumer<GoldLeaderboard> change) {
+        GoldLeaderboard leaderboard;
+        synchronized (LOAD_LOCK) {
+            if (changesDuringLoad != null) {
+                changesDuringLoad.add(change);
+            }
+            leaderboard = instance;
+        }
+        if (leaderboard != null) {
+            change.accept(leaderboard);
+        }
+    }
+
+    /**
+     * Records a committed change of a user's gold, or a new user, in the
+     * current leaderboard, if it has been loaded
+     *
+     * @param username  username of the user
+     * @param gold      gold of the user
+     */
+    static void goldChanged(String username, int gold) {
+        changed(leaderboard -> leaderboard.setGold(username, gold));
+    }
+
+    /**
+     * Records a committed friendship or unfriending between two users in the
+     * current leaderboard, if it has been loaded
+     *
+     * @param username1 username of the first user
+     * @param username2 username of the second user
+     */
+    static void friendsChanged(String username1, String username2) {
+        changed(leaderboard -> leaderboard.forgetFriends(username1, username2));
+    }
+
+    /**
+     * Removes a committed user deletion from the current leaderboard, if it has been loaded
+     *
+     * @param username  username of the deleted user
+     */
+    static void userDeleted(String username) {
+        changed(leaderboard -> leaderboard.removeUser(username));
+    }
+
+    /**
+     * Returns a user's wealth ranking among all users, where users with the
+     * same gold share a ranking
+     *
+     * @param username  username of the user
+     * @return          1 plus the number of users with more gold, -1 if there is no such user
+     */
+    public synchronized int getGlobalRank(String username) {
+        Integer gold = goldByName.get(username);
+        return (gold == null) ? -1 : allGold.countAbove(gold) + 1;
+    }
+
+    /**
+     * Returns a user's wealth ranking among their friends, where friends
+     * with the same gold as the user do not rank above them
+     *
+     * @param username  username of the user
+     * @return          1 plus the number of friends with more gold, -1 if there is no such user
+     */
+    public synchronized int getFriendRank(String username) {
+        Integer gold = goldByName.get(username);
+        if (gold == null) {
+            return -1;
+        }
+        GoldTree friendGold = friendGoldByName.get(username);
+        if (friendGold == null) {
+            friendGold = new GoldTree();
+            for (String friendUsername : FriendGraph.getInstance().getFriendUsernames(username)) {
+                Integer friendsGold = goldByName.get(friendUsername);
+                if (friendsGold != null) {
+                    friendGold.add(friendsGold);
+                }
+            }
+            friendGoldByName.put(username, friendGold);
+        }
+        return friendGold.countAbove(gold) + 1;
+    }
+
+    synchronized void setGold(String username, int gold) {
+        Integer oldGold = goldByName.put(username, gold);
+        if (oldGold != null && oldGold == gold) {
+            return;
+        }
+        if (oldGold != null) {
+            allGold.remove(oldGold);
+        }
+        allGold.add(gold);
+
+        // Move the user's gold in the trees of those of their friends that have one
+        if (friendGoldByName.isEmpty()) {
+            return;
+        }
+        List<String> friendUsernames = FriendGraph.getInstance().getFriendUsernames(username);
+        for (String friendUsername : friendUsernames) {
+            GoldTree friendGold = friendGoldByName.get(friendUsername);
+            if (friendGold != null) {
+                if (oldGold != null) {
+                    friendGold.remove(oldGold);
+                }
+                friendGold.add(gold);
+            }
+        }
+    }
+
+    synchronized void forgetFriends(String username1, String username2) {
+        // Rebuilt from the friend graph on the next friend ranking of either user
+        friendGoldByName.remove(username1);
+        friendGoldByName.remove(username2);
+    }
+
+    synchronized void removeUser(String username) {
+        Integer gold = goldByName.remove(username);
+        if (gold != null) {
+            allGold.remove(gold);
+        }
+        // The user's friends are no longer known once the user is deleted, so every friend tree is rebuilt
+        friendGoldByName.clear();
+    }
+
+    /**
+     * The GoldTree class is a treap of gold amounts, each node counting the
+     * users with that amount and the users in its subtree
+     */
+    static final class GoldTree {
+
+        private static final Random PRIORITIES = new Random(31);
+
+        private Node root;
+
+        private static final class Node {
+            final int gold;
+            final int priority;
+            int count;
+            int size;
+            Node left;
+            Node right;
+
+            Node(int gold) {
+                this.gold = gold;
+                this.priority = PRIORITIES.nextInt();
+                this.count = 1;
+                this.size = 1;
+            }
+        }
+
+        /**
+         * Adds a user with the specified gold
+         */
+        void add(int gold) {
+            root = add(root, gold);
+        }
+
+        /**
+         * Removes a user with the specified gold, if there is one
+         */
+        void remove(int gold) {
+            root = remove(root, gold);
+        }
+
+        /**
+         * Returns the number of users with more than the specified gold
+         */
+        int countAbove(int gold) {
+            int count = 0;
+            Node node = root;
+            while (node != null) {
+                if (gold < node.gold) {
+                    count += node.count + size(node.right);
+                    node = node.left;
+                } else {
+                    node = node.right;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Returns the number of users in the tree
+         */
+        int size() {
+            return size(root);
+        }
+
+        private static Node add(Node node, int gold) {
+            if (node == null) {
+                return new Node(gold);
+            }
+            if (gold == node.gold) {
+                node.count++;
+            } else if (gold < node.gold) {
+                node.left = add(node.left, gold);
+                if (node.left.priority > node.priority) {
+                    node = rotateRight(node);
+                }
+            } else {
+                node.right = add(node.right, gold);
+                if (node.right.priority > node.priority) {
+                    node = rotateLeft(node);
+                }
+            }
+            update(node);
+            return node;
+        }
+
+        private static Node remove(Node node, int gold) {
+            if (node == null) {
+                return null;
+            }
+            if (gold < node.gold) {
+                node.left = remove(node.left, gold);
+            } else if (gold > node.gold) {
+                node.right = remove(node.right, gold);
+            } else if (node.count > 1) {
+                node.count--;
+            } else if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            } else {
+                // Rotate the node down below its higher priority child, then remove it from there
+                if (node.left.priority > node.right.priority) {
+                    node = rotateRight(node);
+                    node.right = remove(node.right, gold);
+                } else {
+                    node = rotateLeft(node);
+                    node.left = remove(node.left, gold);
+                }
+            }
+            update(node);
+            return node;
+        }
+
+        private static Node rotateRight(Node node) {
+            Node left = node.left;
+            node.left = left.right;
+            left.right = node;
+            update(node);
+            update(left);
+            return left;
+        }
+
+        private static Node rotateLeft(Node node) {
+            Node right = node.right;
+            node.right = right.left;
+            right.left = node;
+            update(node);
+            update(right);
+            return right;
+        }
+
+        private static void update(Node node) {
+            node.size = node.count + size(node.left) + size(node.right);
+        }
+
+        private static int size(Node node) {
+            return (node == null) ? 0 : node.size;
+        }
+    }
+}
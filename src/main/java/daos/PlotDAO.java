@@ -3,6 +3,7 @@ package daos;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
@@ -18,76 +19,155 @@ import entities.User;
  */   
 public class PlotDAO extends DAO { 
 
+	/** Times a conditional plot update is tried before giving up to a concurrent change */
+	public static final int MAX_UPDATE_ATTEMPTS = Integer.getInteger("socialmagnet.plot.maxUpdateAttempts", 3);
+
 	/**
 	 * Adds empty plot to a user's farmland
 	 * @param user	user whose farmland to add plot to
 	 * @return		plot that was created
 	 */
     public Plot addEmptyPlot(User user) {
+		List<Plot> plots = addEmptyPlots(user, 1);
+		return plots.isEmpty() ? null : plots.get(0);
+	}
+
+	/**
+	 * Adds a number of empty plots to a user's farmland with a single 
+	 * multi-row insert
+	 * 
+	 * @param user		user whose farmland to add plots to
+	 * @param numPlots	number of plots to add
+	 * @return			plots that were created, empty if none were created
+	 */
+	public List<Plot> addEmptyPlots(User user, int numPlots) {
 		Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		ResultSet rs = null;
-		Plot plot = null;
+		List<Plot> plots = new ArrayList<>();
+
+		if(numPlots <= 0) {
+			return plots;
+		}
 
 		try {
 			// Create the SQL database connection
 			conn = getConnection();
 
-			// Create the SQL insert statement
-			String query = "INSERT INTO PLOT (username) VALUES (?)";
+			// Create the SQL insert statement with one row per plot
+			StringBuilder query = new StringBuilder("INSERT INTO PLOT (username) VALUES (?)");
+			for(int i = 1; i < numPlots; i++) {
+				query.append(", (?)");
+			}
 
-			// Create the prepared statement from query
-			preparedStmt = conn.prepareStatement(query);
+			// Create the prepared statement from query, returning the new plot ids
+			preparedStmt = conn.prepareStatement(query.toString(), Statement.RETURN_GENERATED_KEYS);
 
 			// Get required fields for query
 			String username = user.getUsername();
 
 			// Set prepared statement placeholder values
-			preparedStmt.setString(1, username);
+			for(int i = 1; i <= numPlots; i++) {
+				preparedStmt.setString(i, username);
+			}
 
 			// Execute the prepared statement
 			preparedStmt.executeUpdate();
 
-			// Close prepared statement before running next query
-			if(preparedStmt != null) {
-				preparedStmt.close();
+			// Get generated plot ids from result set
+			rs = preparedStmt.getGeneratedKeys();
+			while(rs.next()) {
+				plots.add(new Plot(rs.getInt(1), username));
+			}
+		} catch (Exception e) {
+			System.err.println("Error when creating empty plots:");
+			System.err.println(e.getMessage());
+		} finally {
+			// Close connection, prepared statement and/or result set
+			try {
+				if(conn != null) {
+					conn.close();
+				}
+				if(preparedStmt != null) {
+					preparedStmt.close();
+				}
+				if(rs != null) {
+					rs.close();
+				}
+			} catch(Exception e) {
+				System.err.println("Error when closing:");
+				System.err.println(e.getMessage());
 			}
+		}
+		return plots;
+	}
 
-			// Create the SQL select statement
-			query = "SELECT * FROM PLOT WHERE username=? ORDER BY plot_id DESC LIMIT 1";
+	/**
+	 * Adds empty plots to a user's farmland until it has the target number
+	 * of plots. Plots the user already has count towards the target, so
+	 * provisioning the same target again adds nothing.
+	 * 
+	 * @param user			user whose farmland to add plots to
+	 * @param targetPlots	number of plots the user should have
+	 * @return				plots that were created, empty if none were needed
+	 */
+	public List<Plot> provisionPlots(User user, int targetPlots) {
+		Connection conn = null;
+		PreparedStatement preparedStmt = null;
+		ResultSet rs = null;
+		List<Plot> plots = new ArrayList<>();
+		UnitOfWork unitOfWork = UnitOfWork.begin();
+
+		try {
+			// Create the SQL database connection
+			conn = getConnection();
+
+			// Create the SQL select statement, locking the user's plots until provisioning commits
+			String query = "SELECT COUNT(*) AS num_plots FROM PLOT WHERE username=? FOR UPDATE";
 
 			// Create the prepared statement from query
 			preparedStmt = conn.prepareStatement(query);
 
 			// Set prepared statement placeholder values
-			preparedStmt.setString(1, username);
+			preparedStmt.setString(1, user.getUsername());
 
 			// Execute the prepared statement
 			rs = preparedStmt.executeQuery();
 
-			// Get results from result set
+			// Add the missing plots
 			if(rs.next()) {
-				int plotId = rs.getInt("plot_id");
-				plot = new Plot(plotId, username);
+				int missingPlots = targetPlots - rs.getInt("num_plots");
+				plots = addEmptyPlots(user, missingPlots);
+				if(plots.size() < missingPlots) {
+					plots = new ArrayList<>();
+				}
+			}
+
+			if(!unitOfWork.commit()) {
+				plots = new ArrayList<>();
 			}
 		} catch (Exception e) {
-			System.err.println("Error when creating empty plot:");
+			System.err.println("Error when provisioning plots:");
 			System.err.println(e.getMessage());
 		} finally {
 			// Close connection, prepared statement and/or result set
 			try {
+				unitOfWork.close();
 				if(conn != null) {
 					conn.close();
 				}
 				if(preparedStmt != null) {
 					preparedStmt.close();
 				}
+				if(rs != null) {
+					rs.close();
+				}
 			} catch(Exception e) {
 				System.err.println("Error when closing:");
 				System.err.println(e.getMessage());
 			}
 		}
-		return plot;
+		return plots;
 	}
 
 	/**
@@ -97,6 +177,22 @@ public class PlotDAO extends DAO {
 	 * @return			retrieved plot
 	 */
 	public Plot getPlot(int plotId) {
+		return getPlot(plotId, false);
+	}
+
+	/**
+	 * Returns the latest committed version of a plot with specified plot id,
+	 * locking it until the transaction ends. Used to retry a conditional
+	 * update, as a plain read inside a transaction may return an older version.
+	 * 
+	 * @param plotId	plot id of plot
+	 * @return			retrieved plot
+	 */
+	public Plot getPlotForUpdate(int plotId) {
+		return getPlot(plotId, true);
+	}
+
+	private Plot getPlot(int plotId, boolean forUpdate) {
 		Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		ResultSet rs = null;
@@ -107,7 +203,7 @@ public class PlotDAO extends DAO {
 			conn = getConnection();
 			
 			// Create the SQL select statement 
-			String query = "SELECT * FROM PLOT WHERE plot_id=?";
+			String query = "SELECT * FROM PLOT WHERE plot_id=?" + (forUpdate ? " FOR UPDATE" : "");
 
 			// Create the prepared statement from query
 			preparedStmt = conn.prepareStatement(query);
@@ -129,9 +225,10 @@ public class PlotDAO extends DAO {
 					int remainingPercentage = rs.getInt("remaining_percentage");
 					int originalYield = rs.getInt("original_yield");
 
-					plot = new Plot(plotId, username, timeCropPlanted, remainingPercentage, cropName, originalYield);
+					plot = new Plot(plotId, username, timeCropPlanted, remainingPercentage, cropName, originalYield, rs.getInt("version"));
 				} else {
 					plot = new Plot(plotId, username);
+					plot.setVersion(rs.getInt("version"));
 				}
 			}
 		} catch (Exception e) {
@@ -197,9 +294,10 @@ public class PlotDAO extends DAO {
 					int remainingPercentage = rs.getInt("remaining_percentage");
 					int originalYield = rs.getInt("original_yield");
 
-					plot = new Plot(plotId, username, timeCropPlanted, remainingPercentage, cropName, originalYield);
+					plot = new Plot(plotId, username, timeCropPlanted, remainingPercentage, cropName, originalYield, rs.getInt("version"));
 				} else {
 					plot = new Plot(plotId, username);
+					plot.setVersion(rs.getInt("version"));
 				}
 				plots.add(plot);
 			}
@@ -233,6 +331,21 @@ public class PlotDAO extends DAO {
 	 * @return		true upon successful update, false otherwise
 	 */
     public boolean updatePlot(Plot plot) {
+		return updatePlot(plot, false);
+	}
+
+	/**
+	 * Updates a specified plot in plot table only if it has not been updated
+	 * since it was read, and increases the version of the plot if it is
+	 * 
+	 * @param plot	plot to update, with the version it was read at
+	 * @return		true upon successful update, false if plot changed since it was read
+	 */
+	public boolean updatePlotIfUnchanged(Plot plot) {
+		return updatePlot(plot, true);
+	}
+
+	private boolean updatePlot(Plot plot, boolean ifUnchanged) {
 		Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		int updateSuccess = 0;
@@ -241,8 +354,11 @@ public class PlotDAO extends DAO {
 			// Create the SQL database connection
 			conn = getConnection();
 		
-			// Create the SQL update statement 
-			String query = "UPDATE PLOT SET time_crop_planted=?, remaining_percentage=?, crop_name=?, original_yield=? WHERE plot_id=?";
+			// Create the SQL update statement, which increases the version so concurrent conditional updates fail
+			String query = "UPDATE PLOT SET time_crop_planted=?, remaining_percentage=?, crop_name=?, original_yield=?, version=version+1 WHERE plot_id=?";
+			if(ifUnchanged) {
+				query += " AND version=?";
+			}
 			
 			// Create the prepared statement from query
 			preparedStmt = conn.prepareStatement(query);
@@ -259,9 +375,17 @@ public class PlotDAO extends DAO {
 			preparedStmt.setString(3, cropName);
 			preparedStmt.setInt(4, originalYield);
 			preparedStmt.setInt(5, plot.getPlotId());
+			if(ifUnchanged) {
+				preparedStmt.setInt(6, plot.getVersion());
+			}
 
 			// Execute the prepared statement
 			updateSuccess = preparedStmt.executeUpdate();
+
+			// Keep the plot at the version now in the database
+			if(updateSuccess != 0 && ifUnchanged) {
+				plot.setVersion(plot.getVersion() + 1);
+			}
 		} catch (Exception e) {
 			System.err.println("Error when updating Plot database:");
 			System.err.println(e.getMessage());
@@ -283,24 +407,29 @@ public class PlotDAO extends DAO {
 	}
 	
     /**
-	 * Clears a crop from a plot and remove its thieves record
+	 * Clears a crop from a plot and remove its thieves record, only if the
+	 * plot has not been updated since it was read
 	 * 
-	 * @param plot	plot to clear
-	 * @return		true upon successful clearance, false otherwise
+	 * @param plot	plot to clear, with the version it was read at
+	 * @return		true upon successful clearance, false if plot changed since it was read
 	 */
 	public boolean clearPlot(Plot plot) {
 		
 		int plotId = plot.getPlotId();
 		String ownerUsername = plot.getOwnerUsername();
 
-		// Create empty plot object with the same plot id and updates database
-		plot = new Plot(plotId, ownerUsername);
-		boolean updateSuccess = updatePlot(plot);
+		// Create empty plot object with the same plot id and version and updates database
+		Plot emptyPlot = new Plot(plotId, ownerUsername);
+		emptyPlot.setVersion(plot.getVersion());
+		boolean updateSuccess = updatePlotIfUnchanged(emptyPlot);
 
-		// Removes currently stored list of thieves for this plot
-		StealDAO stealDAO = new StealDAO();
-		boolean resetThievesSuccess = stealDAO.resetThieves(plot);
+		// Removes currently stored list of thieves for this plot, of which there may be none
+		if(updateSuccess) {
+			StealDAO stealDAO = new StealDAO();
+			stealDAO.resetThieves(emptyPlot);
+			plot.setVersion(emptyPlot.getVersion());
+		}
 
-		return updateSuccess && resetThievesSuccess;
+		return updateSuccess;
 	}
 }
\ No newline at end of file
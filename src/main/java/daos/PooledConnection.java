@@ -0,0 +1,288 @@
+package daos;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The PooledConnection class wraps a physical connection owned by the
+ * ConnectionPool. Every time it is borrowed it hands out a new proxy whose
+ * close() returns the connection to the pool instead of closing it.
+ * Statements prepared through the proxy are kept in a StatementCache.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+class PooledConnection {
+
+    /** Connection state codes (SQLState class 08) mean the connection is unusable */
+    private static final String CONNECTION_EXCEPTION_CLASS = "08";
+
+    private final ConnectionPool pool;
+    private final Connection physical;
+    private final StatementCache statementCache;
+    private final List<Statement> openStatements = new ArrayList<>();
+    private volatile long lastReturnedAt;
+    private volatile long leasedAt;
+    private volatile Throwable leaseTrace;
+    private volatile boolean leakReported;
+    private volatile boolean broken;
+
+    /**
+     * Creates a PooledConnection around a physical connection
+     *
+     * @param pool                pool owning the connection
+     * @param physical            physical connection to the database
+     * @param statementCacheSize  number of prepared statements to keep open, 0 to disable caching
+     */
+    PooledConnection(ConnectionPool pool, Connection physical, int statementCacheSize) {
+        this.pool = pool;
+        this.physical = physical;
+        this.statementCache = statementCacheSize > 0 ? new StatementCache(this, statementCacheSize) : null;
+        this.lastReturnedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Marks the connection as borrowed and returns a proxy for the borrower
+     *
+     * @param captureTrace  true to remember where the connection was borrowed for leak reports
+     * @return              proxy of the connection which returns it to the pool on close
+     */
+    Connection lease(boolean captureTrace) {
+        leasedAt = System.currentTimeMillis();
+        leaseTrace = captureTrace ? new Throwable("Connection borrowed here") : null;
+        leakReported = false;
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new Lease());
+    }
+
+    /**
+     * Checks if the connection can be handed out again. Connections that
+     * have been idle for longer than validationIntervalMillis are pinged.
+     *
+     * @param validationIntervalMillis  idle time after which the connection is validated
+     * @return                          true if the connection is usable
+     */
+    boolean isUsable(long validationIntervalMillis) {
+        if (broken) {
+            return false;
+        }
+        try {
+            if (System.currentTimeMillis() - lastReturnedAt < validationIntervalMillis) {
+                return !physical.isClosed();
+            }
+            return physical.isValid(ConnectionPool.VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Closes statements left open by the borrower and rolls back any
+     * uncommitted work so the next borrower gets a clean connection
+     *
+     * @return  true if the connection can be returned to the idle queue
+     */
+    boolean reset() {
+        if (statementCache != null) {
+            statementCache.checkinAll();
+        }
+        closeOpenStatements();
+        try {
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            lastReturnedAt = System.currentTimeMillis();
+            return !broken && !physical.isClosed();
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if the connection has been held for longer than the leak
+     * threshold. Each lease is only reported once.
+     *
+     * @param now               current time in milliseconds
+     * @param thresholdMillis   time a connection may be held before it is reported
+     * @return                  true if the connection is newly suspected to have leaked
+     */
+    boolean checkLeak(long now, long thresholdMillis) {
+        if (leakReported || now - leasedAt < thresholdMillis) {
+            return false;
+        }
+        leakReported = true;
+        return true;
+    }
+
+    /**
+     * Closes the physical connection
+     */
+    void closePhysical() {
+        if (statementCache != null) {
+            statementCache.closeAll();
+        }
+        closeOpenStatements();
+        try {
+            physical.close();
+        } catch (SQLException e) {
+            // The connection is being discarded either way
+        }
+    }
+
+    long getLastReturnedAt() {
+        return lastReturnedAt;
+    }
+
+    long getLeasedAt() {
+        return leasedAt;
+    }
+
+    Throwable getLeaseTrace() {
+        return leaseTrace;
+    }
+
+    Connection getPhysical() {
+        return physical;
+    }
+
+    ConnectionPool getPool() {
+        return pool;
+    }
+
+    StatementCache getStatementCache() {
+        return statementCache;
+    }
+
+    /**
+     * Remembers a statement that is not cached so it is closed when the
+     * connection is returned
+     *
+     * @param stmt  statement prepared on the physical connection
+     * @return      the same statement
+     */
+    PreparedStatement trackUncached(PreparedStatement stmt) {
+        trackStatement(stmt);
+        return stmt;
+    }
+
+    /**
+     * Invokes a method on a JDBC object belonging to this connection,
+     * unwrapping reflection exceptions and remembering fatal errors
+     *
+     * @param target    object to invoke the method on
+     * @param method    method to invoke
+     * @param args      arguments of the method
+     * @return          result of the method
+     * @throws          Throwable thrown by the method
+     */
+    Object delegate(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                noteFailure((SQLException) cause);
+            }
+            throw cause;
+        }
+    }
+
+    /**
+     * Prepares a statement on the physical connection for the StatementCache
+     *
+     * @param args          arguments given to prepareStatement
+     * @return              new prepared statement
+     * @throws SQLException if the statement could not be prepared
+     */
+    private PreparedStatement prepare(Object[] args) throws SQLException {
+        try {
+            if (args.length == 1) {
+                return physical.prepareStatement((String) args[0]);
+            }
+            return physical.prepareStatement((String) args[0], (Integer) args[1]);
+        } catch (SQLException e) {
+            noteFailure(e);
+            throw e;
+        }
+    }
+
+    private void noteFailure(SQLException e) {
+        UnitOfWork.markRollbackOnly();
+        String sqlState = e.getSQLState();
+        if (sqlState != null && sqlState.startsWith(CONNECTION_EXCEPTION_CLASS)) {
+            broken = true;
+        }
+    }
+
+    private synchronized void trackStatement(Statement stmt) {
+        openStatements.add(stmt);
+    }
+
+    private synchronized void closeOpenStatements() {
+        for (Statement stmt : openStatements) {
+            try {
+                stmt.close();
+            } catch (SQLException e) {
+                // Closing a statement of a connection being recycled
+            }
+        }
+        openStatements.clear();
+    }
+
+    /**
+     * The Lease is the borrower's view of the connection. It stops working
+     * once it has been closed, even if the physical connection is lent out again.
+     */
+    private class Lease implements InvocationHandler {
+
+        private boolean closed;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("close")) {
+                if (!closed) {
+                    closed = true;
+                    pool.release(PooledConnection.this);
+                }
+                return null;
+            }
+            if (name.equals("isClosed")) {
+                return closed || physical.isClosed();
+            }
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (name.equals("toString")) {
+                return "PooledConnection[" + physical + "]";
+            }
+            if (closed) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            if (statementCache != null && name.equals("prepareStatement") && args.length <= 2
+                    && (args.length == 1 || args[1] instanceof Integer)) {
+                // Key also covers the generated keys flag, which changes how the statement is prepared
+                String key = args.length == 1 ? (String) args[0] : args[1] + ":" + args[0];
+                return statementCache.checkout(key, () -> prepare(args));
+            }
+
+            Object result = delegate(physical, method, args);
+            if (result instanceof Statement) {
+                trackStatement((Statement) result);
+            }
+            return result;
+        }
+    }
+}
@@ -3,11 +3,15 @@ package daos;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
 
+import entities.Rank;
 import entities.User;
 
 /**
  * The RankDAO class provides access to the rank table in the database.
+ * Ranks are served from the RankLadder, which is loaded from the table.
  *
  * @version 1.1 04 Apr 2020
  * @author Brian Goh
@@ -15,7 +19,8 @@ import entities.User;
 public class RankDAO extends DAO {
 
 	/**
-	 * Checks if specified user ranks up, and adds plots to his farmland if he does
+	 * Checks if specified user ranks up, and records his new rank and adds
+	 * plots to his farmland if he does
 	 * 
 	 * @param user		user to check
 	 * @param updatedXp	new xp of user
@@ -29,106 +34,69 @@ public class RankDAO extends DAO {
         if(currentRank.equals(newRank)) {
             return currentRank;
         } else {
-            int plotsToAdd = getNumberPlotsForRank(newRank) - getNumberPlotsForRank(currentRank);
 			PlotDAO plotDAO = new PlotDAO();
-			
-			// If user ranked up, add empty plots to his farmland
-            for(int i = 0; i < plotsToAdd; i++) {
-                plotDAO.addEmptyPlot(user);
-            }
+			UserDAO userDAO = new UserDAO();
+
+			// If user ranked up, record his new rank and top his farmland up to the plots of his new rank
+			userDAO.updateRank(user.getUsername(), newRank);
+			plotDAO.provisionPlots(user, getNumberPlotsForRank(newRank));
             return newRank;
         }
 	}
 
 	/**
-	 * Get number of plots given to a user of a specified rank
+	 * Get number of plots given to a user of a specified rank from the in-memory RankLadder
 	 * 
 	 * @param rank	rank to get number of given plots for
 	 * @return		number of plots given to a user of a specified rank
 	 */
     public int getNumberPlotsForRank(String rank) {
-		Connection conn = null;
-		PreparedStatement preparedStmt = null;
-		ResultSet rs = null;
-		int numPlots = 0;
-
-		try {
-			// Create the SQL database connection
-			conn = getConnection();
-			
-			// Create the SQL select statement 
-			String query = "SELECT * FROM RANK WHERE rank_name=?";
-
-			// Create the prepared statement from query
-			preparedStmt = conn.prepareStatement(query);
-
-			// Set prepared statement placeholder values
-            preparedStmt.setString(1, rank);
-
-			// Execute the prepared statement
-            rs = preparedStmt.executeQuery();
-
-			// Get results from result set
-            if(rs.next()) {
-				numPlots = rs.getInt("num_plots");
-            }
-		} catch (Exception e) {
-			System.err.println("Error when getting number of plots for rank:");
-			System.err.println(e.getMessage());
-		} finally {
-			// Close connection, prepared statement and/or result set
-			try {
-				if(conn != null) {
-					conn.close();
-				}
-				if(preparedStmt != null) {
-					preparedStmt.close();
-				}
-				if(rs != null) {
-					rs.close();
-				}
-			} catch(Exception e) {
-				System.err.println("Error when closing:");
-				System.err.println(e.getMessage());
-			}
-		}
-        return numPlots;
+		return RankLadder.getInstance().getNumberPlotsForRank(rank);
     }
 
 	/**
-	 * Get rank for a specified xp
+	 * Get rank for a specified xp from the in-memory RankLadder
 	 * 
 	 * @param xp	xp to check rank for
 	 * @return		rank for a specified xp
 	 */
     public String getRankForXp(int xp) {
-        Connection conn = null;
+		return RankLadder.getInstance().getRankForXp(xp);
+    }
+
+	/**
+	 * Returns all ranks in the rank table. Used to load the RankLadder
+	 * 
+	 * @return	list of ranks ordered by xp, empty if the table could not be read
+	 */
+	List<Rank> loadRanks() {
+		Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		ResultSet rs = null;
-		String rank = null;
+		List<Rank> ranks = new ArrayList<>();
 
 		try {
 			// Create the SQL database connection
 			conn = getConnection();
 			
 			// Create the SQL select statement 
-			String query = "SELECT * FROM RANK WHERE ? >= xp ORDER BY xp DESC LIMIT 1";
+			String query = "SELECT * FROM RANK ORDER BY xp ASC";
 
 			// Create the prepared statement from query
 			preparedStmt = conn.prepareStatement(query);
 
-			// Set prepared statement placeholder values
-            preparedStmt.setInt(1, xp);
-
 			// Execute the prepared statement
-            rs = preparedStmt.executeQuery();
+			rs = preparedStmt.executeQuery();
 
 			// Get results from result set
-            if(rs.next()) {
-				rank = rs.getString("rank_name");
-            }
+			while(rs.next()) {
+				String rankName = rs.getString("rank_name");
+				int xp = rs.getInt("xp");
+				int numPlots = rs.getInt("num_plots");
+				ranks.add(new Rank(rankName, xp, numPlots));
+			}
 		} catch (Exception e) {
-			System.err.println("Error when getting rank for xp:");
+			System.err.println("Error when getting ranks:");
 			System.err.println(e.getMessage());
 		} finally {
 			// Close connection, prepared statement and/or result set
@@ -147,6 +115,6 @@ public class RankDAO extends DAO {
 				System.err.println(e.getMessage());
 			}
 		}
-        return rank;
-    }
+		return ranks;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,205 @@
+package daos;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import entities.Rank;
+
+/**
+ * The RankLadder class is an immutable snapshot of the rank table held in
+ * memory as arrays sorted by xp, so that finding the rank for an amount of
+ * xp is a binary search and finding the plots of a rank is a hash lookup.
+ *
+ * The ladder is loaded from the rank table on first use, falling back to
+ * data/rank.csv if the table cannot be read. It is reloaded in the
+ * background every socialmagnet.rankRefreshMs milliseconds (60s by default,
+ * 0 to disable) and atomically replaced when the ranks have changed.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public final class RankLadder {
+
+    /** Rank file read when the rank table cannot be */
+    private static final Path RANK_CSV = Paths.get("data", "rank.csv");
+
+    private static volatile RankLadder instance;
+    private static long lastVersion;
+    private static ScheduledExecutorService refresher;
+
+    private final long version;
+    private final int[] xpThresholds;
+    private final String[] rankNames;
+    private final int[] numPlots;
+    private final Map<String, Integer> numPlotsByRank;
+
+    /**
+     * Creates a RankLadder from a list of ranks in any order
+     *
+     * @param version   version of the ladder
+     * @param ranks     ranks on the ladder
+     */
+    RankLadder(long version, List<Rank> ranks) {
+        List<Rank> sorted = new ArrayList<>(ranks);
+        sorted.sort(Comparator.comparingInt(Rank::getXp));
+        this.version = version;
+        this.xpThresholds = new int[sorted.size()];
+        this.rankNames = new String[sorted.size()];
+        this.numPlots = new int[sorted.size()];
+        this.numPlotsByRank = new HashMap<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            Rank rank = sorted.get(i);
+            xpThresholds[i] = rank.getXp();
+            rankNames[i] = rank.getRankName();
+            numPlots[i] = rank.getNumPlots();
+            numPlotsByRank.put(rank.getRankName(), rank.getNumPlots());
+        }
+    }
+
+    /**
+     * Returns the current ladder, loading it on first use
+     *
+     * @return  the current rank ladder
+     */
+    public static RankLadder getInstance() {
+        RankLadder ladder = instance;
+        if (ladder == null) {
+            synchronized (RankLadder.class) {
+                ladder = instance;
+                if (ladder == null) {
+                    ladder = load();
+                    startRefresher();
+                }
+            }
+        }
+        return ladder;
+    }
+
+    /**
+     * Loads the ranks again and replaces the current ladder if they changed
+     *
+     * @return  the current rank ladder
+     */
+    public static synchronized RankLadder reload() {
+        return load();
+    }
+
+    private static RankLadder load() {
+        List<Rank> ranks = new RankDAO().loadRanks();
+        if (ranks.isEmpty()) {
+            ranks = readCsv(RANK_CSV);
+        }
+        RankLadder current = instance;
+        RankLadder loaded = new RankLadder(lastVersion + 1, ranks);
+        if (current != null && (ranks.isEmpty() || current.hasSameRanks(loaded))) {
+            return current;
+        }
+        // An empty ladder is not kept, so the next lookup tries loading again
+        if (!ranks.isEmpty()) {
+            lastVersion++;
+            instance = loaded;
+        }
+        return loaded;
+    }
+
+    private static void startRefresher() {
+        long intervalMillis = Long.getLong("socialmagnet.rankRefreshMs", 60000);
+        if (refresher != null || intervalMillis <= 0) {
+            return;
+        }
+        refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "rank-ladder-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(RankLadder::reload, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Reads ranks from a CSV file with the header RankName,XP,Plots
+     *
+     * @param file  CSV file to read
+     * @return      ranks in the file, empty if it could not be read
+     */
+    static List<Rank> readCsv(Path file) {
+        List<Rank> ranks = new ArrayList<>();
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            for (String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                ranks.add(new Rank(fields[0].trim(), Integer.parseInt(fields[1].trim()),
+                        Integer.parseInt(fields[2].trim())));
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error when reading ranks from " + file + ":");
+            System.err.println(e.getMessage());
+            return new ArrayList<>();
+        }
+        return ranks;
+    }
+
+    /**
+     * Returns the highest rank whose xp is at most the specified xp
+     *
+     * @param xp    xp to find the rank for
+     * @return      name of the rank, null if xp is below every rank
+     */
+    public String getRankForXp(int xp) {
+        int index = Arrays.binarySearch(xpThresholds, xp);
+        if (index < 0) {
+            // Insertion point is the first rank above xp, so the floor is just before it
+            index = -index - 2;
+        }
+        return (index < 0) ? null : rankNames[index];
+    }
+
+    /**
+     * Returns the number of plots given to a user of the specified rank
+     *
+     * @param rank  name of the rank
+     * @return      number of plots, 0 if there is no such rank
+     */
+    public int getNumberPlotsForRank(String rank) {
+        Integer plots = (rank == null) ? null : numPlotsByRank.get(rank);
+        return (plots == null) ? 0 : plots;
+    }
+
+    /**
+     * Returns the version of the ladder, which increases whenever the ranks change
+     *
+     * @return  version of the ladder
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of ranks on the ladder
+     *
+     * @return  number of ranks
+     */
+    public int size() {
+        return rankNames.length;
+    }
+
+    private boolean hasSameRanks(RankLadder other) {
+        return Arrays.equals(xpThresholds, other.xpThresholds) && Arrays.equals(rankNames, other.rankNames)
+                && Arrays.equals(numPlots, other.numPlots);
+    }
+}
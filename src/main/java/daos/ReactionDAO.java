@@ -5,13 +5,16 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import entities.Reaction;
 import entities.Thread;
 
 /**
- * The ReactionDAO class provides access to the reaction table in the database.
+ * The ReactionDAO class provides access to the reaction table in the database,
+ * keeping the thread_reaction_count table in step with it.
  *
  * @version 1.0 04 Apr 2020
  * @author Brian Goh
@@ -29,6 +32,7 @@ public class ReactionDAO extends DAO {
         Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		int addSuccess = 0;
+		UnitOfWork unitOfWork = UnitOfWork.begin();
 
 		try {
 			// Create the SQL database connection
@@ -56,12 +60,18 @@ public class ReactionDAO extends DAO {
 
 			// Execute the prepared statement
 			addSuccess = preparedStmt.executeUpdate();
+
+			// Count the reaction towards the thread in the same transaction
+			if(addSuccess != 0 && !(updateReactionCount(thread, reactionType, 1) && unitOfWork.commit())) {
+				addSuccess = 0;
+			}
 		} catch (Exception e) {
 			System.err.println("Error when adding reaction:");
 			System.err.println(e.getMessage());
 		} finally {
 			// Close connection, prepared statement and/or result set
 			try {
+				unitOfWork.close();
 				if(conn != null) {
 					conn.close();
 				}
@@ -204,6 +214,82 @@ public class ReactionDAO extends DAO {
 		return dislikes;
 	}
 
+	/**
+	 * Returns the number of likes and dislikes of each of the specified threads
+	 * from their reaction counts, in a single query
+	 * 
+	 * @param threads	threads to count reactions of
+	 * @return			map from each thread to its counts, {likes, dislikes}
+	 */
+	public Map<Thread, int[]> getReactionCounts(List<Thread> threads) {
+        Connection conn = null;
+		PreparedStatement preparedStmt = null;
+		ResultSet rs = null;
+		Map<Thread, int[]> reactionCounts = new HashMap<>();
+		Map<String, Thread> threadsByKey = new HashMap<>();
+
+		for (Thread thread : threads) {
+			reactionCounts.put(thread, new int[2]);
+			threadsByKey.put(threadKey(thread.getSenderUsername(), (Timestamp)thread.getTimePosted()), thread);
+		}
+		if (threads.isEmpty()) {
+			return reactionCounts;
+		}
+
+		try {
+			// Create the SQL database connection
+			conn = getConnection();
+			
+			// Create the SQL select statement 
+			String query = "SELECT * FROM THREAD_REACTION_COUNT WHERE (threader_username, thread_time_stamp) IN (" 
+					+ threadKeyPlaceholders(threads.size()) + ")";
+
+			// Create the prepared statement from query
+			preparedStmt = conn.prepareStatement(query);
+
+			// Set prepared statement placeholder values
+			int index = 1;
+			for (Thread thread : threads) {
+				preparedStmt.setString(index++, thread.getSenderUsername());
+				preparedStmt.setTimestamp(index++, (Timestamp)thread.getTimePosted());
+			}
+
+			// Execute the prepared statement
+			rs = preparedStmt.executeQuery();
+
+			// Get results from result set, threads without a row have no reactions
+			while(rs.next()) {
+				Thread thread = threadsByKey.get(threadKey(rs.getString("threader_username"), 
+						rs.getTimestamp("thread_time_stamp")));
+				if (thread != null) {
+					int[] counts = reactionCounts.get(thread);
+					counts[0] = rs.getInt("like_count");
+					counts[1] = rs.getInt("dislike_count");
+				}
+			}
+		} catch (Exception e) {
+			System.err.println("Error when getting reaction counts of threads:");
+			System.err.println(e.getMessage());
+		} finally {
+			// Close connection, prepared statement and/or result set
+			try {
+				if(conn != null) {
+					conn.close();
+				}
+				if(preparedStmt != null) {
+					preparedStmt.close();
+				}
+				if(rs != null) {
+					rs.close();
+				}
+			} catch(Exception e) {
+				System.err.println("Error when closing:");
+				System.err.println(e.getMessage());
+			}
+		}
+		return reactionCounts;
+	}
+
 	/**
 	 * Update a reaction in a thread, such as from like to dislike or vice-versa
 	 * 
@@ -215,11 +301,15 @@ public class ReactionDAO extends DAO {
         Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		int updateSuccess = 0;
+		UnitOfWork unitOfWork = UnitOfWork.begin();
 
     	try {
 			// Create the SQL database connection
 			conn = getConnection();
 		
+			// Get the current type of the reaction, locking it until the update commits
+			int previousReactionType = getReactionType(thread, reaction);
+
 			// Create the SQL update statement 
 			String query = "UPDATE REACTION SET reaction_type=?, reaction_time_stamp=? WHERE threader_username=? AND thread_time_stamp=? AND reactor_username=? AND reaction_time_stamp=?";
 			
@@ -243,12 +333,23 @@ public class ReactionDAO extends DAO {
 	
 			// Execute the prepared statement
 			updateSuccess = preparedStmt.executeUpdate();
+
+			// Move the reaction between the thread's counts in the same transaction
+			boolean countSuccess = true;
+			if(updateSuccess != 0 && previousReactionType != reactionType) {
+				countSuccess = updateReactionCount(thread, previousReactionType, -1)
+						&& updateReactionCount(thread, reactionType, 1);
+			}
+			if(updateSuccess != 0 && !(countSuccess && unitOfWork.commit())) {
+				updateSuccess = 0;
+			}
 		} catch (Exception e) {
 			System.err.println("Error when updating reaction:");
 			System.err.println(e.getMessage());
 		} finally {
 			// Close connection, prepared statement and/or result set
 			try {
+				unitOfWork.close();
 				if(conn != null) {
 					conn.close();
 				}
@@ -274,11 +375,15 @@ public class ReactionDAO extends DAO {
         Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		int deleteSuccess = 0;
+		UnitOfWork unitOfWork = UnitOfWork.begin();
 
     	try {
 			// Create the SQL database connection
 			conn = getConnection();
 		
+			// Get the current type of the reaction, locking it until the deletion commits
+			int reactionType = getReactionType(thread, reaction);
+
 			// Create the SQL delete statement 
 			String query = "DELETE FROM REACTION WHERE threader_username=? AND thread_time_stamp=? AND reactor_username=? AND reaction_time_stamp=?";
 			
@@ -299,12 +404,18 @@ public class ReactionDAO extends DAO {
 	
 			// Execute the prepared statement
 			deleteSuccess = preparedStmt.executeUpdate();
+
+			// Remove the reaction from the thread's count in the same transaction
+			if(deleteSuccess != 0 && !(updateReactionCount(thread, reactionType, -1) && unitOfWork.commit())) {
+				deleteSuccess = 0;
+			}
 		} catch (Exception e) {
 			System.err.println("Error when deleting reaction:");
 			System.err.println(e.getMessage());
 		} finally {
 			// Close connection, prepared statement and/or result set
 			try {
+				unitOfWork.close();
 				if(conn != null) {
 					conn.close();
 				}
@@ -318,4 +429,116 @@ public class ReactionDAO extends DAO {
 		}
 		return (deleteSuccess != 0);
     }
+
+	/**
+	 * Returns the type of a reaction as stored, locking it until the current
+	 * transaction ends
+	 * 
+	 * @param thread	thread that contains the reaction
+	 * @param reaction	reaction to look up
+	 * @return			type of the stored reaction, 0 if there is no such reaction
+	 */
+	private int getReactionType(Thread thread, Reaction reaction) {
+        Connection conn = null;
+		PreparedStatement preparedStmt = null;
+		ResultSet rs = null;
+		int reactionType = 0;
+
+		try {
+			// Create the SQL database connection
+			conn = getConnection();
+			
+			// Create the SQL select statement 
+			String query = "SELECT reaction_type FROM REACTION WHERE threader_username=? AND thread_time_stamp=? AND reactor_username=? AND reaction_time_stamp=? FOR UPDATE";
+
+			// Create the prepared statement from query
+			preparedStmt = conn.prepareStatement(query);
+
+			// Set prepared statement placeholder values
+			preparedStmt.setString(1, thread.getSenderUsername());
+			preparedStmt.setTimestamp(2, (Timestamp)thread.getTimePosted());
+			preparedStmt.setString(3, reaction.getReactorUsername());
+			preparedStmt.setTimestamp(4, (Timestamp)reaction.getTimeReacted());
+
+			// Execute the prepared statement
+			rs = preparedStmt.executeQuery();
+
+			// Get results from result set
+			if(rs.next()) {
+				reactionType = rs.getInt("reaction_type");
+			}
+		} catch (Exception e) {
+			System.err.println("Error when getting reaction type:");
+			System.err.println(e.getMessage());
+		} finally {
+			// Close connection, prepared statement and/or result set
+			try {
+				if(conn != null) {
+					conn.close();
+				}
+				if(preparedStmt != null) {
+					preparedStmt.close();
+				}
+				if(rs != null) {
+					rs.close();
+				}
+			} catch(Exception e) {
+				System.err.println("Error when closing:");
+				System.err.println(e.getMessage());
+			}
+		}
+		return reactionType;
+	}
+
+	/**
+	 * Adds to the like or dislike count of a thread, creating its counts if needed
+	 * 
+	 * @param thread		thread whose count to update
+	 * @param reactionType	type of reaction to count (1: like, -1: dislike)
+	 * @param delta			amount to add to the count
+	 * @return				true upon successful update, false otherwise
+	 */
+	private boolean updateReactionCount(Thread thread, int reactionType, int delta) {
+        Connection conn = null;
+		PreparedStatement preparedStmt = null;
+		int updateSuccess = 0;
+
+		try {
+			// Create the SQL database connection
+			conn = getConnection();
+
+			// Create the SQL upsert statement
+			String query = "INSERT INTO THREAD_REACTION_COUNT (threader_username, thread_time_stamp, like_count, dislike_count) VALUES (?, ?, ?, ?) "
+					+ "ON DUPLICATE KEY UPDATE like_count = like_count + VALUES(like_count), dislike_count = dislike_count + VALUES(dislike_count)";
+
+			// Create the prepared statement from query
+			preparedStmt = conn.prepareStatement(query);
+
+			// Set prepared statement placeholder values
+			preparedStmt.setString(1, thread.getSenderUsername());
+			preparedStmt.setTimestamp(2, (Timestamp)thread.getTimePosted());
+			preparedStmt.setInt(3, (reactionType == 1) ? delta : 0);
+			preparedStmt.setInt(4, (reactionType == -1) ? delta : 0);
+
+			// Execute the prepared statement
+			updateSuccess = preparedStmt.executeUpdate();
+		} catch (Exception e) {
+			System.err.println("Error when updating reaction count:");
+			System.err.println(e.getMessage());
+		} finally {
+			// Close connection, prepared statement and/or result set
+			try {
+				if(conn != null) {
+					conn.close();
+				}
+				if(preparedStmt != null) {
+					preparedStmt.close();
+				}
+			} catch(Exception e) {
+				System.err.println("Error when closing:");
+				System.err.println(e.getMessage());
+			}
+		}
+		return (updateSuccess != 0);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,223 @@
+package daos;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The StatementCache class keeps the prepared statements of one pooled
+ * connection keyed by their SQL text, so that a DAO preparing the same query
+ * again reuses the statement instead of having it parsed again. The least
+ * recently used statement is closed once the cache is full.
+ *
+ * A cached statement is handed out to one borrower at a time. Closing it
+ * clears its parameters and puts it back in the cache.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+class StatementCache {
+
+    private final PooledConnection owner;
+    private final int maxSize;
+    private final LinkedHashMap<String, CachedStatement> statements;
+    private final List<CachedStatement> checkedOut = new ArrayList<>();
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates a StatementCache for a pooled connection
+     *
+     * @param owner     pooled connection the statements belong to
+     * @param maxSize   maximum number of statements kept open
+     */
+    StatementCache(PooledConnection owner, int maxSize) {
+        this.owner = owner;
+        this.maxSize = maxSize;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns a prepared statement for the SQL text, reusing a cached one if
+     * it is not already in use
+     *
+     * @param key           cache key of the statement
+     * @param preparer      prepares a new statement on the physical connection
+     * @return              prepared statement which returns to the cache when closed
+     * @throws SQLException if a new statement could not be prepared
+     */
+    synchronized PreparedStatement checkout(String key, Preparer preparer) throws SQLException {
+        CachedStatement cached = statements.get(key);
+        if (cached != null && !cached.inUse) {
+            hits++;
+            owner.getPool().recordStatementCacheHit();
+            return cached.checkout();
+        }
+
+        misses++;
+        owner.getPool().recordStatementCacheMiss();
+        PreparedStatement stmt = preparer.prepare();
+        if (cached != null) {
+            // The same query is already open on this connection, so this one is not cached
+            return owner.trackUncached(stmt);
+        }
+
+        cached = new CachedStatement(stmt);
+        statements.put(key, cached);
+        evictOverflow();
+        return cached.checkout();
+    }
+
+    /**
+     * Puts back every statement the last borrower did not close
+     */
+    synchronized void checkinAll() {
+        for (CachedStatement cached : new ArrayList<>(checkedOut)) {
+            cached.checkin(cached.handle);
+        }
+    }
+
+    /**
+     * Closes every cached statement
+     */
+    synchronized void closeAll() {
+        for (CachedStatement cached : statements.values()) {
+            closeQuietly(cached.stmt);
+        }
+        statements.clear();
+        checkedOut.clear();
+    }
+
+    synchronized long getHits() {
+        return hits;
+    }
+
+    synchronized long getMisses() {
+        return misses;
+    }
+
+    synchronized int size() {
+        return statements.size();
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<String, CachedStatement>> it = statements.entrySet().iterator();
+        while (statements.size() > maxSize && it.hasNext()) {
+            CachedStatement eldest = it.next().getValue();
+            it.remove();
+            if (eldest.inUse) {
+                eldest.evicted = true;
+            } else {
+                closeQuietly(eldest.stmt);
+            }
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement stmt) {
+        try {
+            stmt.close();
+        } catch (SQLException e) {
+            // Statement is being discarded either way
+        }
+    }
+
+    /**
+     * The Preparer prepares a new statement on the physical connection
+     */
+    interface Preparer {
+        PreparedStatement prepare() throws SQLException;
+    }
+
+    /**
+     * The CachedStatement holds a physical statement and whether it is lent out
+     */
+    private class CachedStatement {
+
+        private final PreparedStatement stmt;
+        private boolean inUse;
+        private boolean evicted;
+        private Handle handle;
+
+        CachedStatement(PreparedStatement stmt) {
+            this.stmt = stmt;
+        }
+
+        PreparedStatement checkout() {
+            inUse = true;
+            handle = new Handle(this);
+            checkedOut.add(this);
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class }, handle);
+        }
+
+        void checkin(Handle returned) {
+            synchronized (StatementCache.this) {
+                if (!inUse || returned != handle) {
+                    return;
+                }
+                returned.closed = true;
+                inUse = false;
+                checkedOut.remove(this);
+                if (evicted) {
+                    closeQuietly(stmt);
+                    return;
+                }
+                try {
+                    ResultSet rs = stmt.getResultSet();
+                    if (rs != null) {
+                        rs.close();
+                    }
+                    stmt.clearParameters();
+                    stmt.clearBatch();
+                } catch (SQLException e) {
+                    statements.values().remove(this);
+                    closeQuietly(stmt);
+                }
+            }
+        }
+    }
+
+    /**
+     * The Handle is the borrower's view of a cached statement. Closing it
+     * returns the statement to the cache and stops the handle from working.
+     */
+    private class Handle implements InvocationHandler {
+
+        private final CachedStatement cached;
+        private volatile boolean closed;
+
+        Handle(CachedStatement cached) {
+            this.cached = cached;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("close")) {
+                cached.checkin(this);
+                return null;
+            }
+            if (name.equals("isClosed")) {
+                return closed;
+            }
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (closed) {
+                throw new SQLException("Statement has already been closed");
+            }
+            return owner.delegate(cached.stmt, method, args);
+        }
+    }
+}
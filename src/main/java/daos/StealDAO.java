@@ -18,11 +18,12 @@ import entities.User;
 public class StealDAO extends DAO {
 
 	/**
-	 * Add a specified thief to a specified plot
+	 * Add a specified thief to a specified plot. As a thief is unique per
+	 * plot, this is also how a thief claims his one steal from the plot.
 	 * 
 	 * @param plot	plot to add thief too
 	 * @param thief	thief to add
-	 * @return		true upon successful addition, false otherwise
+	 * @return		true upon successful addition, false if thief has already stolen from plot
 	 */
     public boolean addThief(Plot plot, User thief) {
         Connection conn = null;
@@ -33,8 +34,8 @@ public class StealDAO extends DAO {
 			// Create the SQL database connection
 			conn = getConnection();
 
-			// Create the SQL insert statement
-			String query = "INSERT INTO STEAL_PLOT (plot_id, thief_username) VALUES (?, ?)";
+			// Create the SQL insert statement, which inserts nothing if the thief is already on the plot
+			String query = "INSERT IGNORE INTO STEAL_PLOT (plot_id, thief_username) VALUES (?, ?)";
 
 			// Create the prepared statement from query
             preparedStmt = conn.prepareStatement(query);
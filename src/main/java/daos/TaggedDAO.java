@@ -3,6 +3,7 @@ package daos;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,7 +20,9 @@ import entities.User;
 public class TaggedDAO extends DAO {
 
 	/**
-	 * Add list of tagged users to a thread
+	 * Add list of tagged users to a thread. The tags are sent to the database
+	 * as one batch, which runs in the same transaction as the thread if a 
+	 * UnitOfWork is open.
 	 * 
 	 * @param thread			thread that contains tags
 	 * @param taggedUsernames	list of usernames to tag in thread
@@ -29,37 +32,53 @@ public class TaggedDAO extends DAO {
 		Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		int addSuccess = 0;
+		UnitOfWork unitOfWork = UnitOfWork.begin();
 
 		try {
 			// Create the SQL database connection
 			conn = getConnection();
 
+			// Create the SQL insert statement 
+			String query = "INSERT INTO THREAD_TAGGED (sender_username, time_stamp, tagged_username) VALUES (?, ?, ?)";
+
+			// Create the prepared statement from query
+			preparedStmt = conn.prepareStatement(query);
+
 			// Get required fields for query
             String threaderUsername = thread.getSenderUsername();
             Timestamp threadTimeStamp = (Timestamp)thread.getTimePosted();
 
-            // Loop through tagged usernames and insert into database
+            // Loop through tagged usernames and add them to the batch
             for(String taggedUsername : taggedUsernames) {
-				// Create the SQL select statement 
-				String query = "INSERT INTO THREAD_TAGGED (sender_username, time_stamp, tagged_username) VALUES (?, ?, ?)";
-				
-				// Create the prepared statement from query
-                preparedStmt = conn.prepareStatement(query);
-				
 				// Set prepared statement placeholder values
                 preparedStmt.setString(1, threaderUsername);
                 preparedStmt.setTimestamp(2, threadTimeStamp);
                 preparedStmt.setString(3, taggedUsername);
+                preparedStmt.addBatch();
+            }
 
-                // Execute the prepared statement
-                addSuccess = preparedStmt.executeUpdate();
+            // Execute the batch, which the driver rewrites into a multi-row insert
+            if(!taggedUsernames.isEmpty()) {
+                addSuccess = 1;
+                for(int rowsAdded : preparedStmt.executeBatch()) {
+                    if(rowsAdded == 0 || rowsAdded == Statement.EXECUTE_FAILED) {
+                        addSuccess = 0;
+                    }
+                }
             }
+
+			// Add the thread to the news feed timelines of the tagged users and their friends
+			TimelineDAO timelineDAO = new TimelineDAO();
+			if(addSuccess != 0 && !(timelineDAO.fanOut(thread, taggedUsernames) && unitOfWork.commit())) {
+				addSuccess = 0;
+			}
 		} catch (Exception e) {
 			System.err.println("Error when adding tagged user:");
 			System.err.println(e.getMessage());
 		} finally {
 			// Close connection, prepared statement and/or result set
 			try {
+				unitOfWork.close();
 				if(conn != null) {
 					conn.close();
 				}
@@ -146,6 +165,7 @@ public class TaggedDAO extends DAO {
 		Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		int deleteSuccess = 0;
+		UnitOfWork unitOfWork = UnitOfWork.begin();
 
     	try {
 			// Create the SQL database connection
@@ -169,12 +189,19 @@ public class TaggedDAO extends DAO {
 	
 			// Execute the prepared statement
 			deleteSuccess = preparedStmt.executeUpdate();
+
+			// Remove the thread from news feeds it no longer appears on in the same transaction
+			TimelineDAO timelineDAO = new TimelineDAO();
+			if(deleteSuccess != 0 && !(timelineDAO.retractThread(thread) && unitOfWork.commit())) {
+				deleteSuccess = 0;
+			}
 		} catch (Exception e) {
 			System.err.println("Error when untagging user from thread:");
 			System.err.println(e.getMessage());
 		} finally {
 			// Close connection, prepared statement and/or result set
 			try {
+				unitOfWork.close();
 				if(conn != null) {
 					conn.close();
 				}
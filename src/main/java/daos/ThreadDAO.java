@@ -3,8 +3,10 @@ package daos;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import entities.GiftThread;
@@ -20,6 +22,9 @@ import entities.User;
  */   
 public class ThreadDAO extends DAO {
 
+	/** Number of threads on a page of a wall or news feed */
+	public static final int PAGE_SIZE = 5;
+
 	/**
 	 * Insert a thread into database
 	 * 
@@ -30,6 +35,7 @@ public class ThreadDAO extends DAO {
 		Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		int addSuccess = 0;
+		UnitOfWork unitOfWork = UnitOfWork.begin();
 
 		try {
 			// Create the SQL database connection
@@ -60,12 +66,23 @@ public class ThreadDAO extends DAO {
 
 			// Execute the prepared statement
 			addSuccess = preparedStmt.executeUpdate();
+
+			// Add post threads to the news feed timelines in the same transaction
+			TimelineDAO timelineDAO = new TimelineDAO();
+			if(addSuccess != 0 && text != null && receiverUsername != null
+					&& !timelineDAO.fanOut(thread, Arrays.asList(receiverUsername))) {
+				addSuccess = 0;
+			}
+			if(addSuccess != 0 && !unitOfWork.commit()) {
+				addSuccess = 0;
+			}
 		} catch (Exception e) {
 			System.err.println("Error when adding thread:");
 			System.err.println(e.getMessage());
 		} finally {
 			// Close connection, prepared statement and/or result set
 			try {
+				unitOfWork.close();
 				if(conn != null) {
 					conn.close();
 				}
@@ -87,25 +104,22 @@ public class ThreadDAO extends DAO {
 	 * @return		list of threads to display on a user's news feed
 	 */
     public List<Thread> getFeedThreads(User user) {
-		// Get a list of user's friends
-		FriendsDAO friendsDAO = new FriendsDAO();
-		List<User> receivers = friendsDAO.getFriends(user);
-
-		// Get a list of usernames of users who could appear on user's news feed
-		receivers.add(user);
-		List<String> receiverUsernames = new ArrayList<>();
-		for(User receiver: receivers) {
-			receiverUsernames.add(receiver.getUsername());
-		}
-
-		// Create appropriate number of placeholders (?)
-		int receiverUsernameSize = receiverUsernames.size();
-		String placeholders = "";
-		for(int i = 0; i < receiverUsernameSize; i++) {
-			placeholders += "?, ";
-		}
-		placeholders = placeholders.substring(0, placeholders.length() - 2);
+		return getFeedThreads(user, null, true);
+	}
 
+	/**
+	 * Retrieve a page of threads to show on a user's news feed. They are read
+	 * from the user's timeline, merged with the threads of friends whose
+	 * threads are pulled rather than fanned out (see TimelineDAO). Pages are
+	 * found by (time_stamp, sender_username) of the anchor, not by offset, so 
+	 * every page costs the same however far the user has scrolled
+	 * 
+	 * @param user		user to retrieve threads for
+	 * @param anchor	thread at the edge of the current page, null for the first page
+	 * @param older		true for the threads after anchor, false for the threads before it
+	 * @return			list of up to PAGE_SIZE threads, most recent first
+	 */
+    public List<Thread> getFeedThreads(User user, Thread anchor, boolean older) {
 		Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		ResultSet rs = null;
@@ -115,15 +129,30 @@ public class ThreadDAO extends DAO {
 			// Create the SQL database connection
 			conn = getConnection();
 
-			// Create the SQL select statement (5 most recent non-gift threads)
-			String threadQuery = String.format("SELECT t1.sender_username, t2.time_stamp, receiver_username, text FROM (SELECT DISTINCT * FROM (SELECT sender_username, time_stamp FROM thread WHERE receiver_username IN (%s) AND text IS NOT NULL UNION SELECT sender_username, time_stamp FROM thread_tagged WHERE tagged_username IN (%s)) t ORDER BY time_stamp DESC LIMIT 5) t1 INNER JOIN thread t2 ON t1.sender_username = t2.sender_username AND t1.time_stamp = t2.time_stamp ORDER BY time_stamp DESC", placeholders, placeholders);
+			// Create the SQL select statement (next page of threads on timeline or of friends in pull mode)
+			String pullFriends = TimelineDAO.PULL_FRIENDS_QUERY;
+			String page = keysetCondition(anchor, older) + keysetOrder(older) + " LIMIT " + PAGE_SIZE;
+			String threadQuery = "SELECT t2.sender_username, t2.time_stamp, t2.receiver_username, t2.text FROM ("
+					+ "(SELECT sender_username, time_stamp FROM TIMELINE WHERE owner_username = ?" + page + ") "
+					+ "UNION (SELECT sender_username, time_stamp FROM THREAD WHERE text IS NOT NULL AND receiver_username IN (" + pullFriends + ")" + page + ") "
+					+ "UNION (SELECT sender_username, time_stamp FROM THREAD_TAGGED WHERE tagged_username IN (" + pullFriends + ")" + page + ")"
+					+ keysetOrder(older) + " LIMIT " + PAGE_SIZE + ") t1 INNER JOIN THREAD t2 ON t1.sender_username = t2.sender_username AND t1.time_stamp = t2.time_stamp "
+					+ "ORDER BY t2.time_stamp DESC, t2.sender_username DESC";
 
 			// Create the prepared statement from query
 			preparedStmt = conn.prepareStatement(threadQuery);
 
+			// Get required fields for query
+			String username = user.getUsername();
+
 			// Set prepared statement placeholder values
-			for(int i = 0; i < receiverUsernameSize * 2; i++) {
-				preparedStmt.setString(i+1, receiverUsernames.get(i % receiverUsernameSize));
+			int index = 1;
+			preparedStmt.setString(index++, username);
+			index = setKeyset(preparedStmt, index, anchor);
+			for(int i = 0; i < 2; i++) {
+				preparedStmt.setString(index++, username);
+				preparedStmt.setString(index++, username);
+				index = setKeyset(preparedStmt, index, anchor);
 			}
 
 			// Execute the prepared statement
@@ -166,9 +195,24 @@ public class ThreadDAO extends DAO {
 	 * Retrieve five most recent threads to show on a user's wall
 	 * 
 	 * @param user	user to retrieve threads for
-	 * @return		list of threads to display on a user's news feed
+	 * @return		list of threads to display on a user's wall
 	 */
 	public List<Thread> getWallThreads(User user) {
+		return getWallThreads(user, null, true);
+	}
+
+	/**
+	 * Retrieve a page of threads to show on a user's wall. Gifts are joined in
+	 * the same query to tell post threads and gift threads apart. Pages are
+	 * found by (time_stamp, sender_username) of the anchor, not by offset, so 
+	 * every page costs the same however far the user has scrolled
+	 * 
+	 * @param user		user to retrieve threads for
+	 * @param anchor	thread at the edge of the current page, null for the first page
+	 * @param older		true for the threads after anchor, false for the threads before it
+	 * @return			list of up to PAGE_SIZE threads, most recent first
+	 */
+	public List<Thread> getWallThreads(User user, Thread anchor, boolean older) {
 		Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		ResultSet threadRs = null;
@@ -178,8 +222,13 @@ public class ThreadDAO extends DAO {
 			// Create the SQL database connection
 			conn = getConnection();
 
-			// Create the SQL select statement 
-			String threadQuery = "SELECT t1.sender_username, t2.time_stamp, receiver_username, text FROM (SELECT DISTINCT sender_username, time_stamp FROM thread WHERE receiver_username = ? UNION SELECT sender_username, time_stamp FROM thread_tagged WHERE tagged_username = ? ORDER BY time_stamp DESC LIMIT 5) t1 INNER JOIN thread t2 ON t1.sender_username = t2.sender_username AND t1.time_stamp = t2.time_stamp ORDER BY time_stamp DESC";
+			// Create the SQL select statement (gift_crop_name is null for post threads)
+			String page = keysetCondition(anchor, older) + keysetOrder(older) + " LIMIT " + PAGE_SIZE;
+			String threadQuery = "SELECT t1.sender_username, t2.time_stamp, t2.receiver_username, t2.text, g.crop_name AS gift_crop_name FROM ("
+					+ "(SELECT sender_username, time_stamp FROM thread WHERE receiver_username = ?" + page + ") "
+					+ "UNION (SELECT sender_username, time_stamp FROM thread_tagged WHERE tagged_username = ?" + page + ")"
+					+ keysetOrder(older) + " LIMIT " + PAGE_SIZE + ") t1 INNER JOIN thread t2 ON t1.sender_username = t2.sender_username AND t1.time_stamp = t2.time_stamp "
+					+ "LEFT JOIN gift g ON g.sender_username = t2.sender_username AND g.time_stamp = t2.time_stamp ORDER BY t2.time_stamp DESC, t2.sender_username DESC";
 
 			// Create the prepared statement from query
 			preparedStmt = conn.prepareStatement(threadQuery);
@@ -188,8 +237,11 @@ public class ThreadDAO extends DAO {
 			String receiverUsername = user.getUsername();
 
 			// Set prepared statement placeholder values
-			preparedStmt.setString(1, receiverUsername);
-			preparedStmt.setString(2, receiverUsername);
+			int index = 1;
+			preparedStmt.setString(index++, receiverUsername);
+			index = setKeyset(preparedStmt, index, anchor);
+			preparedStmt.setString(index++, receiverUsername);
+			setKeyset(preparedStmt, index, anchor);
 
 			// Execute the prepared statement
 			threadRs = preparedStmt.executeQuery();
@@ -201,8 +253,7 @@ public class ThreadDAO extends DAO {
 				String text = threadRs.getString("text");
 
 				// Get crop name of crop in gift (if present, else null)
-				GiftDAO giftDAO = new GiftDAO();
-				String giftCropName = giftDAO.getGiftCropName(senderUsername, timeStamp);
+				String giftCropName = threadRs.getString("gift_crop_name");
 
 				// Create PostThread or GiftThread depending on whether gift exists
 				Thread thisThread;
@@ -295,6 +346,7 @@ public class ThreadDAO extends DAO {
 		Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		int deleteSuccess = 0;
+		UnitOfWork unitOfWork = UnitOfWork.begin();
 
 		try {
 			// Create the SQL database connection
@@ -316,12 +368,19 @@ public class ThreadDAO extends DAO {
 
 			// Execute the prepared statement
 			deleteSuccess = preparedStmt.executeUpdate();
+
+			// Remove the thread from news feeds it no longer appears on in the same transaction
+			TimelineDAO timelineDAO = new TimelineDAO();
+			if(deleteSuccess != 0 && !(timelineDAO.retractThread(thread) && unitOfWork.commit())) {
+				deleteSuccess = 0;
+			}
 		} catch (Exception e) {
 			System.err.println("Error when deleting receiver from thread:");
 			System.err.println(e.getMessage());
 		} finally {
 			// Close connection, prepared statement and/or result set
 			try {
+				unitOfWork.close();
 				if(conn != null) {
 					conn.close();
 				}
@@ -335,4 +394,49 @@ public class ThreadDAO extends DAO {
 		}
 		return (deleteSuccess != 0);
 	}
+
+	/**
+	 * Returns the condition selecting the threads after or before the anchor
+	 * in (time_stamp, sender_username) order
+	 * 
+	 * @param anchor	thread at the edge of the current page, null for the first page
+	 * @param older		true for the threads after anchor, false for the threads before it
+	 * @return			condition to append to a WHERE clause, empty for the first page
+	 */
+	private static String keysetCondition(Thread anchor, boolean older) {
+		if(anchor == null) {
+			return "";
+		}
+		String comparison = older ? "<" : ">";
+		return String.format(" AND (time_stamp %s ? OR (time_stamp = ? AND sender_username %s ?))", comparison, comparison);
+	}
+
+	/**
+	 * Returns the ordering that reads threads away from the anchor
+	 * 
+	 * @param older		true for the threads after anchor, false for the threads before it
+	 * @return			ORDER BY clause
+	 */
+	private static String keysetOrder(boolean older) {
+		return older ? " ORDER BY time_stamp DESC, sender_username DESC" : " ORDER BY time_stamp ASC, sender_username ASC";
+	}
+
+	/**
+	 * Sets the placeholder values of a condition from keysetCondition
+	 * 
+	 * @param preparedStmt	statement containing the condition
+	 * @param index			index of the first placeholder of the condition
+	 * @param anchor		thread at the edge of the current page, null for the first page
+	 * @return				index of the placeholder after the condition
+	 * @throws SQLException
+	 */
+	private static int setKeyset(PreparedStatement preparedStmt, int index, Thread anchor) throws SQLException {
+		if(anchor != null) {
+			Timestamp timeStamp = (Timestamp)anchor.getTimePosted();
+			preparedStmt.setTimestamp(index++, timeStamp);
+			preparedStmt.setTimestamp(index++, timeStamp);
+			preparedStmt.setString(index++, anchor.getSenderUsername());
+		}
+		return index;
+	}
 }
\ No newline at end of file
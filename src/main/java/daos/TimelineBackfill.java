@@ -0,0 +1,42 @@
+package daos;
+
+import java.util.List;
+
+/**
+ * The TimelineBackfill class rebuilds the news feed timeline of every user
+ * from the threads already in the database. It is run once after the
+ * timeline tables are created on an existing database, and can be run again
+ * at any time to repair timelines:
+ *
+ * <pre>
+ * java -cp target/classes:lib/mysql-connector-java-5.1.45-bin.jar daos.TimelineBackfill
+ * </pre>
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class TimelineBackfill {
+
+    /**
+     * Rebuilds every user's timeline, one transaction per user
+     *
+     * @param args  not used
+     */
+    public static void main(String[] args) {
+        TimelineDAO timelineDAO = new TimelineDAO();
+        List<String> usernames = timelineDAO.getAllUsernames();
+
+        long start = System.currentTimeMillis();
+        int rebuilt = 0;
+        for (String username : usernames) {
+            if (timelineDAO.rebuildTimeline(username)) {
+                rebuilt++;
+            } else {
+                System.err.println("Could not rebuild timeline of " + username);
+            }
+        }
+        System.out.printf("Rebuilt %d of %d timelines in %d ms%n", rebuilt, usernames.size(),
+                System.currentTimeMillis() - start);
+        ConnectionPool.getInstance().shutdown();
+    }
+}
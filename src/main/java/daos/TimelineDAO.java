@@ -0,0 +1,510 @@
+package daos;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import entities.Thread;
+
+/**
+ * The TimelineDAO class provides access to the timeline tables in the database,
+ * which hold the news feed of each user precomputed on write.
+ *
+ * Each user's timeline is a ring of socialmagnet.timeline.size slots (50 by
+ * default) holding the keys of the most recent post threads on their news
+ * feed. timeline_head points at the slot to overwrite next. A post is fanned
+ * out to its receiver, the users tagged in it, and their friends. A user with
+ * more than socialmagnet.timeline.fanOutLimit friends (1000 by default) is not
+ * fanned out to their friends; they are added to timeline_pull instead, and
+ * their friends pull their threads when reading the news feed.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class TimelineDAO extends DAO {
+
+	/** Number of slots in each user's timeline */
+	static final int TIMELINE_SIZE = Integer.getInteger("socialmagnet.timeline.size", 50);
+
+	/** Number of friends above which a user's threads are pulled instead of fanned out */
+	static final int FAN_OUT_LIMIT = Integer.getInteger("socialmagnet.timeline.fanOutLimit", 1000);
+
+	/**
+	 * Query of the usernames of the specified user's friends who are read in pull mode,
+	 * with the user's username as its two placeholders
+	 */
+	static final String PULL_FRIENDS_QUERY = "SELECT p.username FROM TIMELINE_PULL p WHERE p.username IN (SELECT username1 FROM FRIENDS WHERE username2 = ?) OR p.username IN (SELECT username2 FROM FRIENDS WHERE username1 = ?)";
+
+	/**
+	 * Adds a post thread to the timelines of the users whose news feed it
+	 * appears on through the specified users, who are its receiver or users
+	 * tagged in it. Users who already have the thread on their timeline are skipped.
+	 *
+	 * @param thread			thread to add to timelines
+	 * @param sourceUsernames	usernames of the receiver or tagged users of the thread
+	 * @return					true upon successful addition, false otherwise
+	 */
+	public boolean fanOut(Thread thread, List<String> sourceUsernames) {
+		if(sourceUsernames.isEmpty()) {
+			return true;
+		}
+
+		// Users with too many friends are read in pull mode rather than fanned out to their friends
+		List<String> pushUsernames = new ArrayList<>(sourceUsernames);
+		List<String> pullUsernames = getUsersAboveFanOutLimit(sourceUsernames);
+		pushUsernames.removeAll(pullUsernames);
+		if(!pullUsernames.isEmpty() && !addPullUsers(pullUsernames)) {
+			return false;
+		}
+
+		Connection conn = null;
+		PreparedStatement preparedStmt = null;
+		int addSuccess = 0;
+
+		try {
+			// Create the SQL database connection
+			conn = getConnection();
+
+			// Get required fields for query
+			String senderUsername = thread.getSenderUsername();
+			Timestamp timeStamp = (Timestamp)thread.getTimePosted();
+			String audienceQuery = audienceQuery(sourceUsernames.size(), pushUsernames.size());
+
+			// Create the SQL upsert statement, moving the head of each timeline to its next slot
+			String query = "INSERT INTO TIMELINE_HEAD (owner_username, next_slot) SELECT a.username, ? FROM (" + audienceQuery
+					+ ") a WHERE NOT EXISTS (SELECT 1 FROM TIMELINE tl WHERE tl.owner_username = a.username AND tl.sender_username = ? AND tl.time_stamp = ?) "
+					+ "ON DUPLICATE KEY UPDATE next_slot = MOD(next_slot + 1, ?)";
+
+			// Create the prepared statement from query
+			preparedStmt = conn.prepareStatement(query);
+
+			// Set prepared statement placeholder values
+			int index = 1;
+			preparedStmt.setInt(index++, 1 % TIMELINE_SIZE);
+			index = setAudience(preparedStmt, index, sourceUsernames, pushUsernames);
+			preparedStmt.setString(index++, senderUsername);
+			preparedStmt.setTimestamp(index++, timeStamp);
+			preparedStmt.setInt(index++, TIMELINE_SIZE);
+
+			// Execute the prepared statement
+			preparedStmt.executeUpdate();
+
+			// Close prepared statement before running next query
+			if(preparedStmt != null) {
+				preparedStmt.close();
+			}
+
+			// Create the SQL replace statement, writing the thread into the slot before each head
+			query = "REPLACE INTO TIMELINE (owner_username, slot, sender_username, time_stamp) SELECT h.owner_username, MOD(h.next_slot + ? - 1, ?), ?, ? FROM TIMELINE_HEAD h INNER JOIN ("
+					+ audienceQuery + ") a ON a.username = h.owner_username "
+					+ "WHERE NOT EXISTS (SELECT 1 FROM TIMELINE tl WHERE tl.owner_username = h.owner_username AND tl.sender_username = ? AND tl.time_stamp = ?)";
+
+			// Create the prepared statement from query
+			preparedStmt = conn.prepareStatement(query);
+
+			// Set prepared statement placeholder values
+			index = 1;
+			preparedStmt.setInt(index++, TIMELINE_SIZE);
+			preparedStmt.setInt(index++, TIMELINE_SIZE);
+			preparedStmt.setString(index++, senderUsername);
+			preparedStmt.setTimestamp(index++, timeStamp);
+			index = setAudience(preparedStmt, index, sourceUsernames, pushUsernames);
+			preparedStmt.setString(index++, senderUsername);
+			preparedStmt.setTimestamp(index++, timeStamp);
+
+			// Execute the prepared statement
+			preparedStmt.executeUpdate();
+			addSuccess = 1;
+		} catch (Exception e) {
+			System.err.println("Error when adding thread to timelines:");
+			System.err.println(e.getMessage());
+		} finally {
+			// Close connection, prepared statement and/or result set
+			try {
+				if(conn != null) {
+					conn.close();
+				}
+				if(preparedStmt != null) {
+					preparedStmt.close();
+				}
+			} catch(Exception e) {
+				System.err.println("Error when closing:");
+				System.err.println(e.getMessage());
+			}
+		}
+		return (addSuccess != 0);
+	}
+
+	/**
+	 * Removes a thread from the timelines of users whose news feed it no longer
+	 * appears on, after its receiver or a tagged user was removed from it
+	 *
+	 * @param thread	thread to remove from timelines
+	 * @return			true upon successful removal, false otherwise
+	 */
+	public boolean retractThread(Thread thread) {
+		Connection conn = null;
+		PreparedStatement preparedStmt = null;
+		int deleteSuccess = 0;
+
+		try {
+			// Create the SQL database connection
+			conn = getConnection();
+
+			// Create the SQL delete statement, keeping the receiver, tagged users and their friends
+			String sourceQuery = "SELECT receiver_username AS username FROM THREAD WHERE sender_username = ? AND time_stamp = ? AND text IS NOT NULL AND receiver_username IS NOT NULL "
+					+ "UNION SELECT tagged_username FROM THREAD_TAGGED WHERE sender_username = ? AND time_stamp = ?";
+			String query = "DELETE FROM TIMELINE WHERE sender_username = ? AND time_stamp = ? AND owner_username NOT IN (SELECT s.username FROM (" + sourceQuery + ") s "
+					+ "UNION SELECT f.username1 FROM FRIENDS f INNER JOIN (" + sourceQuery + ") s ON f.username2 = s.username "
+					+ "UNION SELECT f.username2 FROM FRIENDS f INNER JOIN (" + sourceQuery + ") s ON f.username1 = s.username)";
+
+			// Create the prepared statement from query
+			preparedStmt = conn.prepareStatement(query);
+
+			// Get required fields for query
+			String senderUsername = thread.getSenderUsername();
+			Timestamp timeStamp = (Timestamp)thread.getTimePosted();
+
+			// Set prepared statement placeholder values
+			for(int i = 1; i <= 14; i += 2) {
+				preparedStmt.setString(i, senderUsername);
+				preparedStmt.setTimestamp(i + 1, timeStamp);
+			}
+
+			// Execute the prepared statement
+			preparedStmt.executeUpdate();
+			deleteSuccess = 1;
+		} catch (Exception e) {
+			System.err.println("Error when removing thread from timelines:");
+			System.err.println(e.getMessage());
+		} finally {
+			// Close connection, prepared statement and/or result set
+			try {
+				if(conn != null) {
+					conn.close();
+				}
+				if(preparedStmt != null) {
+					preparedStmt.close();
+				}
+			} catch(Exception e) {
+				System.err.println("Error when closing:");
+				System.err.println(e.getMessage());
+			}
+		}
+		return (deleteSuccess != 0);
+	}
+
+	/**
+	 * Rebuilds a user's timeline from the threads on their news feed, such as
+	 * after they gain or lose a friend
+	 *
+	 * @param username	username of user whose timeline to rebuild
+	 * @return			true upon successful rebuild, false otherwise
+	 */
+	public boolean rebuildTimeline(String username) {
+		Connection conn = null;
+		PreparedStatement preparedStmt = null;
+		ResultSet rs = null;
+		int rebuildSuccess = 0;
+		UnitOfWork unitOfWork = UnitOfWork.begin();
+
+		try {
+			// Create the SQL database connection
+			conn = getConnection();
+
+			// Create the SQL select statement (most recent post threads to the user, their friends, or tagging them)
+			String audienceQuery = "SELECT ? UNION SELECT username1 FROM FRIENDS WHERE username2 = ? UNION SELECT username2 FROM FRIENDS WHERE username1 = ?";
+			String query = "SELECT sender_username, time_stamp FROM THREAD WHERE text IS NOT NULL AND receiver_username IN (" + audienceQuery + ") "
+					+ "UNION SELECT sender_username, time_stamp FROM THREAD_TAGGED WHERE tagged_username IN (" + audienceQuery + ") ORDER BY time_stamp DESC LIMIT ?";
+
+			// Create the prepared statement from query
+			preparedStmt = conn.prepareStatement(query);
+
+			// Set prepared statement placeholder values
+			for(int i = 1; i <= 6; i++) {
+				preparedStmt.setString(i, username);
+			}
+			preparedStmt.setInt(7, TIMELINE_SIZE);
+
+			// Execute the prepared statement
+			rs = preparedStmt.executeQuery();
+
+			// Get results from result set, most recent first
+			List<String> senderUsernames = new ArrayList<>();
+			List<Timestamp> timeStamps = new ArrayList<>();
+			while(rs.next()) {
+				senderUsernames.add(rs.getString("sender_username"));
+				timeStamps.add(rs.getTimestamp("time_stamp"));
+			}
+
+			// Close prepared statement and result set before running next query
+			rs.close();
+			preparedStmt.close();
+
+			// Create the SQL delete statement
+			query = "DELETE FROM TIMELINE WHERE owner_username = ?";
+			preparedStmt = conn.prepareStatement(query);
+			preparedStmt.setString(1, username);
+			preparedStmt.executeUpdate();
+			preparedStmt.close();
+
+			// Create the SQL insert statement, placing the oldest thread in slot 0
+			if(!senderUsernames.isEmpty()) {
+				query = "INSERT INTO TIMELINE (owner_username, slot, sender_username, time_stamp) VALUES (?, ?, ?, ?)";
+				preparedStmt = conn.prepareStatement(query);
+				int numThreads = senderUsernames.size();
+				for(int i = 0; i < numThreads; i++) {
+					preparedStmt.setString(1, username);
+					preparedStmt.setInt(2, numThreads - 1 - i);
+					preparedStmt.setString(3, senderUsernames.get(i));
+					preparedStmt.setTimestamp(4, timeStamps.get(i));
+					preparedStmt.addBatch();
+				}
+				preparedStmt.executeBatch();
+				preparedStmt.close();
+			}
+
+			// Create the SQL upsert statement, pointing the head after the newest thread
+			query = "INSERT INTO TIMELINE_HEAD (owner_username, next_slot) VALUES (?, ?) ON DUPLICATE KEY UPDATE next_slot = VALUES(next_slot)";
+			preparedStmt = conn.prepareStatement(query);
+			preparedStmt.setString(1, username);
+			preparedStmt.setInt(2, senderUsernames.size() % TIMELINE_SIZE);
+			preparedStmt.executeUpdate();
+
+			if(unitOfWork.commit()) {
+				rebuildSuccess = 1;
+			}
+		} catch (Exception e) {
+			System.err.println("Error when rebuilding timeline:");
+			System.err.println(e.getMessage());
+		} finally {
+			// Close connection, prepared statement and/or result set
+			try {
+				unitOfWork.close();
+				if(conn != null) {
+					conn.close();
+				}
+				if(preparedStmt != null) {
+					preparedStmt.close();
+				}
+				if(rs != null) {
+					rs.close();
+				}
+			} catch(Exception e) {
+				System.err.println("Error when closing:");
+				System.err.println(e.getMessage());
+			}
+		}
+		return (rebuildSuccess != 0);
+	}
+
+	/**
+	 * Returns the usernames of all users, for rebuilding every timeline
+	 *
+	 * @return	list of usernames of all users
+	 */
+	public List<String> getAllUsernames() {
+		Connection conn = null;
+		PreparedStatement preparedStmt = null;
+		ResultSet rs = null;
+		List<String> usernames = new ArrayList<>();
+
+		try {
+			// Create the SQL database connection
+			conn = getConnection();
+
+			// Create the SQL select statement
+			String query = "SELECT username FROM USER ORDER BY username";
+
+			// Create the prepared statement from query
+			preparedStmt = conn.prepareStatement(query);
+
+			// Execute the prepared statement
+			rs = preparedStmt.executeQuery();
+
+			// Get results from result set
+			while(rs.next()) {
+				usernames.add(rs.getString("username"));
+			}
+		} catch (Exception e) {
+			System.err.println("Error when getting usernames:");
+			System.err.println(e.getMessage());
+		} finally {
+			// Close connection, prepared statement and/or result set
+			try {
+				if(conn != null) {
+					conn.close();
+				}
+				if(preparedStmt != null) {
+					preparedStmt.close();
+				}
+				if(rs != null) {
+					rs.close();
+				}
+			} catch(Exception e) {
+				System.err.println("Error when closing:");
+				System.err.println(e.getMessage());
+			}
+		}
+		return usernames;
+	}
+
+	/**
+	 * Returns the specified users who have more friends than the fan-out limit
+	 *
+	 * @param usernames	usernames of users to check
+	 * @return			usernames of users with more friends than the limit
+	 */
+	private List<String> getUsersAboveFanOutLimit(List<String> usernames) {
+		Connection conn = null;
+		PreparedStatement preparedStmt = null;
+		ResultSet rs = null;
+		List<String> pullUsernames = new ArrayList<>();
+
+		try {
+			// Create the SQL database connection
+			conn = getConnection();
+
+			// Create the SQL select statement
+			String placeholders = String.join(", ", Collections.nCopies(usernames.size(), "?"));
+			String query = "SELECT username FROM (SELECT username1 AS username FROM FRIENDS WHERE username1 IN (" + placeholders
+					+ ") UNION ALL SELECT username2 FROM FRIENDS WHERE username2 IN (" + placeholders + ")) f GROUP BY username HAVING COUNT(*) > ?";
+
+			// Create the prepared statement from query
+			preparedStmt = conn.prepareStatement(query);
+
+			// Set prepared statement placeholder values
+			int index = 1;
+			for(int i = 0; i < 2; i++) {
+				for(String username : usernames) {
+					preparedStmt.setString(index++, username);
+				}
+			}
+			preparedStmt.setInt(index, FAN_OUT_LIMIT);
+
+			// Execute the prepared statement
+			rs = preparedStmt.executeQuery();
+
+			// Get results from result set
+			while(rs.next()) {
+				pullUsernames.add(rs.getString("username"));
+			}
+		} catch (Exception e) {
+			System.err.println("Error when counting friends for fan-out:");
+			System.err.println(e.getMessage());
+		} finally {
+			// Close connection, prepared statement and/or result set
+			try {
+				if(conn != null) {
+					conn.close();
+				}
+				if(preparedStmt != null) {
+					preparedStmt.close();
+				}
+				if(rs != null) {
+					rs.close();
+				}
+			} catch(Exception e) {
+				System.err.println("Error when closing:");
+				System.err.println(e.getMessage());
+			}
+		}
+		return pullUsernames;
+	}
+
+	/**
+	 * Marks the specified users so that their friends pull their threads
+	 *
+	 * @param usernames	usernames of users to read in pull mode
+	 * @return			true upon successful addition, false otherwise
+	 */
+	private boolean addPullUsers(List<String> usernames) {
+		Connection conn = null;
+		PreparedStatement preparedStmt = null;
+		int addSuccess = 0;
+
+		try {
+			// Create the SQL database connection
+			conn = getConnection();
+
+			// Create the SQL insert statement
+			String query = "INSERT IGNORE INTO TIMELINE_PULL (username) VALUES "
+					+ String.join(", ", Collections.nCopies(usernames.size(), "(?)"));
+
+			// Create the prepared statement from query
+			preparedStmt = conn.prepareStatement(query);
+
+			// Set prepared statement placeholder values
+			for(int i = 0; i < usernames.size(); i++) {
+				preparedStmt.setString(i + 1, usernames.get(i));
+			}
+
+			// Execute the prepared statement
+			preparedStmt.executeUpdate();
+			addSuccess = 1;
+		} catch (Exception e) {
+			System.err.println("Error when adding pull users:");
+			System.err.println(e.getMessage());
+		} finally {
+			// Close connection, prepared statement and/or result set
+			try {
+				if(conn != null) {
+					conn.close();
+				}
+				if(preparedStmt != null) {
+					preparedStmt.close();
+				}
+			} catch(Exception e) {
+				System.err.println("Error when closing:");
+				System.err.println(e.getMessage());
+			}
+		}
+		return (addSuccess != 0);
+	}
+
+	/**
+	 * Returns a query of the users a thread is fanned out to: the source users
+	 * themselves and the friends of the source users in push mode
+	 *
+	 * @param numSources	number of source users
+	 * @param numPush		number of source users in push mode
+	 * @return				query with a username column
+	 */
+	private static String audienceQuery(int numSources, int numPush) {
+		String query = "SELECT ? AS username" + String.join("", Collections.nCopies(numSources - 1, " UNION SELECT ?"));
+		if(numPush > 0) {
+			String placeholders = String.join(", ", Collections.nCopies(numPush, "?"));
+			query += " UNION SELECT username1 FROM FRIENDS WHERE username2 IN (" + placeholders + ")"
+					+ " UNION SELECT username2 FROM FRIENDS WHERE username1 IN (" + placeholders + ")";
+		}
+		return query;
+	}
+
+	/**
+	 * Sets the placeholder values of a query built by audienceQuery
+	 *
+	 * @param preparedStmt		statement containing the query
+	 * @param index				index of the first placeholder of the query
+	 * @param sourceUsernames	usernames of the source users
+	 * @param pushUsernames		usernames of the source users in push mode
+	 * @return					index of the placeholder after the query
+	 * @throws SQLException
+	 */
+	private static int setAudience(PreparedStatement preparedStmt, int index, List<String> sourceUsernames,
+			List<String> pushUsernames) throws SQLException {
+		for(String username : sourceUsernames) {
+			preparedStmt.setString(index++, username);
+		}
+		for(int i = 0; i < 2; i++) {
+			for(String username : pushUsernames) {
+				preparedStmt.setString(index++, username);
+			}
+		}
+		return index;
+	}
+}
\ No newline at end of file
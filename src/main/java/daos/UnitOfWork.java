@@ -0,0 +1,233 @@
+package daos;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The UnitOfWork class binds one connection and one transaction to the
+ * current thread, so that every DAO call made while it is open runs on the
+ * same connection and is committed together:
+ *
+ * <pre>
+ * try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+ *     PDM.clearPlot(plot);
+ *     UDM.update(user);
+ *     unitOfWork.commit();
+ * }
+ * </pre>
+ *
+ * A unit of work begun while another is open on the same thread joins it,
+ * and only the outermost one commits. Closing a unit of work without
+ * committing rolls it back. As DAOs print SQL errors instead of throwing
+ * them, any SQL error raised while a unit of work is open marks it so that
+ * commit() rolls back instead.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class UnitOfWork implements AutoCloseable {
+
+    /** Outermost unit of work open on each thread */
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    /** Outermost unit of work this one has joined, or itself */
+    private final UnitOfWork root;
+
+    /** Pooled connection of the transaction, borrowed on first use */
+    private Connection pooledConn;
+
+    /** View of pooledConn handed to DAOs, which ignores close() */
+    private Connection sharedConn;
+
+    private boolean rollbackOnly;
+    private boolean finished;
+    private List<Runnable> afterCommitActions;
+
+    private UnitOfWork(UnitOfWork outer) {
+        this.root = (outer == null) ? this : outer;
+    }
+
+    /**
+     * Begins a unit of work on the current thread, or joins the one
+     * already open on it
+     *
+     * @return  the unit of work, to be closed by the caller
+     */
+    public static UnitOfWork begin() {
+        UnitOfWork current = CURRENT.get();
+        UnitOfWork unitOfWork = new UnitOfWork(current);
+        if (current == null) {
+            CURRENT.set(unitOfWork);
+        }
+        return unitOfWork;
+    }
+
+    /**
+     * Returns the unit of work open on the current thread
+     *
+     * @return  the outermost open unit of work, null if there is none
+     */
+    public static UnitOfWork current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs an action once the unit of work open on the current thread
+     * commits, or right away if there is none. The action is dropped if
+     * the unit of work rolls back.
+     *
+     * @param action    action to run after commit
+     */
+    public static void afterCommit(Runnable action) {
+        UnitOfWork current = CURRENT.get();
+        if (current == null) {
+            action.run();
+        } else {
+            if (current.afterCommitActions == null) {
+                current.afterCommitActions = new ArrayList<>();
+            }
+            current.afterCommitActions.add(action);
+        }
+    }
+
+    /**
+     * Marks the unit of work open on the current thread so that it rolls back
+     */
+    static void markRollbackOnly() {
+        UnitOfWork current = CURRENT.get();
+        if (current != null) {
+            current.rollbackOnly = true;
+        }
+    }
+
+    /**
+     * Returns the connection of the transaction, borrowing it from the
+     * ConnectionPool on first use. DAOs may close it freely.
+     *
+     * @return              connection shared by all DAO calls in the unit of work
+     * @throws SQLException if no connection could be borrowed
+     */
+    Connection getConnection() throws SQLException {
+        if (root.finished) {
+            throw new SQLException("Unit of work has already finished");
+        }
+        if (root.pooledConn == null) {
+            Connection conn = ConnectionPool.getInstance().getConnection();
+            try {
+                conn.setAutoCommit(false);
+            } catch (SQLException e) {
+                conn.close();
+                throw e;
+            }
+            root.pooledConn = conn;
+            root.sharedConn = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                if (method.getName().equals("close")) {
+                    return null;
+                }
+                try {
+                    return method.invoke(conn, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+        return root.sharedConn;
+    }
+
+    /**
+     * Commits the work done since the outermost unit of work began. A joined
+     * unit of work leaves the commit to the outermost one.
+     *
+     * @return  true if the work was or will be committed, false if it was rolled back
+     */
+    public boolean commit() {
+        if (finished) {
+            return !root.rollbackOnly;
+        }
+        finished = true;
+        if (root != this) {
+            return !root.rollbackOnly;
+        }
+
+        try {
+            if (pooledConn != null) {
+                if (rollbackOnly) {
+                    pooledConn.rollback();
+                    return false;
+                }
+                pooledConn.commit();
+            } else if (rollbackOnly) {
+                return false;
+            }
+        } catch (SQLException e) {
+            System.err.println("Error when committing:");
+            System.err.println(e.getMessage());
+            rollbackOnly = true;
+            return false;
+        } finally {
+            release();
+        }
+
+        if (afterCommitActions != null) {
+            for (Runnable action : afterCommitActions) {
+                action.run();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rolls back the work done since the outermost unit of work began
+     */
+    public void rollback() {
+        root.rollbackOnly = true;
+        if (finished) {
+            return;
+        }
+        finished = true;
+        if (root != this) {
+            return;
+        }
+
+        try {
+            if (pooledConn != null) {
+                pooledConn.rollback();
+            }
+        } catch (SQLException e) {
+            System.err.println("Error when rolling back:");
+            System.err.println(e.getMessage());
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Rolls back the unit of work if it was not committed
+     */
+    @Override
+    public void close() {
+        if (!finished) {
+            rollback();
+        }
+    }
+
+    /**
+     * Unbinds the unit of work from the thread and returns its connection to the pool
+     */
+    private void release() {
+        CURRENT.remove();
+        if (pooledConn != null) {
+            try {
+                pooledConn.close();
+            } catch (SQLException e) {
+                System.err.println("Error when closing:");
+                System.err.println(e.getMessage());
+            }
+        }
+    }
+}
@@ -75,7 +75,8 @@ public class UserCropDAO extends DAO {
     }
 	
 	/**
-	 * Update the quantity of specified crop owned by specified user
+	 * Update the quantity of specified crop owned by specified user. A
+	 * negative change is only made if the user has enough of the crop.
 	 * 
 	 * @param user		user to update inventory of
 	 * @param crop		crop to update
@@ -91,23 +92,37 @@ public class UserCropDAO extends DAO {
 			// Create the SQL database connection
 			conn = getConnection();
 
-			// Create the SQL update statement
-			String query = "INSERT INTO USER_CROP (username, crop_name, num_crops) VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE username = ?, crop_name = ?, num_crops = num_crops + (?)";
-
-			// Create the prepared statement from query
-			preparedStmt = conn.prepareStatement(query);
-
 			// Get required fields for query
 			String username = user.getUsername();
 			String cropName = crop.getCropName();
 
-			// Set prepared statement placeholder values
-			preparedStmt.setString(1, username);
-            preparedStmt.setString(2, cropName);
-            preparedStmt.setInt(3, change);
-            preparedStmt.setString(4, username);
-            preparedStmt.setString(5, cropName);
-            preparedStmt.setInt(6, change);
+			if(change < 0) {
+				// Create the SQL update statement, guarded so the quantity cannot go below 0
+				String query = "UPDATE USER_CROP SET num_crops = num_crops + ? WHERE username=? AND crop_name=? AND num_crops + ? >= 0";
+
+				// Create the prepared statement from query
+				preparedStmt = conn.prepareStatement(query);
+
+				// Set prepared statement placeholder values
+				preparedStmt.setInt(1, change);
+				preparedStmt.setString(2, username);
+				preparedStmt.setString(3, cropName);
+				preparedStmt.setInt(4, change);
+			} else {
+				// Create the SQL update statement
+				String query = "INSERT INTO USER_CROP (username, crop_name, num_crops) VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE username = ?, crop_name = ?, num_crops = num_crops + (?)";
+
+				// Create the prepared statement from query
+				preparedStmt = conn.prepareStatement(query);
+
+				// Set prepared statement placeholder values
+				preparedStmt.setString(1, username);
+				preparedStmt.setString(2, cropName);
+				preparedStmt.setInt(3, change);
+				preparedStmt.setString(4, username);
+				preparedStmt.setString(5, cropName);
+				preparedStmt.setInt(6, change);
+			}
 
 			// Execute the prepared statement
 			deleteSuccess = preparedStmt.executeUpdate();
@@ -130,4 +145,65 @@ public class UserCropDAO extends DAO {
 		}
 		return (deleteSuccess != 0);
 	}
+
+	/**
+	 * Adds quantities of several crops to specified user's inventory with a
+	 * single multi-row insert
+	 * 
+	 * @param user		user to update inventory of
+	 * @param changes	quantity to add of each crop
+	 * @return			true upon successful update, false otherwise
+	 */
+	public boolean addUserCrops(User user, Map<Crop, Integer> changes) {
+		Connection conn = null;
+		PreparedStatement preparedStmt = null;
+		int addSuccess = 0;
+
+		if(changes.isEmpty()) {
+			return true;
+		}
+
+		try {
+			// Create the SQL database connection
+			conn = getConnection();
+
+			// Create the SQL insert statement with one row per crop
+			StringBuilder query = new StringBuilder("INSERT INTO USER_CROP (username, crop_name, num_crops) VALUES (?, ?, ?)");
+			for(int i = 1; i < changes.size(); i++) {
+				query.append(", (?, ?, ?)");
+			}
+			query.append(" ON DUPLICATE KEY UPDATE num_crops = num_crops + VALUES(num_crops)");
+
+			// Create the prepared statement from query
+			preparedStmt = conn.prepareStatement(query.toString());
+
+			// Set prepared statement placeholder values
+			int index = 1;
+			for(Map.Entry<Crop, Integer> change : changes.entrySet()) {
+				preparedStmt.setString(index++, user.getUsername());
+				preparedStmt.setString(index++, change.getKey().getCropName());
+				preparedStmt.setInt(index++, change.getValue());
+			}
+
+			// Execute the prepared statement
+			addSuccess = preparedStmt.executeUpdate();
+		} catch (Exception e) {
+			System.err.println("Error when adding user's crops:");
+			System.err.println(e.getMessage());
+		} finally {
+			// Close connection, prepared statement and/or result set
+			try {
+				if(conn != null) {
+					conn.close();
+				}
+				if(preparedStmt != null) {
+					preparedStmt.close();
+				}
+			} catch(Exception e) {
+				System.err.println("Error when closing:");
+				System.err.println(e.getMessage());
+			}
+		}
+		return (addSuccess != 0);
+	}
 }
\ No newline at end of file
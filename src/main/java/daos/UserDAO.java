@@ -3,6 +3,8 @@ package daos;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.Map;
 
 import entities.User;
 
@@ -15,7 +17,7 @@ import entities.User;
 public class UserDAO extends DAO {
 
 	/**
-	 * Adds a user to the database and create default 5 plots
+	 * Adds a user to the database and create default 5 plots in the same transaction
 	 * 
 	 * @param user		user to add
 	 * @param password	password of user
@@ -25,6 +27,7 @@ public class UserDAO extends DAO {
 		Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		int success = 0;
+		UnitOfWork unitOfWork = UnitOfWork.begin();
 
     	try {
 			// Create the SQL database connection
@@ -63,10 +66,15 @@ public class UserDAO extends DAO {
 			// Execute the prepared statement
 			success = preparedStmt.executeUpdate();
 
-			// Add default of 5 empty plots
+			// Add the new user to the gold leaderboard once the transaction commits
+			if(success != 0) {
+				UnitOfWork.afterCommit(() -> GoldLeaderboard.goldChanged(username, 50));
+			}
+
+			// Add default of 5 empty plots with a single insert
 			PlotDAO plotDAO = new PlotDAO();
-			for(int i = 0; i < 5; i++) {
-				plotDAO.addEmptyPlot(user);
+			if(plotDAO.addEmptyPlots(user, 5).size() != 5 || !unitOfWork.commit()) {
+				success = 0;
 			}
 		} catch (Exception e) {
 			System.err.println("Error when adding user to database:");
@@ -74,6 +82,7 @@ public class UserDAO extends DAO {
 		} finally {
 			// Close connection, prepared statement and/or result set
 			try {
+				unitOfWork.close();
 				if(conn != null) {
 					conn.close();
 				}
@@ -211,42 +220,54 @@ public class UserDAO extends DAO {
 	 * Returns wealth ranking of a specified user among his friends
 	 * 
 	 * @param user	user to retrieve ranking of
-	 * @return		wealth ranking among user's friends
+	 * @return		wealth ranking among user's friends, -1 if user is not found
 	 */
 	public int getRichRank(User user) {
+		return GoldLeaderboard.getInstance().getFriendRank(user.getUsername());
+	}
+
+	/**
+	 * Returns wealth ranking of a specified user among all users
+	 * 
+	 * @param user	user to retrieve ranking of
+	 * @return		wealth ranking among all users, -1 if user is not found
+	 */
+	public int getGlobalRichRank(User user) {
+		return GoldLeaderboard.getInstance().getGlobalRank(user.getUsername());
+	}
+
+	/**
+	 * Retrieves the gold of every user, to load the gold leaderboard from
+	 * 
+	 * @return	gold of every user by username, null if it could not be retrieved
+	 */
+	Map<String, Integer> getAllGold() {
 		Connection conn = null;
 		PreparedStatement preparedStmt = null;
 		ResultSet rs = null;
-		int richRank = -1;
+		Map<String, Integer> goldByName = new HashMap<>();
 
 		try {
 			// Create the SQL database connection
 			conn = getConnection();
-			
-			// Create the SQL select statement 
-			String query = "SELECT COUNT(*)+1 this_rank FROM (SELECT * FROM (SELECT * FROM user WHERE user.username IN (SELECT f.username1 friend_users FROM FRIENDS f WHERE f.username2=? UNION SELECT t.username2 FROM FRIENDS t WHERE t.username1=?)) friends_info WHERE friends_info.gold > (SELECT gold FROM USER WHERE username = ?)) b";
+
+			// Create the SQL select statement
+			String query = "SELECT username, gold FROM USER";
 
 			// Create the prepared statement from query
 			preparedStmt = conn.prepareStatement(query);
 
-			// Get required fields for query
-			String username = user.getUsername();
-
-			// Set prepared statement placeholder values
-			preparedStmt.setString(1, username);
-			preparedStmt.setString(2, username);
-			preparedStmt.setString(3, username);
-			
 			// Execute the prepared statement
 			rs = preparedStmt.executeQuery();
 
 			// Get results from result set
-			if(rs.next()) {
-				richRank = rs.getInt("this_rank");
+			while(rs.next()) {
+				goldByName.put(rs.getString("username"), rs.getInt("gold"));
 			}
 		} catch (Exception e) {
-			System.err.println("Error when retrieving user's rich rank:");
+			System.err.println("Error when retrieving all users' gold:");
 			System.err.println(e.getMessage());
+			goldByName = null;
 		} finally {
 			// Close connection, prepared statement and/or result set
 			try {
@@ -264,7 +285,7 @@ public class UserDAO extends DAO {
 				System.err.println(e.getMessage());
 			}
 		}
-		return richRank;
+		return goldByName;
 	}
 	
 	/**
@@ -297,6 +318,13 @@ public class UserDAO extends DAO {
 	
 			// Execute the prepared statement
 			updateSuccess = preparedStmt.executeUpdate();
+
+			// Move the user on the gold leaderboard once the update commits
+			if(updateSuccess != 0) {
+				String username = user.getUsername();
+				int gold = user.getGold();
+				UnitOfWork.afterCommit(() -> GoldLeaderboard.goldChanged(username, gold));
+			}
 		} catch (Exception e) {
 			System.err.println("Error when updating user database:");
 			System.err.println(e.getMessage());
@@ -317,6 +345,145 @@ public class UserDAO extends DAO {
 		return (updateSuccess != 0);
     }
 
+	/**
+	 * Adds to a specified user's gold and xp in a single atomic update, so that
+	 * concurrent changes to the same user are not overwritten. A negative
+	 * gold change is only applied if the user has at least that much gold.
+	 * 
+	 * @param username	username of user to update
+	 * @param dGold		gold to add, negative to take gold away
+	 * @param dXp		xp to add
+	 * @return			user with the updated gold and xp, null if user has too little gold or is not found
+	 */
+	public User addGoldAndXp(String username, int dGold, int dXp) {
+		Connection conn = null;
+		PreparedStatement preparedStmt = null;
+		ResultSet rs = null;
+		User updatedUser = null;
+		UnitOfWork unitOfWork = UnitOfWork.begin();
+
+		try {
+			// Create the SQL database connection
+			conn = getConnection();
+
+			// Create the SQL update statement, guarded so gold cannot go below 0
+			String query = "UPDATE USER SET gold = gold + ?, xp = xp + ? WHERE username=? AND gold + ? >= 0";
+
+			// Create the prepared statement from query
+			preparedStmt = conn.prepareStatement(query);
+
+			// Set prepared statement placeholder values
+			preparedStmt.setInt(1, dGold);
+			preparedStmt.setInt(2, dXp);
+			preparedStmt.setString(3, username);
+			preparedStmt.setInt(4, dGold);
+
+			// Execute the prepared statement
+			int updateSuccess = preparedStmt.executeUpdate();
+
+			// Close prepared statement before running next query
+			if(preparedStmt != null) {
+				preparedStmt.close();
+			}
+
+			if(updateSuccess != 0) {
+				// Read the updated row, which stays locked by the update until the transaction ends
+				query = "SELECT * FROM USER WHERE username=?";
+
+				// Create the prepared statement from query
+				preparedStmt = conn.prepareStatement(query);
+				preparedStmt.setString(1, username);
+
+				// Execute the prepared statement
+				rs = preparedStmt.executeQuery();
+
+				// Get results from result set
+				if(rs.next()) {
+					updatedUser = new User(username, rs.getString("fullname"), rs.getString("rank"),
+							rs.getInt("xp"), rs.getInt("gold"));
+
+					// Move the user on the gold leaderboard once the update commits
+					int gold = updatedUser.getGold();
+					UnitOfWork.afterCommit(() -> GoldLeaderboard.goldChanged(username, gold));
+				}
+			}
+
+			if(updatedUser != null && !unitOfWork.commit()) {
+				updatedUser = null;
+			}
+		} catch (Exception e) {
+			System.err.println("Error when adding gold and xp to user:");
+			System.err.println(e.getMessage());
+			updatedUser = null;
+		} finally {
+			// Close connection, prepared statement and/or result set
+			try {
+				unitOfWork.close();
+				if(conn != null) {
+					conn.close();
+				}
+				if(preparedStmt != null) {
+					preparedStmt.close();
+				}
+				if(rs != null) {
+					rs.close();
+				}
+			} catch(Exception e) {
+				System.err.println("Error when closing:");
+				System.err.println(e.getMessage());
+			}
+		}
+		return updatedUser;
+	}
+
+	/**
+	 * Updates a specified user's rank only
+	 * 
+	 * @param username	username of user to update
+	 * @param rank		new rank of user
+	 * @return			true upon successful update, false otherwise
+	 */
+	public boolean updateRank(String username, String rank) {
+		Connection conn = null;
+		PreparedStatement preparedStmt = null;
+		int updateSuccess = 0;
+
+		try {
+			// Create the SQL database connection
+			conn = getConnection();
+
+			// Create the SQL update statement
+			String query = "UPDATE USER SET rank=? WHERE username=?";
+
+			// Create the prepared statement from query
+			preparedStmt = conn.prepareStatement(query);
+
+			// Set prepared statement placeholder values
+			preparedStmt.setString(1, rank);
+			preparedStmt.setString(2, username);
+
+			// Execute the prepared statement
+			updateSuccess = preparedStmt.executeUpdate();
+		} catch (Exception e) {
+			System.err.println("Error when updating user's rank:");
+			System.err.println(e.getMessage());
+		} finally {
+			// Close connection, prepared statement and/or result set
+			try {
+				if(conn != null) {
+					conn.close();
+				}
+				if(preparedStmt != null) {
+					preparedStmt.close();
+				}
+			} catch(Exception e) {
+				System.err.println("Error when closing:");
+				System.err.println(e.getMessage());
+			}
+		}
+		return (updateSuccess != 0);
+	}
+
 	/**
 	 * Delete a user
 	 * 
@@ -344,6 +511,14 @@ public class UserDAO extends DAO {
 
 			// Execute the prepared statement
 			deleteSuccess = preparedStmt.executeUpdate();
+
+			// Friendships cascade with the user, so remove them from the friend graph and leaderboard too
+			if(deleteSuccess != 0) {
+				UnitOfWork.afterCommit(() -> {
+					FriendGraph.userDeleted(username);
+					GoldLeaderboard.userDeleted(username);
+				});
+			}
 		} catch (Exception e) {
 			System.err.println("Error when deleting user:");
 			System.err.println(e.getMessage());
@@ -6,7 +6,7 @@ import java.util.Random;
 
 /**
  * The Plot class keeps track of the plotId, ownerUsername timeCropPlanted,
- * remainingPercentage, cropName and originalYield of a plot.
+ * remainingPercentage, cropName, originalYield and version of a plot.
  *
  * @version 1.1 04 Apr 2020
  * @author Brian Goh
@@ -31,6 +31,9 @@ public class Plot {
     /** Originally generated yield of crop */
     private int originalYield;
 
+    /** Version of plot in database, increased by every update */
+    private int version;
+
     /**
      * Creates a Plot with the specified plotId, ownerUsername, timeCropPlanted
      * remainingPercentage of crop, cropName and originally generated yield of crop.
@@ -44,12 +47,30 @@ public class Plot {
      * @param originalYield         originally generated yield of crop
      */
     public Plot(int plotId, String ownerUsername, Date timeCropPlanted, int remainingPercentage, String cropName, int originalYield) {
+        this(plotId, ownerUsername, timeCropPlanted, remainingPercentage, cropName, originalYield, 0);
+    }
+
+    /**
+     * Creates a Plot with the specified plotId, ownerUsername, timeCropPlanted
+     * remainingPercentage of crop, cropName, originally generated yield of crop
+     * and version. Used when retrieving a plot from database
+     * 
+     * @param plotId                id of plot
+     * @param ownerUsername         username of plot owner
+     * @param timeCropPlanted       time that crop was planted
+     * @param remainingPercentage   remaining percentage of crop
+     * @param cropName              name of crop
+     * @param originalYield         originally generated yield of crop
+     * @param version               version of plot in database
+     */
+    public Plot(int plotId, String ownerUsername, Date timeCropPlanted, int remainingPercentage, String cropName, int originalYield, int version) {
         this.plotId = plotId;
         this.ownerUsername = ownerUsername;
         this.timeCropPlanted = timeCropPlanted;
         this.remainingPercentage = remainingPercentage;
         this.cropName = cropName;
         this.originalYield = originalYield;
+        this.version = version;
     }
 
     /**
@@ -146,4 +167,22 @@ public class Plot {
     public int getOriginalYield() {
         return this.originalYield;
     }
+
+    /**
+     * Returns version of this plot in database
+     * 
+     * @return version of this plot in database
+     */
+    public int getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Sets version of this plot in database
+     * 
+     * @param version version of this plot in database
+     */
+    public void setVersion(int version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package entities;
+
+/**
+ * The Rank class keeps track of the rankName, xp needed to reach it and
+ * numPlots given to a user of the rank.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class Rank {
+
+    /** Name of rank */
+    private String rankName;
+
+    /** Xp needed to reach rank */
+    private int xp;
+
+    /** Number of plots given to a user of rank */
+    private int numPlots;
+
+    /**
+     * Creates a Rank with the specified rankName, xp and numPlots
+     * 
+     * @param rankName  name of rank
+     * @param xp        xp needed to reach rank
+     * @param numPlots  number of plots given to a user of rank
+     */
+    public Rank(String rankName, int xp, int numPlots) {
+        this.rankName = rankName;
+        this.xp = xp;
+        this.numPlots = numPlots;
+    }
+
+    /**
+     * Retrieves name of rank
+     * 
+     * @return name of rank
+     */
+    public String getRankName() {
+        return this.rankName;
+    }
+
+    /**
+     * Retrieves xp needed to reach rank
+     * 
+     * @return xp needed to reach rank
+     */
+    public int getXp() {
+        return this.xp;
+    }
+
+    /**
+     * Retrieves number of plots given to a user of rank
+     * 
+     * @return number of plots given to a user of rank
+     */
+    public int getNumPlots() {
+        return this.numPlots;
+    }
+}
@@ -0,0 +1,77 @@
+package entities;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The ThreadView class keeps track of a thread together with its number of
+ * likes, number of dislikes and comments, as displayed on a wall or news feed.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class ThreadView {
+
+    /** Thread being displayed */
+    private Thread thread;
+
+    /** Number of likes of the thread */
+    private int likeCount;
+
+    /** Number of dislikes of the thread */
+    private int dislikeCount;
+
+    /** Comments of the thread */
+    private List<Comment> comments;
+
+    /**
+     * Creates a ThreadView with the specified thread, likeCount, dislikeCount and comments
+     * 
+     * @param thread        thread being displayed
+     * @param likeCount     number of likes of the thread
+     * @param dislikeCount  number of dislikes of the thread
+     * @param comments      comments of the thread
+     */
+    public ThreadView(Thread thread, int likeCount, int dislikeCount, List<Comment> comments) {
+        this.thread = thread;
+        this.likeCount = likeCount;
+        this.dislikeCount = dislikeCount;
+        this.comments = Collections.unmodifiableList(comments);
+    }
+
+    /**
+     * Returns thread being displayed
+     * 
+     * @return thread being displayed
+     */
+    public Thread getThread() {
+        return this.thread;
+    }
+
+    /**
+     * Returns number of likes of the thread
+     * 
+     * @return number of likes of the thread
+     */
+    public int getLikeCount() {
+        return this.likeCount;
+    }
+
+    /**
+     * Returns number of dislikes of the thread
+     * 
+     * @return number of dislikes of the thread
+     */
+    public int getDislikeCount() {
+        return this.dislikeCount;
+    }
+
+    /**
+     * Returns comments of the thread
+     * 
+     * @return unmodifiable list of comments of the thread
+     */
+    public List<Comment> getComments() {
+        return this.comments;
+    }
+}
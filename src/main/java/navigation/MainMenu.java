@@ -7,6 +7,7 @@ import entities.User;
 import social.feed.NewsFeedMenu;
 import social.friends.FriendsMenu;
 import social.wall.WallMenu;
+import util.Screen;
 import util.Utility;
 
 /**
@@ -33,15 +34,17 @@ public class MainMenu {
      * Displays the Main Menu Page, input choices, and prompt
      */
     public void display() {
-        System.out.println();
-        System.out.println(" == Social Magnet :: Main Menu ==");
-        System.out.println("Welcome, " + loggedInUser.getFullName() + "!");
-        System.out.println("1. News Feed");
-        System.out.println("2. My Wall");
-        System.out.println("3. My Friends");
-        System.out.println("4. City Farmers");
-        System.out.println("5. Logout");
-        System.out.print("Enter your choice > ");
+        try (Screen screen = Screen.begin()) {
+            screen.println();
+            screen.println(" == Social Magnet :: Main Menu ==");
+            screen.println("Welcome, " + loggedInUser.getFullName() + "!");
+            screen.println("1. News Feed");
+            screen.println("2. My Wall");
+            screen.println("3. My Friends");
+            screen.println("4. City Farmers");
+            screen.println("5. Logout");
+            screen.print("Enter your choice > ");
+        }
     }
 
     /**
@@ -3,6 +3,7 @@ package navigation;
 import java.util.Scanner;
 
 import entities.User;
+import util.Screen;
 import util.Utility;
 
 /**
@@ -27,13 +28,15 @@ public class WelcomeMenu {
      * Displays the Welcome Page, input choices, and prompt
      */
     public void display() {
-        System.out.println();
-        System.out.println("== Social Magnet :: Welcome ==");
-        System.out.println("Good morning, anonymous!");
-        System.out.println("1. Register");
-        System.out.println("2. Login"); 
-        System.out.println("3. Exit");
-        System.out.print("Enter your choice > ");
+        try (Screen screen = Screen.begin()) {
+            screen.println();
+            screen.println("== Social Magnet :: Welcome ==");
+            screen.println("Good morning, anonymous!");
+            screen.println("1. Register");
+            screen.println("2. Login"); 
+            screen.println("3. Exit");
+            screen.print("Enter your choice > ");
+        }
     }
 
     /**
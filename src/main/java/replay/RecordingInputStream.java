@@ -0,0 +1,112 @@
+package replay;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * The RecordingInputStream class passes a session's input on to its menus,
+ * and saves every line read to a recording file together with the time the
+ * menus waited for it. Each line is written to the file as soon as it is
+ * read, so a session that ends abruptly keeps its recording.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class RecordingInputStream extends InputStream {
+
+    private final InputStream in;
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+    private Writer writer;
+    private long waitStartedAt = -1;
+
+    /**
+     * Creates a RecordingInputStream
+     *
+     * @param in    stream to read the session's input from
+     * @param file  file to save the recording to
+     */
+    RecordingInputStream(InputStream in, File file) {
+        this.in = in;
+        try {
+            writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8);
+            writer.write("# Social Magnet session recorded " + new Date() + "\n");
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Error when creating recording " + file + ":");
+            System.err.println(e.getMessage());
+            writer = null;
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int read = read(b, 0, 1);
+        return (read < 0) ? -1 : (b[0] & 0xff);
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) throws IOException {
+        if (waitStartedAt < 0) {
+            waitStartedAt = System.nanoTime();
+        }
+        int read = in.read(b, off, len);
+        for (int i = off; i < off + read; i++) {
+            if (b[i] == '\n') {
+                record(new String(line.toByteArray(), StandardCharsets.UTF_8));
+                line.reset();
+                // Lines that arrived together were not waited for
+                waitStartedAt = System.nanoTime();
+            } else if (b[i] != '\r') {
+                line.write(b[i]);
+            }
+        }
+        if (line.size() == 0) {
+            waitStartedAt = -1;
+        }
+        return read;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return in.available();
+    }
+
+    /**
+     * Closes the recording file. The stream it reads from is left open.
+     */
+    @Override
+    public synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            System.err.println("Error when closing recording:");
+            System.err.println(e.getMessage());
+        }
+        writer = null;
+    }
+
+    private void record(String text) {
+        if (writer == null) {
+            return;
+        }
+        long waitMillis = (System.nanoTime() - waitStartedAt) / 1000000;
+        try {
+            writer.write(waitMillis + "\t" + text + "\n");
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Error when recording input:");
+            System.err.println(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package replay;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import daos.DAOCallCounter;
+import navigation.WelcomeMenu;
+import server.SessionConsole;
+
+/**
+ * The ReplayDriver class replays recorded sessions against the menus, many
+ * at once, to reproduce the workload of real players. Every recording is
+ * replayed a number of times concurrently, each copy on its own thread, with
+ * the time the players took to enter each line divided by the speed.
+ *
+ * The report gives the p50, p95 and p99 latency of each action over all
+ * sessions, and the DAO calls made by each replayed session.
+ *
+ * The driver is configured with the following system properties:
+ * socialmagnet.replay.copies (1), socialmagnet.replay.speed (10, or 0 to
+ * enter lines without waiting) and socialmagnet.replay.threadStackKb (256).
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class ReplayDriver {
+
+    private final List<SessionRecording> recordings;
+    private final Runnable menu;
+    private final int copies;
+    private final double speed;
+    private final long threadStackBytes;
+
+    /**
+     * Creates a ReplayDriver configured from system properties, which
+     * replays every recording from the Welcome Page
+     *
+     * @param recordings    the recordings to replay
+     */
+    public ReplayDriver(List<SessionRecording> recordings) {
+        this(recordings, () -> new WelcomeMenu().readOption(),
+                Integer.getInteger("socialmagnet.replay.copies", 1),
+                Double.parseDouble(System.getProperty("socialmagnet.replay.speed", "10")),
+                Integer.getInteger("socialmagnet.replay.threadStackKb", 256) * 1024L);
+    }
+
+    /**
+     * Creates a ReplayDriver
+     *
+     * @param recordings        the recordings to replay
+     * @param menu              menus to replay the recordings against
+     * @param copies            times to replay each recording at once
+     * @param speed             how many times faster than recorded to enter lines, 0 to not wait at all
+     * @param threadStackBytes  stack size of each session's thread, 0 for the JVM's default
+     */
+    ReplayDriver(List<SessionRecording> recordings, Runnable menu, int copies, double speed,
+            long threadStackBytes) {
+        this.recordings = recordings;
+        this.menu = menu;
+        this.copies = copies;
+        this.speed = speed;
+        this.threadStackBytes = threadStackBytes;
+    }
+
+    /**
+     * Replays the recordings in a directory and prints the report to the console
+     *
+     * @param directory     directory of recording files
+     * @throws IOException  if the recordings could not be read
+     */
+    public static void replay(File directory) throws IOException {
+        List<SessionRecording> recordings = SessionRecording.readAll(directory);
+        PrintStream console = System.out;
+        ReplayDriver driver = new ReplayDriver(recordings);
+        long start = System.nanoTime();
+        List<ReplaySession> sessions;
+        try {
+            sessions = driver.run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        driver.printReport(console, sessions, System.nanoTime() - start);
+    }
+
+    /**
+     * Replays every recording, routing System.in and System.out by session,
+     * and waits for all of them to finish
+     *
+     * @return                      the replayed sessions
+     * @throws InterruptedException if interrupted while waiting for the sessions
+     */
+    public List<ReplaySession> run() throws InterruptedException {
+        SessionConsole.install();
+        List<ReplaySession> sessions = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (SessionRecording recording : recordings) {
+            for (int copy = 1; copy <= copies; copy++) {
+                ReplaySession session = new ReplaySession(recording, copy, menu, speed);
+                Thread thread = new Thread(null, session, "replay-" + recording.getName() + "-" + copy,
+                        threadStackBytes);
+                thread.setDaemon(true);
+                sessions.add(session);
+                threads.add(thread);
+            }
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return sessions;
+    }
+
+    /**
+     * Prints the latency of each action over all sessions, and the DAO calls
+     * of each session
+     *
+     * @param out           stream to print the report to
+     * @param sessions      the replayed sessions
+     * @param elapsedNanos  time the replay took
+     */
+    public void printReport(PrintStream out, List<ReplaySession> sessions, long elapsedNanos) {
+        Map<String, List<Long>> nanosByAction = new TreeMap<>();
+        int failed = 0;
+        for (ReplaySession session : sessions) {
+            for (Map.Entry<String, List<Long>> entry : session.getNanosByAction().entrySet()) {
+                nanosByAction.computeIfAbsent(entry.getKey(), a -> new ArrayList<>()).addAll(entry.getValue());
+            }
+            if (session.getError() != null) {
+                failed++;
+            }
+        }
+
+        out.printf("Replayed %d sessions of %d recordings in %.1f s at %s speed, %d failed%n", sessions.size(),
+                recordings.size(), elapsedNanos / 1e9, speed <= 0 ? "full" : speed + "x", failed);
+        out.println();
+        out.printf("%-45s %8s %9s %9s %9s%n", "action", "count", "p50 ms", "p95 ms", "p99 ms");
+        for (Map.Entry<String, List<Long>> entry : nanosByAction.entrySet()) {
+            long[] nanos = toArray(entry.getValue());
+            out.printf("%-45s %8d %9.3f %9.3f %9.3f%n", entry.getKey(), nanos.length, percentileMillis(nanos, 50),
+                    percentileMillis(nanos, 95), percentileMillis(nanos, 99));
+        }
+        out.println();
+        out.printf("%-36s %5s %7s %8s %6s  %s%n", "session", "copy", "inputs", "time s", "DAO", "calls by DAO");
+        for (ReplaySession session : sessions) {
+            DAOCallCounter counter = session.getDAOCallCounter();
+            out.printf("%-36s %5d %7d %8.2f %6d  %s%s%n", session.getRecording().getName(), session.getCopy(),
+                    session.getInputsRead(), session.getElapsedNanos() / 1e9, counter.getTotalCalls(),
+                    formatCalls(counter.getCallsByDAO()),
+                    session.getError() == null ? "" : "  failed: " + session.getError());
+        }
+    }
+
+    /**
+     * Returns a percentile of a set of timings
+     *
+     * @param nanos         timings in nanoseconds, sorted in place
+     * @param percentile    percentile between 0 and 100
+     * @return              timing at the percentile in milliseconds
+     */
+    static double percentileMillis(long[] nanos, double percentile) {
+        if (nanos.length == 0) {
+            return 0;
+        }
+        Arrays.sort(nanos);
+        int index = (int) Math.ceil(percentile / 100 * nanos.length) - 1;
+        return nanos[Math.max(0, Math.min(index, nanos.length - 1))] / 1e6;
+    }
+
+    private static long[] toArray(List<Long> values) {
+        long[] array = new long[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+    private static String formatCalls(Map<String, Integer> callsByDAO) {
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, Integer> entry : callsByDAO.entrySet()) {
+            if (text.length() > 0) {
+                text.append(", ");
+            }
+            text.append(entry.getKey()).append(' ').append(entry.getValue());
+        }
+        return text.toString();
+    }
+}
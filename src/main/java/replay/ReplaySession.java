@@ -0,0 +1,269 @@
+package replay;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+import daos.DAOCallCounter;
+import server.SessionConsole;
+
+/**
+ * The ReplaySession class replays one SessionRecording against the menus on
+ * its own thread. It feeds the menus the recorded lines, waiting the
+ * recorded time divided by the speed before each, and times each action:
+ * from the moment a line is entered until the menus wait for the next one.
+ *
+ * Actions are named by the page they were entered on, taken from the last
+ * page title printed, and by the choice entered, with plot, thread and
+ * friend numbers replaced by #, e.g. "My Wall: T#". Anything longer, such
+ * as a username or message, is named "text".
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class ReplaySession implements Runnable {
+
+    private static final String TITLE_START = "== Social Magnet :: ";
+
+    private final SessionRecording recording;
+    private final int copy;
+    private final Runnable menu;
+    private final double speed;
+    private final DAOCallCounter daoCallCounter = new DAOCallCounter();
+    private final Map<String, List<Long>> nanosByAction = new LinkedHashMap<>();
+
+    private volatile long startedAt;
+    private volatile long finishedAt;
+    private volatile int inputsRead;
+    private volatile String error;
+    private String page = "Start";
+
+    /**
+     * Creates a ReplaySession
+     *
+     * @param recording the recording to replay
+     * @param copy      number of this copy of the recording, from 1
+     * @param menu      menus to replay the recording against
+     * @param speed     how many times faster than recorded to enter lines, 0 to not wait at all
+     */
+    public ReplaySession(SessionRecording recording, int copy, Runnable menu, double speed) {
+        this.recording = recording;
+        this.copy = copy;
+        this.menu = menu;
+        this.speed = speed;
+    }
+
+    /**
+     * Runs the menus until they return or the recording runs out
+     */
+    @Override
+    public void run() {
+        ReplayInput input = new ReplayInput();
+        startedAt = System.nanoTime();
+        SessionConsole.bind(input, new PageTracker());
+        DAOCallCounter.attach(daoCallCounter);
+        try {
+            menu.run();
+        } catch (NoSuchElementException e) {
+            // The recording ended while a menu was waiting for input
+        } catch (RuntimeException e) {
+            error = String.valueOf(e.getMessage());
+        } finally {
+            input.finishAction();
+            DAOCallCounter.attach(null);
+            SessionConsole.unbind();
+            finishedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Returns the name of the action for a line entered on a page
+     */
+    static String getActionName(String page, String line) {
+        String choice = line.trim().toUpperCase();
+        if (choice.length() > 1 && Character.isLetter(choice.charAt(0)) && isDigits(choice.substring(1))) {
+            choice = choice.charAt(0) + "#";
+        } else if (choice.length() > 1) {
+            choice = "text";
+        }
+        return page + ": " + choice;
+    }
+
+    private static boolean isDigits(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the recording replayed
+     *
+     * @return  the recording
+     */
+    public SessionRecording getRecording() {
+        return recording;
+    }
+
+    /**
+     * Returns the number of this copy of the recording
+     *
+     * @return  the copy number, from 1
+     */
+    public int getCopy() {
+        return copy;
+    }
+
+    /**
+     * Returns the time each action took, by action name
+     *
+     * @return  durations of the actions in nanoseconds, by action in the order first taken
+     */
+    public synchronized Map<String, List<Long>> getNanosByAction() {
+        Map<String, List<Long>> result = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Long>> entry : nanosByAction.entrySet()) {
+            result.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the DAO calls the session made
+     *
+     * @return  counter of the session's DAO calls
+     */
+    public DAOCallCounter getDAOCallCounter() {
+        return daoCallCounter;
+    }
+
+    /**
+     * Returns the number of recorded lines entered
+     *
+     * @return  number of lines read by the menus
+     */
+    public int getInputsRead() {
+        return inputsRead;
+    }
+
+    /**
+     * Returns the time the session took to replay
+     *
+     * @return  the duration in nanoseconds, 0 if it has not finished
+     */
+    public long getElapsedNanos() {
+        return (finishedAt == 0) ? 0 : finishedAt - startedAt;
+    }
+
+    /**
+     * Returns the error that ended the session early
+     *
+     * @return  the error message, null if the session ran to its end
+     */
+    public String getError() {
+        return error;
+    }
+
+    private synchronized void recordAction(String action, long nanos) {
+        nanosByAction.computeIfAbsent(action, a -> new ArrayList<>()).add(nanos);
+    }
+
+    /**
+     * Feeds the recorded lines to the menus one per read, as a player would
+     */
+    private final class ReplayInput extends InputStream {
+
+        private byte[] pending;
+        private int pendingOffset;
+        private String action;
+        private long actionStartedAt = -1;
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            int read = read(b, 0, 1);
+            return (read < 0) ? -1 : (b[0] & 0xff);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (pending == null) {
+                // The menus are waiting for input, so the last action is done
+                finishAction();
+                if (inputsRead >= recording.getInputs().size()) {
+                    return -1;
+                }
+                SessionRecording.Input input = recording.getInputs().get(inputsRead);
+                waitFor(input.getWaitMillis());
+                inputsRead++;
+                action = getActionName(page, input.getLine());
+                pending = (input.getLine() + "\n").getBytes(StandardCharsets.UTF_8);
+                pendingOffset = 0;
+                actionStartedAt = System.nanoTime();
+            }
+            int read = Math.min(len, pending.length - pendingOffset);
+            System.arraycopy(pending, pendingOffset, b, off, read);
+            pendingOffset += read;
+            if (pendingOffset == pending.length) {
+                pending = null;
+            }
+            return read;
+        }
+
+        void finishAction() {
+            if (actionStartedAt >= 0) {
+                recordAction(action, System.nanoTime() - actionStartedAt);
+                actionStartedAt = -1;
+            }
+        }
+
+        private void waitFor(long waitMillis) throws IOException {
+            if (speed <= 0 || waitMillis <= 0) {
+                return;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep((long) (waitMillis * 1000000 / speed));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Replay interrupted");
+            }
+        }
+    }
+
+    /**
+     * Discards the menus' output, keeping the title of the last page printed
+     */
+    private final class PageTracker extends OutputStream {
+
+        private final StringBuilder line = new StringBuilder();
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                int start = line.indexOf(TITLE_START);
+                if (start >= 0) {
+                    int end = line.indexOf(" ==", start + TITLE_START.length());
+                    page = line.substring(start + TITLE_START.length(), end < 0 ? line.length() : end);
+                }
+                line.setLength(0);
+            } else if (line.length() < 200) {
+                line.append((char) b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+}
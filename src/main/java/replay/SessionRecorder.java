@@ -0,0 +1,56 @@
+package replay;
+
+import java.io.File;
+import java.io.InputStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The SessionRecorder class records the input of sessions into a directory,
+ * one SessionRecording file per session, so that they can be replayed by
+ * the ReplayDriver.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class SessionRecorder {
+
+    private final File directory;
+    private final String prefix;
+    private final AtomicLong nextId = new AtomicLong();
+
+    /**
+     * Creates a SessionRecorder
+     *
+     * @param directory directory to save recordings in, created if it does not exist
+     */
+    public SessionRecorder(File directory) {
+        this.directory = directory;
+        this.prefix = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            System.err.println("Error when creating recording directory " + directory);
+        }
+    }
+
+    /**
+     * Starts recording a session's input
+     *
+     * @param in    stream the session's menus read from
+     * @return      stream for the menus to read from instead, to be closed when the session ends
+     */
+    public RecordingInputStream record(InputStream in) {
+        File file = new File(directory, "session-" + prefix + "-" + nextId.incrementAndGet()
+                + SessionRecording.EXTENSION);
+        return new RecordingInputStream(in, file);
+    }
+
+    /**
+     * Returns the directory recordings are saved in
+     *
+     * @return  the recording directory
+     */
+    public File getDirectory() {
+        return directory;
+    }
+}
@@ -0,0 +1,156 @@
+package replay;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The SessionRecording class is the input of one recorded session: each
+ * line the player entered, with the time the menu waited for it.
+ *
+ * A recording is saved as a text file with a comment line starting with #,
+ * followed by one line per input: the wait in milliseconds, a tab, and the
+ * line that was entered.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class SessionRecording {
+
+    /** File extension of recordings */
+    public static final String EXTENSION = ".session";
+
+    private final String name;
+    private final List<Input> inputs;
+
+    /**
+     * The Input class is one line entered in a session
+     */
+    public static final class Input {
+        private final long waitMillis;
+        private final String line;
+
+        /**
+         * Creates an Input
+         *
+         * @param waitMillis    time the menu waited for the line, in milliseconds
+         * @param line          the line entered, without its line break
+         */
+        public Input(long waitMillis, String line) {
+            this.waitMillis = waitMillis;
+            this.line = line;
+        }
+
+        /**
+         * Returns the time the menu waited for the line
+         *
+         * @return  the wait in milliseconds
+         */
+        public long getWaitMillis() {
+            return waitMillis;
+        }
+
+        /**
+         * Returns the line entered
+         *
+         * @return  the line, without its line break
+         */
+        public String getLine() {
+            return line;
+        }
+    }
+
+    /**
+     * Creates a SessionRecording
+     *
+     * @param name      name of the recording
+     * @param inputs    lines entered in the session, in order
+     */
+    public SessionRecording(String name, List<Input> inputs) {
+        this.name = name;
+        this.inputs = Collections.unmodifiableList(new ArrayList<>(inputs));
+    }
+
+    /**
+     * Reads a recording from a file
+     *
+     * @param file          the recording file
+     * @return              the recording, named after the file
+     * @throws IOException  if the file could not be read or is not a recording
+     */
+    public static SessionRecording read(File file) throws IOException {
+        List<Input> inputs = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            String text;
+            int lineNumber = 0;
+            while ((text = reader.readLine()) != null) {
+                lineNumber++;
+                if (text.startsWith("#") || text.isEmpty()) {
+                    continue;
+                }
+                int tab = text.indexOf('\t');
+                if (tab < 0) {
+                    throw new IOException(file + ":" + lineNumber + " has no wait before its input");
+                }
+                try {
+                    inputs.add(new Input(Long.parseLong(text.substring(0, tab)), text.substring(tab + 1)));
+                } catch (NumberFormatException e) {
+                    throw new IOException(file + ":" + lineNumber + " has an invalid wait");
+                }
+            }
+        }
+        String fileName = file.getName();
+        String name = fileName.endsWith(EXTENSION)
+                ? fileName.substring(0, fileName.length() - EXTENSION.length())
+                : fileName;
+        return new SessionRecording(name, inputs);
+    }
+
+    /**
+     * Reads every recording in a directory, in name order
+     *
+     * @param directory     directory of recording files
+     * @return              the recordings
+     * @throws IOException  if the directory or a recording could not be read
+     */
+    public static List<SessionRecording> readAll(File directory) throws IOException {
+        File[] files = directory.listFiles((dir, fileName) -> fileName.endsWith(EXTENSION));
+        if (files == null) {
+            throw new IOException(directory + " is not a directory");
+        }
+        List<File> sortedFiles = new ArrayList<>();
+        Collections.addAll(sortedFiles, files);
+        Collections.sort(sortedFiles);
+
+        List<SessionRecording> recordings = new ArrayList<>();
+        for (File file : sortedFiles) {
+            recordings.add(read(file));
+        }
+        return recordings;
+    }
+
+    /**
+     * Returns the name of the recording
+     *
+     * @return  the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the lines entered in the session
+     *
+     * @return  the inputs, in order
+     */
+    public List<Input> getInputs() {
+        return inputs;
+    }
+}
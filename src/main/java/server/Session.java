@@ -0,0 +1,233 @@
+package server;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import replay.RecordingInputStream;
+import replay.SessionRecorder;
+
+/**
+ * The Session class is one client connected to the SessionServer. It runs
+ * the menus on its own thread, reading the client's lines from its
+ * SessionInput and printing to its SessionOutput, and accounts for the
+ * memory it holds: the bytes buffered in either direction, the capacity of
+ * its buffers, and the heap its thread has allocated.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+final class Session implements Runnable {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final long id;
+    private final SessionServer server;
+    private final SocketChannel channel;
+    private final Runnable menu;
+    private final SessionInput input;
+    private final SessionOutput output;
+    private final long startedAt = System.currentTimeMillis();
+    private final AtomicLong peakBufferedBytes = new AtomicLong();
+
+    private SelectionKey key;
+    private volatile Thread thread;
+    private volatile boolean readPaused;
+    private volatile boolean finished;
+    private volatile long bytesIn;
+    private volatile long bytesOut;
+    private volatile long allocatedAtStart = -1;
+    private volatile long allocatedBytes = -1;
+
+    /**
+     * Creates a Session
+     *
+     * @param id            number of the session
+     * @param server        server the session is connected to
+     * @param channel       channel to the client
+     * @param menu          menus to run for the client
+     * @param bufferLimit   bytes buffered in either direction before the other side waits
+     */
+    Session(long id, SessionServer server, SocketChannel channel, Runnable menu, int bufferLimit) {
+        this.id = id;
+        this.server = server;
+        this.channel = channel;
+        this.menu = menu;
+        this.input = new SessionInput(this);
+        this.output = new SessionOutput(this, bufferLimit);
+    }
+
+    /**
+     * Runs the menus with the session's streams until they return or the
+     * client disconnects
+     */
+    @Override
+    public void run() {
+        thread = Thread.currentThread();
+        allocatedAtStart = getThreadAllocatedBytes();
+        SessionRecorder recorder = server.getRecorder();
+        RecordingInputStream recording = (recorder == null) ? null : recorder.record(input);
+        SessionConsole.bind((recording == null) ? (InputStream) input : recording, output);
+        try {
+            menu.run();
+        } catch (NoSuchElementException e) {
+            // The client disconnected while a menu was waiting for input
+        } catch (RuntimeException e) {
+            System.err.println("Error in session " + id + ":");
+            System.err.println(e.getMessage());
+        } finally {
+            SessionConsole.unbind();
+            if (recording != null) {
+                recording.close();
+            }
+            try {
+                output.flush();
+            } catch (Exception e) {
+                // The client has gone, so there is no one to send the rest to
+            }
+            long allocatedAtEnd = getThreadAllocatedBytes();
+            if (allocatedAtStart >= 0 && allocatedAtEnd >= 0) {
+                allocatedBytes = allocatedAtEnd - allocatedAtStart;
+            }
+            finished = true;
+            thread = null;
+            server.sessionFinished(this);
+        }
+    }
+
+    /**
+     * Records bytes buffered by the selector, and returns true if reading
+     * from the client should pause until the menus catch up
+     */
+    boolean inputReceived(int received, int buffered, int bufferLimit) {
+        bytesIn += received;
+        recordBuffered();
+        return buffered >= bufferLimit;
+    }
+
+    /**
+     * Called by the SessionInput after the menus read, to resume reading
+     * from the client once half of the paused input has been read
+     */
+    void inputRead(int buffered) {
+        if (readPaused && buffered < server.getSessionBufferBytes() / 2) {
+            server.requestRead(this);
+        }
+    }
+
+    /**
+     * Called by the SessionOutput after it queues output to be sent
+     */
+    void outputQueued(int queued) {
+        recordBuffered();
+        server.requestWrite(this);
+    }
+
+    /**
+     * Called by the selector after it sends output
+     */
+    void outputSent(int sent) {
+        bytesOut += sent;
+    }
+
+    private void recordBuffered() {
+        peakBufferedBytes.accumulateAndGet(getBufferedBytes(), Math::max);
+    }
+
+    private long getThreadAllocatedBytes() {
+        if (!(THREADS instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+        return threads.isThreadAllocatedMemoryEnabled()
+                ? threads.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    SocketChannel getChannel() {
+        return channel;
+    }
+
+    SelectionKey getKey() {
+        return key;
+    }
+
+    void setKey(SelectionKey key) {
+        this.key = key;
+    }
+
+    SessionInput getInput() {
+        return input;
+    }
+
+    SessionOutput getOutput() {
+        return output;
+    }
+
+    boolean isReadPaused() {
+        return readPaused;
+    }
+
+    void setReadPaused(boolean readPaused) {
+        this.readPaused = readPaused;
+    }
+
+    boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Checks if the session's menus are running rather than waiting for input
+     */
+    boolean isActive() {
+        return !finished && !input.isWaiting();
+    }
+
+    /**
+     * Returns the bytes received from the client but not yet read, and
+     * printed but not yet sent
+     */
+    long getBufferedBytes() {
+        return input.getBufferedBytes() + output.getBufferedBytes();
+    }
+
+    long getPeakBufferedBytes() {
+        return peakBufferedBytes.get();
+    }
+
+    /**
+     * Returns the memory held by the session's buffers: their capacity and
+     * any queued output beyond it
+     */
+    long getBufferMemory() {
+        return input.getCapacity() + output.getCapacity() + output.getBufferedBytes();
+    }
+
+    /**
+     * Returns the heap allocated by the session's thread so far, or once it
+     * has finished, or -1 if it cannot be measured
+     */
+    long getAllocatedBytes() {
+        Thread running = thread;
+        if (running == null || allocatedAtStart < 0) {
+            return allocatedBytes;
+        }
+        long allocated = ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(running.getId());
+        return (allocated < 0) ? -1 : allocated - allocatedAtStart;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("session %d: %ds, %d B in, %d B out, %d B buffered (peak %d B), "
+                + "%d B buffer memory, %d B allocated", id, (System.currentTimeMillis() - startedAt) / 1000,
+                bytesIn, bytesOut, getBufferedBytes(), getPeakBufferedBytes(), getBufferMemory(),
+                getAllocatedBytes());
+    }
+}
@@ -0,0 +1,281 @@
+package server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Locale;
+
+/**
+ * The SessionConsole class lets the menus, which read System.in and print to
+ * System.out, serve many sessions at once. Once installed, System.in and
+ * System.out are replaced by streams that pass each call on to the streams
+ * bound to the calling thread, or to the original console if none are bound.
+ * Each thread prints through its own PrintStream, so a session waiting for a
+ * slow client does not hold up the printing of other sessions.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public final class SessionConsole {
+
+    /** Session streams bound to each thread */
+    private static final ThreadLocal<Streams> CURRENT = new ThreadLocal<>();
+
+    private static InputStream consoleIn;
+    private static PrintStream consoleOut;
+
+    private static final class Streams {
+        final InputStream in;
+        final PrintStream out;
+
+        Streams(InputStream in, OutputStream out) {
+            this.in = in;
+            this.out = new PrintStream(out, true);
+        }
+    }
+
+    private SessionConsole() {
+    }
+
+    /**
+     * Replaces System.in and System.out with streams routed by thread, if
+     * they have not been replaced already
+     */
+    public static synchronized void install() {
+        if (consoleIn != null) {
+            return;
+        }
+        consoleIn = System.in;
+        consoleOut = System.out;
+        System.setIn(new RoutingInputStream());
+        System.setOut(new RoutingPrintStream());
+    }
+
+    /**
+     * Binds streams to the current thread, so that the menus it runs read
+     * and print through them
+     *
+     * @param in    stream the thread's menus read from
+     * @param out   stream the thread's menus print to
+     */
+    public static void bind(InputStream in, OutputStream out) {
+        CURRENT.set(new Streams(in, out));
+    }
+
+    /**
+     * Unbinds the streams of the current thread, so that it uses the console again
+     */
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    private static InputStream in() {
+        Streams streams = CURRENT.get();
+        return (streams == null) ? consoleIn : streams.in;
+    }
+
+    private static PrintStream out() {
+        Streams streams = CURRENT.get();
+        return (streams == null) ? consoleOut : streams.out;
+    }
+
+    private static final class RoutingInputStream extends InputStream {
+
+        @Override
+        public int read() throws IOException {
+            return in().read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return in().read(b, off, len);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return in().available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            in().close();
+        }
+    }
+
+    /**
+     * Passes every call on to the PrintStream of the calling thread, so that
+     * threads only wait on their own stream's lock
+     */
+    private static final class RoutingPrintStream extends PrintStream {
+
+        RoutingPrintStream() {
+            super(consoleOut, true);
+        }
+
+        @Override
+        public void write(int b) {
+            out().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            out().write(b, off, len);
+        }
+
+        @Override
+        public void flush() {
+            out().flush();
+        }
+
+        /**
+         * Flushes the thread's stream, which stays open as it is closed by its session
+         */
+        @Override
+        public void close() {
+            out().flush();
+        }
+
+        @Override
+        public boolean checkError() {
+            return out().checkError();
+        }
+
+        @Override
+        public void print(boolean b) {
+            out().print(b);
+        }
+
+        @Override
+        public void print(char c) {
+            out().print(c);
+        }
+
+        @Override
+        public void print(int i) {
+            out().print(i);
+        }
+
+        @Override
+        public void print(long l) {
+            out().print(l);
+        }
+
+        @Override
+        public void print(float f) {
+            out().print(f);
+        }
+
+        @Override
+        public void print(double d) {
+            out().print(d);
+        }
+
+        @Override
+        public void print(char[] s) {
+            out().print(s);
+        }
+
+        @Override
+        public void print(String s) {
+            out().print(s);
+        }
+
+        @Override
+        public void print(Object obj) {
+            out().print(obj);
+        }
+
+        @Override
+        public void println() {
+            out().println();
+        }
+
+        @Override
+        public void println(boolean x) {
+            out().println(x);
+        }
+
+        @Override
+        public void println(char x) {
+            out().println(x);
+        }
+
+        @Override
+        public void println(int x) {
+            out().println(x);
+        }
+
+        @Override
+        public void println(long x) {
+            out().println(x);
+        }
+
+        @Override
+        public void println(float x) {
+            out().println(x);
+        }
+
+        @Override
+        public void println(double x) {
+            out().println(x);
+        }
+
+        @Override
+        public void println(char[] x) {
+            out().println(x);
+        }
+
+        @Override
+        public void println(String x) {
+            out().println(x);
+        }
+
+        @Override
+        public void println(Object x) {
+            out().println(x);
+        }
+
+        @Override
+        public PrintStream printf(String format, Object... args) {
+            out().printf(format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream printf(Locale l, String format, Object... args) {
+            out().printf(l, format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream format(String format, Object... args) {
+            out().format(format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream format(Locale l, String format, Object... args) {
+            out().format(l, format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream append(CharSequence csq) {
+            out().append(csq);
+            return this;
+        }
+
+        @Override
+        public PrintStream append(CharSequence csq, int start, int end) {
+            out().append(csq, start, end);
+            return this;
+        }
+
+        @Override
+        public PrintStream append(char c) {
+            out().append(c);
+            return this;
+        }
+    }
+}
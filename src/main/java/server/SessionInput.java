@@ -0,0 +1,147 @@
+package server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * The SessionInput class buffers the bytes a client has sent until the
+ * session's menus read them. A read returns at most one line and waits for
+ * the line to be complete, as a console does, so that a Scanner created by a
+ * menu never reads ahead into input meant for the next menu's Scanner.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+final class SessionInput extends InputStream {
+
+    /** Capacity of the buffer of an idle session */
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Session session;
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int start;
+    private int end;
+    private boolean closed;
+    private boolean waiting;
+
+    SessionInput(Session session) {
+        this.session = session;
+    }
+
+    /**
+     * Adds bytes received from the client
+     *
+     * @param bytes bytes received
+     * @return      number of bytes buffered and not yet read
+     */
+    synchronized int feed(ByteBuffer bytes) {
+        int length = bytes.remaining();
+        if (end + length > buffer.length) {
+            int buffered = end - start;
+            int capacity = buffer.length;
+            while (buffered + length > capacity) {
+                capacity *= 2;
+            }
+            byte[] newBuffer = (capacity == buffer.length) ? buffer : new byte[capacity];
+            System.arraycopy(buffer, start, newBuffer, 0, buffered);
+            buffer = newBuffer;
+            start = 0;
+            end = buffered;
+        }
+        bytes.get(buffer, end, length);
+        end += length;
+        notifyAll();
+        return end - start;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return (read(b, 0, 1) < 0) ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        // Send any prompt still buffered before waiting for the answer to it
+        session.getOutput().flush();
+
+        int read;
+        int buffered;
+        synchronized (this) {
+            int lineEnd;
+            waiting = true;
+            try {
+                while ((lineEnd = indexOfLineEnd()) < 0 && !closed) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for input");
+            } finally {
+                waiting = false;
+            }
+            if (start == end) {
+                return -1;
+            }
+
+            read = Math.min(len, ((lineEnd < 0) ? end : lineEnd + 1) - start);
+            System.arraycopy(buffer, start, b, off, read);
+            start += read;
+            buffered = end - start;
+            if (buffered == 0) {
+                start = 0;
+                end = 0;
+                // Give back the memory of a burst of input once it has been read
+                if (buffer.length > INITIAL_CAPACITY * 16) {
+                    buffer = new byte[INITIAL_CAPACITY];
+                }
+            }
+        }
+        session.inputRead(buffered);
+        return read;
+    }
+
+    /**
+     * Ends the input, so that reads return what is left and then -1
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+
+    /**
+     * Returns the number of bytes buffered and not yet read
+     */
+    synchronized int getBufferedBytes() {
+        return end - start;
+    }
+
+    /**
+     * Returns the size of the buffer
+     */
+    synchronized int getCapacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Checks if the session's menus are waiting for a line of input
+     */
+    synchronized boolean isWaiting() {
+        return waiting;
+    }
+
+    private int indexOfLineEnd() {
+        for (int i = start; i < end; i++) {
+            if (buffer[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,163 @@
+package server;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+
+/**
+ * The SessionOutput class collects what a session's menus print and queues
+ * it for the server to send to the client. Printed bytes are collected into
+ * chunks, which are queued when full, when flushed, or when the menus wait
+ * for input. Once more than the session's buffer limit is queued, printing
+ * waits until the client has caught up.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+final class SessionOutput extends OutputStream {
+
+    /** Capacity of the chunk of an idle session */
+    private static final int INITIAL_CAPACITY = 128;
+
+    /** Size at which a chunk is queued without waiting for a flush */
+    private static final int CHUNK_SIZE = 8192;
+
+    private final Session session;
+    private final int bufferLimit;
+    private final ArrayDeque<ByteBuffer> queue = new ArrayDeque<>();
+    private byte[] chunk = new byte[INITIAL_CAPACITY];
+    private int chunkLength;
+    private int queuedBytes;
+    private boolean closed;
+
+    /**
+     * Creates a SessionOutput
+     *
+     * @param session       session the output is sent to
+     * @param bufferLimit   bytes that may be queued before printing waits
+     */
+    SessionOutput(Session session, int bufferLimit) {
+        this.session = session;
+        this.bufferLimit = bufferLimit;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (chunkLength == chunk.length) {
+                if (chunk.length < CHUNK_SIZE) {
+                    byte[] newChunk = new byte[Math.min(chunk.length * 2, CHUNK_SIZE)];
+                    System.arraycopy(chunk, 0, newChunk, 0, chunkLength);
+                    chunk = newChunk;
+                } else {
+                    send();
+                }
+            }
+            int copied = Math.min(len, chunk.length - chunkLength);
+            System.arraycopy(b, off, chunk, chunkLength, copied);
+            chunkLength += copied;
+            off += copied;
+            len -= copied;
+        }
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        if (chunkLength > 0) {
+            send();
+        }
+    }
+
+    /**
+     * Queues the current chunk for sending, waiting while too much is queued
+     */
+    private void send() throws IOException {
+        try {
+            while (queuedBytes > bufferLimit && !closed) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the client");
+        }
+        if (closed) {
+            chunkLength = 0;
+            throw new IOException("Session has been closed");
+        }
+
+        byte[] bytes = new byte[chunkLength];
+        System.arraycopy(chunk, 0, bytes, 0, chunkLength);
+        queue.add(ByteBuffer.wrap(bytes));
+        queuedBytes += chunkLength;
+        chunkLength = 0;
+        // Give back the memory of a large screen once it has been queued
+        if (chunk.length > INITIAL_CAPACITY * 8) {
+            chunk = new byte[INITIAL_CAPACITY];
+        }
+        session.outputQueued(queuedBytes);
+    }
+
+    /**
+     * Sends as much of the queued output as the channel takes without blocking
+     *
+     * @param channel       channel to the client
+     * @return              number of bytes sent
+     * @throws IOException  if the channel could not be written to
+     */
+    synchronized int writeTo(SocketChannel channel) throws IOException {
+        int sent = 0;
+        ByteBuffer head;
+        while ((head = queue.peek()) != null) {
+            sent += channel.write(head);
+            if (head.hasRemaining()) {
+                break;
+            }
+            queue.poll();
+        }
+        queuedBytes -= sent;
+        if (sent > 0) {
+            notifyAll();
+        }
+        return sent;
+    }
+
+    /**
+     * Drops any queued output and fails any further printing
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        queue.clear();
+        queuedBytes = 0;
+        notifyAll();
+    }
+
+    /**
+     * Checks if all queued output has been sent
+     */
+    synchronized boolean isDrained() {
+        return queue.isEmpty();
+    }
+
+    /**
+     * Returns the number of bytes printed and not yet sent
+     */
+    synchronized int getBufferedBytes() {
+        return chunkLength + queuedBytes;
+    }
+
+    /**
+     * Returns the size of the chunk being collected
+     */
+    synchronized int getCapacity() {
+        return chunk.length;
+    }
+}
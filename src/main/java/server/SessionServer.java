@@ -0,0 +1,402 @@
+package server;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import navigation.WelcomeMenu;
+import replay.SessionRecorder;
+
+/**
+ * The SessionServer class hosts the menus for many players at once over a
+ * line protocol on TCP. Every connection is a Session, which starts at the
+ * Welcome Page and reads and prints through its own streams, routed by the
+ * SessionConsole.
+ *
+ * A single selector thread accepts connections and does all socket reads
+ * and writes without blocking. As the menus block while waiting for input,
+ * each session runs them on its own thread, created with a small stack so
+ * that thousands of idle sessions fit in one JVM. Input and output are
+ * buffered per session up to a limit, after which the faster side waits
+ * for the slower one, so that no session holds more than a few buffers.
+ *
+ * The server is configured with the following system properties:
+ * socialmagnet.server.host, socialmagnet.server.port,
+ * socialmagnet.server.backlog, socialmagnet.server.maxSessions,
+ * socialmagnet.server.sessionBufferBytes and socialmagnet.server.threadStackKb.
+ * If socialmagnet.server.recordDir is set, the input of every session is
+ * recorded there for the ReplayDriver.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class SessionServer implements Runnable {
+
+    private static final byte[] SERVER_FULL = "Social Magnet is full. Please try again later.\n"
+            .getBytes(StandardCharsets.UTF_8);
+
+    /** Connections waiting to be accepted, beyond which clients retry after a delay */
+    private static final int BACKLOG = Integer.getInteger("socialmagnet.server.backlog", 1024);
+
+    private final InetSocketAddress address;
+    private final Runnable menu;
+    private final int maxSessions;
+    private final int sessionBufferBytes;
+    private final long threadStackBytes;
+
+    private final Map<Long, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final AtomicLong acceptedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final Queue<Session> pendingReads = new ConcurrentLinkedQueue<>();
+    private final Queue<Session> pendingWrites = new ConcurrentLinkedQueue<>();
+    private final Queue<Session> pendingFinishes = new ConcurrentLinkedQueue<>();
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(8192);
+
+    private SessionRecorder recorder;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private volatile boolean running;
+
+    /**
+     * Creates a SessionServer configured from system properties, which
+     * starts every session at the Welcome Page
+     */
+    public SessionServer() {
+        this(new InetSocketAddress(System.getProperty("socialmagnet.server.host", "localhost"),
+                Integer.getInteger("socialmagnet.server.port", 2323)),
+                () -> new WelcomeMenu().readOption(),
+                Integer.getInteger("socialmagnet.server.maxSessions", 5000),
+                Integer.getInteger("socialmagnet.server.sessionBufferBytes", 64 * 1024),
+                Integer.getInteger("socialmagnet.server.threadStackKb", 256) * 1024L);
+        String recordDir = System.getProperty("socialmagnet.server.recordDir");
+        if (recordDir != null) {
+            recorder = new SessionRecorder(new File(recordDir));
+        }
+    }
+
+    /**
+     * Creates a SessionServer
+     *
+     * @param address               address to listen on
+     * @param menu                  menus to run for each session
+     * @param maxSessions           sessions allowed at once, beyond which connections are turned away
+     * @param sessionBufferBytes    bytes buffered per session in either direction before the other side waits
+     * @param threadStackBytes      stack size of each session's thread, 0 for the JVM's default
+     */
+    SessionServer(InetSocketAddress address, Runnable menu, int maxSessions, int sessionBufferBytes,
+            long threadStackBytes) {
+        this.address = address;
+        this.menu = menu;
+        this.maxSessions = maxSessions;
+        this.sessionBufferBytes = sessionBufferBytes;
+        this.threadStackBytes = threadStackBytes;
+    }
+
+    /**
+     * Routes System.in and System.out by session and starts listening for
+     * connections, which are accepted once run() is called
+     *
+     * @throws IOException  if the server could not listen on its address
+     */
+    public void start() throws IOException {
+        SessionConsole.install();
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, BACKLOG);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        running = true;
+    }
+
+    /**
+     * Returns the address the server is listening on
+     *
+     * @return              the local address of the server
+     * @throws IOException  if the address could not be read
+     */
+    public InetSocketAddress getAddress() throws IOException {
+        return (InetSocketAddress) serverChannel.getLocalAddress();
+    }
+
+    /**
+     * Accepts connections and moves their input and output until stop() is called
+     */
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+                processRequests();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        while (accept()) {
+                            // Accept every waiting connection, so the backlog does not fill during a burst
+                        }
+                        continue;
+                    }
+                    Session session = (Session) key.attachment();
+                    if (key.isReadable()) {
+                        read(session);
+                    }
+                    if (key.isValid() && key.isWritable()) {
+                        write(session);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error when serving sessions:");
+            System.err.println(e.getMessage());
+        } finally {
+            for (Session session : sessions.values()) {
+                close(session);
+            }
+            try {
+                serverChannel.close();
+                selector.close();
+            } catch (IOException e) {
+                System.err.println("Error when closing:");
+                System.err.println(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Stops accepting connections and closes every session
+     */
+    public void stop() {
+        running = false;
+        if (selector != null) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * Accepts a waiting connection
+     *
+     * @return  true if a connection was waiting, false otherwise
+     */
+    private boolean accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return false;
+        }
+        if (sessions.size() >= maxSessions) {
+            rejectedCount.incrementAndGet();
+            // Best effort, as the channel is not read or written again
+            channel.configureBlocking(false);
+            channel.write(ByteBuffer.wrap(SERVER_FULL));
+            channel.close();
+            return true;
+        }
+
+        channel.configureBlocking(false);
+        Session session = new Session(nextId.incrementAndGet(), this, channel, menu, sessionBufferBytes);
+        session.setKey(channel.register(selector, SelectionKey.OP_READ, session));
+        sessions.put(session.getId(), session);
+        acceptedCount.incrementAndGet();
+
+        Thread thread = new Thread(null, session, "session-" + session.getId(), threadStackBytes);
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    private void read(Session session) {
+        SelectionKey key = session.getKey();
+        readBuffer.clear();
+        int received;
+        try {
+            received = session.getChannel().read(readBuffer);
+        } catch (IOException e) {
+            received = -1;
+        }
+        if (received < 0) {
+            // The menus read what is left, then find the input ended and return
+            session.getInput().close();
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+            return;
+        }
+
+        readBuffer.flip();
+        int buffered = session.getInput().feed(readBuffer);
+        if (session.inputReceived(received, buffered, sessionBufferBytes)) {
+            session.setReadPaused(true);
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+        }
+    }
+
+    private void write(Session session) {
+        SelectionKey key = session.getKey();
+        try {
+            session.outputSent(session.getOutput().writeTo(session.getChannel()));
+        } catch (IOException e) {
+            close(session);
+            return;
+        }
+        if (session.getOutput().isDrained()) {
+            if (session.isFinished()) {
+                close(session);
+            } else {
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+            }
+        }
+    }
+
+    /**
+     * Applies the changes requested by session threads since the last select
+     */
+    private void processRequests() {
+        Session session;
+        while ((session = pendingReads.poll()) != null) {
+            SelectionKey key = session.getKey();
+            if (key.isValid() && session.isReadPaused()) {
+                session.setReadPaused(false);
+                key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+            }
+        }
+        while ((session = pendingWrites.poll()) != null) {
+            SelectionKey key = session.getKey();
+            if (key.isValid()) {
+                key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+            }
+        }
+        while ((session = pendingFinishes.poll()) != null) {
+            if (session.getOutput().isDrained()) {
+                close(session);
+            } else if (session.getKey().isValid()) {
+                // The session is closed once the rest of its output is sent
+                session.getKey().interestOps(SelectionKey.OP_WRITE);
+            }
+        }
+    }
+
+    private void close(Session session) {
+        if (sessions.remove(session.getId()) == null) {
+            return;
+        }
+        session.getKey().cancel();
+        session.getInput().close();
+        session.getOutput().close();
+        try {
+            session.getChannel().close();
+        } catch (IOException e) {
+            System.err.println("Error when closing:");
+            System.err.println(e.getMessage());
+        }
+        if (session.isFinished()) {
+            System.err.println("Closed " + session);
+        }
+    }
+
+    /**
+     * Asks the selector to resume reading from a session's client
+     */
+    void requestRead(Session session) {
+        pendingReads.add(session);
+        selector.wakeup();
+    }
+
+    /**
+     * Asks the selector to send a session's queued output
+     */
+    void requestWrite(Session session) {
+        pendingWrites.add(session);
+        selector.wakeup();
+    }
+
+    /**
+     * Returns the recorder of the sessions' input
+     *
+     * @return  the recorder, null if sessions are not recorded
+     */
+    SessionRecorder getRecorder() {
+        return recorder;
+    }
+
+    /**
+     * Asks the selector to close a session once its menus have returned and
+     * its output has been sent
+     */
+    void sessionFinished(Session session) {
+        pendingFinishes.add(session);
+        selector.wakeup();
+    }
+
+    int getSessionBufferBytes() {
+        return sessionBufferBytes;
+    }
+
+    /**
+     * Returns the number of sessions connected
+     *
+     * @return  number of open sessions
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Returns the number of sessions whose menus are running rather than
+     * waiting for input
+     *
+     * @return  number of active sessions
+     */
+    public int getActiveSessionCount() {
+        int active = 0;
+        for (Session session : sessions.values()) {
+            if (session.isActive()) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Returns the memory held by the buffers of all sessions
+     *
+     * @return  bytes held by session buffers
+     */
+    public long getBufferMemory() {
+        long memory = 0;
+        for (Session session : sessions.values()) {
+            memory += session.getBufferMemory();
+        }
+        return memory;
+    }
+
+    /**
+     * Returns the stack memory reserved by the threads of all sessions
+     *
+     * @return  bytes of stack reserved, 0 if the JVM's default stack size is used
+     */
+    public long getReservedStackMemory() {
+        return sessions.size() * threadStackBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SessionServer[sessions=%d, active=%d, accepted=%d, rejected=%d, "
+                + "bufferMemory=%d B, reservedStack=%d B]", getSessionCount(), getActiveSessionCount(),
+                acceptedCount.get(), rejectedCount.get(), getBufferMemory(), getReservedStackMemory());
+    }
+}
@@ -3,6 +3,7 @@ package social.feed;
 import java.util.List;
 
 import entities.Thread;
+import entities.ThreadView;
 import entities.User;
 
 /**
@@ -27,9 +28,21 @@ public class NewsFeedCtrl {
      * Gets a List of up to top 5 Threads of the user's feed
      * 
      * @param user  the User object of the user
-     * @return      List of Thread objects of up to top 5 threads of the user
+     * @return      List of ThreadView objects of up to top 5 threads of the user
      */
-    public List<Thread> getFeedThreads(User user) {
+    public List<ThreadView> getFeedThreads(User user) {
         return newsFeedGetter.getFeedThreads(user);
     }
+
+    /**
+     * Gets the page of Threads of the user's feed after or before the anchor
+     * 
+     * @param user      the User object of the user
+     * @param anchor    the Thread object at the edge of the current page
+     * @param older     true for the next (older) page, false for the previous (newer) page
+     * @return          List of ThreadView objects of up to 5 threads of the user's feed
+     */
+    public List<ThreadView> getFeedThreads(User user, Thread anchor, boolean older) {
+        return newsFeedGetter.getFeedThreads(user, anchor, older);
+    }
 }
\ No newline at end of file
@@ -4,7 +4,9 @@ import java.util.List;
 
 import daos.ThreadDAO;
 import entities.Thread;
+import entities.ThreadView;
 import entities.User;
+import social.thread.ThreadHydrator;
 
 /**
  * The NewsFeedGetter class retrieves threads for a feed
@@ -17,18 +19,34 @@ public class NewsFeedGetter {
     /** TDM provides access to the Thread table in the database */
     private ThreadDAO TDM;
 
-    /** Creates a NewsFeedGetter object with a default Thread DM */
+    /** threadHydrator loads the reactions and comments of threads */
+    private ThreadHydrator threadHydrator;
+
+    /** Creates a NewsFeedGetter object with a default Thread DM and ThreadHydrator */
     public NewsFeedGetter() {
         TDM = new ThreadDAO();
+        threadHydrator = new ThreadHydrator();
     }
 
     /**
      * Gets a List of up to top 5 Threads of the user's feed
      * 
      * @param user  the User object of the user
-     * @return      List of Thread objects of up to top 5 threads of the user
+     * @return      List of ThreadView objects of up to top 5 threads of the user
+     */
+    public List<ThreadView> getFeedThreads(User user) {
+        return threadHydrator.hydrate(TDM.getFeedThreads(user));
+    }
+
+    /**
+     * Gets the page of Threads of the user's feed after or before the anchor
+     * 
+     * @param user      the User object of the user
+     * @param anchor    the Thread object at the edge of the current page
+     * @param older     true for the next (older) page, false for the previous (newer) page
+     * @return          List of ThreadView objects of up to 5 threads of the user's feed
      */
-    public List<Thread> getFeedThreads(User user) {
-        return TDM.getFeedThreads(user);
+    public List<ThreadView> getFeedThreads(User user, Thread anchor, boolean older) {
+        return threadHydrator.hydrate(TDM.getFeedThreads(user, anchor, older));
     }
 }
\ No newline at end of file
@@ -6,10 +6,12 @@ import java.util.List;
 import java.util.Scanner;
 
 import entities.Thread;
+import entities.ThreadView;
 import entities.User;
 import social.thread.InvalidThreadException;
 import social.thread.ThreadMenu;
 import social.thread.ThreadUtility;
+import util.Screen;
 import util.Utility;
 
 /**
@@ -26,8 +28,8 @@ public class NewsFeedMenu {
     /** loggedInUser is the User object of the logged in user */
     private User loggedInUser;
 
-    /** threads is a List of up to top 5 Thread objects on the News Feed Page of the user */
-    private List<Thread> threads;
+    /** threads is the page of up to 5 ThreadView objects shown on the News Feed Page of the user */
+    private List<ThreadView> threads;
 
     /**
      * Creates a NewsFeedMenu object with the specified loggedInUser
@@ -44,13 +46,15 @@ public class NewsFeedMenu {
      * Displays the News Feed Page, input choices, and prompt
      */
     public void display() {
-        System.out.println();
-        System.out.println(" == Social Magnet :: News Feed ==");
+        try (Screen screen = Screen.begin()) {
+            screen.println();
+            screen.println(" == Social Magnet :: News Feed ==");
 
-        ThreadUtility.displayTopThreads(threads);
+            ThreadUtility.displayTopThreads(threads);
 
 
-        System.out.print("[M]ain | [T]hread > ");
+            screen.print("[M]ain | [T]hread | [N]ext | Pre[v] > ");
+        }
     }
 
     /**
@@ -65,7 +69,7 @@ public class NewsFeedMenu {
         do {
             display();
 
-            input = Utility.getNonEmptyInput("[M]ain | [T]hread > ", sc, false);
+            input = Utility.getNonEmptyInput("[M]ain | [T]hread | [N]ext | Pre[v] > ", sc, false);
 
             ArrayList<Character> excusedChars = new ArrayList<>(Arrays.asList('T'));
             choice = Utility.getCharFromInput(input, excusedChars);
@@ -78,9 +82,17 @@ public class NewsFeedMenu {
                 case 'T':
                     choice = displaySpecificThread(input);
                     break;
+
+                case 'N':
+                    showNextPage();
+                    break;
+
+                case 'V':
+                    showPreviousPage();
+                    break;
                     
                 default:
-                    System.out.println("Please enter a choice from | M | T |");
+                    System.out.println("Please enter a choice from | M | T | N | V |");
             }
         } while(choice != 'M');
     }
@@ -103,4 +115,38 @@ public class NewsFeedMenu {
             return 'T';
         }
     }
+
+    /**
+     * Shows the next page of threads, which are older than those shown
+     */
+    public void showNextPage() {
+        List<ThreadView> page = new ArrayList<>();
+        if (!threads.isEmpty()) {
+            Thread lastThread = threads.get(threads.size() - 1).getThread();
+            page = newsFeedCtrl.getFeedThreads(loggedInUser, lastThread, true);
+        }
+
+        if (page.isEmpty()) {
+            System.out.println("There are no older threads.");
+        } else {
+            this.threads = page;
+        }
+    }
+
+    /**
+     * Shows the previous page of threads, which are newer than those shown
+     */
+    public void showPreviousPage() {
+        List<ThreadView> page = new ArrayList<>();
+        if (!threads.isEmpty()) {
+            Thread firstThread = threads.get(0).getThread();
+            page = newsFeedCtrl.getFeedThreads(loggedInUser, firstThread, false);
+        }
+
+        if (page.isEmpty()) {
+            System.out.println("You are already on the first page.");
+        } else {
+            this.threads = page;
+        }
+    }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import java.util.Scanner;
 
 import entities.User;
 import social.wall.FriendWallMenu;
+import util.Screen;
 import util.Utility;
 
 /**
@@ -53,15 +54,17 @@ public class FriendsMenu {
      * Displays the My Friends Page, input choices, and prompt
      */
     public void display() {
-        System.out.println();
-        System.out.println(" == Social Magnet :: My Friends ==");
-        System.out.println("Welcome, " + loggedInUser.getFullName() + "!\n");
-        
-        displayFriendsOrRequests(friends, 0, "Friends");
-        System.out.println();
-        displayFriendsOrRequests(requests, noOfFriends, "Requests");
+        try (Screen screen = Screen.begin()) {
+            screen.println();
+            screen.println(" == Social Magnet :: My Friends ==");
+            screen.print("Welcome, ").print(loggedInUser.getFullName()).println("!\n");
+
+            displayFriendsOrRequests(friends, 0, "Friends");
+            screen.println();
+            displayFriendsOrRequests(requests, noOfFriends, "Requests");
 
-        System.out.print("[M]ain | [U]nfriend | re[Q]uest | [A]ccept | [R]eject | [V]iew > ");
+            screen.print("[M]ain | [U]nfriend | re[Q]uest | [A]ccept | [R]eject | [V]iew > ");
+        }
     }
 
     /**
@@ -125,16 +128,18 @@ public class FriendsMenu {
      * @param listType          the list type, either 'Friends' or 'Requests'
      */
     public void displayFriendsOrRequests(List<User> friendsOrRequests, int start_index, String listType) {
-        System.out.println("My " + listType + ":");
+        try (Screen screen = Screen.begin()) {
+            screen.print("My ").print(listType).println(":");
 
-        if (friendsOrRequests.size() == 0) {
-            System.out.println("No one on your " + listType + " List.");
+            if (friendsOrRequests.size() == 0) {
+                screen.print("No one on your ").print(listType).println(" List.");
 
-        } else {
+            } else {
 
-            for (int i = 1; i <= friendsOrRequests.size(); i++) {
-                User friendOrRequest = friendsOrRequests.get(i - 1);
-                System.out.printf("%d. %s\n", (start_index + i), friendOrRequest.getUsername());
+                for (int i = 1; i <= friendsOrRequests.size(); i++) {
+                    User friendOrRequest = friendsOrRequests.get(i - 1);
+                    screen.printf("%d. %s\n", (start_index + i), friendOrRequest.getUsername());
+                }
             }
         }
     }
@@ -3,6 +3,7 @@ package social.thread;
 import java.util.List;
 
 import daos.ReactionDAO;
+import daos.UnitOfWork;
 import daos.UserDAO;
 import entities.Reaction;
 import entities.Thread;
@@ -72,19 +73,22 @@ public class ReactionManager {
         String reactorUsername = user.getUsername();
         Reaction previousOppositeReaction = getPreviousReaction(oppositeReactions, user);
 
-        if (previousOppositeReaction != null) {
-            RDM.deleteReaction(thread, previousOppositeReaction);
-        }
+        // Replace the opposite reaction and update the thread's counts in a single transaction
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            if (previousOppositeReaction != null) {
+                RDM.deleteReaction(thread, previousOppositeReaction);
+            }
 
-        // adding new reaction
-        Reaction newReaction;
-        if (isLike) {
-            newReaction = new Reaction(reactorUsername, 1);
-        } else {
-            newReaction = new Reaction(reactorUsername, -1);
-        }
+            // adding new reaction
+            Reaction newReaction;
+            if (isLike) {
+                newReaction = new Reaction(reactorUsername, 1);
+            } else {
+                newReaction = new Reaction(reactorUsername, -1);
+            }
 
-        return RDM.addReaction(thread, newReaction);
+            return RDM.addReaction(thread, newReaction) && unitOfWork.commit();
+        }
     }
 
     /**
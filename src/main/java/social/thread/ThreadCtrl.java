@@ -66,6 +66,17 @@ public class ThreadCtrl {
         return threadManager.checkCanKill(thread, user);
     }
 
+    /**
+     * Checks if the user is one of those tagged in the thread
+     * 
+     * @param thread    the Thread object to check
+     * @param user      the User object to check if tagged
+     * @return          true if tagged in thread, false otherwise
+     */
+    public boolean isTagged(Thread thread, User user) {
+        return threadManager.isTagged(thread, user);
+    }
+
     /**
      * Checks if the user is the owner of the thread
      * 
@@ -0,0 +1,72 @@
+package social.thread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import daos.AsyncDAO;
+import daos.CommentDAO;
+import daos.ReactionDAO;
+import entities.Comment;
+import entities.Thread;
+import entities.ThreadView;
+
+/**
+ * The ThreadHydrator class loads the reaction counts and comments of a page
+ * of threads, with one query for all reactions and one for all comments
+ *  
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class ThreadHydrator {
+
+    /** RDM provides access to the Reaction table in the database */
+    private ReactionDAO RDM;
+
+    /** CDM provides access to the Comment table in the database */
+    private CommentDAO CDM;
+
+    /** ADM runs reads of the database asynchronously */
+    private AsyncDAO ADM;
+
+    /** Creates a new ThreadHydrator with a default Reaction, Comment and Async DM */
+    public ThreadHydrator() {
+        RDM = new ReactionDAO();
+        CDM = new CommentDAO();
+        ADM = new AsyncDAO();
+    }
+
+    /**
+     * Returns the specified threads with their number of likes, number of dislikes 
+     * and comments, in the same order
+     * 
+     * @param threads   the List of Thread objects to load
+     * @return          List of ThreadView objects of the threads
+     */
+    public List<ThreadView> hydrate(List<Thread> threads) {
+        return combine(threads, RDM.getReactionCounts(threads), CDM.getComments(threads));
+    }
+
+    /**
+     * Returns the specified threads with their number of likes, number of dislikes 
+     * and comments, loading the reactions and comments at the same time
+     * 
+     * @param threads   the List of Thread objects to load
+     * @return          future List of ThreadView objects of the threads
+     */
+    public CompletableFuture<List<ThreadView>> hydrateAsync(List<Thread> threads) {
+        return ADM.getReactionCounts(threads).thenCombine(ADM.getComments(threads),
+                (reactionCounts, comments) -> combine(threads, reactionCounts, comments));
+    }
+
+    private static List<ThreadView> combine(List<Thread> threads, Map<Thread, int[]> reactionCounts,
+            Map<Thread, List<Comment>> comments) {
+        List<ThreadView> threadViews = new ArrayList<>();
+        for (Thread thread : threads) {
+            int[] counts = reactionCounts.get(thread);
+            threadViews.add(new ThreadView(thread, counts[0], counts[1], comments.get(thread)));
+        }
+        return threadViews;
+    }
+}
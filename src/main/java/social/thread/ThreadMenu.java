@@ -6,6 +6,7 @@ import java.util.Scanner;
 import entities.Reaction;
 import entities.Thread;
 import entities.User;
+import util.Screen;
 import util.Utility;
 
 /**
@@ -49,10 +50,12 @@ public class ThreadMenu {
      * Displays the View a Thread Page, input choices, and prompt
      */
     public void display() {
-        System.out.println();
-        System.out.println(" == Social Magnet :: View a Thread ==");
-        displayThread();
-        System.out.print("[M]ain | [K]ill | [R]eply | [L]ike | [D]islike > ");
+        try (Screen screen = Screen.begin()) {
+            screen.println();
+            screen.println(" == Social Magnet :: View a Thread ==");
+            displayThread();
+            screen.print("[M]ain | [K]ill | [R]eply | [L]ike | [D]islike > ");
+        }
     }
 
     /**
@@ -107,16 +110,17 @@ public class ThreadMenu {
      * Displays the thread text, comments, who liked and disliked the thread on the page
      */
     public void displayThread() {
-        ThreadUtility.displayThreadText(thread, 1);
-        ThreadUtility.displayComments(thread, 1);
-        System.out.println();
-        
-        System.out.println("Who likes this post:");
-        displayReactions(likes);
-
-        System.out.println("Who dislikes this post:");
-        displayReactions(dislikes);
-        
+        try (Screen screen = Screen.begin()) {
+            ThreadUtility.displayThreadText(thread, 1);
+            ThreadUtility.displayComments(thread, 1);
+            screen.println();
+
+            screen.println("Who likes this post:");
+            displayReactions(likes);
+
+            screen.println("Who dislikes this post:");
+            displayReactions(dislikes);
+        }
     }
 
     /**
@@ -126,15 +130,16 @@ public class ThreadMenu {
      * @param likesOrDislikes   the List of Reaction objects of likes or dislikes
      */
     public void displayReactions(List<Reaction> likesOrDislikes) {
+        try (Screen screen = Screen.begin()) {
+            for (int i = 1; i <= likesOrDislikes.size(); i++) {
+                Reaction likeOrDislike = likesOrDislikes.get(i - 1);
+                // get user - fullname and username and print
+                String reactorFullname = threadCtrl.getReactorFullname(likeOrDislike);
 
-        for (int i = 1; i <= likesOrDislikes.size(); i++) {
-            Reaction likeOrDislike = likesOrDislikes.get(i - 1);
-            // get user - fullname and username and print
-            String reactorFullname = threadCtrl.getReactorFullname(likeOrDislike);
-
-            System.out.printf("%3d. %s (%s)\n", i, reactorFullname, likeOrDislike.getReactorUsername());
+                screen.printf("%3d. %s (%s)\n", i, reactorFullname, likeOrDislike.getReactorUsername());
+            }
+            screen.println();
         }
-        System.out.println();
     }
 
     /**
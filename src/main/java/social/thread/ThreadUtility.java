@@ -3,12 +3,12 @@ package social.thread;
 import java.util.List;
 
 import daos.CommentDAO;
-import daos.ReactionDAO;
 import entities.Comment;
 import entities.GiftThread;
 import entities.PostThread;
-import entities.Reaction;
 import entities.Thread;
+import entities.ThreadView;
+import util.Screen;
 
 /**
  * The ThreadUtility class contains the utility functions for dealing with threads
@@ -21,49 +21,45 @@ public class ThreadUtility {
     /**
      * Displays the list of top threads specified on wall / newsfeed
      * 
-     * @param threads   the List of Thread objects to display on page
+     * @param threads   the List of ThreadView objects to display on page
      */
-    public static void displayTopThreads(List<Thread> threads){
-
-        if (threads == null || threads.size() == 0) {
-            System.out.println("\nNo threads to display.");
-            return;
-        }
-
-        for (int i = 1; i <= threads.size(); i++) {
-            Thread thread = threads.get(i - 1);
-            displaySimplifiedThread(thread, i);
-            System.out.println();
+    public static void displayTopThreads(List<ThreadView> threads){
+
+        try (Screen screen = Screen.begin()) {
+            if (threads == null || threads.size() == 0) {
+                screen.println("\nNo threads to display.");
+                return;
+            }
+
+            for (int i = 1; i <= threads.size(); i++) {
+                ThreadView thread = threads.get(i - 1);
+                displaySimplifiedThread(thread, i);
+                screen.println();
+            }
         }
     }
 
     /**
      * Displays simplified thread as a listing with index on e.g. My Wall, News Feed, etc
      * 
-     * @param thread    the Thread object
-     * @param index     the index of the thread
+     * @param threadView    the ThreadView object, with its reactions and comments loaded
+     * @param index         the index of the thread
      */
-    public static void displaySimplifiedThread(Thread thread, int index) {
-        displayThreadText(thread, index);
-
-        ReactionDAO RDM = new ReactionDAO();
-
-        List<Reaction> likes = RDM.getLikes(thread);
-        List<Reaction> dislikes = RDM.getDislikes(thread);
-
-        displayLikesDislikesCount(likes, dislikes);
-        displayComments(thread, index);
+    public static void displaySimplifiedThread(ThreadView threadView, int index) {
+        displayThreadText(threadView.getThread(), index);
+        displayLikesDislikesCount(threadView.getLikeCount(), threadView.getDislikeCount());
+        displayComments(threadView.getComments(), index);
     }
 
     /**
      * Gets the thread specified by the user's input from the list of threads
      * 
-     * @param threads   the list of Thread objects to select from
+     * @param threads   the list of ThreadView objects to select from
      * @param input     the user's input, of format <X><index>
      * @return          the Thread object from the list, corresponding to the index of the user's input
      * @throws InvalidThreadException
      */
-    public static Thread getThreadByInput(List<Thread> threads, String input) throws InvalidThreadException{
+    public static Thread getThreadByInput(List<ThreadView> threads, String input) throws InvalidThreadException{
         String threadString = input.substring(1);
         int threadNumber;
 
@@ -88,7 +84,7 @@ public class ThreadUtility {
                     "Invalid thread number! Max number allowed is " + threads.size());
         }
 
-        Thread thread = threads.get(threadNumber - 1);
+        Thread thread = threads.get(threadNumber - 1).getThread();
 
         return thread;
     }
@@ -101,26 +97,30 @@ public class ThreadUtility {
      */
     public static void displayThreadText(Thread thread, int index) {
 
-        if (thread instanceof GiftThread) {
-            GiftThread giftThread = (GiftThread) thread;
-            System.out.printf("%d. %s: Here is a bag of %s seeds for you. - City Farmers\n", 
-                    index, thread.getSenderUsername(), giftThread.getCropName());
-            
-        } else if (thread instanceof PostThread) {
-            PostThread postThread = (PostThread) thread;
-            System.out.printf("%d. %s: %s\n", index, 
-                    thread.getSenderUsername(), postThread.getText());
+        try (Screen screen = Screen.begin()) {
+            if (thread instanceof GiftThread) {
+                GiftThread giftThread = (GiftThread) thread;
+                screen.printf("%d. %s: Here is a bag of %s seeds for you. - City Farmers\n", 
+                        index, thread.getSenderUsername(), giftThread.getCropName());
+                
+            } else if (thread instanceof PostThread) {
+                PostThread postThread = (PostThread) thread;
+                screen.printf("%d. %s: %s\n", index, 
+                        thread.getSenderUsername(), postThread.getText());
+            }
         }
     }
 
     /**
      * Displays the number of likes and dislikes formatted as [ <no.> likes, <no.> dislikes ]
      * 
-     * @param likes     List of Reaction of type like
-     * @param dislikes  List of Reaction of type dislike
+     * @param likeCount     number of likes
+     * @param dislikeCount  number of dislikes
      */
-    public static void displayLikesDislikesCount(List<Reaction> likes, List<Reaction> dislikes) {
-        System.out.printf("[ %d likes, %d dislikes ]\n", likes.size(), dislikes.size());
+    public static void displayLikesDislikesCount(int likeCount, int dislikeCount) {
+        try (Screen screen = Screen.begin()) {
+            screen.printf("[ %d likes, %d dislikes ]\n", likeCount, dislikeCount);
+        }
     }
 
     /**
@@ -131,18 +131,28 @@ public class ThreadUtility {
      */
     public static void displayComments(Thread thread, int index) {
         CommentDAO CDM = new CommentDAO();
-        List<Comment> comments = CDM.getComments(thread);
-        
+        displayComments(CDM.getComments(thread), index);
+    }
+
+    /**
+     * Displays the specified comments of a thread, starting with index
+     * 
+     * @param comments  the List of Comment objects of the thread
+     * @param index     the index to start the comment with
+     */
+    public static void displayComments(List<Comment> comments, int index) {
         if (comments == null) {
             return;
         }
 
-        for (int i = 1; i <= comments.size(); i++ ) {
-            Comment comment = comments.get(i - 1);
-            String username = comment.getCommenterUsername();
-            String commentText = comment.getText();
+        try (Screen screen = Screen.begin()) {
+            for (int i = 1; i <= comments.size(); i++ ) {
+                Comment comment = comments.get(i - 1);
+                String username = comment.getCommenterUsername();
+                String commentText = comment.getText();
 
-            System.out.printf("%5d.%d %s: %s\n", index, i, username, commentText);
+                screen.printf("%5d.%d %s: %s\n", index, i, username, commentText);
+            }
         }
     }
 }
\ No newline at end of file
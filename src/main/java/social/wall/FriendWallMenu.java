@@ -4,12 +4,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
 
 import entities.Thread;
+import entities.ThreadView;
 import entities.User;
 import social.thread.InvalidThreadException;
 import social.thread.ThreadMenu;
 import social.thread.ThreadUtility;
+import util.Screen;
 import util.Utility;
 
 /**
@@ -29,8 +32,11 @@ public class FriendWallMenu {
     /** loggedInUser is the User object of the logged in user */
     private User loggedInUser;
 
-    /** threads is a List of up to top 5 Thread objects on the Wall Page of the friend */
-    private List<Thread> threads;
+    /** threads is the page of up to 5 ThreadView objects shown on the Wall Page of the friend */
+    private List<ThreadView> threads;
+
+    /** pendingThreads is the page of threads still being loaded, null once it has loaded */
+    private CompletableFuture<List<ThreadView>> pendingThreads;
 
     /**
      * Creates a FriendWallMenu object with the specified friendUser and loggedInUser
@@ -42,28 +48,35 @@ public class FriendWallMenu {
         this.wallCtrl = new WallCtrl();
         this.friendUser = friendUser;
         this.loggedInUser = loggedInUser;
-        this.threads = wallCtrl.getWallThreads(friendUser);
+        // Threads load while the rest of the page is retrieved on the first display
+        this.pendingThreads = wallCtrl.getWallThreadsAsync(friendUser);
     }
 
     /**
      * Displays the Friend's Wall Page, input choices, and prompt
      */
     public void display() {
-        String friendUsername = friendUser.getUsername();
-        String capitalFriendUsername = friendUsername.substring(0, 1).toUpperCase() + friendUsername.substring(1);
+        try (Screen screen = Screen.begin()) {
+            // Retrieve the independent parts of the page at the same time
+            CompletableFuture<Integer> richRank = wallCtrl.getRichRankAsync(friendUser);
+            CompletableFuture<List<User>> friendsOfFriend = wallCtrl.getFriendsAsync(friendUser);
+
+            String friendUsername = friendUser.getUsername();
+            String capitalFriendUsername = friendUsername.substring(0, 1).toUpperCase() + friendUsername.substring(1);
+
+            screen.println();
+            screen.println(" == Social Magnet :: " + capitalFriendUsername + "'s Wall ==");
+            screen.println("Welcome, " + loggedInUser.getFullName() + "!\n");
 
-        System.out.println();
-        System.out.println(" == Social Magnet :: " + capitalFriendUsername + "'s Wall ==");
-        System.out.println("Welcome, " + loggedInUser.getFullName() + "!\n");
+            wallCtrl.displayUserInfo(friendUser, richRank.join());
 
-        wallCtrl.displayUserInfo(friendUser);
-        
-        ThreadUtility.displayTopThreads(threads);
+            ThreadUtility.displayTopThreads(getThreads());
 
-        System.out.println("\n" + capitalFriendUsername + "'s Friend");
-        displayUserFriends();
+            screen.println("\n" + capitalFriendUsername + "'s Friend");
+            displayUserFriends(friendsOfFriend.join());
 
-        System.out.print("[M]ain | [T]hread | [P]ost > ");
+            screen.print("[M]ain | [T]hread | [P]ost | [N]ext | Pre[v] > ");
+        }
     }
 
     /**
@@ -80,7 +93,7 @@ public class FriendWallMenu {
         do {
             display();
 
-            input = Utility.getNonEmptyInput("[M]ain | [T]hread | [P]ost > ", sc, false);
+            input = Utility.getNonEmptyInput("[M]ain | [T]hread | [P]ost | [N]ext | Pre[v] > ", sc, false);
                         
             ArrayList<Character> excusedChars = new ArrayList<>(Arrays.asList('T'));
             choice = Utility.getCharFromInput(input, excusedChars);
@@ -98,8 +111,16 @@ public class FriendWallMenu {
                     postOnWall(sc);
                     break;
 
+                case 'N':
+                    showNextPage();
+                    break;
+
+                case 'V':
+                    showPreviousPage();
+                    break;
+
                 default:
-                    System.out.println("Please enter a choice from | M | T | P |");
+                    System.out.println("Please enter a choice from | M | T | P | N | V |");
             }
         } while(choice != 'M');
 
@@ -114,7 +135,7 @@ public class FriendWallMenu {
      */
     public char displaySpecificThread(String input) {
         try {
-            Thread threadByInput = ThreadUtility.getThreadByInput(threads, input);
+            Thread threadByInput = ThreadUtility.getThreadByInput(getThreads(), input);
             ThreadMenu threadMenu = new ThreadMenu(threadByInput, loggedInUser);
 
             return threadMenu.readOption();
@@ -125,6 +146,42 @@ public class FriendWallMenu {
         }
     }
 
+    /**
+     * Shows the next page of threads, which are older than those shown
+     */
+    public void showNextPage() {
+        List<ThreadView> shown = getThreads();
+        List<ThreadView> page = new ArrayList<>();
+        if (!shown.isEmpty()) {
+            Thread lastThread = shown.get(shown.size() - 1).getThread();
+            page = wallCtrl.getWallThreads(friendUser, lastThread, true);
+        }
+
+        if (page.isEmpty()) {
+            System.out.println("There are no older threads.");
+        } else {
+            this.threads = page;
+        }
+    }
+
+    /**
+     * Shows the previous page of threads, which are newer than those shown
+     */
+    public void showPreviousPage() {
+        List<ThreadView> shown = getThreads();
+        List<ThreadView> page = new ArrayList<>();
+        if (!shown.isEmpty()) {
+            Thread firstThread = shown.get(0).getThread();
+            page = wallCtrl.getWallThreads(friendUser, firstThread, false);
+        }
+
+        if (page.isEmpty()) {
+            System.out.println("You are already on the first page.");
+        } else {
+            this.threads = page;
+        }
+    }
+
     /**
      * Displays a list of the friend's friends, indicating when he/she is also friend 
      * with the current user, in the format:
@@ -132,20 +189,29 @@ public class FriendWallMenu {
      * <index>. Full name           [if not friends with current user]
      */
     public void displayUserFriends() {
-        List<User> friendsOfFriend = wallCtrl.getFriends(friendUser);
+        displayUserFriends(wallCtrl.getFriends(friendUser));
+    }
 
-        for (int i = 1; i <= friendsOfFriend.size(); i++) {
-            User friendOfFriend = friendsOfFriend.get(i - 1);
+    /**
+     * Displays a list of the friend's friends that has already been retrieved
+     * 
+     * @param friendsOfFriend   List of User objects of the friend's friends
+     */
+    private void displayUserFriends(List<User> friendsOfFriend) {
+        try (Screen screen = Screen.begin()) {
+            for (int i = 1; i <= friendsOfFriend.size(); i++) {
+                User friendOfFriend = friendsOfFriend.get(i - 1);
+
+                String result = "" + i + ". " + friendOfFriend.getFullName();
 
-            String result = "" + i + ". " + friendOfFriend.getFullName();
+                if (wallCtrl.isFriend(friendOfFriend, loggedInUser)) {
+                    result += " (Common Friend)";
+                }
 
-            if (wallCtrl.isFriend(friendOfFriend, loggedInUser)) {
-                result += " (Common Friend)";
+                screen.println(result);
             }
-            
-            System.out.println(result);
+            screen.println();
         }
-        System.out.println();
     }
 
     /**
@@ -161,10 +227,23 @@ public class FriendWallMenu {
         if (result) {
             System.out.println("Message successfully posted.");
             // update threads shown on wall after user post on the wall
-            this.threads = wallCtrl.getWallThreads(friendUser);
+            this.pendingThreads = wallCtrl.getWallThreadsAsync(friendUser);
         } else {
             System.out.println("Message unsuccessfully posted. Please try again.");
         }
 
     }
+
+    /**
+     * Gets the page of threads shown, waiting for it if it is still being loaded
+     * 
+     * @return  List of ThreadView objects of the page shown
+     */
+    private List<ThreadView> getThreads() {
+        if (pendingThreads != null) {
+            this.threads = pendingThreads.join();
+            this.pendingThreads = null;
+        }
+        return threads;
+    }
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package social.wall;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import daos.GiftDAO;
+import daos.UnitOfWork;
 import entities.Crop;
 import entities.User;
 
@@ -29,6 +31,13 @@ public class GiftAccepter {
      * @return      the Map object, key = Crop, value = no. of times the crop was accepted
      */
     public Map<Crop, Integer> acceptGifts(User user) {
-        return GDM.acceptGifts(user); 
+        // Accept all gifts in a single transaction
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            Map<Crop, Integer> acceptedGifts = GDM.acceptGifts(user);
+            if (!unitOfWork.commit()) {
+                return new HashMap<>();
+            }
+            return acceptedGifts;
+        }
     }
 }
\ No newline at end of file
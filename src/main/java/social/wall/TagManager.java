@@ -45,12 +45,7 @@ public class TagManager {
         Set<String> allUniqueTags = new HashSet<>(allTags);
 
         // Check if matches are user's friends
-        List<User> friends = FDM.getFriends(user);
-
-        List<String> friendsUsernames = new ArrayList<>();
-        for (User friend: friends) {
-            friendsUsernames.add(friend.getUsername());
-        }
+        List<String> friendsUsernames = FDM.getFriendUsernames(user);
 
         List<String> result = new ArrayList<>();
 
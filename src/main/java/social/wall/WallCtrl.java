@@ -3,9 +3,11 @@ package social.wall;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
 
 import entities.Crop;
 import entities.Thread;
+import entities.ThreadView;
 import entities.User;
 
 /**
@@ -40,12 +42,34 @@ public class WallCtrl {
      * Gets a List of up to top 5 Threads on the user's wall
      * 
      * @param user  the User object of the user
-     * @return      List of Thread objects of up to top 5 threads on the user's wall
+     * @return      List of ThreadView objects of up to top 5 threads on the user's wall
      */
-    public List<Thread> getWallThreads(User user) {
+    public List<ThreadView> getWallThreads(User user) {
         return wallGetter.getWallThreads(user);
     }
 
+    /**
+     * Starts getting up to top 5 Threads on the user's wall
+     * 
+     * @param user  the User object of the user
+     * @return      future List of ThreadView objects of up to top 5 threads on the user's wall
+     */
+    public CompletableFuture<List<ThreadView>> getWallThreadsAsync(User user) {
+        return wallGetter.getWallThreadsAsync(user);
+    }
+
+    /**
+     * Gets the page of Threads on the user's wall after or before the anchor
+     * 
+     * @param user      the User object of the user
+     * @param anchor    the Thread object at the edge of the current page
+     * @param older     true for the next (older) page, false for the previous (newer) page
+     * @return          List of ThreadView objects of up to 5 threads on the user's wall
+     */
+    public List<ThreadView> getWallThreads(User user, Thread anchor, boolean older) {
+        return wallGetter.getWallThreads(user, anchor, older);
+    }
+
     /**
      * Accepts all the gifts that the user has not accepted yet
      * 
@@ -98,6 +122,27 @@ public class WallCtrl {
         wallUtility.displayUserInfo(user);
     }
 
+    /**
+     * Displays the information of the user specified, with a wealth ranking
+     * that has already been retrieved
+     * 
+     * @param user      the User object of the user
+     * @param richRank  the wealth ranking of the user among their friends
+     */
+    public void displayUserInfo(User user, int richRank) {
+        wallUtility.displayUserInfo(user, richRank);
+    }
+
+    /**
+     * Starts getting the wealth ranking of the user among their friends
+     * 
+     * @param user  the User object of the user
+     * @return      future wealth ranking of the user
+     */
+    public CompletableFuture<Integer> getRichRankAsync(User user) {
+        return wallUtility.getRichRankAsync(user);
+    }
+
     /**
      * Gets a List of User objects of friends of the user
      * 
@@ -108,6 +153,16 @@ public class WallCtrl {
         return wallUtility.getFriends(user);
     }
 
+    /**
+     * Starts getting the User objects of friends of the user
+     * 
+     * @param user  the User object of the user
+     * @return      future List of User objects of friends of the user
+     */
+    public CompletableFuture<List<User>> getFriendsAsync(User user) {
+        return wallUtility.getFriendsAsync(user);
+    }
+
     /**
      * Checks if user1 is friends with user2
      * 
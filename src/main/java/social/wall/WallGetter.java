@@ -1,10 +1,14 @@
 package social.wall;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import daos.AsyncDAO;
 import daos.ThreadDAO;
-import entities.User;
 import entities.Thread;
+import entities.ThreadView;
+import entities.User;
+import social.thread.ThreadHydrator;
 
 /**
  * The WallGetter class retrieves threads from a wall
@@ -16,19 +20,50 @@ public class WallGetter {
 
     /** TDM provides access to the Thread table in the database */
     private ThreadDAO TDM;
+
+    /** threadHydrator loads the reactions and comments of threads */
+    private ThreadHydrator threadHydrator;
+    
+    /** ADM runs reads of the database asynchronously */
+    private AsyncDAO ADM;
     
-    /** Creates a new WallGetter object with a default Thread DM */
+    /** Creates a new WallGetter object with a default Thread DM, Async DM and ThreadHydrator */
     public WallGetter() {
         TDM = new ThreadDAO();
+        threadHydrator = new ThreadHydrator();
+        ADM = new AsyncDAO();
     }
 
     /**
      * Gets a List of up to top 5 Threads on the user's wall
      * 
      * @param user  the User object of the user
-     * @return      List of Thread objects of up to top 5 threads on the user's wall
+     * @return      List of ThreadView objects of up to top 5 threads on the user's wall
+     */
+    public List<ThreadView> getWallThreads(User user) {
+        return threadHydrator.hydrate(TDM.getWallThreads(user));
+    }
+
+    /**
+     * Starts getting up to top 5 Threads on the user's wall, along with their
+     * reactions and comments
+     * 
+     * @param user  the User object of the user
+     * @return      future List of ThreadView objects of up to top 5 threads on the user's wall
+     */
+    public CompletableFuture<List<ThreadView>> getWallThreadsAsync(User user) {
+        return ADM.getWallThreads(user).thenCompose(threadHydrator::hydrateAsync);
+    }
+
+    /**
+     * Gets the page of Threads on the user's wall after or before the anchor
+     * 
+     * @param user      the User object of the user
+     * @param anchor    the Thread object at the edge of the current page
+     * @param older     true for the next (older) page, false for the previous (newer) page
+     * @return          List of ThreadView objects of up to 5 threads on the user's wall
      */
-    public List<Thread> getWallThreads(User user) {
-        return TDM.getWallThreads(user);
+    public List<ThreadView> getWallThreads(User user, Thread anchor, boolean older) {
+        return threadHydrator.hydrate(TDM.getWallThreads(user, anchor, older));
     }
 }
\ No newline at end of file
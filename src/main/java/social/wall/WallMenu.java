@@ -8,10 +8,12 @@ import java.util.Scanner;
 
 import entities.Crop;
 import entities.Thread;
+import entities.ThreadView;
 import entities.User;
 import social.thread.InvalidThreadException;
 import social.thread.ThreadMenu;
 import social.thread.ThreadUtility;
+import util.Screen;
 import util.Utility;
 
 /**
@@ -28,8 +30,8 @@ public class WallMenu {
     /** loggedInUser is the User object of the logged in user */
     private User loggedInUser;
 
-    /** threads is a List of up to top 5 Thread objects on My Wall Page of the user */
-    private List<Thread> threads;
+    /** threads is the page of up to 5 ThreadView objects shown on My Wall Page of the user */
+    private List<ThreadView> threads;
 
     /**
      * Creates a WallMenu object with the specified loggedInUser
@@ -46,13 +48,15 @@ public class WallMenu {
      * Displays the My Wall Page, input choices, and prompt
      */
     public void display() {
-        System.out.println();
-        System.out.println(" == Social Magnet :: My Wall ==");
-        wallCtrl.displayUserInfo(loggedInUser);
-        
-        ThreadUtility.displayTopThreads(threads);
+        try (Screen screen = Screen.begin()) {
+            screen.println();
+            screen.println(" == Social Magnet :: My Wall ==");
+            wallCtrl.displayUserInfo(loggedInUser);
 
-        System.out.print("[M]ain | [T]hread | [A]ccept Gift | [P]ost > ");
+            ThreadUtility.displayTopThreads(threads);
+
+            screen.print("[M]ain | [T]hread | [A]ccept Gift | [P]ost | [N]ext | Pre[v] > ");
+        }
     }
 
     /**
@@ -67,7 +71,7 @@ public class WallMenu {
         do {
             display();
 
-            input = Utility.getNonEmptyInput("[M]ain | [T]hread | [A]ccept Gift | [P]ost > ",
+            input = Utility.getNonEmptyInput("[M]ain | [T]hread | [A]ccept Gift | [P]ost | [N]ext | Pre[v] > ",
                      sc, false);
 
             
@@ -91,8 +95,16 @@ public class WallMenu {
                     postOnWall(sc);
                     break;
 
+                case 'N':
+                    showNextPage();
+                    break;
+
+                case 'V':
+                    showPreviousPage();
+                    break;
+
                 default:
-                    System.out.println("Please enter a choice from | M | T | A | P |");
+                    System.out.println("Please enter a choice from | M | T | A | P | N | V |");
             }
         } while(choice != 'M');
     }
@@ -116,6 +128,40 @@ public class WallMenu {
         }
     }
 
+    /**
+     * Shows the next page of threads, which are older than those shown
+     */
+    public void showNextPage() {
+        List<ThreadView> page = new ArrayList<>();
+        if (!threads.isEmpty()) {
+            Thread lastThread = threads.get(threads.size() - 1).getThread();
+            page = wallCtrl.getWallThreads(loggedInUser, lastThread, true);
+        }
+
+        if (page.isEmpty()) {
+            System.out.println("There are no older threads.");
+        } else {
+            this.threads = page;
+        }
+    }
+
+    /**
+     * Shows the previous page of threads, which are newer than those shown
+     */
+    public void showPreviousPage() {
+        List<ThreadView> page = new ArrayList<>();
+        if (!threads.isEmpty()) {
+            Thread firstThread = threads.get(0).getThread();
+            page = wallCtrl.getWallThreads(loggedInUser, firstThread, false);
+        }
+
+        if (page.isEmpty()) {
+            System.out.println("You are already on the first page.");
+        } else {
+            this.threads = page;
+        }
+    }
+
     /**
      * Accepts all the gifts that the user has received but has not accepted yet
      */
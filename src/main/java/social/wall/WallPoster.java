@@ -4,6 +4,7 @@ import java.util.List;
 
 import daos.TaggedDAO;
 import daos.ThreadDAO;
+import daos.UnitOfWork;
 import entities.PostThread;
 import entities.Thread;
 import entities.User;
@@ -60,16 +61,19 @@ public class WallPoster {
             message = TagManager.deleteTaggedFriendsFromMessage(message, taggedFriendsUsernames);
         }
 
-        // Add thread with (maybe modified) message
-        Thread newThread = new PostThread(sender.getUsername(), receiver.getUsername(), message);
-        boolean addResult = TDM.add(newThread);
+        // Add thread and its tags in a single transaction
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            // Add thread with (maybe modified) message
+            Thread newThread = new PostThread(sender.getUsername(), receiver.getUsername(), message);
+            boolean addResult = TDM.add(newThread);
 
-        // Add tags to tagged table if any
-        boolean tagResult = true;
-        if (taggedFriendsUsernames.size() > 0) {
-            tagResult = TaggedDM.addTaggedUsers(newThread, taggedFriendsUsernames);
+            // Add tags to tagged table if any
+            boolean tagResult = true;
+            if (addResult && taggedFriendsUsernames.size() > 0) {
+                tagResult = TaggedDM.addTaggedUsers(newThread, taggedFriendsUsernames);
+            }
+
+            return addResult && tagResult && unitOfWork.commit();
         }
-        
-        return addResult && tagResult;
     }
 }
\ No newline at end of file
@@ -2,10 +2,13 @@ package social.wall;
 
 import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
 
+import daos.AsyncDAO;
 import daos.FriendsDAO;
 import daos.UserDAO;
 import entities.User;
+import util.Screen;
 
 /**
  * The WallUtility class contains the utility functions for dealing with walls
@@ -21,10 +24,14 @@ public class WallUtility {
     /** FDM provides access to the Friends table in the database */
     private FriendsDAO FDM;
 
-    /** Creates a new WallUtility object with a default User and Friends DM */
+    /** ADM runs reads of the database asynchronously */
+    private AsyncDAO ADM;
+
+    /** Creates a new WallUtility object with a default User, Friends and Async DM */
     public WallUtility() {
         UDM = new UserDAO();
         FDM = new FriendsDAO();
+        ADM = new AsyncDAO();
     }
 
     /**
@@ -54,12 +61,24 @@ public class WallUtility {
      * @param user  the User object of the user
      */
     public void displayUserInfo(User user) {
-        int richRank = UDM.getRichRank(user);
+        displayUserInfo(user, UDM.getRichRank(user));
+    }
+
+    /**
+     * Displays the information of the user specified, with a wealth ranking
+     * that has already been retrieved
+     * 
+     * @param user      the User object of the user
+     * @param richRank  the wealth ranking of the user among their friends
+     */
+    public void displayUserInfo(User user, int richRank) {
         String richRankString = richRank + getSuffix(richRank);
 
-        System.out.println("About " + user.getUsername());
-        System.out.println("Full Name: " + user.getFullName());
-        System.out.println(user.getRank() + " Farmer, " + richRankString +" richest\n");
+        try (Screen screen = Screen.begin()) {
+            screen.print("About ").println(user.getUsername());
+            screen.print("Full Name: ").println(user.getFullName());
+            screen.print(user.getRank()).print(" Farmer, ").print(richRankString).println(" richest\n");
+        }
     }
 
     /**
@@ -84,6 +103,16 @@ public class WallUtility {
         }
     }
 
+    /**
+     * Starts getting the wealth ranking of the user among their friends
+     * 
+     * @param user  the User object of the user
+     * @return      future wealth ranking of the user
+     */
+    public CompletableFuture<Integer> getRichRankAsync(User user) {
+        return ADM.getRichRank(user);
+    }
+
     /**
      * Gets a List of User objects of friends of the user
      * 
@@ -94,6 +123,16 @@ public class WallUtility {
         return FDM.getFriends(user);
     }
 
+    /**
+     * Starts getting the User objects of friends of the user, all at the same time
+     * 
+     * @param user  the User object of the user
+     * @return      future List of User objects of friends of the user
+     */
+    public CompletableFuture<List<User>> getFriendsAsync(User user) {
+        return ADM.getFriends(user);
+    }
+
     /**
      * Checks if user1 is friends with user2
      * 
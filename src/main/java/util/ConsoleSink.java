@@ -0,0 +1,22 @@
+package util;
+
+/**
+ * The ConsoleSink class writes screens to System.out, which the
+ * SessionConsole routes to the session of the rendering thread
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Wa Thone
+ */
+public class ConsoleSink implements ScreenSink {
+
+    /**
+     * Prints the screen in one write, and flushes it
+     *
+     * @param screen    the text of the screen
+     */
+    @Override
+    public void write(CharSequence screen) {
+        System.out.append(screen);
+        System.out.flush();
+    }
+}
@@ -0,0 +1,44 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The RecordingSink class keeps every screen written to it, so that tests
+ * can check what was rendered
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Wa Thone
+ */
+public class RecordingSink implements ScreenSink {
+
+    private final List<String> screens = new ArrayList<>();
+
+    /**
+     * Keeps a copy of the screen
+     *
+     * @param screen    the text of the screen
+     */
+    @Override
+    public synchronized void write(CharSequence screen) {
+        screens.add(screen.toString());
+    }
+
+    /**
+     * Returns the screens written so far, in order
+     *
+     * @return  the recorded screens
+     */
+    public synchronized List<String> getScreens() {
+        return new ArrayList<>(screens);
+    }
+
+    /**
+     * Returns every screen written so far as one text
+     *
+     * @return  the recorded screens joined together
+     */
+    public synchronized String getText() {
+        return String.join("", screens);
+    }
+}
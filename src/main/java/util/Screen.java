@@ -0,0 +1,171 @@
+package util;
+
+import java.util.Formatter;
+
+/**
+ * The Screen class renders a whole screen of a menu into a buffer and
+ * writes it to a ScreenSink at once, instead of printing it line by line.
+ *
+ * A screen is opened with begin() in a try-with-resources block and written
+ * when it is closed. Screens opened while another is open on the same
+ * thread, by the display methods a screen is made of, add to the outer
+ * screen, which is written when it closes. Each thread reuses one buffer
+ * for all of its screens.
+ *
+ * Screens are written to the console unless another sink is set with
+ * setSink, for the whole app, or with setThreadSink, for one thread.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Wa Thone
+ */
+public final class Screen implements AutoCloseable {
+
+    /** Buffers larger than this are not kept for the next screen */
+    private static final int MAX_KEPT_CAPACITY = 64 * 1024;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /** Progress bars for 0 to 10 tenths of progress, such as [###-------] */
+    private static final String[] PROGRESS_BARS = new String[11];
+
+    static {
+        for (int filled = 0; filled <= 10; filled++) {
+            StringBuilder bar = new StringBuilder("[");
+            for (int i = 0; i < 10; i++) {
+                bar.append(i < filled ? '#' : '-');
+            }
+            PROGRESS_BARS[filled] = bar.append(']').toString();
+        }
+    }
+
+    private static final ThreadLocal<Screen> SCREENS = ThreadLocal.withInitial(Screen::new);
+    private static final ThreadLocal<ScreenSink> THREAD_SINKS = new ThreadLocal<>();
+    private static volatile ScreenSink sink = new ConsoleSink();
+
+    private StringBuilder buffer;
+    private Formatter formatter;
+    private int depth;
+
+    private Screen() {
+        buffer = new StringBuilder(INITIAL_CAPACITY);
+        formatter = new Formatter(buffer);
+    }
+
+    /**
+     * Opens a screen on the current thread, or adds to the screen already open
+     *
+     * @return  the screen to render into
+     */
+    public static Screen begin() {
+        Screen screen = SCREENS.get();
+        screen.depth++;
+        return screen;
+    }
+
+    /**
+     * Sets the sink that screens are written to on threads without their own
+     *
+     * @param screenSink    the sink for all screens
+     */
+    public static void setSink(ScreenSink screenSink) {
+        sink = screenSink;
+    }
+
+    /**
+     * Sets the sink that screens rendered on the current thread are written to
+     *
+     * @param screenSink    the sink for the thread's screens, null to use the sink of the app
+     */
+    public static void setThreadSink(ScreenSink screenSink) {
+        if (screenSink == null) {
+            THREAD_SINKS.remove();
+        } else {
+            THREAD_SINKS.set(screenSink);
+        }
+    }
+
+    /**
+     * Returns the progress bar for the specified tenths of progress
+     *
+     * @param tenths    progress in tenths, from 0 to 10
+     * @return          the progress bar, such as [###-------]
+     */
+    public static String getProgressBar(int tenths) {
+        return PROGRESS_BARS[Math.max(0, Math.min(tenths, 10))];
+    }
+
+    /**
+     * Adds text to the screen
+     *
+     * @param text  the text
+     * @return      this screen
+     */
+    public Screen print(String text) {
+        buffer.append(text);
+        return this;
+    }
+
+    /**
+     * Adds text and a new line to the screen
+     *
+     * @param text  the text
+     * @return      this screen
+     */
+    public Screen println(String text) {
+        buffer.append(text).append('\n');
+        return this;
+    }
+
+    /**
+     * Adds a new line to the screen
+     *
+     * @return  this screen
+     */
+    public Screen println() {
+        buffer.append('\n');
+        return this;
+    }
+
+    /**
+     * Adds formatted text to the screen, as System.out.printf does
+     *
+     * @param format    the format string
+     * @param args      the arguments of the format string
+     * @return          this screen
+     */
+    public Screen printf(String format, Object... args) {
+        formatter.format(format, args);
+        return this;
+    }
+
+    /**
+     * Adds a progress bar to the screen
+     *
+     * @param tenths    progress in tenths, from 0 to 10
+     * @return          this screen
+     */
+    public Screen progressBar(int tenths) {
+        buffer.append(getProgressBar(tenths));
+        return this;
+    }
+
+    /**
+     * Closes the screen, and writes it if it is not part of another screen
+     */
+    @Override
+    public void close() {
+        if (--depth > 0) {
+            return;
+        }
+        depth = 0;
+        if (buffer.length() > 0) {
+            ScreenSink threadSink = THREAD_SINKS.get();
+            (threadSink != null ? threadSink : sink).write(buffer);
+        }
+        if (buffer.capacity() > MAX_KEPT_CAPACITY) {
+            buffer = new StringBuilder(INITIAL_CAPACITY);
+            formatter = new Formatter(buffer);
+        } else {
+            buffer.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package util;
+
+/**
+ * The ScreenSink interface receives the screens rendered by Screen, each
+ * as a whole, to write them to the console, a session or a test
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Wa Thone
+ */
+public interface ScreenSink {
+
+    /**
+     * Writes a rendered screen. The screen's buffer is reused once this
+     * returns, so it must not be kept.
+     *
+     * @param screen    the text of the screen
+     */
+    void write(CharSequence screen);
+}
@@ -0,0 +1,45 @@
+package util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The StreamSink class writes screens to an output stream, such as that of
+ * a socket, encoded as UTF-8
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Wa Thone
+ */
+public class StreamSink implements ScreenSink {
+
+    private final Writer writer;
+
+    /**
+     * Creates a StreamSink that writes to the specified stream
+     *
+     * @param out   the stream to write screens to
+     */
+    public StreamSink(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 8192);
+    }
+
+    /**
+     * Writes the screen, and flushes it to the stream
+     *
+     * @param screen    the text of the screen
+     */
+    @Override
+    public synchronized void write(CharSequence screen) {
+        try {
+            writer.append(screen);
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Error when writing screen:");
+            System.err.println(e.getMessage());
+        }
+    }
+}
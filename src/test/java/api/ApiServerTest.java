@@ -0,0 +1,108 @@
+package api;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ApiServerTest {
+
+    private ApiServer server;
+
+    @BeforeEach
+    public void start() throws IOException {
+        server = new ApiServer(new InetSocketAddress("localhost", 0), Executors.newFixedThreadPool(4));
+        server.start();
+    }
+
+    @AfterEach
+    public void stop() {
+        server.stop();
+    }
+
+    @Test
+    public void testUnknownRequestIsNotFound() throws IOException {
+        HttpURLConnection conn = open("GET", "/api/nothing", null);
+        assertEquals(404, conn.getResponseCode());
+        assertTrue(read(conn).startsWith("{\"error\":"));
+    }
+
+    @Test
+    public void testWrongMethodIsNotAllowed() throws IOException {
+        assertEquals(405, open("GET", "/api/plots/harvest", null).getResponseCode());
+    }
+
+    @Test
+    public void testRequestWithoutTokenIsUnauthorized() throws IOException {
+        assertEquals(401, open("GET", "/api/plots", null).getResponseCode());
+        HttpURLConnection conn = open("GET", "/api/feed", null);
+        conn.setRequestProperty("Authorization", "Bearer unknown");
+        assertEquals(401, conn.getResponseCode());
+    }
+
+    @Test
+    public void testMalformedOrOversizedBodyIsRejected() throws IOException {
+        assertEquals(400, open("POST", "/api/login", "{\"username\": ").getResponseCode());
+
+        StringBuilder body = new StringBuilder("{\"username\":\"");
+        for (int i = 0; i < 70000; i++) {
+            body.append('a');
+        }
+        body.append("\"}");
+        assertEquals(413, open("POST", "/api/login", body.toString()).getResponseCode());
+    }
+
+    @Test
+    public void testTokensExpire() throws InterruptedException {
+        ApiServer expiringServer = new ApiServer(new InetSocketAddress("localhost", 0), Executors.newSingleThreadExecutor(), 50);
+        String first = expiringServer.issueToken("brian");
+        assertEquals("brian", expiringServer.getUsername(first));
+
+        Thread.sleep(100);
+        assertNull(expiringServer.getUsername(first));
+
+        // A token that is never used again is removed by a later log in
+        expiringServer.issueToken("wathone");
+        Thread.sleep(100);
+        expiringServer.issueToken("adam");
+        assertEquals(1, expiringServer.getTokenCount());
+    }
+
+    private HttpURLConnection open(String method, String path, String body) throws IOException {
+        URL url = new URL("http", "localhost", server.getAddress().getPort(), path);
+        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+        conn.setRequestMethod(method);
+        if (body != null) {
+            conn.setDoOutput(true);
+            try (OutputStream out = conn.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return conn;
+    }
+
+    private static String read(HttpURLConnection conn) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (InputStream in = conn.getErrorStream() != null ? conn.getErrorStream() : conn.getInputStream()) {
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                bytes.write(buffer, 0, read);
+            }
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
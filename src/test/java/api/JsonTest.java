@@ -0,0 +1,44 @@
+package api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonTest {
+
+    @Test
+    public void testWriteThenParse() {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("name", "Brian \"Farmer\" Goh\n");
+        value.put("gold", 1000);
+        value.put("ratio", 0.5);
+        value.put("ripe", true);
+        value.put("crop", null);
+        value.put("plots", Arrays.asList("P1", "P2"));
+
+        String json = Json.write(value);
+        assertEquals("{\"name\":\"Brian \\\"Farmer\\\" Goh\\n\",\"gold\":1000,\"ratio\":0.5,\"ripe\":true,"
+                + "\"crop\":null,\"plots\":[\"P1\",\"P2\"]}", json);
+
+        Map<String, Object> parsed = Json.parseObject(json);
+        assertEquals("Brian \"Farmer\" Goh\n", parsed.get("name"));
+        assertEquals(1000L, parsed.get("gold"));
+        assertEquals(0.5, parsed.get("ratio"));
+        assertEquals(true, parsed.get("ripe"));
+        assertEquals(null, parsed.get("crop"));
+        assertEquals(Arrays.asList("P1", "P2"), (List<?>) parsed.get("plots"));
+    }
+
+    @Test
+    public void testParseRejectsMalformedJson() {
+        assertThrows(IllegalArgumentException.class, () -> Json.parseObject("{\"crop\": "));
+        assertThrows(IllegalArgumentException.class, () -> Json.parseObject("[1, 2]"));
+        assertThrows(IllegalArgumentException.class, () -> Json.parseObject("{\"a\": 1} trailing"));
+    }
+}
@@ -0,0 +1,149 @@
+package benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import api.ApiServer;
+import api.Json;
+import entities.User;
+
+/**
+ * The ApiThroughputBenchmark class starts an ApiServer on a random port,
+ * logs a set of users in, and has each of them request their plots, their
+ * wall and their news feed in turn for a fixed time. It prints the requests
+ * per second and the p50/p99 latency of each request, and of all of them.
+ *
+ * The number of concurrent users is set with -Dbench.clients (64 by
+ * default) and the run time with -Dbench.seconds (10 by default). Run with
+ * -Dsocialmagnet.api.virtualThreads=false to compare against the bounded
+ * pool of socialmagnet.api.threads threads.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class ApiThroughputBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("bench.clients", 64);
+    private static final int SECONDS = Integer.getInteger("bench.seconds", 10);
+    private static final String[] PATHS = { "/api/plots", "/api/wall", "/api/feed" };
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("socialmagnet.api.port", "0");
+        List<User> users = BenchmarkFixture.createUsers("bench_api_", CLIENTS);
+        ApiServer server = new ApiServer();
+        server.start();
+        String base = "http://localhost:" + server.getAddress().getPort();
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+
+        try {
+            String[] tokens = new String[CLIENTS];
+            for (int i = 0; i < CLIENTS; i++) {
+                Map<String, Object> login = Json.parseObject(request(base + "/api/login", null,
+                        "{\"username\":\"" + users.get(i).getUsername() + "\",\"password\":\"password\"}"));
+                tokens[i] = (String) login.get("token");
+            }
+
+            List<List<Long>> nanosByPath = new ArrayList<>();
+            for (int p = 0; p < PATHS.length; p++) {
+                nanosByPath.add(new ArrayList<>());
+            }
+            int[] errors = new int[1];
+            long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(SECONDS);
+            CountDownLatch done = new CountDownLatch(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                String token = tokens[i];
+                int first = i;
+                executor.execute(() -> {
+                    List<List<Long>> nanos = new ArrayList<>();
+                    for (int p = 0; p < PATHS.length; p++) {
+                        nanos.add(new ArrayList<>());
+                    }
+                    int failed = 0;
+                    for (int n = first; System.nanoTime() < end; n++) {
+                        int p = n % PATHS.length;
+                        long begin = System.nanoTime();
+                        try {
+                            request(base + PATHS[p], token, null);
+                            nanos.get(p).add(System.nanoTime() - begin);
+                        } catch (IOException e) {
+                            failed++;
+                        }
+                    }
+                    synchronized (nanosByPath) {
+                        for (int p = 0; p < PATHS.length; p++) {
+                            nanosByPath.get(p).addAll(nanos.get(p));
+                        }
+                        errors[0] += failed;
+                    }
+                    done.countDown();
+                });
+            }
+            done.await();
+
+            System.out.println(CLIENTS + " clients for " + SECONDS + " s on " + server.getExecutorDescription()
+                    + ", " + errors[0] + " errors");
+            System.out.printf("%-12s %10s %10s %10s %10s%n", "request", "count", "req/s", "p50 ms", "p99 ms");
+            List<Long> all = new ArrayList<>();
+            for (int p = 0; p < PATHS.length; p++) {
+                print(PATHS[p], nanosByPath.get(p));
+                all.addAll(nanosByPath.get(p));
+            }
+            print("all", all);
+        } finally {
+            executor.shutdown();
+            server.stop();
+            BenchmarkFixture.deleteUsers(users);
+        }
+    }
+
+    private static void print(String name, List<Long> nanos) {
+        long[] nanosArray = new long[nanos.size()];
+        for (int i = 0; i < nanosArray.length; i++) {
+            nanosArray[i] = nanos.get(i);
+        }
+        System.out.printf("%-12s %10d %10.1f %10.3f %10.3f%n", name, nanosArray.length, (double) nanosArray.length / SECONDS,
+                BenchmarkFixture.percentileMillis(nanosArray, 50), BenchmarkFixture.percentileMillis(nanosArray, 99));
+    }
+
+    /**
+     * Sends a GET request, or a POST request if there is a body, and returns
+     * the response body
+     *
+     * @throws IOException  if the request failed or did not succeed
+     */
+    private static String request(String url, String token, String body) throws IOException {
+        HttpURLConnection conn = (HttpURLConnection) new URL(url).openConnection();
+        if (token != null) {
+            conn.setRequestProperty("Authorization", "Bearer " + token);
+        }
+        if (body != null) {
+            conn.setRequestMethod("POST");
+            conn.setDoOutput(true);
+            try (OutputStream out = conn.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        // Reading the whole response lets the connection be kept alive for the next request
+        try (InputStream in = conn.getInputStream()) {
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                bytes.write(buffer, 0, read);
+            }
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
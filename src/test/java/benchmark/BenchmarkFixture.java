@@ -0,0 +1,69 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import daos.UserDAO;
+import entities.User;
+
+/**
+ * The BenchmarkFixture class creates and removes the users the benchmarks
+ * run against, and summarises their timings. Benchmarks need the MySQL
+ * database from sql/deploy.sql and are run from their main methods; they are
+ * not picked up by the unit tests.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+class BenchmarkFixture {
+
+    /** UDM provides access to the User table in the database */
+    private static final UserDAO UDM = new UserDAO();
+
+    /**
+     * Adds users named prefix0 to prefix(count - 1), removing leftovers
+     * from an earlier run first
+     *
+     * @param prefix    prefix of the usernames
+     * @param count     number of users to add
+     * @return          the added users
+     */
+    static List<User> createUsers(String prefix, int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = new User(prefix + i, "Bench User");
+            UDM.delete(user);
+            UDM.addUser(user, "password");
+            users.add(UDM.getUser(user.getUsername()));
+        }
+        return users;
+    }
+
+    /**
+     * Deletes users together with everything that cascades from them
+     *
+     * @param users users to delete
+     */
+    static void deleteUsers(List<User> users) {
+        for (User user : users) {
+            UDM.delete(user);
+        }
+    }
+
+    /**
+     * Returns a percentile of a set of timings
+     *
+     * @param nanos         timings in nanoseconds, sorted in place
+     * @param percentile    percentile between 0 and 100
+     * @return              timing at the percentile in milliseconds
+     */
+    static double percentileMillis(long[] nanos, double percentile) {
+        if (nanos.length == 0) {
+            return 0;
+        }
+        Arrays.sort(nanos);
+        int index = (int) Math.ceil(percentile / 100 * nanos.length) - 1;
+        return nanos[Math.max(0, Math.min(index, nanos.length - 1))] / 1e6;
+    }
+}
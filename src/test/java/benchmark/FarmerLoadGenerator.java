@@ -0,0 +1,456 @@
+package benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import cityfarmers.farmland.FarmlandCtrl;
+import cityfarmers.sendgift.SendGiftCtrl;
+import cityfarmers.store.StoreCtrl;
+import cityfarmers.visit.VisitCtrl;
+import daos.ConnectionPool;
+import daos.FriendGraph;
+import daos.GoldLeaderboard;
+import daos.PlotDAO;
+import daos.UserCropDAO;
+import daos.UserDAO;
+import entities.Crop;
+import entities.Plot;
+import entities.Reaction;
+import entities.ThreadView;
+import entities.User;
+import social.friends.FriendsCtrl;
+import social.thread.ThreadCtrl;
+import social.wall.WallCtrl;
+
+/**
+ * The FarmerLoadGenerator class simulates many farmers playing at once, to
+ * find how many active farmers one node can sustain. Each farmer runs on its
+ * own thread and repeatedly picks an action from a weighted mix, calls the
+ * same Ctrl classes as the menus, then waits a random think time.
+ *
+ * Farmers start with gold, seeds of every crop, friends on either side of
+ * them in a ring, and plots that are ripe, growing, wilted or empty, so that
+ * every action has work to do. While running it prints the throughput and
+ * error rate of each interval, and at the end the throughput and p50, p95,
+ * p99 and p99.9 latency of each action. An action that finds nothing to do,
+ * such as a steal with no ripe plots, is counted but is not an error.
+ *
+ * It is configured with the following system properties:
+ * bench.farmers (100), bench.seconds (60), bench.thinkMillis (1000, the
+ * mean wait between a farmer's actions), bench.intervalSeconds (5),
+ * bench.friends (4 on either side) and bench.mix, the weight of each
+ * action, by default
+ * "plant=20,harvest=10,clear=5,steal=15,gift=5,post=10,comment=15,react=15,friend=5".
+ * The database is set with socialmagnet.db.url, so the farmers can be run
+ * against a scratch MySQL database created from sql/deploy.sql.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class FarmerLoadGenerator {
+
+    private static final int FARMERS = Integer.getInteger("bench.farmers", 100);
+    private static final int SECONDS = Integer.getInteger("bench.seconds", 60);
+    private static final int THINK_MILLIS = Integer.getInteger("bench.thinkMillis", 1000);
+    private static final int INTERVAL_SECONDS = Integer.getInteger("bench.intervalSeconds", 5);
+    private static final int FRIENDS = Integer.getInteger("bench.friends", 4);
+    private static final String MIX = System.getProperty("bench.mix",
+            "plant=20,harvest=10,clear=5,steal=15,gift=5,post=10,comment=15,react=15,friend=5");
+
+    private static final String PREFIX = "bench_farmer_";
+    private static final int SEEDS = 100000;
+
+    /** Papaya takes 30 minutes to ripen and wilts after 60 */
+    private static final String SETUP_CROP = "Papaya";
+
+    private enum Action {
+        PLANT, HARVEST, CLEAR, STEAL, GIFT, POST, COMMENT, REACT, FRIEND
+    }
+
+    private enum Outcome {
+        DONE, NOTHING_TO_DO, FAILED
+    }
+
+    private static final FarmlandCtrl FARMLAND_CTRL = new FarmlandCtrl();
+    private static final StoreCtrl STORE_CTRL = new StoreCtrl();
+    private static final VisitCtrl VISIT_CTRL = new VisitCtrl();
+    private static final SendGiftCtrl SEND_GIFT_CTRL = new SendGiftCtrl();
+    private static final WallCtrl WALL_CTRL = new WallCtrl();
+    private static final ThreadCtrl THREAD_CTRL = new ThreadCtrl();
+    private static final FriendsCtrl FRIENDS_CTRL = new FriendsCtrl();
+
+    /** UDM provides access to the User table in the database */
+    private static final UserDAO UDM = new UserDAO();
+
+    /**
+     * Results of one action, recorded by one farmer
+     */
+    private static final class Results {
+        final List<Long> nanos = new ArrayList<>();
+        final long[] outcomes = new long[Outcome.values().length];
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<Action, Integer> mix = parseMix(MIX);
+        Action[] actions = mix.keySet().toArray(new Action[0]);
+        int[] cumulativeWeights = new int[actions.length];
+        int totalWeight = 0;
+        for (int i = 0; i < actions.length; i++) {
+            totalWeight += mix.get(actions[i]);
+            cumulativeWeights[i] = totalWeight;
+        }
+
+        List<User> farmers = BenchmarkFixture.createUsers(PREFIX, FARMERS);
+        PrintStream console = System.out;
+        ExecutorService executor = Executors.newFixedThreadPool(FARMERS);
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        try {
+            console.println("Setting up " + FARMERS + " farmers...");
+            List<Crop> crops = setUp(farmers);
+
+            AtomicLong attempts = new AtomicLong();
+            AtomicLong failures = new AtomicLong();
+            List<Map<Action, Results>> resultsByFarmer = new ArrayList<>();
+            long start = System.nanoTime();
+            long end = start + TimeUnit.SECONDS.toNanos(SECONDS);
+            CountDownLatch done = new CountDownLatch(FARMERS);
+
+            console.printf("%8s %10s %10s %10s%n", "time s", "actions", "actions/s", "errors %");
+            long[] lastCounts = new long[2];
+            reporter.scheduleAtFixedRate(() -> {
+                long attempted = attempts.get();
+                long failed = failures.get();
+                long intervalAttempts = attempted - lastCounts[0];
+                long intervalFailures = failed - lastCounts[1];
+                lastCounts[0] = attempted;
+                lastCounts[1] = failed;
+                console.printf("%8d %10d %10.1f %10.2f%n", (System.nanoTime() - start) / 1000000000, intervalAttempts,
+                        (double) intervalAttempts / INTERVAL_SECONDS,
+                        intervalAttempts == 0 ? 0 : 100.0 * intervalFailures / intervalAttempts);
+            }, INTERVAL_SECONDS, INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+            // Messages printed by the Ctrl classes are not part of the measurement
+            System.setOut(new PrintStream(new OutputStream() {
+                @Override
+                public void write(int b) {
+                }
+            }));
+            for (int i = 0; i < FARMERS; i++) {
+                User farmer = farmers.get(i);
+                Map<Action, Results> results = new EnumMap<>(Action.class);
+                for (Action action : actions) {
+                    results.put(action, new Results());
+                }
+                resultsByFarmer.add(results);
+                Random random = new Random(i);
+                int weight = totalWeight;
+                executor.execute(() -> {
+                    try {
+                        while (System.nanoTime() < end) {
+                            Action action = pick(actions, cumulativeWeights, random.nextInt(weight));
+                            long begin = System.nanoTime();
+                            Outcome outcome;
+                            try {
+                                outcome = run(action, farmer, farmers, crops, random);
+                            } catch (RuntimeException e) {
+                                outcome = Outcome.FAILED;
+                            }
+                            Results result = results.get(action);
+                            result.nanos.add(System.nanoTime() - begin);
+                            result.outcomes[outcome.ordinal()]++;
+                            attempts.incrementAndGet();
+                            if (outcome == Outcome.FAILED) {
+                                failures.incrementAndGet();
+                            }
+                            if (THINK_MILLIS > 0) {
+                                Thread.sleep(random.nextInt(2 * THINK_MILLIS));
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+            long elapsed = System.nanoTime() - start;
+            reporter.shutdown();
+            reporter.awaitTermination(1, TimeUnit.MINUTES);
+            System.setOut(console);
+
+            printResults(console, actions, resultsByFarmer, elapsed);
+        } finally {
+            System.setOut(console);
+            reporter.shutdownNow();
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+            tearDown(farmers);
+        }
+    }
+
+    private static Map<Action, Integer> parseMix(String text) {
+        Map<Action, Integer> mix = new EnumMap<>(Action.class);
+        for (String entry : text.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("bench.mix entries must be action=weight: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Action.valueOf(parts[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("bench.mix has no action with a weight above 0");
+        }
+        return mix;
+    }
+
+    private static Action pick(Action[] actions, int[] cumulativeWeights, int value) {
+        for (int i = 0; i < actions.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return actions[i];
+            }
+        }
+        return actions[actions.length - 1];
+    }
+
+    /**
+     * Gives every farmer gold, seeds, friends and planted plots
+     *
+     * @return  every crop
+     */
+    private static List<Crop> setUp(List<User> farmers) throws SQLException {
+        List<Crop> crops = STORE_CTRL.getAllCrops();
+        Map<Crop, Integer> seeds = new HashMap<>();
+        for (Crop crop : crops) {
+            seeds.put(crop, SEEDS);
+        }
+        UserCropDAO userCropDAO = new UserCropDAO();
+        PlotDAO plotDAO = new PlotDAO();
+        long now = System.currentTimeMillis();
+        for (User farmer : farmers) {
+            farmer.setGold(1000000);
+            UDM.update(farmer);
+            userCropDAO.addUserCrops(farmer, seeds);
+
+            // A quarter each of ripe, growing, wilted and empty plots
+            List<Plot> plots = plotDAO.getPlotsOwnedByUser(farmer.getUsername());
+            for (int i = 0; i < plots.size(); i++) {
+                long minutesAgo = new long[] { 45, 10, 90, -1 }[i % 4];
+                if (minutesAgo >= 0) {
+                    Timestamp planted = new Timestamp(now - minutesAgo * 60 * 1000);
+                    plotDAO.updatePlot(new Plot(plots.get(i).getPlotId(), farmer.getUsername(), planted, 100,
+                            SETUP_CROP, 100));
+                }
+            }
+        }
+
+        try (Connection conn = ConnectionPool.getInstance().getConnection();
+                PreparedStatement stmt = conn.prepareStatement(
+                        "INSERT IGNORE INTO friends (username1, username2) VALUES (?, ?)")) {
+            for (int i = 0; i < farmers.size(); i++) {
+                for (int offset = 1; offset <= Math.min(FRIENDS, (farmers.size() - 1) / 2); offset++) {
+                    stmt.setString(1, farmers.get(i).getUsername());
+                    stmt.setString(2, farmers.get((i + offset) % farmers.size()).getUsername());
+                    stmt.addBatch();
+                }
+            }
+            stmt.executeBatch();
+        }
+        FriendGraph.reload();
+        GoldLeaderboard.reload();
+        return crops;
+    }
+
+    private static Outcome run(Action action, User farmer, List<User> farmers, List<Crop> crops, Random random) {
+        switch (action) {
+            case PLANT:
+                List<Plot> plots = FARMLAND_CTRL.getPlotsOwnedByUser(farmer.getUsername());
+                for (int i = 0; i < plots.size(); i++) {
+                    if (plots.get(i).getCropName() == null) {
+                        String cropName = crops.get(random.nextInt(crops.size())).getCropName();
+                        return result(FARMLAND_CTRL.plant(farmer, i + 1, cropName));
+                    }
+                }
+                return Outcome.NOTHING_TO_DO;
+
+            case HARVEST:
+                if (FARMLAND_CTRL.checkAnyHarvest(FARMLAND_CTRL.getPlotsOwnedByUser(farmer.getUsername())).isEmpty()) {
+                    return Outcome.NOTHING_TO_DO;
+                }
+                return result(FARMLAND_CTRL.harvest(farmer));
+
+            case CLEAR:
+                if (FARMLAND_CTRL.checkAnyClear(farmer.getUsername()).isEmpty()) {
+                    return Outcome.NOTHING_TO_DO;
+                }
+                return result(FARMLAND_CTRL.clear(farmer));
+
+            case STEAL: {
+                User friend = pickFriend(farmer, random);
+                if (friend == null) {
+                    return Outcome.NOTHING_TO_DO;
+                }
+                List<Plot> plotsToBeStolen = VISIT_CTRL.checkAnySteal(farmer, friend);
+                if (plotsToBeStolen.isEmpty()) {
+                    return Outcome.NOTHING_TO_DO;
+                }
+                return result(VISIT_CTRL.steal(farmer, plotsToBeStolen));
+            }
+
+            case GIFT: {
+                User friend = pickFriend(farmer, random);
+                if (friend == null || SEND_GIFT_CTRL.haveSentFiveGiftsToday(farmer)
+                        || SEND_GIFT_CTRL.haveSentGiftToThisUserToday(farmer, friend.getUsername())) {
+                    return Outcome.NOTHING_TO_DO;
+                }
+                Crop crop = crops.get(random.nextInt(crops.size()));
+                return result(SEND_GIFT_CTRL.sendGift(farmer, friend.getUsername(), crop));
+            }
+
+            case POST: {
+                User friend = pickFriend(farmer, random);
+                User receiver = (friend == null) ? farmer : friend;
+                return result(WALL_CTRL.postOnWall("Load test post " + random.nextInt(), farmer, receiver));
+            }
+
+            case COMMENT: {
+                ThreadView threadView = pickThread(farmer, random);
+                if (threadView == null) {
+                    return Outcome.NOTHING_TO_DO;
+                }
+                return result(THREAD_CTRL.replyThread(threadView.getThread(), farmer, "Load test reply"));
+            }
+
+            case REACT: {
+                ThreadView threadView = pickThread(farmer, random);
+                if (threadView == null) {
+                    return Outcome.NOTHING_TO_DO;
+                }
+                boolean isLike = random.nextBoolean();
+                Reaction previousReaction = THREAD_CTRL.getPreviousReaction(
+                        THREAD_CTRL.getReactionByType(threadView.getThread(), isLike), farmer);
+                if (previousReaction != null) {
+                    return result(THREAD_CTRL.deleteReaction(threadView.getThread(), previousReaction));
+                }
+                List<Reaction> oppositeReactions = THREAD_CTRL.getReactionByType(threadView.getThread(), !isLike);
+                return result(THREAD_CTRL.reactToThread(threadView.getThread(), oppositeReactions, farmer, isLike));
+            }
+
+            case FRIEND: {
+                List<User> requests = FRIENDS_CTRL.getFriendRequests(farmer);
+                if (requests != null && !requests.isEmpty()) {
+                    return result(FRIENDS_CTRL.acceptFriendRequest(requests.get(0), farmer));
+                }
+                String username = farmers.get(random.nextInt(farmers.size())).getUsername();
+                if (!FRIENDS_CTRL.getFriendRequestValidityType(username, farmer).equals("valid")) {
+                    return Outcome.NOTHING_TO_DO;
+                }
+                return result(FRIENDS_CTRL.sendFriendRequest(username, farmer));
+            }
+
+            default:
+                throw new IllegalArgumentException("Unknown action " + action);
+        }
+    }
+
+    private static Outcome result(boolean success) {
+        return success ? Outcome.DONE : Outcome.FAILED;
+    }
+
+    private static User pickFriend(User farmer, Random random) {
+        List<String> friendUsernames = FriendGraph.getInstance().getFriendUsernames(farmer.getUsername());
+        if (friendUsernames.isEmpty()) {
+            return null;
+        }
+        return UDM.getUser(friendUsernames.get(random.nextInt(friendUsernames.size())));
+    }
+
+    /**
+     * Returns a thread from the wall of a random friend, or of the farmer if
+     * the friend's wall is empty
+     */
+    private static ThreadView pickThread(User farmer, Random random) {
+        User friend = pickFriend(farmer, random);
+        List<ThreadView> threads = WALL_CTRL.getWallThreads(friend == null ? farmer : friend);
+        if (threads == null || threads.isEmpty()) {
+            threads = WALL_CTRL.getWallThreads(farmer);
+        }
+        if (threads == null || threads.isEmpty()) {
+            return null;
+        }
+        return threads.get(random.nextInt(threads.size()));
+    }
+
+    private static void printResults(PrintStream out, Action[] actions, List<Map<Action, Results>> resultsByFarmer,
+            long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        long total = 0;
+        long totalFailed = 0;
+        out.println();
+        out.printf("%-8s %8s %8s %8s %8s %8s %9s %9s %9s %9s %9s%n", "action", "count", "per s", "done",
+                "nothing", "failed", "errors %", "p50 ms", "p95 ms", "p99 ms", "p999 ms");
+        for (Action action : actions) {
+            List<Long> nanosList = new ArrayList<>();
+            long[] outcomes = new long[Outcome.values().length];
+            for (Map<Action, Results> results : resultsByFarmer) {
+                Results result = results.get(action);
+                nanosList.addAll(result.nanos);
+                for (int i = 0; i < outcomes.length; i++) {
+                    outcomes[i] += result.outcomes[i];
+                }
+            }
+            long[] nanos = new long[nanosList.size()];
+            for (int i = 0; i < nanos.length; i++) {
+                nanos[i] = nanosList.get(i);
+            }
+            long failed = outcomes[Outcome.FAILED.ordinal()];
+            total += nanos.length;
+            totalFailed += failed;
+            out.printf("%-8s %8d %8.1f %8d %8d %8d %9.2f %9.3f %9.3f %9.3f %9.3f%n", action.name().toLowerCase(),
+                    nanos.length, nanos.length / seconds, outcomes[Outcome.DONE.ordinal()],
+                    outcomes[Outcome.NOTHING_TO_DO.ordinal()], failed,
+                    nanos.length == 0 ? 0 : 100.0 * failed / nanos.length,
+                    BenchmarkFixture.percentileMillis(nanos, 50), BenchmarkFixture.percentileMillis(nanos, 95),
+                    BenchmarkFixture.percentileMillis(nanos, 99), BenchmarkFixture.percentileMillis(nanos, 99.9));
+        }
+        out.printf("%d farmers, %d actions in %.1f s, %.1f actions/s, %.2f%% errors%n", FARMERS, total, seconds,
+                total / seconds, total == 0 ? 0 : 100.0 * totalFailed / total);
+    }
+
+    /**
+     * Removes the farmers and everything they did
+     */
+    private static void tearDown(List<User> farmers) throws SQLException {
+        // Thefts and gifts do not cascade from every user they refer to, so they go first
+        try (Connection conn = ConnectionPool.getInstance().getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "DELETE FROM steal_plot WHERE thief_username LIKE 'bench\\_farmer\\_%'")) {
+                stmt.executeUpdate();
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "DELETE FROM gift WHERE sender_username LIKE 'bench\\_farmer\\_%'")) {
+                stmt.executeUpdate();
+            }
+        }
+        BenchmarkFixture.deleteUsers(farmers);
+    }
+}
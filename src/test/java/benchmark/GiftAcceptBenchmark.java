@@ -0,0 +1,105 @@
+package benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+import daos.ConnectionPool;
+import daos.GiftDAO;
+import entities.Crop;
+import entities.User;
+
+/**
+ * The GiftAcceptBenchmark class times accepting a user's pending gifts as
+ * the number of pending gifts grows from 1 to 10,000, and checks that every
+ * pending gift was added to the receiver's inventory. As the gifts are
+ * accepted with a fixed number of statements, the latency should stay close
+ * to flat.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class GiftAcceptBenchmark {
+
+    private static final int SENDERS = 10;
+    private static final int[] PENDING_GIFTS = { 1, 10, 100, 1000, 10000 };
+    private static final int ROUNDS = 5;
+    private static final String[] CROPS = { "Papaya", "Pumpkin", "Sunflower", "Watermelon" };
+
+    public static void main(String[] args) throws SQLException {
+        List<User> receivers = BenchmarkFixture.createUsers("bench_accept_to_", 1);
+        List<User> senders = BenchmarkFixture.createUsers("bench_accept_from_", SENDERS);
+        User receiver = receivers.get(0);
+        GiftDAO giftDAO = new GiftDAO();
+        // Gift time stamps are whole seconds, starting far enough back for every round
+        long timeStamp = System.currentTimeMillis() / 1000 - 7 * 24 * 60 * 60;
+
+        try (Connection conn = ConnectionPool.getInstance().getConnection()) {
+            System.out.printf("%-8s %10s %10s %10s %10s%n", "gifts", "p50 ms", "p99 ms", "max ms", "accepted");
+            for (int pendingGifts : PENDING_GIFTS) {
+                long[] nanos = new long[ROUNDS];
+                boolean allAccepted = true;
+                for (int round = 0; round < ROUNDS; round++) {
+                    timeStamp = addGifts(conn, senders, receiver, pendingGifts, timeStamp);
+
+                    long start = System.nanoTime();
+                    Map<Crop, Integer> acceptedGifts = giftDAO.acceptGifts(receiver);
+                    nanos[round] = System.nanoTime() - start;
+
+                    int numAccepted = 0;
+                    for (int numGifts : acceptedGifts.values()) {
+                        numAccepted += numGifts;
+                    }
+                    allAccepted &= numAccepted == pendingGifts;
+                }
+                System.out.printf("%-8d %10.3f %10.3f %10.3f %10s%n", pendingGifts,
+                        BenchmarkFixture.percentileMillis(nanos, 50), BenchmarkFixture.percentileMillis(nanos, 99),
+                        BenchmarkFixture.percentileMillis(nanos, 100), allAccepted ? "yes" : "NO");
+            }
+
+            // Gifts only cascade from their receiver, so they are removed before their senders
+            try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM gift WHERE sender_username LIKE 'bench\\_accept\\_from\\_%'")) {
+                stmt.executeUpdate();
+            }
+        } finally {
+            BenchmarkFixture.deleteUsers(senders);
+            BenchmarkFixture.deleteUsers(receivers);
+        }
+    }
+
+    /**
+     * Adds pending gift threads to the receiver, spread over the senders and
+     * crops, each with its own time stamp
+     *
+     * @return  time stamp in seconds after the last gift added
+     */
+    private static long addGifts(Connection conn, List<User> senders, User receiver, int numGifts, long timeStamp)
+            throws SQLException {
+        try (PreparedStatement threadStmt = conn.prepareStatement(
+                    "INSERT INTO thread (sender_username, receiver_username, time_stamp) VALUES (?, ?, ?)");
+                PreparedStatement giftStmt = conn.prepareStatement(
+                    "INSERT INTO gift (sender_username, receiver_username, time_stamp, crop_name, accepted) VALUES (?, ?, ?, ?, 0)")) {
+            for (int i = 0; i < numGifts; i++) {
+                String senderUsername = senders.get(i % senders.size()).getUsername();
+                Timestamp sent = new Timestamp(timeStamp++ * 1000);
+
+                threadStmt.setString(1, senderUsername);
+                threadStmt.setString(2, receiver.getUsername());
+                threadStmt.setTimestamp(3, sent);
+                threadStmt.addBatch();
+
+                giftStmt.setString(1, senderUsername);
+                giftStmt.setString(2, receiver.getUsername());
+                giftStmt.setTimestamp(3, sent);
+                giftStmt.setString(4, CROPS[i % CROPS.length]);
+                giftStmt.addBatch();
+            }
+            threadStmt.executeBatch();
+            giftStmt.executeBatch();
+        }
+        return timeStamp;
+    }
+}
@@ -0,0 +1,173 @@
+package benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import daos.ConnectionPool;
+import entities.User;
+
+/**
+ * The GiftIndexBenchmark class compares the gift, wall and tag lookups before
+ * and after the half-open day ranges and the indexes of
+ * sql/migrations/V3__gift_thread_indexes.sql, on a synthetic data set of
+ * gift threads spread over 60 days. For each pair of queries it prints the
+ * access type, key and estimated rows from EXPLAIN, and the p50/p99 latency.
+ *
+ * The "before" queries use DATE() or IGNORE INDEX to reproduce the plans of
+ * the schema without the migration, so the migration must have been applied.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class GiftIndexBenchmark {
+
+    private static final int USERS = 20;
+    private static final int GIFTS_PER_SENDER = 5000;
+    private static final int DAYS = 60;
+    private static final int ITERATIONS = 200;
+
+    public static void main(String[] args) throws SQLException {
+        List<User> users = BenchmarkFixture.createUsers("bench_gift_", USERS);
+        try (Connection conn = ConnectionPool.getInstance().getConnection()) {
+            addGifts(conn, users);
+
+            String sender = users.get(0).getUsername();
+            String receiver = users.get(1).getUsername();
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            Timestamp today = Timestamp.valueOf(LocalDate.now().atStartOfDay());
+            Timestamp tomorrow = Timestamp.valueOf(LocalDate.now().plusDays(1).atStartOfDay());
+
+            System.out.printf("%-34s %-6s %-30s %9s %9s %9s%n", "query", "type", "key", "rows", "p50 ms", "p99 ms");
+            run(conn, "gifts sent today, DATE()",
+                    "SELECT COUNT(*) FROM gift WHERE sender_username = ? AND DATE(time_stamp) = DATE(?)", sender, now);
+            run(conn, "gifts sent today, range",
+                    "SELECT COUNT(*) FROM gift WHERE sender_username = ? AND time_stamp >= ? AND time_stamp < ?",
+                    sender, today, tomorrow);
+            run(conn, "gift to user today, DATE()",
+                    "SELECT * FROM gift WHERE sender_username = ? AND receiver_username = ? AND DATE(time_stamp) = DATE(?)",
+                    sender, receiver, now);
+            run(conn, "gift to user today, range",
+                    "SELECT 1 FROM gift WHERE sender_username = ? AND time_stamp >= ? AND time_stamp < ? AND receiver_username = ? LIMIT 1",
+                    sender, today, tomorrow, receiver);
+            run(conn, "unaccepted gifts, no index",
+                    "SELECT * FROM gift IGNORE INDEX (gift_receiver_accepted_idx) WHERE receiver_username = ? AND accepted = 0",
+                    receiver);
+            run(conn, "unaccepted gifts, indexed",
+                    "SELECT * FROM gift WHERE receiver_username = ? AND accepted = 0", receiver);
+            run(conn, "wall threads, no index",
+                    "SELECT sender_username, time_stamp FROM thread IGNORE INDEX (thread_receiver_time_idx) WHERE receiver_username = ? ORDER BY time_stamp DESC LIMIT 5",
+                    receiver);
+            run(conn, "wall threads, indexed",
+                    "SELECT sender_username, time_stamp FROM thread WHERE receiver_username = ? ORDER BY time_stamp DESC LIMIT 5",
+                    receiver);
+            run(conn, "tagged threads, no index",
+                    "SELECT sender_username, time_stamp FROM thread_tagged IGNORE INDEX (thread_tagged_tagged_time_idx) WHERE tagged_username = ? ORDER BY time_stamp DESC LIMIT 5",
+                    receiver);
+            run(conn, "tagged threads, indexed",
+                    "SELECT sender_username, time_stamp FROM thread_tagged WHERE tagged_username = ? ORDER BY time_stamp DESC LIMIT 5",
+                    receiver);
+
+            // Gifts only cascade from their receiver, so they are removed before their senders
+            try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM gift WHERE sender_username LIKE 'bench\\_gift\\_%'")) {
+                stmt.executeUpdate();
+            }
+        } finally {
+            BenchmarkFixture.deleteUsers(users);
+        }
+    }
+
+    /**
+     * Adds GIFTS_PER_SENDER gift threads from every user to random other users
+     * over the last DAYS days, most of them accepted, tagging a random user in
+     * one in five
+     */
+    private static void addGifts(Connection conn, List<User> users) throws SQLException {
+        Random random = new Random(42);
+        long now = System.currentTimeMillis();
+        long spacingMillis = DAYS * 24L * 60 * 60 * 1000 / GIFTS_PER_SENDER;
+
+        PreparedStatement threadStmt = conn.prepareStatement(
+                "INSERT INTO thread (sender_username, receiver_username, time_stamp) VALUES (?, ?, ?)");
+        PreparedStatement giftStmt = conn.prepareStatement(
+                "INSERT INTO gift (sender_username, receiver_username, time_stamp, crop_name, accepted) VALUES (?, ?, ?, 'Papaya', ?)");
+        PreparedStatement tagStmt = conn.prepareStatement(
+                "INSERT INTO thread_tagged (sender_username, tagged_username, time_stamp) VALUES (?, ?, ?)");
+        for (User sender : users) {
+            for (int i = 0; i < GIFTS_PER_SENDER; i++) {
+                String senderUsername = sender.getUsername();
+                String receiverUsername = users.get(random.nextInt(users.size())).getUsername();
+                Timestamp timeStamp = new Timestamp(now - i * spacingMillis);
+
+                threadStmt.setString(1, senderUsername);
+                threadStmt.setString(2, receiverUsername);
+                threadStmt.setTimestamp(3, timeStamp);
+                threadStmt.addBatch();
+
+                giftStmt.setString(1, senderUsername);
+                giftStmt.setString(2, receiverUsername);
+                giftStmt.setTimestamp(3, timeStamp);
+                giftStmt.setInt(4, random.nextInt(10) == 0 ? 0 : 1);
+                giftStmt.addBatch();
+
+                if (random.nextInt(5) == 0) {
+                    tagStmt.setString(1, senderUsername);
+                    tagStmt.setString(2, users.get(random.nextInt(users.size())).getUsername());
+                    tagStmt.setTimestamp(3, timeStamp);
+                    tagStmt.addBatch();
+                }
+            }
+            threadStmt.executeBatch();
+            giftStmt.executeBatch();
+            tagStmt.executeBatch();
+        }
+        threadStmt.close();
+        giftStmt.close();
+        tagStmt.close();
+
+        try (PreparedStatement stmt = conn.prepareStatement("ANALYZE TABLE gift, thread, thread_tagged")) {
+            stmt.execute();
+        }
+    }
+
+    private static void run(Connection conn, String name, String query, Object... params) throws SQLException {
+        String type = "";
+        String key = "";
+        long rows = 0;
+        try (PreparedStatement stmt = prepare(conn, "EXPLAIN " + query, params); ResultSet rs = stmt.executeQuery()) {
+            if (rs.next()) {
+                type = rs.getString("type");
+                key = String.valueOf(rs.getString("key"));
+                rows = rs.getLong("rows");
+            }
+        }
+
+        long[] nanos = new long[ITERATIONS];
+        try (PreparedStatement stmt = prepare(conn, query, params)) {
+            for (int i = 0; i < ITERATIONS; i++) {
+                long start = System.nanoTime();
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        // Read every row, as the DAOs do
+                    }
+                }
+                nanos[i] = System.nanoTime() - start;
+            }
+        }
+        System.out.printf("%-34s %-6s %-30s %9d %9.3f %9.3f%n", name, type, key, rows,
+                BenchmarkFixture.percentileMillis(nanos, 50), BenchmarkFixture.percentileMillis(nanos, 99));
+    }
+
+    private static PreparedStatement prepare(Connection conn, String query, Object... params) throws SQLException {
+        PreparedStatement stmt = conn.prepareStatement(query);
+        for (int i = 0; i < params.length; i++) {
+            stmt.setObject(i + 1, params[i]);
+        }
+        return stmt;
+    }
+}
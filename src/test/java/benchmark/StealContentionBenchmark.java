@@ -0,0 +1,164 @@
+package benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import cityfarmers.visit.StealManager;
+import daos.ConnectionPool;
+import daos.PlotDAO;
+import entities.Plot;
+import entities.User;
+
+/**
+ * The StealContentionBenchmark class sends many thieves at once to steal from
+ * the same ripe farm, and checks that the optimistic plot updates kept the
+ * plots consistent: no plot drops below 80%, and every plot was updated
+ * exactly once per thief recorded on it. It prints the latency of a steal
+ * and the number of successful steals per round.
+ *
+ * The number of thieves is set with -Dbench.thieves (32 by default).
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class StealContentionBenchmark {
+
+    private static final int THIEVES = Integer.getInteger("bench.thieves", 32);
+    private static final int ROUNDS = 5;
+
+    /** Papaya takes 30 minutes to ripen and wilts after 60 */
+    private static final String CROP = "Papaya";
+    private static final long PLANTED_MINUTES_AGO = 45;
+
+    public static void main(String[] args) throws Exception {
+        List<User> owners = BenchmarkFixture.createUsers("bench_owner_", 1);
+        List<User> thieves = BenchmarkFixture.createUsers("bench_thief_", THIEVES);
+        User owner = owners.get(0);
+        PlotDAO plotDAO = new PlotDAO();
+        PrintStream console = System.out;
+        ExecutorService executor = Executors.newFixedThreadPool(THIEVES);
+
+        try {
+            console.printf("%-6s %8s %10s %10s %10s %12s%n", "round", "steals", "p50 ms", "p99 ms", "max ms", "consistent");
+            for (int round = 1; round <= ROUNDS; round++) {
+                Map<Integer, Integer> plantedVersions = plant(plotDAO, owner);
+
+                long[] nanos = new long[THIEVES];
+                CountDownLatch start = new CountDownLatch(1);
+                CountDownLatch done = new CountDownLatch(THIEVES);
+                // Steal messages are not part of the measurement
+                System.setOut(new PrintStream(new OutputStream() {
+                    @Override
+                    public void write(int b) {
+                    }
+                }));
+                for (int i = 0; i < THIEVES; i++) {
+                    int thiefIndex = i;
+                    executor.execute(() -> {
+                        StealManager stealManager = new StealManager();
+                        User thief = thieves.get(thiefIndex);
+                        try {
+                            start.await();
+                            long begin = System.nanoTime();
+                            List<Plot> plots = stealManager.checkAnySteal(thief, owner);
+                            if (!plots.isEmpty()) {
+                                stealManager.steal(thief, plots);
+                            }
+                            nanos[thiefIndex] = System.nanoTime() - begin;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            done.countDown();
+                        }
+                    });
+                }
+                start.countDown();
+                done.await();
+                System.setOut(console);
+
+                int[] steals = new int[1];
+                boolean consistent = check(owner, plantedVersions, steals);
+                console.printf("%-6d %8d %10.3f %10.3f %10.3f %12s%n", round, steals[0],
+                        BenchmarkFixture.percentileMillis(nanos, 50), BenchmarkFixture.percentileMillis(nanos, 99),
+                        BenchmarkFixture.percentileMillis(nanos, 100), consistent ? "yes" : "NO");
+            }
+        } finally {
+            System.setOut(console);
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+            // Thieves go first, as their thefts keep the owner's plots from being deleted
+            BenchmarkFixture.deleteUsers(thieves);
+            BenchmarkFixture.deleteUsers(owners);
+        }
+    }
+
+    /**
+     * Clears the owner's plots and plants a ripe crop on each of them
+     *
+     * @return  version of each plot after planting, by plot id
+     */
+    private static Map<Integer, Integer> plant(PlotDAO plotDAO, User owner) {
+        Timestamp planted = new Timestamp(System.currentTimeMillis() - PLANTED_MINUTES_AGO * 60 * 1000);
+        for (Plot plot : plotDAO.getPlotsOwnedByUser(owner.getUsername())) {
+            if (plot.getCropName() != null) {
+                plotDAO.clearPlot(plot);
+            }
+            plotDAO.updatePlot(new Plot(plot.getPlotId(), owner.getUsername(), planted, 100, CROP, 100));
+        }
+
+        Map<Integer, Integer> versions = new HashMap<>();
+        for (Plot plot : plotDAO.getPlotsOwnedByUser(owner.getUsername())) {
+            versions.put(plot.getPlotId(), plot.getVersion());
+        }
+        return versions;
+    }
+
+    /**
+     * Checks every plot against the thieves recorded on it
+     *
+     * @param steals    set to the number of thieves recorded on all plots
+     * @return          true if every plot is consistent, false otherwise
+     */
+    private static boolean check(User owner, Map<Integer, Integer> plantedVersions, int[] steals) throws SQLException {
+        boolean consistent = true;
+        List<String> problems = new ArrayList<>();
+        String query = "SELECT p.plot_id, p.remaining_percentage, p.version, "
+                + "(SELECT COUNT(*) FROM steal_plot s WHERE s.plot_id = p.plot_id) thieves "
+                + "FROM plot p WHERE p.username = ?";
+        try (Connection conn = ConnectionPool.getInstance().getConnection();
+                PreparedStatement stmt = conn.prepareStatement(query)) {
+            stmt.setString(1, owner.getUsername());
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int plotId = rs.getInt("plot_id");
+                    int remaining = rs.getInt("remaining_percentage");
+                    int updates = rs.getInt("version") - plantedVersions.get(plotId);
+                    int thieves = rs.getInt("thieves");
+                    steals[0] += thieves;
+                    if (remaining < 80 || updates != thieves) {
+                        consistent = false;
+                        problems.add("plot " + plotId + ": " + remaining + "% left, " + updates + " updates, "
+                                + thieves + " thieves");
+                    }
+                }
+            }
+        }
+        for (String problem : problems) {
+            System.out.println(problem);
+        }
+        return consistent;
+    }
+}
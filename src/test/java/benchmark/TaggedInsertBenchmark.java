@@ -0,0 +1,100 @@
+package benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import daos.ConnectionPool;
+import daos.TaggedDAO;
+import daos.ThreadDAO;
+import daos.UnitOfWork;
+import entities.PostThread;
+import entities.Thread;
+import entities.User;
+
+/**
+ * The TaggedInsertBenchmark class compares posting threads with 1, 10 and
+ * 100 tags when every tag is its own auto-committed INSERT against the
+ * batched TaggedDAO.addTaggedUsers in one transaction with ThreadDAO.add.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class TaggedInsertBenchmark {
+
+    private static final int POSTS = 200;
+    private static final int[] TAG_COUNTS = { 1, 10, 100 };
+
+    private static final ThreadDAO TDM = new ThreadDAO();
+    private static final TaggedDAO TaggedDM = new TaggedDAO();
+
+    private static long nextTimestamp = System.currentTimeMillis();
+
+    public static void main(String[] args) throws SQLException {
+        List<User> users = BenchmarkFixture.createUsers("bench_tag_", 101);
+        String sender = users.get(0).getUsername();
+        try {
+            System.out.printf("%-6s %-22s %12s %12s%n", "tags", "insert", "posts/s", "tags/s");
+            for (int tagCount : TAG_COUNTS) {
+                List<String> tagged = new ArrayList<>();
+                for (int i = 1; i <= tagCount; i++) {
+                    tagged.add(users.get(i).getUsername());
+                }
+
+                long start = System.nanoTime();
+                for (int i = 0; i < POSTS; i++) {
+                    postRowByRow(newThread(sender), tagged);
+                }
+                print(tagCount, "row by row", System.nanoTime() - start);
+
+                start = System.nanoTime();
+                for (int i = 0; i < POSTS; i++) {
+                    postBatched(newThread(sender), tagged);
+                }
+                print(tagCount, "batched transaction", System.nanoTime() - start);
+            }
+        } finally {
+            BenchmarkFixture.deleteUsers(users);
+        }
+    }
+
+    private static Thread newThread(String sender) {
+        return new PostThread(sender, sender, new Timestamp(nextTimestamp++), "benchmark post");
+    }
+
+    /**
+     * Posts a thread the way TaggedDAO did before batching, with one
+     * auto-committed INSERT per tag
+     */
+    private static void postRowByRow(Thread thread, List<String> tagged) throws SQLException {
+        TDM.add(thread);
+        try (Connection conn = ConnectionPool.getInstance().getConnection()) {
+            for (String taggedUsername : tagged) {
+                PreparedStatement preparedStmt = conn.prepareStatement(
+                        "INSERT INTO THREAD_TAGGED (sender_username, time_stamp, tagged_username) VALUES (?, ?, ?)");
+                preparedStmt.setString(1, thread.getSenderUsername());
+                preparedStmt.setTimestamp(2, (Timestamp) thread.getTimePosted());
+                preparedStmt.setString(3, taggedUsername);
+                preparedStmt.executeUpdate();
+                preparedStmt.close();
+            }
+        }
+    }
+
+    private static void postBatched(Thread thread, List<String> tagged) {
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            TDM.add(thread);
+            TaggedDM.addTaggedUsers(thread, tagged);
+            unitOfWork.commit();
+        }
+    }
+
+    private static void print(int tagCount, String mode, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%-6d %-22s %12.1f %12.1f%n", tagCount, mode, POSTS / seconds,
+                POSTS * tagCount / seconds);
+    }
+}
@@ -0,0 +1,114 @@
+package benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import daos.ConnectionPool;
+import daos.GiftDAO;
+import daos.ThreadDAO;
+import entities.GiftThread;
+import entities.PostThread;
+import entities.Thread;
+import entities.User;
+
+/**
+ * The WallQueryBenchmark class compares ThreadDAO.getWallThreads, which
+ * joins gifts into the wall query, with the previous implementation that
+ * looked up each thread's gift with GiftDAO.getGiftCropName, on a wall made
+ * up of gift threads.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Brian Goh
+ */
+public class WallQueryBenchmark {
+
+    private static final int GIFTS = 500;
+    private static final int ITERATIONS = 1000;
+
+    private static final ThreadDAO TDM = new ThreadDAO();
+    private static final GiftDAO GDM = new GiftDAO();
+
+    public static void main(String[] args) throws SQLException {
+        List<User> users = BenchmarkFixture.createUsers("bench_wall_", 2);
+        User receiver = users.get(0);
+        try {
+            addGifts(users.get(1).getUsername(), receiver.getUsername());
+
+            System.out.printf("%-14s %14s %10s %10s%n", "wall query", "queries/call", "p50 ms", "p99 ms");
+            run("N+1 lookups", () -> getWallThreadsWithLookups(receiver));
+            run("LEFT JOIN", () -> TDM.getWallThreads(receiver));
+        } finally {
+            BenchmarkFixture.deleteUsers(users);
+        }
+    }
+
+    private static void run(String name, Runnable wallQuery) {
+        ConnectionPool pool = ConnectionPool.getInstance();
+        long[] nanos = new long[ITERATIONS];
+        long statementsBefore = pool.getStatementCacheHits() + pool.getStatementCacheMisses();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            wallQuery.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        long statements = pool.getStatementCacheHits() + pool.getStatementCacheMisses() - statementsBefore;
+        System.out.printf("%-14s %14.1f %10.3f %10.3f%n", name, (double) statements / ITERATIONS,
+                BenchmarkFixture.percentileMillis(nanos, 50), BenchmarkFixture.percentileMillis(nanos, 99));
+    }
+
+    private static void addGifts(String sender, String receiver) throws SQLException {
+        long time = System.currentTimeMillis();
+        try (Connection conn = ConnectionPool.getInstance().getConnection()) {
+            PreparedStatement threadStmt = conn.prepareStatement(
+                    "INSERT INTO THREAD (sender_username, receiver_username, time_stamp, text) VALUES (?, ?, ?, NULL)");
+            PreparedStatement giftStmt = conn.prepareStatement(
+                    "INSERT INTO GIFT (sender_username, receiver_username, time_stamp, crop_name) VALUES (?, ?, ?, 'Papaya')");
+            for (int i = 0; i < GIFTS; i++) {
+                Timestamp timeStamp = new Timestamp(time - i);
+                for (PreparedStatement stmt : new PreparedStatement[] { threadStmt, giftStmt }) {
+                    stmt.setString(1, sender);
+                    stmt.setString(2, receiver);
+                    stmt.setTimestamp(3, timeStamp);
+                    stmt.addBatch();
+                }
+            }
+            threadStmt.executeBatch();
+            giftStmt.executeBatch();
+            threadStmt.close();
+            giftStmt.close();
+        }
+    }
+
+    /**
+     * Retrieves a wall the way ThreadDAO did before gifts were joined in,
+     * with one GiftDAO.getGiftCropName query per thread
+     */
+    private static List<Thread> getWallThreadsWithLookups(User user) {
+        List<Thread> wallThreads = new ArrayList<>();
+        try (Connection conn = ConnectionPool.getInstance().getConnection()) {
+            PreparedStatement preparedStmt = conn.prepareStatement("SELECT t1.sender_username, t2.time_stamp, receiver_username, text FROM (SELECT DISTINCT sender_username, time_stamp FROM thread WHERE receiver_username = ? UNION SELECT sender_username, time_stamp FROM thread_tagged WHERE tagged_username = ? ORDER BY time_stamp DESC LIMIT 5) t1 INNER JOIN thread t2 ON t1.sender_username = t2.sender_username AND t1.time_stamp = t2.time_stamp ORDER BY time_stamp DESC");
+            preparedStmt.setString(1, user.getUsername());
+            preparedStmt.setString(2, user.getUsername());
+            ResultSet rs = preparedStmt.executeQuery();
+            while (rs.next()) {
+                String senderUsername = rs.getString("sender_username");
+                Timestamp timeStamp = rs.getTimestamp("time_stamp");
+                String giftCropName = GDM.getGiftCropName(senderUsername, timeStamp);
+                if (giftCropName == null) {
+                    wallThreads.add(new PostThread(senderUsername, user.getUsername(), timeStamp, rs.getString("text")));
+                } else {
+                    wallThreads.add(new GiftThread(senderUsername, user.getUsername(), timeStamp, giftCropName));
+                }
+            }
+            preparedStmt.close();
+        } catch (SQLException e) {
+            System.err.println(e.getMessage());
+        }
+        return wallThreads;
+    }
+}
@@ -0,0 +1,54 @@
+package daos;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncDAOTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final AsyncDAO asyncDAO = new AsyncDAO(executor);
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testReadsRunConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CompletableFuture<Boolean> first = asyncDAO.supply(() -> awaitOther(bothStarted));
+        CompletableFuture<Boolean> second = asyncDAO.supply(() -> awaitOther(bothStarted));
+
+        assertTrue(first.join());
+        assertTrue(second.join());
+    }
+
+    @Test
+    public void testReadInUnitOfWorkRunsOnCallingThread() {
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            CompletableFuture<UnitOfWork> reader = asyncDAO.supply(UnitOfWork::current);
+
+            assertTrue(reader.isDone());
+            assertSame(unitOfWork, reader.join());
+        }
+    }
+
+    private static boolean awaitOther(CountDownLatch bothStarted) {
+        bothStarted.countDown();
+        try {
+            return bothStarted.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
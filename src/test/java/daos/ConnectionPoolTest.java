@@ -0,0 +1,227 @@
+package daos;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConnectionPoolTest {
+
+    private final List<FakeConnection> opened = new ArrayList<>();
+    private ConnectionPool pool;
+
+    @AfterEach
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private ConnectionPool createPool(int minSize, int maxSize, long acquireTimeoutMillis,
+            long idleTimeoutMillis, long leakThresholdMillis) {
+        return new ConnectionPool(() -> {
+            FakeConnection fake = new FakeConnection();
+            synchronized (opened) {
+                opened.add(fake);
+            }
+            return fake.proxy;
+        }, minSize, maxSize, acquireTimeoutMillis, idleTimeoutMillis, leakThresholdMillis, 2);
+    }
+
+    @Test
+    public void testClosedConnectionIsReused() throws SQLException {
+        pool = createPool(0, 2, 1000, 60000, 0);
+
+        Connection first = pool.getConnection();
+        Connection firstPhysical = first.unwrap(Connection.class);
+        first.close();
+        Connection second = pool.getConnection();
+
+        assertTrue(first.isClosed());
+        assertFalse(second.isClosed());
+        assertSame(firstPhysical, second.unwrap(Connection.class));
+        assertEquals(1, pool.getCreatedCount());
+        assertEquals(1, pool.getActiveCount());
+        second.close();
+    }
+
+    @Test
+    public void testClosedProxyCannotBeUsed() throws SQLException {
+        pool = createPool(0, 1, 1000, 60000, 0);
+
+        Connection conn = pool.getConnection();
+        conn.close();
+        conn.close();
+
+        assertThrows(SQLException.class, () -> conn.prepareStatement("SELECT 1"));
+        assertEquals(0, pool.getActiveCount());
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    public void testAcquireTimesOutWhenExhausted() throws SQLException {
+        pool = createPool(0, 1, 50, 60000, 0);
+
+        Connection conn = pool.getConnection();
+
+        assertThrows(SQLException.class, () -> pool.getConnection());
+        assertEquals(1, pool.getTimeoutCount());
+        conn.close();
+        pool.getConnection().close();
+    }
+
+    @Test
+    public void testUncommittedWorkIsRolledBackOnReturn() throws SQLException {
+        pool = createPool(0, 1, 1000, 60000, 0);
+
+        Connection conn = pool.getConnection();
+        conn.setAutoCommit(false);
+        PreparedStatement stmt = conn.prepareStatement("UPDATE USER SET gold = 0");
+        conn.close();
+
+        FakeConnection fake = opened.get(0);
+        assertEquals(1, fake.rollbacks);
+        assertTrue(fake.autoCommit);
+        assertTrue(stmt.isClosed());
+    }
+
+    @Test
+    public void testIdleConnectionsAboveMinimumAreEvicted() throws Exception {
+        pool = createPool(1, 3, 1000, 10, 0);
+
+        Connection a = pool.getConnection();
+        Connection b = pool.getConnection();
+        Connection c = pool.getConnection();
+        a.close();
+        b.close();
+        c.close();
+        Thread.sleep(30);
+        pool.housekeep();
+
+        assertEquals(1, pool.getTotalCount());
+        assertEquals(pool.getCreatedCount() - 1, pool.getDestroyedCount());
+    }
+
+    @Test
+    public void testLongHeldConnectionIsReportedOnce() throws Exception {
+        pool = createPool(0, 1, 1000, 60000, 10);
+
+        Connection conn = pool.getConnection();
+        Thread.sleep(30);
+        pool.housekeep();
+        pool.housekeep();
+
+        assertEquals(1, pool.getLeakCount());
+        conn.close();
+    }
+
+    @Test
+    public void testStatementIsReusedAfterClose() throws SQLException {
+        pool = createPool(0, 1, 1000, 60000, 0);
+
+        for (int i = 0; i < 3; i++) {
+            Connection conn = pool.getConnection();
+            PreparedStatement stmt = conn.prepareStatement("SELECT * FROM PLOT WHERE username=?");
+            stmt.setString(1, "user" + i);
+            stmt.executeQuery();
+            conn.close();
+            stmt.close();
+        }
+
+        assertEquals(1, opened.get(0).statementsPrepared);
+        assertEquals(1, pool.getStatementCacheMisses());
+        assertEquals(2, pool.getStatementCacheHits());
+    }
+
+    @Test
+    public void testStatementInUseIsNotSharedAndLeastRecentlyUsedIsEvicted() throws SQLException {
+        pool = createPool(0, 1, 1000, 60000, 0);
+
+        Connection conn = pool.getConnection();
+        PreparedStatement first = conn.prepareStatement("SELECT * FROM CROP WHERE crop_name=?");
+        PreparedStatement second = conn.prepareStatement("SELECT * FROM CROP WHERE crop_name=?");
+        assertFalse(first == second);
+        first.close();
+        second.close();
+
+        conn.prepareStatement("SELECT * FROM RANK").close();
+        conn.prepareStatement("SELECT * FROM USER").close();
+        conn.prepareStatement("SELECT * FROM CROP WHERE crop_name=?").close();
+        conn.close();
+
+        assertEquals(5, opened.get(0).statementsPrepared);
+        assertEquals(0, pool.getStatementCacheHits());
+        assertTrue(second.isClosed());
+    }
+
+    /**
+     * Stand-in for a JDBC connection that only records what was done to it
+     */
+    static class FakeConnection {
+
+        final Connection proxy;
+        boolean autoCommit = true;
+        boolean closed;
+        int rollbacks;
+        int statementsPrepared;
+
+        FakeConnection() {
+            proxy = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class }, (p, method, args) -> {
+                switch (method.getName()) {
+                    case "getAutoCommit":
+                        return autoCommit;
+                    case "setAutoCommit":
+                        autoCommit = (Boolean) args[0];
+                        return null;
+                    case "rollback":
+                        rollbacks++;
+                        return null;
+                    case "isClosed":
+                        return closed;
+                    case "isValid":
+                        return !closed;
+                    case "close":
+                        closed = true;
+                        return null;
+                    case "unwrap":
+                        return p;
+                    case "prepareStatement":
+                        statementsPrepared++;
+                        return fakeStatement();
+                    default:
+                        return null;
+                }
+            });
+        }
+
+        private PreparedStatement fakeStatement() {
+            boolean[] stmtClosed = new boolean[1];
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class }, (p, method, args) -> {
+                switch (method.getName()) {
+                    case "close":
+                        stmtClosed[0] = true;
+                        return null;
+                    case "isClosed":
+                        return stmtClosed[0];
+                    case "executeUpdate":
+                        return 1;
+                    default:
+                        return null;
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package daos;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FriendGraphTest {
+
+    private final FriendGraph graph = new FriendGraph(Arrays.asList(
+            new String[] { "wathone", "brian" },
+            new String[] { "Cheryl", "brian" },
+            new String[] { "brian", "adam" },
+            new String[] { "adam", "wathone" }));
+
+    @Test
+    public void testIsFriendInEitherOrder() {
+        assertTrue(graph.isFriend("brian", "wathone"));
+        assertTrue(graph.isFriend("wathone", "brian"));
+        assertFalse(graph.isFriend("Cheryl", "wathone"));
+        assertFalse(graph.isFriend("brian", "brian"));
+        assertFalse(graph.isFriend("brian", "unknown"));
+    }
+
+    @Test
+    public void testFriendUsernamesSorted() {
+        assertEquals(Arrays.asList("adam", "Cheryl", "wathone"), graph.getFriendUsernames("brian"));
+        assertEquals(Arrays.asList("brian"), graph.getFriendUsernames("Cheryl"));
+        assertEquals(new ArrayList<String>(), graph.getFriendUsernames("unknown"));
+    }
+
+    @Test
+    public void testAddAndRemoveFriendship() {
+        graph.addFriendship("Cheryl", "wathone");
+        graph.addFriendship("wathone", "Cheryl");
+        assertTrue(graph.isFriend("wathone", "Cheryl"));
+        assertEquals(3, graph.getFriendCount("wathone"));
+
+        graph.removeFriendship("brian", "wathone");
+        assertFalse(graph.isFriend("wathone", "brian"));
+        assertEquals(Arrays.asList("adam", "Cheryl"), graph.getFriendUsernames("brian"));
+        assertEquals(Arrays.asList("adam", "Cheryl"), graph.getFriendUsernames("wathone"));
+    }
+
+    @Test
+    public void testRemoveUser() {
+        graph.removeUser("brian");
+        assertEquals(0, graph.getFriendCount("brian"));
+        assertFalse(graph.isFriend("adam", "brian"));
+        assertEquals(Arrays.asList("wathone"), graph.getFriendUsernames("adam"));
+        assertEquals(new ArrayList<String>(), graph.getFriendUsernames("Cheryl"));
+
+        graph.addFriendship("brian", "Cheryl");
+        assertEquals(Arrays.asList("Cheryl"), graph.getFriendUsernames("brian"));
+    }
+
+    @Test
+    public void testManyUsers() {
+        for (int i = 0; i < 100; i++) {
+            graph.addFriendship("brian", "user" + i);
+        }
+        assertEquals(103, graph.getFriendCount("brian"));
+        assertTrue(graph.isFriend("user99", "brian"));
+        assertFalse(graph.isFriend("user99", "user98"));
+    }
+}
@@ -0,0 +1,92 @@
+package daos;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GiftQuotaTrackerTest {
+
+    private final GiftQuotaTracker tracker = new GiftQuotaTracker();
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    public void testGiftsCountedAfterLoad() {
+        tracker.addSender("brian", today, Arrays.asList("wathone", "adam"));
+        tracker.addGift("brian", "cheryl", today);
+
+        assertEquals(3, tracker.getGiftsSentToday("brian"));
+        assertTrue(tracker.hasSentGiftToday("brian", "cheryl"));
+        assertTrue(tracker.hasSentGiftToday("brian", "wathone"));
+        assertFalse(tracker.hasSentGiftToday("brian", "dylan"));
+    }
+
+    @Test
+    public void testDayRollover() {
+        tracker.addSender("brian", today.minusDays(1), Arrays.asList("wathone", "adam", "cheryl", "dylan", "eve"));
+
+        assertEquals(0, tracker.getGiftsSentToday("brian"));
+        assertFalse(tracker.hasSentGiftToday("brian", "wathone"));
+
+        tracker.addGift("brian", "wathone", today);
+        assertEquals(1, tracker.getGiftsSentToday("brian"));
+        assertTrue(tracker.hasSentGiftToday("brian", "wathone"));
+    }
+
+    @Test
+    public void testGiftSentAfterMidnightStartsNewDay() {
+        tracker.addSender("brian", today.minusDays(1), Arrays.asList("wathone", "adam"));
+        tracker.addGift("brian", "cheryl", today);
+
+        assertEquals(1, tracker.getGiftsSentToday("brian"));
+        assertFalse(tracker.hasSentGiftToday("brian", "adam"));
+    }
+
+    @Test
+    public void testGiftCommittedDuringLoadCountedOnce() {
+        GiftQuotaTracker[] loadingTracker = new GiftQuotaTracker[1];
+        loadingTracker[0] = new GiftQuotaTracker((sender, day) -> {
+            // Gifts that commit while the query runs, one it saw and one it did not
+            loadingTracker[0].addGift(sender, "adam", day);
+            loadingTracker[0].addGift(sender, "cheryl", day);
+            return Arrays.asList("wathone", "adam");
+        });
+
+        assertEquals(3, loadingTracker[0].getGiftsSentToday("brian"));
+        assertTrue(loadingTracker[0].hasSentGiftToday("brian", "cheryl"));
+    }
+
+    @Test
+    public void testFailedLoadIsRetried() {
+        List<List<String>> results = Arrays.asList(null, Arrays.asList("wathone"));
+        int[] loads = new int[1];
+        GiftQuotaTracker failingTracker = new GiftQuotaTracker((sender, day) -> results.get(loads[0]++));
+
+        assertEquals(-1, failingTracker.getGiftsSentToday("brian"));
+        assertEquals(1, failingTracker.getGiftsSentToday("brian"));
+        assertEquals(2, loads[0]);
+    }
+
+    @Test
+    public void testReservedGiftsCountAgainstLimits() {
+        tracker.addSender("brian", today, Arrays.asList("wathone"));
+
+        assertTrue(tracker.reserve("brian", Arrays.asList("adam", "cheryl")));
+        assertEquals(2, tracker.getGiftsLeftToday("brian"));
+        // A concurrent request cannot take the same receiver, or more than is left
+        assertFalse(tracker.reserve("brian", Arrays.asList("adam")));
+        assertFalse(tracker.reserve("brian", Arrays.asList("dylan", "eve", "fred")));
+        assertFalse(tracker.reserve("brian", Arrays.asList("wathone")));
+
+        tracker.addGift("brian", "adam", today);
+        tracker.release("brian", Arrays.asList("adam", "cheryl"));
+        assertEquals(3, tracker.getGiftsLeftToday("brian"));
+        assertTrue(tracker.reserve("brian", Arrays.asList("cheryl", "dylan", "eve")));
+        assertEquals(0, tracker.getGiftsLeftToday("brian"));
+    }
+}
\ No newline at end of file
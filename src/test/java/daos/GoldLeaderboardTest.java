@@ -0,0 +1,66 @@
+package daos;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class GoldLeaderboardTest {
+
+    private GoldLeaderboard createLeaderboard() {
+        Map<String, Integer> goldByName = new HashMap<>();
+        goldByName.put("brian", 500);
+        goldByName.put("wathone", 1200);
+        goldByName.put("adam", 500);
+        goldByName.put("cheryl", 50);
+        return new GoldLeaderboard(goldByName);
+    }
+
+    @Test
+    public void testGlobalRankSharedByEqualGold() {
+        GoldLeaderboard leaderboard = createLeaderboard();
+
+        assertEquals(1, leaderboard.getGlobalRank("wathone"));
+        assertEquals(2, leaderboard.getGlobalRank("brian"));
+        assertEquals(2, leaderboard.getGlobalRank("adam"));
+        assertEquals(4, leaderboard.getGlobalRank("cheryl"));
+        assertEquals(-1, leaderboard.getGlobalRank("unknown"));
+    }
+
+    @Test
+    public void testGlobalRankAfterGoldChanges() {
+        GoldLeaderboard leaderboard = createLeaderboard();
+
+        leaderboard.setGold("cheryl", 2000);
+        leaderboard.setGold("newbie", 50);
+        assertEquals(1, leaderboard.getGlobalRank("cheryl"));
+        assertEquals(3, leaderboard.getGlobalRank("adam"));
+        assertEquals(5, leaderboard.getGlobalRank("newbie"));
+
+        leaderboard.removeUser("cheryl");
+        assertEquals(2, leaderboard.getGlobalRank("adam"));
+        assertEquals(-1, leaderboard.getGlobalRank("cheryl"));
+    }
+
+    @Test
+    public void testGoldTreeCountAbove() {
+        GoldLeaderboard.GoldTree tree = new GoldLeaderboard.GoldTree();
+        for (int gold = 0; gold < 1000; gold++) {
+            tree.add(gold % 100);
+        }
+        assertEquals(1000, tree.size());
+        assertEquals(990, tree.countAbove(0));
+        assertEquals(0, tree.countAbove(99));
+        assertEquals(500, tree.countAbove(49));
+
+        for (int gold = 50; gold < 100; gold++) {
+            tree.remove(gold);
+        }
+        tree.remove(5000);
+        assertEquals(950, tree.size());
+        assertEquals(450, tree.countAbove(49));
+        assertEquals(9, tree.countAbove(98));
+    }
+}
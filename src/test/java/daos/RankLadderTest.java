@@ -0,0 +1,61 @@
+package daos;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import entities.Rank;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class RankLadderTest {
+
+    private final RankLadder ladder = new RankLadder(1, Arrays.asList(
+            new Rank("Journeyman", 2500, 7),
+            new Rank("Novice", 0, 5),
+            new Rank("Legendary", 12000, 9),
+            new Rank("Apprentice", 1000, 6),
+            new Rank("Grandmaster", 5000, 8)));
+
+    @Test
+    public void testRankForXpOnThreshold() {
+        assertEquals("Novice", ladder.getRankForXp(0));
+        assertEquals("Apprentice", ladder.getRankForXp(1000));
+        assertEquals("Legendary", ladder.getRankForXp(12000));
+    }
+
+    @Test
+    public void testRankForXpBetweenThresholds() {
+        assertEquals("Novice", ladder.getRankForXp(999));
+        assertEquals("Journeyman", ladder.getRankForXp(4999));
+        assertEquals("Legendary", ladder.getRankForXp(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testRankForXpBelowLowestRank() {
+        assertNull(ladder.getRankForXp(-1));
+        assertNull(new RankLadder(1, new ArrayList<>()).getRankForXp(100));
+    }
+
+    @Test
+    public void testNumberPlotsForRank() {
+        assertEquals(5, ladder.getNumberPlotsForRank("Novice"));
+        assertEquals(8, ladder.getNumberPlotsForRank("Grandmaster"));
+        assertEquals(0, ladder.getNumberPlotsForRank("Unknown"));
+        assertEquals(0, ladder.getNumberPlotsForRank(null));
+    }
+
+    @Test
+    public void testReadCsv() {
+        List<Rank> ranks = RankLadder.readCsv(Paths.get("data", "rank.csv"));
+        RankLadder csvLadder = new RankLadder(1, ranks);
+
+        assertEquals(5, csvLadder.size());
+        assertEquals("Grandmaster", csvLadder.getRankForXp(5000));
+        assertEquals(9, csvLadder.getNumberPlotsForRank("Legendary"));
+    }
+}
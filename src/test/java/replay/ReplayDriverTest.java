@@ -0,0 +1,98 @@
+package replay;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ReplayDriverTest {
+
+    private File directory;
+
+    /** Echoes lines with a new Scanner for each, as the menus do, until "bye" */
+    private static final Runnable ECHO_MENU = () -> {
+        System.out.println(" == Social Magnet :: Echo ==");
+        while (true) {
+            Scanner sc = new Scanner(System.in);
+            System.out.print("> ");
+            String line = sc.nextLine();
+            if (line.equals("bye")) {
+                return;
+            }
+            System.out.println("echo " + line);
+        }
+    };
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("recordings").toFile();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        for (File file : directory.listFiles()) {
+            file.delete();
+        }
+        directory.delete();
+    }
+
+    @Test
+    public void testRecordedLinesAreReadBack() throws IOException {
+        RecordingInputStream in = new SessionRecorder(directory)
+                .record(new ByteArrayInputStream("1\r\nT2\nhello there\n".getBytes(StandardCharsets.UTF_8)));
+        byte[] buffer = new byte[4];
+        while (in.read(buffer, 0, buffer.length) >= 0) {
+            // Read everything, a few bytes at a time
+        }
+        in.close();
+
+        List<SessionRecording> recordings = SessionRecording.readAll(directory);
+        assertEquals(1, recordings.size());
+        List<SessionRecording.Input> inputs = recordings.get(0).getInputs();
+        assertEquals(3, inputs.size());
+        assertEquals("1", inputs.get(0).getLine());
+        assertEquals("T2", inputs.get(1).getLine());
+        assertEquals("hello there", inputs.get(2).getLine());
+    }
+
+    @Test
+    public void testCopiesReplayConcurrently() throws Exception {
+        RecordingInputStream in = new SessionRecorder(directory)
+                .record(new ByteArrayInputStream("1\nT2\nhello there\nbye\n".getBytes(StandardCharsets.UTF_8)));
+        readAll(in);
+        in.close();
+
+        ReplayDriver driver = new ReplayDriver(SessionRecording.readAll(directory), ECHO_MENU, 200, 0, 256 * 1024);
+        List<ReplaySession> sessions = driver.run();
+
+        assertEquals(200, sessions.size());
+        for (ReplaySession session : sessions) {
+            assertNull(session.getError());
+            assertEquals(4, session.getInputsRead());
+            Map<String, List<Long>> nanosByAction = session.getNanosByAction();
+            assertEquals(1, nanosByAction.get("Echo: 1").size());
+            assertEquals(1, nanosByAction.get("Echo: T#").size());
+            // Both "hello there" and "bye" are text
+            assertEquals(2, nanosByAction.get("Echo: text").size());
+        }
+    }
+
+    private static void readAll(InputStream in) throws IOException {
+        byte[] buffer = new byte[1024];
+        while (in.read(buffer, 0, buffer.length) >= 0) {
+            // Read everything
+        }
+    }
+}
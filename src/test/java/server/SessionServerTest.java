@@ -0,0 +1,134 @@
+package server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SessionServerTest {
+
+    private SessionServer server;
+
+    /** Echoes lines with a new Scanner for each, as the menus do, until "bye", printing far more than a client buffers on "flood" */
+    private static final Runnable ECHO_MENU = () -> {
+        while (true) {
+            Scanner sc = new Scanner(System.in);
+            System.out.print("> ");
+            String line = sc.nextLine();
+            if (line.equals("bye")) {
+                System.out.println("Bye!");
+                return;
+            }
+            if (line.equals("flood")) {
+                char[] text = new char[64 * 1024];
+                Arrays.fill(text, 'x');
+                for (int i = 0; i < 256; i++) {
+                    System.out.println(text);
+                }
+            }
+            System.out.println("echo " + line);
+        }
+    };
+
+    private void start(int maxSessions) throws IOException {
+        server = new SessionServer(new InetSocketAddress("localhost", 0), ECHO_MENU, maxSessions, 1024, 256 * 1024);
+        server.start();
+        Thread selectorThread = new Thread(server, "session-server");
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+    }
+
+    @AfterEach
+    public void stop() {
+        server.stop();
+    }
+
+    @Test
+    public void testSessionsRunMenusSeparately() throws IOException {
+        start(1000);
+        List<Socket> sockets = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Socket socket = new Socket("localhost", server.getAddress().getPort());
+            socket.setSoTimeout(10000);
+            sockets.add(socket);
+        }
+        // Both lines arrive together, and each Scanner must only take its own
+        for (int i = 0; i < sockets.size(); i++) {
+            sockets.get(i).getOutputStream().write(("hello " + i + "\nbye\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        for (int i = 0; i < sockets.size(); i++) {
+            String output = readAll(sockets.get(i));
+            assertEquals("> echo hello " + i + "\n> Bye!\n", output);
+            sockets.get(i).close();
+        }
+    }
+
+    @Test
+    public void testSlowClientDoesNotHoldUpOtherSessions() throws Exception {
+        start(10);
+        try (Socket slow = new Socket("localhost", server.getAddress().getPort());
+                Socket other = new Socket("localhost", server.getAddress().getPort())) {
+            // The slow client never reads, so its session waits for it once its buffers fill
+            slow.getOutputStream().write("flood\n".getBytes(StandardCharsets.UTF_8));
+            Thread.sleep(500);
+
+            other.setSoTimeout(5000);
+            other.getOutputStream().write("hello\nbye\n".getBytes(StandardCharsets.UTF_8));
+            assertEquals("> echo hello\n> Bye!\n", readAll(other));
+        }
+    }
+
+    @Test
+    public void testConnectionsBeyondMaxSessionsAreTurnedAway() throws IOException {
+        start(1);
+        try (Socket first = new Socket("localhost", server.getAddress().getPort())) {
+            // The first connection takes the only session
+            first.setSoTimeout(10000);
+            assertEquals('>', first.getInputStream().read());
+
+            try (Socket second = new Socket("localhost", server.getAddress().getPort())) {
+                second.setSoTimeout(10000);
+                assertTrue(readAll(second).startsWith("Social Magnet is full"));
+            }
+        }
+    }
+
+    @Test
+    public void testDisconnectEndsSession() throws Exception {
+        start(10);
+        Socket socket = new Socket("localhost", server.getAddress().getPort());
+        socket.setSoTimeout(10000);
+        assertEquals('>', socket.getInputStream().read());
+        assertEquals(1, server.getSessionCount());
+
+        socket.close();
+        for (int i = 0; i < 100 && server.getSessionCount() > 0; i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(0, server.getSessionCount());
+    }
+
+    private static String readAll(Socket socket) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        InputStream in = socket.getInputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+            bytes.write(buffer, 0, read);
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
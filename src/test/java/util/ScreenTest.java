@@ -0,0 +1,58 @@
+package util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ScreenTest {
+
+    private RecordingSink sink;
+
+    @BeforeEach
+    public void setUp() {
+        sink = new RecordingSink();
+        Screen.setThreadSink(sink);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Screen.setThreadSink(null);
+    }
+
+    @Test
+    public void testNestedScreensAreWrittenOnce() {
+        try (Screen screen = Screen.begin()) {
+            screen.println(" == Title ==");
+            try (Screen inner = Screen.begin()) {
+                inner.printf("%d. %s\n", 1, "Banana");
+            }
+            screen.print("> ");
+        }
+
+        assertEquals(1, sink.getScreens().size());
+        assertEquals(" == Title ==\n1. Banana\n> ", sink.getText());
+    }
+
+    @Test
+    public void testBufferIsReusedForTheNextScreen() {
+        try (Screen screen = Screen.begin()) {
+            screen.println("first");
+        }
+        try (Screen screen = Screen.begin()) {
+            screen.println("second");
+        }
+
+        assertEquals(2, sink.getScreens().size());
+        assertEquals("second\n", sink.getScreens().get(1));
+    }
+
+    @Test
+    public void testProgressBars() {
+        assertEquals("[----------]", Screen.getProgressBar(0));
+        assertEquals("[###-------]", Screen.getProgressBar(3));
+        assertEquals("[##########]", Screen.getProgressBar(10));
+        assertEquals("[##########]", Screen.getProgressBar(12));
+    }
+}